@@ -21,7 +21,6 @@ package org.kie.kogito.eventdriven.decision;
 import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.kie.dmn.api.core.DMNContext;
@@ -38,6 +37,7 @@ import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.cloudevents.extension.KogitoExtension;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 import org.kie.kogito.internal.utils.ConversionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,19 +60,29 @@ public class EventDrivenDecisionController {
     private ConfigBean config;
     private EventEmitter eventEmitter;
     private EventReceiver eventReceiver;
+    private EventRequestExecutor requestExecutor;
 
     protected EventDrivenDecisionController() {
     }
 
     protected EventDrivenDecisionController(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        init(decisionModels, config, eventEmitter, eventReceiver);
+        this(decisionModels, config, eventEmitter, eventReceiver, EventRequestExecutor.sameThread());
+    }
+
+    protected EventDrivenDecisionController(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor) {
+        init(decisionModels, config, eventEmitter, eventReceiver, requestExecutor);
     }
 
     protected void init(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
+        init(decisionModels, config, eventEmitter, eventReceiver, EventRequestExecutor.sameThread());
+    }
+
+    protected void init(DecisionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor) {
         this.decisionModels = decisionModels;
         this.config = config;
         this.eventEmitter = eventEmitter;
         this.eventReceiver = eventReceiver;
+        this.requestExecutor = requestExecutor;
     }
 
     protected void subscribe() {
@@ -80,16 +90,22 @@ public class EventDrivenDecisionController {
     }
 
     private CompletionStage<Void> handleRequest(DataEvent<Map> event) {
+        return requestExecutor.execute(() -> processEvent(event), eventEmitter);
+    }
+
+    private Optional<DataEvent<?>> processEvent(DataEvent<Map> event) {
         KogitoExtension kogitoExtension = ExtensionProvider.getInstance().parseExtension(KogitoExtension.class, event);
         if (CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, kogitoExtension)) {
-            getDecisionModel(kogitoExtension.getDmnModelNamespace(), kogitoExtension.getDmnModelName())
-                    .map(model -> processRequest(model, event, kogitoExtension))
-                    .ifPresentOrElse(result -> eventEmitter.emit(buildResponseEvent(result, event, kogitoExtension)),
-                            () -> LOG.warn("Discarding request because not model is found for {}", kogitoExtension));
+            Optional<DataEvent<?>> response = getDecisionModel(kogitoExtension.getDmnModelNamespace(), kogitoExtension.getDmnModelName())
+                    .map(model -> buildResponseEvent(processRequest(model, event, kogitoExtension), event, kogitoExtension));
+            if (response.isEmpty()) {
+                LOG.warn("Discarding request because not model is found for {}", kogitoExtension);
+            }
+            return response;
         } else {
             LOG.warn("Event {} is not valid. Ignoring it", event);
+            return Optional.empty();
         }
-        return CompletableFuture.completedFuture(null);
     }
 
     private DataEvent<?> buildResponseEvent(DMNResult result, DataEvent<Map> srcEvent, KogitoExtension extension) {
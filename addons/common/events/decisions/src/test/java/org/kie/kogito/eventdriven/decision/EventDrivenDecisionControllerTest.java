@@ -21,6 +21,7 @@ package org.kie.kogito.eventdriven.decision;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -230,6 +231,19 @@ class EventDrivenDecisionControllerTest {
 
     }
 
+    @Test
+    void testHandleEventCompletesOnceResponseIsAcknowledged() throws IOException {
+        CompletableFuture<Void> acknowledge = new CompletableFuture<>();
+        when(eventEmitterMock.emit(any())).thenReturn(acknowledge);
+
+        CompletableFuture<?> result = testEventReceiver.accept(cloudEventOkWith(REQUEST_DATA_EVALUATE_ALL, null, null)).toCompletableFuture();
+
+        verify(eventEmitterMock).emit(any());
+        assertThat(result).isNotDone();
+        acknowledge.complete(null);
+        assertThat(result).isCompleted();
+    }
+
     private void assertSubject(DataEvent<?> event) {
         assertThat(event.getSubject()).isNotNull()
                 .isEqualTo(CLOUDEVENT_SUBJECT);
@@ -369,8 +383,8 @@ class EventDrivenDecisionControllerTest {
         private Subscription subscription;
         private CloudEventUnmarshallerFactory unmarshaller = new ObjectCloudEventUnmarshallerFactory(objectMapper);
 
-        public void accept(String message) throws IOException {
-            subscription.getConsumer().apply(subscription.getConverter().convert(message));
+        public CompletionStage<?> accept(String message) throws IOException {
+            return (CompletionStage<?>) subscription.getConsumer().apply(subscription.getConverter().convert(message));
         }
 
         @Override
@@ -22,7 +22,6 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.kie.api.pmml.PMML4Result;
@@ -33,6 +32,7 @@ import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.cloudevents.extension.KogitoPredictionsExtension;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 import org.kie.kogito.prediction.PredictionModel;
 import org.kie.kogito.prediction.PredictionModelNotFoundException;
 import org.kie.kogito.prediction.PredictionModels;
@@ -53,20 +53,30 @@ public class EventDrivenPredictionsController {
     private ConfigBean config;
     private EventEmitter eventEmitter;
     private EventReceiver eventReceiver;
+    private EventRequestExecutor requestExecutor;
 
     protected EventDrivenPredictionsController() {
     }
 
     protected EventDrivenPredictionsController(PredictionModels predictionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        init(predictionModels, config, eventEmitter, eventReceiver);
+        this(predictionModels, config, eventEmitter, eventReceiver, EventRequestExecutor.sameThread());
+    }
+
+    protected EventDrivenPredictionsController(PredictionModels predictionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver,
+            EventRequestExecutor requestExecutor) {
+        init(predictionModels, config, eventEmitter, eventReceiver, requestExecutor);
     }
 
     protected void init(PredictionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
+        init(decisionModels, config, eventEmitter, eventReceiver, EventRequestExecutor.sameThread());
+    }
+
+    protected void init(PredictionModels decisionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor) {
         this.predictionModels = decisionModels;
         this.config = config;
         this.eventEmitter = eventEmitter;
         this.eventReceiver = eventReceiver;
-
+        this.requestExecutor = requestExecutor;
     }
 
     protected void subscribe() {
@@ -74,14 +84,22 @@ public class EventDrivenPredictionsController {
     }
 
     private CompletionStage<Void> handleRequest(DataEvent<Map> event) {
+        return requestExecutor.execute(() -> processEvent(event), eventEmitter);
+    }
+
+    private Optional<DataEvent<?>> processEvent(DataEvent<Map> event) {
         KogitoPredictionsExtension extension = ExtensionProvider.getInstance().parseExtension(KogitoPredictionsExtension.class, event);
         if (CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, extension)) {
-            getPredictionModel(extension.getPmmlFileName(), extension.getPmmlModelName()).map(model -> model.evaluateAll(model.newContext(event.getData())))
-                    .ifPresentOrElse(result -> eventEmitter.emit(buildResponseCloudEvent(result, event, extension)), () -> LOG.warn("Discarding request because not model is found for {}", extension));
+            Optional<DataEvent<?>> response = getPredictionModel(extension.getPmmlFileName(), extension.getPmmlModelName())
+                    .map(model -> buildResponseCloudEvent(model.evaluateAll(model.newContext(event.getData())), event, extension));
+            if (response.isEmpty()) {
+                LOG.warn("Discarding request because not model is found for {}", extension);
+            }
+            return response;
         } else {
             LOG.warn("Event {} is not valid. Ignoring it", event);
+            return Optional.empty();
         }
-        return CompletableFuture.completedFuture(null);
     }
 
     private Optional<PredictionModel> getPredictionModel(String fileName, String modelName) {
@@ -18,19 +18,31 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.drools.ruleunits.api.RuleUnit;
 import org.drools.ruleunits.api.RuleUnitData;
 import org.drools.ruleunits.api.RuleUnitInstance;
 import org.kie.kogito.event.DataEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public abstract class AbstractEventDrivenQueryExecutor<D extends RuleUnitData> implements EventDrivenQueryExecutor<D> {
 
+    public static final String INSTANCE_POOL_SIZE_PROPERTY = "kogito.events.rules.instances.poolSize";
+    public static final String DEFAULT_INSTANCE_POOL_SIZE = "0";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractEventDrivenQueryExecutor.class);
+
     private RuleUnit<D> ruleUnit;
     private String queryName;
     private Function<RuleUnitInstance<D>, Object> queryFunction;
     private Class<D> objectClass;
+    private RuleUnitInstancePool<D> instancePool;
+    private boolean pooled;
 
     protected AbstractEventDrivenQueryExecutor() {
     }
@@ -40,11 +52,30 @@ public abstract class AbstractEventDrivenQueryExecutor<D extends RuleUnitData> i
         setup(controller, ruleUnit, queryName, queryFunction, objectClass);
     }
 
+    protected AbstractEventDrivenQueryExecutor(EventDrivenRulesController controller, RuleUnit<D> ruleUnit, String queryName, Function<RuleUnitInstance<D>, Object> queryFunction,
+            Class<D> objectClass, int instancePoolSize) {
+        setup(controller, ruleUnit, queryName, queryFunction, objectClass, instancePoolSize);
+    }
+
     protected void setup(EventDrivenRulesController controller, RuleUnit<D> ruleUnit, String queryName, Function<RuleUnitInstance<D>, Object> queryFunction, Class<D> objectClass) {
+        setup(controller, ruleUnit, queryName, queryFunction, objectClass, 0);
+    }
+
+    /**
+     * @param instancePoolSize maximum number of idle rule unit instances kept for reuse, 0 creates a new instance for
+     *        every query
+     */
+    protected void setup(EventDrivenRulesController controller, RuleUnit<D> ruleUnit, String queryName, Function<RuleUnitInstance<D>, Object> queryFunction, Class<D> objectClass,
+            int instancePoolSize) {
         this.ruleUnit = ruleUnit;
         this.queryName = queryName;
         this.queryFunction = queryFunction;
         this.objectClass = objectClass;
+        this.instancePool = new RuleUnitInstancePool<>(ruleUnit, objectClass, instancePoolSize);
+        this.pooled = instancePoolSize > 0 && instancePool.isSupported();
+        if (instancePoolSize > 0 && !pooled) {
+            LOG.info("Instances of rule unit {} cannot be reused, a new one is created for every query: {}", getRuleUnitId(), instancePool.getUnsupportedReason());
+        }
         controller.subscribe(this, objectClass);
     }
 
@@ -63,7 +94,32 @@ public abstract class AbstractEventDrivenQueryExecutor<D extends RuleUnitData> i
         return internalExecuteQuery(input.getData());
     }
 
+    /**
+     * Runs the query once over the facts of all the events, in a single rule unit instance, when the instances of the
+     * rule unit can be reused and the events have the same values for the properties that are not data stores. Every
+     * event then gets that result. Otherwise the query runs once per event.
+     */
+    @Override
+    public List<Object> executeQuery(List<DataEvent<D>> inputs) {
+        if (inputs.size() > 1) {
+            List<D> data = inputs.stream().map(DataEvent::getData).collect(Collectors.toList());
+            if (instancePool.canShareInstance(data)) {
+                return Collections.nCopies(inputs.size(), instancePool.execute(data, queryFunction));
+            }
+        }
+        return EventDrivenQueryExecutor.super.executeQuery(inputs);
+    }
+
+    public void close() {
+        if (instancePool != null) {
+            instancePool.close();
+        }
+    }
+
     private Object internalExecuteQuery(D input) {
+        if (pooled) {
+            return instancePool.execute(input, queryFunction);
+        }
         try (RuleUnitInstance<D> instance = ruleUnit.createInstance(input)) {
             return queryFunction.apply(instance);
         }
@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.kie.kogito.event.DataEvent;
 
 public interface EventDrivenQueryExecutor<D> {
@@ -27,4 +30,16 @@ public interface EventDrivenQueryExecutor<D> {
     String getQueryName();
 
     Object executeQuery(DataEvent<D> input);
+
+    /**
+     * Runs the query for every input, returning their results in the same order. Implementations may run the query
+     * once over the facts of all the inputs, every input then gets that single result.
+     */
+    default List<Object> executeQuery(List<DataEvent<D>> inputs) {
+        List<Object> results = new ArrayList<>(inputs.size());
+        for (DataEvent<D> input : inputs) {
+            results.add(executeQuery(input));
+        }
+        return results;
+    }
 }
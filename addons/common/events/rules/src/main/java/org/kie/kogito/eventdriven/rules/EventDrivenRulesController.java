@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -31,6 +34,7 @@ import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.cloudevents.extension.KogitoRulesExtension;
 import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +46,16 @@ import io.cloudevents.core.provider.ExtensionProvider;
  */
 public class EventDrivenRulesController {
 
+    /**
+     * Maximum number of requests of a query evaluated together, 1 (default) evaluates every request on its own.
+     * Requests received while the previous ones of the same query wait for an evaluation slot join a batch, and the
+     * query runs once over the facts of the whole batch when the rule unit allows it, see
+     * {@link AbstractEventDrivenQueryExecutor#executeQuery(List)}. Every request of the batch then gets that single
+     * result, so only enable it for queries whose result does not depend on which request brought a fact in.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "kogito.events.rules.batch.size";
+    public static final String DEFAULT_BATCH_SIZE = "1";
+
     private static final String REQUEST_EVENT_TYPE = "RulesRequest";
     private static final String RESPONSE_EVENT_TYPE = "RulesResponse";
 
@@ -50,27 +64,50 @@ public class EventDrivenRulesController {
     private ConfigBean config;
     private EventEmitter eventEmitter;
     private EventReceiver eventReceiver;
+    private EventRequestExecutor requestExecutor;
+    private int batchSize = 1;
 
     protected EventDrivenRulesController() {
     }
 
     protected EventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        init(config, eventEmitter, eventReceiver);
+        this(config, eventEmitter, eventReceiver, EventRequestExecutor.sameThread());
+    }
+
+    protected EventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor) {
+        init(config, eventEmitter, eventReceiver, requestExecutor);
+    }
+
+    protected EventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor, int batchSize) {
+        init(config, eventEmitter, eventReceiver, requestExecutor, batchSize);
     }
 
     protected void init(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
+        init(config, eventEmitter, eventReceiver, EventRequestExecutor.sameThread());
+    }
+
+    protected void init(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor) {
+        init(config, eventEmitter, eventReceiver, requestExecutor, 1);
+    }
+
+    protected void init(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, it is " + batchSize);
+        }
         this.config = config;
         this.eventEmitter = eventEmitter;
         this.eventReceiver = eventReceiver;
+        this.requestExecutor = requestExecutor;
+        this.batchSize = batchSize;
     }
 
     public <D> void subscribe(EventDrivenQueryExecutor<D> queryExecutor, Class<D> objectClass) {
-        eventReceiver.subscribe(new RequestHandler<>(queryExecutor), objectClass);
+        eventReceiver.subscribe(batchSize > 1 ? new BatchRequestHandler<>(queryExecutor) : new RequestHandler<>(queryExecutor), objectClass);
     }
 
     private class RequestHandler<T> implements Function<DataEvent<T>, CompletionStage<?>> {
 
-        private EventDrivenQueryExecutor<T> queryExecutor;
+        protected final EventDrivenQueryExecutor<T> queryExecutor;
 
         public RequestHandler(EventDrivenQueryExecutor<T> queryExecutor) {
             this.queryExecutor = queryExecutor;
@@ -78,21 +115,30 @@ public class EventDrivenRulesController {
 
         @Override
         public CompletionStage<?> apply(DataEvent<T> event) {
+            return requestExecutor.execute(() -> processEvent(event), eventEmitter);
+        }
+
+        private Optional<DataEvent<?>> processEvent(DataEvent<T> event) {
+            KogitoRulesExtension extension = parseExtension(event);
+            return extension == null ? Optional.empty() : buildResponseCloudEvent(event, queryExecutor.executeQuery(event), extension);
+        }
+
+        protected KogitoRulesExtension parseExtension(DataEvent<T> event) {
             KogitoRulesExtension extension = ExtensionProvider.getInstance().parseExtension(KogitoRulesExtension.class, event);
             if (CloudEventUtils.isValidRequest(event, REQUEST_EVENT_TYPE, extension)) {
-                buildResponseCloudEvent(event, queryExecutor.executeQuery(event), extension).ifPresentOrElse(c -> eventEmitter.emit(c),
-                        () -> LOG.info("Extension {} does not match this query executor {}", extension, queryExecutor));
-            } else {
-                LOG.warn("Event {} does not have expected information, discarding it", event);
+                return extension;
             }
-            return CompletableFuture.completedStage(null);
+            LOG.warn("Event {} does not have expected information, discarding it", event);
+            return null;
         }
 
-        private Optional<DataEvent<?>> buildResponseCloudEvent(DataEvent<?> event, Object payload, KogitoRulesExtension extension) {
-            return Objects.equals(queryExecutor.getRuleUnitId(), extension.getRuleUnitId()) && Objects.equals(queryExecutor.getQueryName(), extension.getRuleUnitQuery())
-                    ? Optional.of(DataEventFactory.from(payload, RESPONSE_EVENT_TYPE, CloudEventUtils.buildDecisionSource(config.getServiceUrl(), toKebabCase(queryExecutor.getQueryName())),
-                            Optional.ofNullable(event.getSubject()), extension))
-                    : Optional.empty();
+        protected Optional<DataEvent<?>> buildResponseCloudEvent(DataEvent<?> event, Object payload, KogitoRulesExtension extension) {
+            if (Objects.equals(queryExecutor.getRuleUnitId(), extension.getRuleUnitId()) && Objects.equals(queryExecutor.getQueryName(), extension.getRuleUnitQuery())) {
+                return Optional.of(DataEventFactory.from(payload, RESPONSE_EVENT_TYPE, CloudEventUtils.buildDecisionSource(config.getServiceUrl(), toKebabCase(queryExecutor.getQueryName())),
+                        Optional.ofNullable(event.getSubject()), extension));
+            }
+            LOG.info("Extension {} does not match this query executor {}", extension, queryExecutor);
+            return Optional.empty();
         }
 
         private String toKebabCase(String inputString) {
@@ -100,4 +146,69 @@ public class EventDrivenRulesController {
         }
     }
 
+    private class BatchRequestHandler<T> extends RequestHandler<T> {
+
+        // batch still accepting requests, it is closed once its evaluation starts or it is full
+        private Batch<T> open;
+
+        public BatchRequestHandler(EventDrivenQueryExecutor<T> queryExecutor) {
+            super(queryExecutor);
+        }
+
+        @Override
+        public CompletionStage<?> apply(DataEvent<T> event) {
+            Batch<T> batch;
+            boolean created = false;
+            synchronized (this) {
+                if (open == null || open.events.size() >= batchSize) {
+                    open = new Batch<>();
+                    created = true;
+                }
+                batch = open;
+                batch.events.add(event);
+            }
+            if (created) {
+                requestExecutor.executeAll(() -> processBatch(batch), eventEmitter).whenComplete((v, e) -> {
+                    if (e == null) {
+                        batch.done.complete(null);
+                    } else {
+                        batch.done.completeExceptionally(e);
+                    }
+                });
+            }
+            return batch.done;
+        }
+
+        private Collection<DataEvent<?>> processBatch(Batch<T> batch) {
+            synchronized (this) {
+                if (open == batch) {
+                    open = null;
+                }
+            }
+            List<DataEvent<T>> requests = new ArrayList<>(batch.events.size());
+            List<KogitoRulesExtension> extensions = new ArrayList<>(batch.events.size());
+            for (DataEvent<T> event : batch.events) {
+                KogitoRulesExtension extension = parseExtension(event);
+                if (extension != null) {
+                    requests.add(event);
+                    extensions.add(extension);
+                }
+            }
+            List<DataEvent<?>> responses = new ArrayList<>(requests.size());
+            if (!requests.isEmpty()) {
+                List<Object> results = queryExecutor.executeQuery(requests);
+                for (int i = 0; i < requests.size(); i++) {
+                    buildResponseCloudEvent(requests.get(i), results.get(i), extensions.get(i)).ifPresent(responses::add);
+                }
+            }
+            return responses;
+        }
+    }
+
+    private static class Batch<T> {
+
+        private final List<DataEvent<T>> events = new ArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+    }
+
 }
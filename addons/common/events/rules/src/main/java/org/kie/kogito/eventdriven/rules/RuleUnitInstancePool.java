@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.eventdriven.rules;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.function.Function;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.ruleunits.api.DataHandle;
+import org.drools.ruleunits.api.DataProcessor;
+import org.drools.ruleunits.api.DataSource;
+import org.drools.ruleunits.api.DataStore;
+import org.drools.ruleunits.api.RuleUnit;
+import org.drools.ruleunits.api.RuleUnitData;
+import org.drools.ruleunits.api.RuleUnitInstance;
+import org.drools.ruleunits.api.SingletonStore;
+import org.drools.ruleunits.impl.AbstractRuleUnitInstance;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of rule unit instances of a single rule unit.
+ * <p>
+ * A rule unit instance stays bound to the data it was created with, so every pooled instance owns its own data object:
+ * the facts of the requests are added to its data stores before running the query and removed afterwards, the other
+ * properties of the data are copied and rebound as globals. An instance goes back to the pool only when its working
+ * memory is empty again, otherwise (for example when a rule inserted facts on its own) it is closed.
+ * <p>
+ * Only rule units whose data sources are {@link DataStore}s and {@link SingletonStore}s, and whose other properties
+ * can be written, can be pooled, see {@link #isSupported()}. Instances are confined to the thread that checked them out.
+ */
+class RuleUnitInstancePool<D extends RuleUnitData> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RuleUnitInstancePool.class);
+
+    private final RuleUnit<D> ruleUnit;
+    private final Constructor<D> dataConstructor;
+    private final List<PropertyDescriptor> stores = new ArrayList<>();
+    private final List<PropertyDescriptor> singletons = new ArrayList<>();
+    private final List<PropertyDescriptor> values = new ArrayList<>();
+    private final String unsupportedReason;
+    private final BlockingQueue<PooledInstance> idle;
+
+    RuleUnitInstancePool(RuleUnit<D> ruleUnit, Class<D> dataClass, int maxIdle) {
+        this.ruleUnit = ruleUnit;
+        this.idle = maxIdle > 0 ? new ArrayBlockingQueue<>(maxIdle) : new SynchronousQueue<>();
+        this.dataConstructor = dataConstructor(dataClass);
+        this.unsupportedReason = dataConstructor == null ? dataClass.getName() + " does not have a public no-argument constructor" : introspect(dataClass);
+    }
+
+    boolean isSupported() {
+        return unsupportedReason == null;
+    }
+
+    String getUnsupportedReason() {
+        return unsupportedReason;
+    }
+
+    int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Runs the given function on an instance holding the facts of the input
+     */
+    <R> R execute(D input, Function<RuleUnitInstance<D>, R> function) {
+        return execute(Collections.singletonList(input), function);
+    }
+
+    /**
+     * Runs the given function once on an instance holding the facts of all the inputs, which must be able to share it,
+     * see {@link #canShareInstance(Collection)}
+     */
+    <R> R execute(Collection<D> inputs, Function<RuleUnitInstance<D>, R> function) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(unsupportedReason);
+        }
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("At least one input is required");
+        }
+        PooledInstance pooled = checkout(inputs.iterator().next());
+        try {
+            pooled.load(inputs);
+            return function.apply(pooled.instance);
+        } finally {
+            release(pooled);
+        }
+    }
+
+    /**
+     * Returns whether the inputs can be evaluated together by a single instance: they must have the same values for the
+     * properties that are not data stores and at most one value for every singleton store.
+     */
+    boolean canShareInstance(Collection<D> inputs) {
+        if (!isSupported() || inputs.isEmpty()) {
+            return false;
+        }
+        D first = inputs.iterator().next();
+        for (D input : inputs) {
+            for (PropertyDescriptor property : values) {
+                if (!Objects.equals(read(property, first), read(property, input))) {
+                    return false;
+                }
+            }
+        }
+        for (PropertyDescriptor property : singletons) {
+            Object value = null;
+            for (D input : inputs) {
+                for (Object current : contentOf((DataSource<?>) read(property, input))) {
+                    if (value != null && !value.equals(current)) {
+                        return false;
+                    }
+                    value = current;
+                }
+            }
+        }
+        return true;
+    }
+
+    void close() {
+        PooledInstance pooled;
+        while ((pooled = idle.poll()) != null) {
+            pooled.instance.close();
+        }
+    }
+
+    private void release(PooledInstance pooled) {
+        // facts are removed even when loading or the query failed, an instance that cannot be reset is not reused
+        boolean reusable;
+        try {
+            reusable = pooled.reset();
+        } catch (RuntimeException e) {
+            LOG.warn("Cannot reset rule unit instance of {}, discarding it", ruleUnit.getClass().getName(), e);
+            reusable = false;
+        }
+        if (!reusable || !idle.offer(pooled)) {
+            pooled.instance.close();
+        }
+    }
+
+    private PooledInstance checkout(D source) {
+        PooledInstance pooled = idle.poll();
+        if (pooled != null) {
+            pooled.bindValues(source);
+            return pooled;
+        }
+        D data = newData();
+        for (PropertyDescriptor property : values) {
+            write(property, data, read(property, source));
+        }
+        // values are bound when the instance is created
+        return new PooledInstance(data, ruleUnit.createInstance(data));
+    }
+
+    private D newData() {
+        try {
+            return dataConstructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create an instance of " + dataConstructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private String introspect(Class<D> dataClass) {
+        D sample;
+        PropertyDescriptor[] properties;
+        try {
+            sample = dataConstructor.newInstance();
+            properties = Introspector.getBeanInfo(dataClass, Object.class).getPropertyDescriptors();
+        } catch (ReflectiveOperationException | IntrospectionException e) {
+            return "Cannot introspect " + dataClass.getName() + ": " + e.getMessage();
+        }
+        for (PropertyDescriptor property : properties) {
+            if (property.getReadMethod() == null) {
+                continue;
+            }
+            Class<?> type = property.getPropertyType();
+            if (DataStore.class.isAssignableFrom(type) || SingletonStore.class.isAssignableFrom(type)) {
+                if (read(property, sample) == null) {
+                    return "Data source " + property.getName() + " of " + dataClass.getName() + " is not initialized by its constructor";
+                }
+                (DataStore.class.isAssignableFrom(type) ? stores : singletons).add(property);
+            } else if (DataSource.class.isAssignableFrom(type)) {
+                return "Data source " + property.getName() + " of " + dataClass.getName() + " cannot be emptied";
+            } else if (property.getWriteMethod() == null) {
+                return "Property " + property.getName() + " of " + dataClass.getName() + " cannot be written";
+            } else {
+                values.add(property);
+            }
+        }
+        return null;
+    }
+
+    private static <D> Constructor<D> dataConstructor(Class<D> dataClass) {
+        try {
+            return dataClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object read(PropertyDescriptor property, Object target) {
+        try {
+            return property.getReadMethod().invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read property " + property.getName(), e);
+        }
+    }
+
+    private static void write(PropertyDescriptor property, Object target, Object value) {
+        try {
+            property.getWriteMethod().invoke(target, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot write property " + property.getName(), e);
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static List<Object> contentOf(DataSource source) {
+        List<Object> content = new ArrayList<>();
+        if (source != null) {
+            // data sources replay their content to new subscribers
+            source.subscribe(new DataProcessor<Object>() {
+                @Override
+                public FactHandle insert(DataHandle handle, Object object) {
+                    content.add(object);
+                    return null;
+                }
+
+                @Override
+                public void update(DataHandle handle, Object object) {
+                }
+
+                @Override
+                public void delete(DataHandle handle) {
+                }
+            });
+        }
+        return content;
+    }
+
+    private static ReteEvaluator evaluatorOf(RuleUnitInstance<?> instance) {
+        if (instance instanceof AbstractRuleUnitInstance) {
+            Object evaluator = ((AbstractRuleUnitInstance<?, ?>) instance).getEvaluator();
+            if (evaluator instanceof ReteEvaluator) {
+                return (ReteEvaluator) evaluator;
+            }
+        }
+        return null;
+    }
+
+    private class PooledInstance {
+
+        private final D data;
+        private final RuleUnitInstance<D> instance;
+        // null when the working memory cannot be inspected, such instances are never reused
+        private final ReteEvaluator evaluator;
+        private final List<Runnable> removals = new ArrayList<>();
+
+        private PooledInstance(D data, RuleUnitInstance<D> instance) {
+            this.data = data;
+            this.instance = instance;
+            this.evaluator = evaluatorOf(instance);
+        }
+
+        private void bindValues(D source) {
+            for (PropertyDescriptor property : values) {
+                Object value = read(property, source);
+                write(property, data, value);
+                evaluator.setGlobal(property.getName(), value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void load(Collection<D> inputs) {
+            for (PropertyDescriptor property : stores) {
+                DataStore<Object> target = (DataStore<Object>) read(property, data);
+                for (D input : inputs) {
+                    for (Object fact : contentOf((DataSource<?>) read(property, input))) {
+                        DataHandle handle = target.add(fact);
+                        removals.add(() -> target.remove(handle));
+                    }
+                }
+            }
+            for (PropertyDescriptor property : singletons) {
+                SingletonStore<Object> target = (SingletonStore<Object>) read(property, data);
+                for (D input : inputs) {
+                    contentOf((DataSource<?>) read(property, input)).forEach(target::set);
+                }
+            }
+        }
+
+        private boolean reset() {
+            removals.forEach(Runnable::run);
+            removals.clear();
+            for (PropertyDescriptor property : singletons) {
+                ((SingletonStore<?>) read(property, data)).clear();
+            }
+            if (evaluator == null) {
+                return false;
+            }
+            for (EntryPoint entryPoint : evaluator.getEntryPoints()) {
+                if (entryPoint.getFactCount() > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -18,15 +18,33 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.config.ConfigBean;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.DataEventFactory;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.cloudevents.extension.KogitoRulesExtension;
+import org.kie.kogito.event.impl.EventRequestExecutor;
+import org.mockito.ArgumentCaptor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class EventDrivenRulesControllerTest {
 
@@ -51,4 +69,49 @@ class EventDrivenRulesControllerTest {
         verify(eventReceiverMock).subscribe(any(), any());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRequestsAreBatched() {
+        KogitoRulesExtension.register();
+        ConfigBean configMock = mock(ConfigBean.class);
+        when(configMock.getServiceUrl()).thenReturn("http://localhost:8080");
+        EventEmitter eventEmitterMock = mock(EventEmitter.class);
+        when(eventEmitterMock.emit(any())).thenReturn(CompletableFuture.completedFuture(null));
+        EventReceiver eventReceiverMock = mock(EventReceiver.class);
+        EventDrivenQueryExecutor<String> queryExecutorMock = mock(EventDrivenQueryExecutor.class);
+        when(queryExecutorMock.getRuleUnitId()).thenReturn("unit");
+        when(queryExecutorMock.getQueryName()).thenReturn("query");
+        when(queryExecutorMock.executeQuery(anyList())).then(invocation -> Collections.nCopies(invocation.<List<?>> getArgument(0).size(), "result"));
+        List<Runnable> tasks = new ArrayList<>();
+
+        EventDrivenRulesController controller = new EventDrivenRulesController(configMock, eventEmitterMock, eventReceiverMock, new EventRequestExecutor(tasks::add, 1, 10), 2);
+        controller.subscribe(queryExecutorMock, String.class);
+        ArgumentCaptor<Function<DataEvent<String>, CompletionStage<?>>> handler = ArgumentCaptor.forClass(Function.class);
+        verify(eventReceiverMock).subscribe(handler.capture(), any());
+
+        // the first request takes the only slot, the next one joins its batch and the third one starts a new batch
+        List<CompletableFuture<?>> stages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            stages.add(handler.getValue().apply(request("payload" + i)).toCompletableFuture());
+        }
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+        assertThat(stages.get(0)).isCompleted();
+        assertThat(stages.get(1)).isCompleted();
+        assertThat(stages.get(2)).isNotCompleted();
+        tasks.remove(0).run();
+        assertThat(stages.get(2)).isCompleted();
+
+        ArgumentCaptor<List<DataEvent<String>>> batches = ArgumentCaptor.forClass(List.class);
+        verify(queryExecutorMock, times(2)).executeQuery(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        verify(eventEmitterMock, times(3)).emit(any());
+    }
+
+    private static DataEvent<String> request(String payload) {
+        KogitoRulesExtension extension = new KogitoRulesExtension();
+        extension.setRuleUnitId("unit");
+        extension.setRuleUnitQuery("query");
+        return DataEventFactory.from(payload, "RulesRequest", URI.create("/test"), Optional.empty(), extension);
+    }
 }
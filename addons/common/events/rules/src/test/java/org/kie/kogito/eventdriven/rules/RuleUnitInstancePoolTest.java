@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.eventdriven.rules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.ruleunits.api.DataHandle;
+import org.drools.ruleunits.api.DataProcessor;
+import org.drools.ruleunits.api.DataSource;
+import org.drools.ruleunits.api.DataStore;
+import org.drools.ruleunits.api.DataStream;
+import org.drools.ruleunits.api.RuleUnit;
+import org.drools.ruleunits.api.RuleUnitData;
+import org.drools.ruleunits.api.RuleUnitInstance;
+import org.drools.ruleunits.api.SingletonStore;
+import org.drools.ruleunits.api.conf.RuleConfig;
+import org.drools.ruleunits.impl.AbstractRuleUnitInstance;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.rule.AgendaFilter;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.runtime.rule.QueryResults;
+import org.kie.api.time.SessionClock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RuleUnitInstancePoolTest {
+
+    private final TestRuleUnit ruleUnit = new TestRuleUnit();
+
+    @Test
+    void testInstancesAreReused() {
+        RuleUnitInstancePool<TestUnitData> pool = new RuleUnitInstancePool<>(ruleUnit, TestUnitData.class, 2);
+
+        assertThat(pool.isSupported()).isTrue();
+        assertThat(pool.execute(data(10, "a", "b"), this::query)).isEqualTo("10 [a, b]");
+        assertThat(pool.execute(data(20, "c"), this::query)).isEqualTo("20 [c]");
+        assertThat(ruleUnit.created).hasSize(1);
+        assertThat(pool.getIdleCount()).isOne();
+        verify(ruleUnit.created.get(0).getEvaluator()).setGlobal("threshold", 20);
+
+        pool.close();
+        assertThat(ruleUnit.created.get(0).closed).isTrue();
+    }
+
+    @Test
+    void testInstanceIsClosedWhenWorkingMemoryIsNotEmpty() {
+        RuleUnitInstancePool<TestUnitData> pool = new RuleUnitInstancePool<>(ruleUnit, TestUnitData.class, 2);
+
+        pool.execute(data(10, "a"), instance -> instance.ruleUnitData().getStrings().add("inserted by a rule"));
+        assertThat(pool.execute(data(10, "b"), this::query)).isEqualTo("10 [b]");
+        assertThat(ruleUnit.created).hasSize(2);
+        assertThat(ruleUnit.created.get(0).closed).isTrue();
+        assertThat(ruleUnit.created.get(1).closed).isFalse();
+    }
+
+    @Test
+    void testWithoutIdleInstances() {
+        RuleUnitInstancePool<TestUnitData> pool = new RuleUnitInstancePool<>(ruleUnit, TestUnitData.class, 0);
+
+        assertThat(pool.execute(data(10, "a"), this::query)).isEqualTo("10 [a]");
+        assertThat(ruleUnit.created).hasSize(1);
+        assertThat(ruleUnit.created.get(0).closed).isTrue();
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    void testFactsAreRemovedWhenQueryFails() {
+        RuleUnitInstancePool<TestUnitData> pool = new RuleUnitInstancePool<>(ruleUnit, TestUnitData.class, 1);
+
+        assertThatThrownBy(() -> pool.execute(data(10, "a"), instance -> {
+            throw new IllegalStateException("query failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.execute(data(10, "b"), this::query)).isEqualTo("10 [b]");
+        assertThat(ruleUnit.created).hasSize(1);
+    }
+
+    @Test
+    void testBatchSharesInstance() {
+        RuleUnitInstancePool<TestUnitData> pool = new RuleUnitInstancePool<>(ruleUnit, TestUnitData.class, 1);
+        List<TestUnitData> batch = List.of(data(10, "a", "b"), data(10, "c"));
+
+        assertThat(pool.canShareInstance(batch)).isTrue();
+        assertThat(pool.execute(batch, this::query)).isEqualTo("10 [a, b, c]");
+        assertThat(pool.execute(data(10, "d"), this::query)).isEqualTo("10 [d]");
+        assertThat(ruleUnit.created).hasSize(1);
+    }
+
+    @Test
+    void testBatchCannotShareInstance() {
+        RuleUnitInstancePool<TestUnitData> pool = new RuleUnitInstancePool<>(ruleUnit, TestUnitData.class, 1);
+        TestUnitData first = data(10, "a");
+        first.getSingleton().set("x");
+        TestUnitData second = data(10, "b");
+        second.getSingleton().set("y");
+
+        assertThat(pool.canShareInstance(List.of(data(10, "a"), data(20, "b")))).isFalse();
+        assertThat(pool.canShareInstance(List.of(first, second))).isFalse();
+        assertThat(pool.canShareInstance(List.of(first, data(10, "c")))).isTrue();
+        assertThat(new RuleUnitInstancePool<>(mock(RuleUnit.class), StreamUnitData.class, 1).canShareInstance(List.of(new StreamUnitData()))).isFalse();
+    }
+
+    @Test
+    void testUnsupportedDataSource() {
+        RuleUnitInstancePool<StreamUnitData> pool = new RuleUnitInstancePool<>(mock(RuleUnit.class), StreamUnitData.class, 1);
+
+        assertThat(pool.isSupported()).isFalse();
+        assertThat(pool.getUnsupportedReason()).contains("events");
+        assertThatThrownBy(() -> pool.execute(new StreamUnitData(), instance -> null))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private String query(RuleUnitInstance<TestUnitData> instance) {
+        // data stores do not keep the insertion order
+        return instance.ruleUnitData().getThreshold() + " " + new TreeSet<>(((TestRuleUnitInstance) instance).facts.values());
+    }
+
+    private static TestUnitData data(int threshold, String... strings) {
+        TestUnitData data = new TestUnitData();
+        data.setThreshold(threshold);
+        for (String string : strings) {
+            data.getStrings().add(string);
+        }
+        return data;
+    }
+
+    public static class TestUnitData implements RuleUnitData {
+
+        private final DataStore<String> strings = DataSource.createStore();
+        private final SingletonStore<String> singleton = DataSource.createSingleton();
+        private int threshold;
+
+        public DataStore<String> getStrings() {
+            return strings;
+        }
+
+        public SingletonStore<String> getSingleton() {
+            return singleton;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+    }
+
+    public static class StreamUnitData implements RuleUnitData {
+
+        private final DataStream<String> events = DataSource.createStream();
+
+        public DataStream<String> getEvents() {
+            return events;
+        }
+    }
+
+    private static class TestRuleUnit implements RuleUnit<TestUnitData> {
+
+        private final List<TestRuleUnitInstance> created = new ArrayList<>();
+
+        @Override
+        public RuleUnitInstance<TestUnitData> createInstance(TestUnitData data) {
+            TestRuleUnitInstance instance = new TestRuleUnitInstance(this, data, mock(ReteEvaluator.class));
+            created.add(instance);
+            return instance;
+        }
+
+        @Override
+        public RuleUnitInstance<TestUnitData> createInstance(TestUnitData data, RuleConfig ruleConfig) {
+            return createInstance(data);
+        }
+    }
+
+    /**
+     * Keeps the facts of the bound data stores as its working memory.
+     */
+    private static class TestRuleUnitInstance extends AbstractRuleUnitInstance<ReteEvaluator, TestUnitData> {
+
+        private final Map<DataHandle, String> facts = new HashMap<>();
+        private boolean closed;
+
+        private TestRuleUnitInstance(RuleUnit<TestUnitData> unit, TestUnitData data, ReteEvaluator evaluator) {
+            super(unit, data, evaluator);
+            EntryPoint entryPoint = mock(EntryPoint.class);
+            when(entryPoint.getFactCount()).then(invocation -> (long) facts.size());
+            when(evaluator.getEntryPoints()).then(invocation -> Collections.singletonList(entryPoint));
+        }
+
+        @Override
+        protected void bind(ReteEvaluator evaluator, TestUnitData data) {
+            DataProcessor<String> processor = new DataProcessor<>() {
+                @Override
+                public FactHandle insert(DataHandle handle, String object) {
+                    facts.put(handle, object);
+                    return null;
+                }
+
+                @Override
+                public void update(DataHandle handle, String object) {
+                    facts.put(handle, object);
+                }
+
+                @Override
+                public void delete(DataHandle handle) {
+                    facts.remove(handle);
+                }
+            };
+            data.getStrings().subscribe(processor);
+            data.getSingleton().subscribe(processor);
+        }
+
+        @Override
+        public int fire() {
+            return 0;
+        }
+
+        @Override
+        public int fire(AgendaFilter agendaFilter) {
+            return 0;
+        }
+
+        @Override
+        public QueryResults executeQuery(String query, Object... arguments) {
+            return null;
+        }
+
+        @Override
+        public <C extends SessionClock> C getClock() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -26,6 +26,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -43,6 +45,9 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
 
     public static final String PI_DESCRIPTION = "ProcessInstanceDescription";
     public static final String PI_STATUS = "ProcessInstanceStatus";
+    public static final String PI_EVENT_TYPES = "ProcessInstanceEventTypes";
+
+    private static final String EVENT_TYPES_SEPARATOR = "\n";
 
     private Process<?> process;
     private Path storage;
@@ -93,6 +98,49 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
         return Files.exists(Paths.get(storage.toString(), id));
     }
 
+    @Override
+    public Optional<Integer> findStatusById(String id) {
+        Path processInstanceStorage = Paths.get(storage.toString(), id);
+        if (Files.notExists(processInstanceStorage)) {
+            return Optional.empty();
+        }
+        String status = getMetadata(processInstanceStorage, PI_STATUS);
+        if (status != null) {
+            return Optional.of(Integer.valueOf(status));
+        }
+        // file system does not support user defined attributes, fall back to the stored instance
+        return MutableProcessInstances.super.findStatusById(id);
+    }
+
+    @Override
+    public Stream<String> streamIds() {
+        try {
+            return Files.list(storage)
+                    .filter(file -> !Files.isDirectory(file))
+                    .map(file -> file.getFileName().toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read process instances ", e);
+        }
+    }
+
+    @Override
+    public Optional<Stream<String>> findIdsWaitingForEvent(String eventType) {
+        if (!supportsUserDefinedAttributes(storage)) {
+            return Optional.empty();
+        }
+        return Optional.of(streamIds().filter(id -> isWaitingFor(Paths.get(storage.toString(), id), eventType)));
+    }
+
+    private boolean isWaitingFor(Path processInstanceStorage, String eventType) {
+        String eventTypes = getMetadata(processInstanceStorage, PI_EVENT_TYPES);
+        if (eventTypes == null) {
+            // stored before the event types were recorded
+            return true;
+        }
+        List<String> types = Arrays.asList(eventTypes.split(EVENT_TYPES_SEPARATOR));
+        return types.contains(eventType) || types.contains(ANY_EVENT_TYPE);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public void create(String id, ProcessInstance instance) {
@@ -133,6 +181,8 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
             Files.write(processInstanceStorage, data);
             setMetadata(processInstanceStorage, PI_DESCRIPTION, instance.description());
             setMetadata(processInstanceStorage, PI_STATUS, String.valueOf(instance.status()));
+            setMetadata(processInstanceStorage, PI_EVENT_TYPES,
+                    String.join(EVENT_TYPES_SEPARATOR, ((AbstractProcessInstance<?>) instance).internalGetSubscribedEventTypes()));
 
         } catch (IOException e) {
             throw new RuntimeException("Unable to store process instance with id " + instance.id(), e);
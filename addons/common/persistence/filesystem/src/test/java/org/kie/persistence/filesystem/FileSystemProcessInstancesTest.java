@@ -19,6 +19,8 @@
 package org.kie.persistence.filesystem;
 
 import java.util.Collections;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.drools.io.ClassPathResource;
 import org.jbpm.process.instance.impl.Action;
@@ -52,6 +54,7 @@ import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.abortFirst;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.assertEmpty;
 import static org.kie.kogito.test.utils.ProcessInstancesTestUtils.getFirst;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -123,6 +126,38 @@ class FileSystemProcessInstancesTest {
         assertEmpty(instances);
     }
 
+    @Test
+    void testMetadataProjections() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        FileSystemProcessInstances fileSystemBasedStorage = (FileSystemProcessInstances) process.instances();
+        assertThat(fileSystemBasedStorage.findStatusById(processInstance.id())).hasValue(STATE_ACTIVE);
+        assertThat(fileSystemBasedStorage.findStatusById(UUID.randomUUID().toString())).isEmpty();
+        try (Stream<String> ids = fileSystemBasedStorage.streamIds()) {
+            assertThat(ids).containsExactly(processInstance.id());
+        }
+
+        abortFirst(process.instances());
+        assertEmpty(process.instances());
+    }
+
+    @Test
+    void testFindIdsWaitingForEvent() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        FileSystemProcessInstances fileSystemBasedStorage = (FileSystemProcessInstances) process.instances();
+        verify(fileSystemBasedStorage).setMetadata(any(), eq(FileSystemProcessInstances.PI_EVENT_TYPES), contains("workItemCompleted"));
+        fileSystemBasedStorage.findIdsWaitingForEvent("workItemCompleted").ifPresent(ids -> assertThat(ids).containsExactly(processInstance.id()));
+        fileSystemBasedStorage.findIdsWaitingForEvent("unknownEvent").ifPresent(ids -> assertThat(ids).isEmpty());
+
+        abortFirst(process.instances());
+        assertEmpty(process.instances());
+    }
+
     @Test
     void testBasicFlow() {
         BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
@@ -27,18 +27,30 @@ public abstract class AbstractProcessInstancesFactory implements ProcessInstance
 
     private final DataSource dataSource;
     private final Boolean lock;
+    private final AbstractWriteBatchManager batchManager;
+    private final int maxDeltas;
 
     protected AbstractProcessInstancesFactory() {
         this(null, false);
     }
 
     public AbstractProcessInstancesFactory(DataSource dataSource, Boolean lock) {
+        this(dataSource, lock, null);
+    }
+
+    public AbstractProcessInstancesFactory(DataSource dataSource, Boolean lock, AbstractWriteBatchManager batchManager) {
+        this(dataSource, lock, batchManager, false, 0);
+    }
+
+    public AbstractProcessInstancesFactory(DataSource dataSource, Boolean lock, AbstractWriteBatchManager batchManager, Boolean deltaEnabled, Integer deltaMaxRecords) {
         this.dataSource = dataSource;
         this.lock = lock;
+        this.batchManager = batchManager;
+        this.maxDeltas = Boolean.TRUE.equals(deltaEnabled) && deltaMaxRecords != null ? Math.max(deltaMaxRecords, 0) : 0;
     }
 
     @Override
     public JDBCProcessInstances createProcessInstances(Process<?> process) {
-        return new JDBCProcessInstances(process, dataSource, lock);
+        return new JDBCProcessInstances(process, dataSource, lock, batchManager, maxDeltas);
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.kie.kogito.uow.events.UnitOfWorkAbortEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEventListener;
+import org.kie.kogito.uow.events.UnitOfWorkStartEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects process instance writes performed by {@link JDBCProcessInstances} while a unit of work
+ * is active and flushes them as JDBC batches on a single connection once all the work of the unit has been
+ * performed, before its events are published, so a failing flush aborts the unit of work.
+ * Pending writes are discarded when the unit of work is aborted.
+ */
+public abstract class AbstractWriteBatchManager implements UnitOfWorkEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractWriteBatchManager.class);
+
+    private final Repository repository;
+    private final boolean enabled;
+
+    // stack to cope with units of work started while another one is active on the same thread
+    private final ThreadLocal<Deque<WriteBatch>> batches = ThreadLocal.withInitial(ArrayDeque::new);
+
+    protected AbstractWriteBatchManager(DataSource dataSource, Boolean enabled) {
+        this.repository = dataSource == null ? null : new GenericRepository(dataSource);
+        this.enabled = Boolean.TRUE.equals(enabled);
+    }
+
+    @Override
+    public void onBeforeStartEvent(UnitOfWorkStartEvent event) {
+        if (!enabled()) {
+            return;
+        }
+        batches.get().push(new WriteBatch());
+    }
+
+    @Override
+    public void onBeforePublishEvent(UnitOfWorkEndEvent event) {
+        if (!enabled()) {
+            return;
+        }
+        WriteBatch batch = batches.get().peek();
+        if (batch != null && !batch.isEmpty()) {
+            LOGGER.debug("Flushing {} process instance operations", batch.size());
+            repository.executeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+        if (!enabled()) {
+            return;
+        }
+        pop();
+    }
+
+    @Override
+    public void onAfterAbortEvent(UnitOfWorkAbortEvent event) {
+        if (!enabled()) {
+            return;
+        }
+        WriteBatch batch = pop();
+        if (batch != null && !batch.isEmpty()) {
+            LOGGER.debug("Discarding {} process instance operations", batch.size());
+        }
+    }
+
+    Optional<WriteBatch> currentBatch() {
+        if (!enabled()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(batches.get().peek());
+    }
+
+    private WriteBatch pop() {
+        Deque<WriteBatch> stack = batches.get();
+        WriteBatch batch = stack.poll();
+        if (stack.isEmpty()) {
+            batches.remove();
+        }
+        return batch;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+}
@@ -22,25 +22,39 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
+import org.kie.kogito.process.MutableProcessInstances;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class GenericRepository extends Repository {
 
+    private static final String ID = "id";
     private static final String PAYLOAD = "payload";
     private static final String VERSION = "version";
+    private static final String DELTAS = "deltas";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GenericRepository.class);
 
@@ -51,50 +65,79 @@ public class GenericRepository extends Repository {
     }
 
     @Override
-    void insertInternal(String processId, String processVersion, UUID id, byte[] payload) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(INSERT)) {
-            statement.setString(1, id.toString());
-            statement.setBytes(2, payload);
-            statement.setString(3, processId);
-            statement.setString(4, processVersion);
-            statement.setLong(5, 0L);
-            statement.executeUpdate();
+    void insertInternal(String processId, String processVersion, UUID id, byte[] payload, Collection<String> eventTypes) {
+        try {
+            inTransaction(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                    statement.setString(1, id.toString());
+                    statement.setBytes(2, payload);
+                    statement.setString(3, processId);
+                    statement.setString(4, processVersion);
+                    statement.setLong(5, 0L);
+                    statement.executeUpdate();
+                }
+                insertEventTypes(connection, Collections.singletonMap(id, eventTypes));
+                return null;
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error inserting process instance %s", id);
         }
     }
 
     @Override
-    void updateInternal(String processId, String processVersion, UUID id, byte[] payload) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE, processVersion))) {
-            statement.setBytes(1, payload);
-            statement.setString(2, processId);
-            statement.setString(3, id.toString());
-            if (processVersion != null) {
-                statement.setString(4, processVersion);
-            }
-            statement.executeUpdate();
+    void updateInternal(String processId, String processVersion, UUID id, Payload payload, Collection<String> eventTypes) {
+        try {
+            inTransaction(connection -> {
+                if (payload.isDelta()) {
+                    // the stored snapshot is left untouched, only the change records are appended
+                    writeDeltas(connection, Collections.singletonMap(id, payload));
+                    replaceEventTypes(connection, Collections.singletonMap(id, eventTypes));
+                    return null;
+                }
+                try (PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE, processVersion))) {
+                    statement.setBytes(1, payload.getImage());
+                    statement.setString(2, processId);
+                    statement.setString(3, id.toString());
+                    if (processVersion != null) {
+                        statement.setString(4, processVersion);
+                    }
+                    if (statement.executeUpdate() == 1) {
+                        writeDeltas(connection, Collections.singletonMap(id, payload));
+                        replaceEventTypes(connection, Collections.singletonMap(id, eventTypes));
+                    }
+                }
+                return null;
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error updating process instance %s", id);
         }
     }
 
     @Override
-    boolean updateWithLock(String processId, String processVersion, UUID id, byte[] payload, long version) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(UPDATE_WITH_LOCK, processVersion))) {
-            statement.setBytes(1, payload);
-            statement.setLong(2, version + 1);
-            statement.setString(3, processId);
-            statement.setString(4, id.toString());
-            statement.setLong(5, version);
-            if (processVersion != null) {
-                statement.setString(6, processVersion);
-            }
-            int count = statement.executeUpdate();
-            return count == 1;
+    boolean updateWithLock(String processId, String processVersion, UUID id, Payload payload, long version, Collection<String> eventTypes) {
+        try {
+            return inTransaction(connection -> {
+                // change records only bump the version of the stored snapshot
+                try (PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(payload.isDelta() ? UPDATE_VERSION : UPDATE_WITH_LOCK, processVersion))) {
+                    int index = 1;
+                    if (!payload.isDelta()) {
+                        statement.setBytes(index++, payload.getImage());
+                    }
+                    statement.setLong(index++, version + 1);
+                    statement.setString(index++, processId);
+                    statement.setString(index++, id.toString());
+                    statement.setLong(index++, version);
+                    if (processVersion != null) {
+                        statement.setString(index, processVersion);
+                    }
+                    int count = statement.executeUpdate();
+                    if (count == 1) {
+                        writeDeltas(connection, Collections.singletonMap(id, payload));
+                        replaceEventTypes(connection, Collections.singletonMap(id, eventTypes));
+                    }
+                    return count == 1;
+                }
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error updating with lock process instance %s", id);
         }
@@ -117,7 +160,25 @@ public class GenericRepository extends Repository {
     }
 
     private Record from(ResultSet rs) throws SQLException {
-        return new Record(rs.getBytes(PAYLOAD), rs.getLong(VERSION));
+        byte[] payload = rs.getBytes(PAYLOAD);
+        long version = rs.getLong(VERSION);
+        if (rs.getInt(DELTAS) == 0) {
+            return new Record(payload, version);
+        }
+        return new Record(payload, version, findDeltas(rs.getStatement().getConnection(), rs.getString(ID).trim()));
+    }
+
+    private List<byte[]> findDeltas(Connection connection, String id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_DELTAS)) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<byte[]> deltas = new ArrayList<>();
+                while (resultSet.next()) {
+                    deltas.add(resultSet.getBytes(PAYLOAD));
+                }
+                return deltas;
+            }
+        }
     }
 
     @Override
@@ -178,23 +239,63 @@ public class GenericRepository extends Repository {
 
     @Override
     Stream<Record> findAllInternal(String processId, String processVersion) {
+        return streamQuery(FIND_ALL, processId, processVersion, this::from);
+    }
+
+    @Override
+    Stream<String> findAllIdsInternal(String processId, String processVersion) {
+        return streamQuery(FIND_ALL_IDS, processId, processVersion, rs -> rs.getString(ID).trim());
+    }
+
+    @Override
+    Stream<String> findIdsByEventTypeInternal(String processId, String processVersion, String eventType) {
+        return streamQuery(FIND_IDS_BY_EVENT_TYPE, processId, processVersion, rs -> rs.getString(ID).trim(), eventType, MutableProcessInstances.ANY_EVENT_TYPE);
+    }
+
+    @Override
+    boolean existsInternal(String processId, String processVersion, UUID id) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sqlIncludingVersion(EXISTS, processVersion))) {
+            statement.setString(1, processId);
+            statement.setString(2, id.toString());
+            if (processVersion != null) {
+                statement.setString(3, processVersion);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error checking existence of process instance %s", id);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    private <T> Stream<T> streamQuery(String sql, String processId, String processVersion, RowMapper<T> mapper, String... parameters) {
         CloseableWrapper close = new CloseableWrapper();
         try {
             Connection connection = close.nest(dataSource.getConnection());
-            PreparedStatement statement = close.nest(connection.prepareStatement(sqlIncludingVersion(FIND_ALL, processVersion)));
-            statement.setString(1, processId);
+            PreparedStatement statement = close.nest(connection.prepareStatement(sqlIncludingVersion(sql, processVersion)));
+            int index = 1;
+            statement.setString(index++, processId);
+            for (String parameter : parameters) {
+                statement.setString(index++, parameter);
+            }
             if (processVersion != null) {
-                statement.setString(2, processVersion);
+                statement.setString(index, processVersion);
             }
             ResultSet resultSet = close.nest(statement.executeQuery());
-            return StreamSupport.stream(new Spliterators.AbstractSpliterator<Record>(
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(
                     Long.MAX_VALUE, Spliterator.ORDERED) {
                 @Override
-                public boolean tryAdvance(Consumer<? super Record> action) {
+                public boolean tryAdvance(Consumer<? super T> action) {
                     try {
                         boolean hasNext = resultSet.next();
                         if (hasNext) {
-                            action.accept(from(resultSet));
+                            action.accept(mapper.map(resultSet));
                         }
                         return hasNext;
                     } catch (SQLException e) {
@@ -212,6 +313,249 @@ public class GenericRepository extends Repository {
         }
     }
 
+    @Override
+    void executeBatch(WriteBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            inTransaction(connection -> {
+                executeDeletes(connection, batch.deletes());
+                executeInserts(connection, batch.inserts());
+                executeUpdates(connection, batch.updates());
+                return null;
+            });
+        } catch (ProcessInstanceOptimisticLockingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error executing batch of %d process instance operations", batch.size());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionWork<T> {
+        T execute(Connection connection) throws SQLException;
+    }
+
+    private <T> T inTransaction(ConnectionWork<T> work) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // only demarcate the transaction when not already enlisted in one managed by the caller
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                T result = work.execute(connection);
+                if (autoCommit) {
+                    connection.commit();
+                }
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                if (autoCommit) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        }
+    }
+
+    private void replaceEventTypes(Connection connection, Map<UUID, Collection<String>> eventTypes) throws SQLException {
+        if (eventTypes.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_EVENT_TYPES)) {
+            for (UUID id : eventTypes.keySet()) {
+                statement.setString(1, id.toString());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        insertEventTypes(connection, eventTypes);
+    }
+
+    private void insertEventTypes(Connection connection, Map<UUID, Collection<String>> eventTypes) throws SQLException {
+        if (eventTypes.values().stream().allMatch(Collection::isEmpty)) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT_TYPE)) {
+            for (Map.Entry<UUID, Collection<String>> entry : eventTypes.entrySet()) {
+                for (String eventType : entry.getValue()) {
+                    statement.setString(1, entry.getKey().toString());
+                    statement.setString(2, eventType);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static Map<UUID, Collection<String>> eventTypesOf(Collection<WriteBatch.Operation> operations) {
+        Map<UUID, Collection<String>> eventTypes = new LinkedHashMap<>();
+        for (WriteBatch.Operation operation : operations) {
+            eventTypes.put(operation.getId(), operation.getEventTypes());
+        }
+        return eventTypes;
+    }
+
+    private void executeDeletes(Connection connection, Collection<WriteBatch.Operation> operations) throws SQLException {
+        for (Map.Entry<String, List<WriteBatch.Operation>> entry : groupBySql(operations, DELETE).entrySet()) {
+            try (PreparedStatement statement = connection.prepareStatement(entry.getKey())) {
+                for (WriteBatch.Operation operation : entry.getValue()) {
+                    statement.setString(1, operation.getProcessId());
+                    statement.setString(2, operation.getId().toString());
+                    if (operation.getProcessVersion() != null) {
+                        statement.setString(3, operation.getProcessVersion());
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private void executeInserts(Connection connection, Collection<WriteBatch.Operation> operations) throws SQLException {
+        if (operations.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (WriteBatch.Operation operation : operations) {
+                statement.setString(1, operation.getId().toString());
+                statement.setBytes(2, operation.getPayload());
+                statement.setString(3, operation.getProcessId());
+                statement.setString(4, operation.getProcessVersion());
+                statement.setLong(5, 0L);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        insertEventTypes(connection, eventTypesOf(operations));
+    }
+
+    private void executeUpdates(Connection connection, Collection<WriteBatch.Operation> operations) throws SQLException {
+        List<WriteBatch.Operation> withLock = new ArrayList<>();
+        List<WriteBatch.Operation> versionOnly = new ArrayList<>();
+        List<WriteBatch.Operation> withoutLock = new ArrayList<>();
+        for (WriteBatch.Operation operation : operations) {
+            if (operation.isLock()) {
+                (operation.isDelta() ? versionOnly : withLock).add(operation);
+            } else if (!operation.isDelta()) {
+                withoutLock.add(operation);
+            }
+        }
+        Set<UUID> notUpdated = new HashSet<>();
+        for (Map.Entry<String, List<WriteBatch.Operation>> entry : groupBySql(withoutLock, UPDATE).entrySet()) {
+            List<WriteBatch.Operation> batched = entry.getValue();
+            try (PreparedStatement statement = connection.prepareStatement(entry.getKey())) {
+                for (WriteBatch.Operation operation : batched) {
+                    statement.setBytes(1, operation.getPayload());
+                    statement.setString(2, operation.getProcessId());
+                    statement.setString(3, operation.getId().toString());
+                    if (operation.getProcessVersion() != null) {
+                        statement.setString(4, operation.getProcessVersion());
+                    }
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    // as for a single update, the related rows are only written when the instance row was updated
+                    if (counts[i] == 0) {
+                        notUpdated.add(batched.get(i).getId());
+                    }
+                }
+            }
+        }
+        executeUpdatesWithLock(connection, withLock, UPDATE_WITH_LOCK, true);
+        executeUpdatesWithLock(connection, versionOnly, UPDATE_VERSION, false);
+        Collection<WriteBatch.Operation> updated = operations;
+        if (!notUpdated.isEmpty()) {
+            updated = operations.stream().filter(operation -> !notUpdated.contains(operation.getId())).collect(Collectors.toList());
+        }
+        writeDeltas(connection, payloadsOf(updated));
+        replaceEventTypes(connection, eventTypesOf(updated));
+    }
+
+    private void executeUpdatesWithLock(Connection connection, Collection<WriteBatch.Operation> operations, String sql, boolean includePayload) throws SQLException {
+        for (Map.Entry<String, List<WriteBatch.Operation>> entry : groupBySql(operations, sql).entrySet()) {
+            List<WriteBatch.Operation> batched = entry.getValue();
+            try (PreparedStatement statement = connection.prepareStatement(entry.getKey())) {
+                for (WriteBatch.Operation operation : batched) {
+                    int index = 1;
+                    if (includePayload) {
+                        statement.setBytes(index++, operation.getPayload());
+                    }
+                    statement.setLong(index++, operation.getVersion() + 1);
+                    statement.setString(index++, operation.getProcessId());
+                    statement.setString(index++, operation.getId().toString());
+                    statement.setLong(index++, operation.getVersion());
+                    if (operation.getProcessVersion() != null) {
+                        statement.setString(index, operation.getProcessVersion());
+                    }
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    // some drivers cannot report per row counts for batches, in that case the check cannot be performed
+                    if (counts[i] != 1 && counts[i] != Statement.SUCCESS_NO_INFO) {
+                        throw new ProcessInstanceOptimisticLockingException(batched.get(i).getId().toString());
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<UUID, Payload> payloadsOf(Collection<WriteBatch.Operation> operations) {
+        Map<UUID, Payload> payloads = new LinkedHashMap<>();
+        for (WriteBatch.Operation operation : operations) {
+            payloads.put(operation.getId(), operation.getWrite());
+        }
+        return payloads;
+    }
+
+    /**
+     * Appends the change records of delta writes and discards the ones made obsolete by full snapshot writes.
+     */
+    private void writeDeltas(Connection connection, Map<UUID, Payload> payloads) throws SQLException {
+        if (payloads.values().stream().anyMatch(Payload::clearsDeltas)) {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_DELTAS)) {
+                for (Map.Entry<UUID, Payload> entry : payloads.entrySet()) {
+                    if (entry.getValue().clearsDeltas()) {
+                        statement.setString(1, entry.getKey().toString());
+                        statement.addBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        }
+        if (payloads.values().stream().anyMatch(Payload::isDelta)) {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_DELTA)) {
+                for (Map.Entry<UUID, Payload> entry : payloads.entrySet()) {
+                    if (entry.getValue().isDelta()) {
+                        long seq = entry.getValue().getStoredDeltas();
+                        for (byte[] delta : entry.getValue().getDeltas()) {
+                            statement.setString(1, entry.getKey().toString());
+                            statement.setLong(2, ++seq);
+                            statement.setBytes(3, delta);
+                            statement.addBatch();
+                        }
+                    }
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static Map<String, List<WriteBatch.Operation>> groupBySql(Collection<WriteBatch.Operation> operations, String statement) {
+        Map<String, List<WriteBatch.Operation>> grouped = new LinkedHashMap<>();
+        for (WriteBatch.Operation operation : operations) {
+            grouped.computeIfAbsent(sqlIncludingVersion(statement, operation.getProcessVersion()), k -> new ArrayList<>()).add(operation);
+        }
+        return grouped;
+    }
+
     private static String sqlIncludingVersion(String statement, String processVersion) {
         return statement + " " + (processVersion == null ? PROCESS_VERSION_IS_NULL : PROCESS_VERSION_EQUALS_TO);
     }
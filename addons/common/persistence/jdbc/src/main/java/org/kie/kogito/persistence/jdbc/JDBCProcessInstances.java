@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.persistence.jdbc;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -38,21 +41,83 @@ public class JDBCProcessInstances implements MutableProcessInstances {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JDBCProcessInstances.class);
 
+    /**
+     * Stored image of a process instance, attached to the instances read or written by this store.
+     */
+    private static final class StoredState {
+        private final byte[] image;
+        private final int deltas;
+
+        private StoredState(byte[] image, int deltas) {
+            this.image = image;
+            this.deltas = deltas;
+        }
+    }
+
     private final Process<?> process;
     private final ProcessInstanceMarshallerService marshaller;
     private final boolean lock;
     private final Repository repository;
+    private final AbstractWriteBatchManager batchManager;
+    private final int maxDeltas;
 
     public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean lock) {
+        this(process, dataSource, lock, null);
+    }
+
+    public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean lock, AbstractWriteBatchManager batchManager) {
+        this(process, dataSource, lock, batchManager, 0);
+    }
+
+    /**
+     * @param maxDeltas maximum number of change records stored after a full snapshot of an instance, 0 to always store full snapshots
+     */
+    public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean lock, AbstractWriteBatchManager batchManager, int maxDeltas) {
         this.process = process;
         this.lock = lock;
         this.marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
         this.repository = new GenericRepository(dataSource);
+        this.batchManager = batchManager;
+        this.maxDeltas = maxDeltas;
     }
 
     @Override
     public boolean exists(String id) {
-        return findById(id).isPresent();
+        UUID uuid = UUID.fromString(id);
+        Optional<WriteBatch> batch = currentBatch();
+        if (batch.isPresent()) {
+            if (batch.get().isDeleted(uuid)) {
+                return false;
+            }
+            if (batch.get().findPending(uuid).isPresent()) {
+                return true;
+            }
+        }
+        return repository.existsInternal(process.id(), process.version(), uuid);
+    }
+
+    @Override
+    public Stream<String> streamIds() {
+        Stream<String> ids = repository.findAllIdsInternal(process.id(), process.version());
+        Optional<WriteBatch> batch = currentBatch();
+        if (batch.isPresent()) {
+            WriteBatch pending = batch.get();
+            ids = Stream.concat(ids.filter(id -> !pending.isDeleted(UUID.fromString(id))),
+                    pending.findPendingInserts(process.id(), process.version()).map(UUID::toString)).distinct();
+        }
+        return ids;
+    }
+
+    @Override
+    public Optional<Stream<String>> findIdsWaitingForEvent(String eventType) {
+        Stream<String> ids = repository.findIdsByEventTypeInternal(process.id(), process.version(), eventType);
+        Optional<WriteBatch> batch = currentBatch();
+        if (batch.isPresent()) {
+            WriteBatch pending = batch.get();
+            ids = Stream.concat(ids.filter(id -> !pending.isDeleted(UUID.fromString(id))),
+                    pending.findPendingWaitingFor(process.id(), process.version(), eventType).map(UUID::toString)).distinct();
+        }
+        return Optional.of(ids);
     }
 
     @SuppressWarnings("unchecked")
@@ -60,7 +125,15 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     public void create(String id, ProcessInstance instance) {
         LOGGER.debug("Creating process instance id: {}, processId: {}, processVersion: {}", id, process.id(), process.version());
         if (isActive(instance)) {
-            repository.insertInternal(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance));
+            byte[] payload = marshaller.marshallProcessInstance(instance);
+            Collection<String> eventTypes = eventTypes(instance);
+            Optional<WriteBatch> batch = currentBatch();
+            if (batch.isPresent()) {
+                batch.get().insert(process.id(), process.version(), UUID.fromString(id), payload, eventTypes);
+            } else {
+                repository.insertInternal(process.id(), process.version(), UUID.fromString(id), payload, eventTypes);
+            }
+            attach(instance, payload, 0);
         } else {
             LOGGER.warn("Skipping create of process instance id: {}, state: {}", id, instance.status());
         }
@@ -72,13 +145,19 @@ public class JDBCProcessInstances implements MutableProcessInstances {
         LOGGER.debug("Updating process instance id: {}, processId: {}, processVersion: {}", id, process.id(), process.version());
         try {
             if (isActive(instance)) {
-                if (lock) {
-                    boolean isUpdated = repository.updateWithLock(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), instance.version());
+                Collection<String> eventTypes = eventTypes(instance);
+                Repository.Payload payload = toPayload(instance, marshaller.marshallProcessInstance(instance));
+                Optional<WriteBatch> batch = currentBatch();
+                if (batch.isPresent()) {
+                    // optimistic lock check is deferred to the flush of the batch
+                    batch.get().update(process.id(), process.version(), UUID.fromString(id), payload, instance.version(), lock, eventTypes);
+                } else if (lock) {
+                    boolean isUpdated = repository.updateWithLock(process.id(), process.version(), UUID.fromString(id), payload, instance.version(), eventTypes);
                     if (!isUpdated) {
                         throw new ProcessInstanceOptimisticLockingException(id);
                     }
                 } else {
-                    repository.updateInternal(process.id(), process.version(), UUID.fromString(id), marshaller.marshallProcessInstance(instance));
+                    repository.updateInternal(process.id(), process.version(), UUID.fromString(id), payload, eventTypes);
                 }
             } else {
                 LOGGER.warn("Process instance id: {}, state: {} is not active, skipping update", id, instance.status());
@@ -91,6 +170,11 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     @Override
     public void remove(String id) {
         LOGGER.debug("Removing process instance id: {}, processId: {}", id, process.id());
+        Optional<WriteBatch> batch = currentBatch();
+        if (batch.isPresent()) {
+            batch.get().delete(process.id(), process.version(), UUID.fromString(id));
+            return;
+        }
         boolean isDeleted = repository.deleteInternal(process.id(), process.version(), UUID.fromString(id));
         LOGGER.debug("Deleted: {}", isDeleted);
     }
@@ -98,22 +182,58 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     @Override
     public Optional<ProcessInstance<?>> findById(String id, ProcessInstanceReadMode mode) {
         LOGGER.debug("Find process instance id: {}, mode: {}", id, mode);
-        return repository.findByIdInternal(process.id(), process.version(), UUID.fromString(id)).map(r -> unmarshall(r, mode));
+        return findRecord(UUID.fromString(id)).map(r -> unmarshall(r, mode));
     }
 
     @Override
     public Stream<ProcessInstance<?>> stream(ProcessInstanceReadMode mode) {
         LOGGER.debug("Find process instance values using mode: {}", mode);
+        Optional<WriteBatch> batch = currentBatch();
+        if (batch.isPresent() && batch.get().hasPending(process.id(), process.version())) {
+            // stored records do not carry their id, so go id by id to see the writes pending in the current unit of work
+            return streamIds().map(id -> findRecord(UUID.fromString(id))).flatMap(Optional::stream).map(r -> unmarshall(r, mode));
+        }
         return repository.findAllInternal(process.id(), process.version())
                 .map(r -> unmarshall(r, mode));
     }
 
     private ProcessInstance<?> unmarshall(Repository.Record record, ProcessInstanceReadMode mode) {
-        ProcessInstance<?> instance = marshaller.unmarshallProcessInstance(record.getPayload(), process, mode);
+        byte[] payload = imageOf(record);
+        ProcessInstance<?> instance = marshaller.unmarshallProcessInstance(payload, process, mode);
         ((AbstractProcessInstance<?>) instance).setVersion(record.getVersion());
+        attach(instance, payload, record.getStoredDeltas());
         return instance;
     }
 
+    private byte[] imageOf(Repository.Record record) {
+        return record.getDeltas().isEmpty() ? record.getPayload() : marshaller.mergeProcessInstance(record.getPayload(), record.getDeltas());
+    }
+
+    private void attach(ProcessInstance<?> instance, byte[] payload, int deltas) {
+        // the image is only kept around when it may be used to compute change records
+        ((AbstractProcessInstance<?>) instance).internalSetPersistenceState(new StoredState(maxDeltas > 0 ? payload : null, deltas));
+    }
+
+    /**
+     * Writes the changes since the stored image as a change record, unless the maximum number of change records has been reached
+     * or the change record is not noticeably smaller than the full snapshot, in which case a full snapshot replaces them.
+     */
+    private Repository.Payload toPayload(ProcessInstance<?> instance, byte[] payload) {
+        // the stored state must be read after marshalling, which may have reloaded the instance
+        Object state = ((AbstractProcessInstance<?>) instance).internalGetPersistenceState();
+        if (!(state instanceof StoredState)) {
+            return Repository.Payload.snapshot(payload, -1);
+        }
+        StoredState stored = (StoredState) state;
+        if (stored.image != null && stored.deltas < maxDeltas) {
+            byte[] delta = marshaller.diffProcessInstance(stored.image, payload);
+            if (delta.length * 2 < payload.length) {
+                return Repository.Payload.deltas(payload, List.of(delta), stored.deltas);
+            }
+        }
+        return Repository.Payload.snapshot(payload, stored.deltas);
+    }
+
     @Override
     public boolean lock() {
         return this.lock;
@@ -121,9 +241,39 @@ public class JDBCProcessInstances implements MutableProcessInstances {
 
     private void disconnect(ProcessInstance<?> instance) {
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(() -> {
-            Repository.Record r = repository.findByIdInternal(process.id(), process.version(), UUID.fromString(instance.id())).orElseThrow();
+            Repository.Record r = findRecord(UUID.fromString(instance.id())).orElseThrow();
+            byte[] payload = imageOf(r);
             ((AbstractProcessInstance<?>) instance).setVersion(r.getVersion());
-            return r.getPayload();
+            attach(instance, payload, r.getStoredDeltas());
+            return payload;
         }));
     }
+
+    private static Collection<String> eventTypes(ProcessInstance<?> instance) {
+        Collection<String> eventTypes = ((AbstractProcessInstance<?>) instance).internalGetSubscribedEventTypes();
+        // types not fitting the index column are covered by subscribing to any event
+        if (eventTypes.stream().anyMatch(type -> type.length() > Repository.MAX_EVENT_TYPE_LENGTH)) {
+            return Collections.singleton(ANY_EVENT_TYPE);
+        }
+        return eventTypes;
+    }
+
+    private Optional<Repository.Record> findRecord(UUID id) {
+        // writes pending in the current unit of work take precedence over the stored state
+        Optional<WriteBatch> batch = currentBatch();
+        if (batch.isPresent()) {
+            if (batch.get().isDeleted(id)) {
+                return Optional.empty();
+            }
+            Optional<Repository.Record> pending = batch.get().findPending(id);
+            if (pending.isPresent()) {
+                return pending;
+            }
+        }
+        return repository.findByIdInternal(process.id(), process.version(), id);
+    }
+
+    private Optional<WriteBatch> currentBatch() {
+        return batchManager == null ? Optional.empty() : batchManager.currentBatch();
+    }
 }
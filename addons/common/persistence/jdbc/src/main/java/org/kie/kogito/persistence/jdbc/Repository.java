@@ -18,6 +18,10 @@
  */
 package org.kie.kogito.persistence.jdbc;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -25,18 +29,36 @@ import java.util.stream.Stream;
 abstract class Repository {
 
     static final String INSERT = "INSERT INTO process_instances (id, payload, process_id, process_version, version) VALUES (?, ?, ?, ?, ?)";
-    static final String FIND_ALL = "SELECT payload, version FROM process_instances WHERE process_id = ?";
-    static final String FIND_BY_ID = "SELECT payload, version FROM process_instances WHERE process_id = ? and id = ?";
+    static final String DELTA_COUNT = "(SELECT COUNT(*) FROM process_instance_deltas d WHERE d.id = process_instances.id) AS deltas";
+    static final String FIND_ALL = "SELECT id, payload, version, " + DELTA_COUNT + " FROM process_instances WHERE process_id = ?";
+    static final String FIND_ALL_IDS = "SELECT id FROM process_instances WHERE process_id = ?";
+    static final String FIND_BY_ID = "SELECT id, payload, version, " + DELTA_COUNT + " FROM process_instances WHERE process_id = ? and id = ?";
+    static final String EXISTS = "SELECT id FROM process_instances WHERE process_id = ? and id = ?";
     static final String UPDATE = "UPDATE process_instances SET payload = ? WHERE process_id = ? and id = ?";
     static final String UPDATE_WITH_LOCK = "UPDATE process_instances SET payload = ?, version = ? WHERE process_id = ? and id = ? and version = ?";
+    static final String UPDATE_VERSION = "UPDATE process_instances SET version = ? WHERE process_id = ? and id = ? and version = ?";
     static final String DELETE = "DELETE FROM process_instances WHERE process_id = ? and id = ?";
+    static final String INSERT_EVENT_TYPE = "INSERT INTO process_instance_events (id, event_type) VALUES (?, ?)";
+    static final String DELETE_EVENT_TYPES = "DELETE FROM process_instance_events WHERE id = ?";
+    static final String FIND_IDS_BY_EVENT_TYPE =
+            "SELECT DISTINCT p.id FROM process_instances p JOIN process_instance_events e ON e.id = p.id WHERE p.process_id = ? and e.event_type IN (?, ?)";
+    static final String INSERT_DELTA = "INSERT INTO process_instance_deltas (id, seq, payload) VALUES (?, ?, ?)";
+    static final String FIND_DELTAS = "SELECT payload FROM process_instance_deltas WHERE id = ? ORDER BY seq";
+    static final String DELETE_DELTAS = "DELETE FROM process_instance_deltas WHERE id = ?";
     static final String PROCESS_VERSION_EQUALS_TO = "and process_version = ?";
     static final String PROCESS_VERSION_IS_NULL = "and process_version is null";
 
+    static final int MAX_EVENT_TYPE_LENGTH = 255;
+
     static class Record {
         private final byte[] payload;
         private final long version;
+        private final List<byte[]> deltas;
+        private final int storedDeltas;
 
+        /**
+         * Returns the last full snapshot of the process instance, the changes returned by {@link #getDeltas()} must be applied on top of it.
+         */
         public byte[] getPayload() {
             return payload;
         }
@@ -45,17 +67,104 @@ abstract class Repository {
             return version;
         }
 
+        public List<byte[]> getDeltas() {
+            return deltas;
+        }
+
+        /**
+         * Returns the number of change records stored after the snapshot.
+         */
+        public int getStoredDeltas() {
+            return storedDeltas;
+        }
+
         public Record(byte[] payload, long version) {
+            this(payload, version, Collections.emptyList());
+        }
+
+        public Record(byte[] payload, long version, List<byte[]> deltas) {
+            this(payload, version, deltas, deltas.size());
+        }
+
+        public Record(byte[] payload, long version, List<byte[]> deltas, int storedDeltas) {
             this.payload = payload;
             this.version = version;
+            this.deltas = deltas;
+            this.storedDeltas = storedDeltas;
         }
     }
 
-    abstract void insertInternal(String processId, String processVersion, UUID id, byte[] payload);
+    /**
+     * Process instance image to be written, either as a full snapshot replacing the stored one or as change records
+     * appended after the stored ones.
+     */
+    static class Payload {
+        private final byte[] image;
+        private final List<byte[]> deltas;
+        private final int storedDeltas;
 
-    abstract void updateInternal(String processId, String processVersion, UUID id, byte[] payload);
+        private Payload(byte[] image, List<byte[]> deltas, int storedDeltas) {
+            this.image = image;
+            this.deltas = deltas;
+            this.storedDeltas = storedDeltas;
+        }
 
-    abstract boolean updateWithLock(String processId, String processVersion, UUID id, byte[] payload, long version);
+        /**
+         * Full snapshot write, {@code storedDeltas} being the number of change records to discard or -1 when unknown.
+         */
+        static Payload snapshot(byte[] image, int storedDeltas) {
+            return new Payload(image, null, storedDeltas);
+        }
+
+        static Payload deltas(byte[] image, List<byte[]> deltas, int storedDeltas) {
+            return new Payload(image, deltas, storedDeltas);
+        }
+
+        /**
+         * Returns the full image of the process instance once written.
+         */
+        byte[] getImage() {
+            return image;
+        }
+
+        boolean isDelta() {
+            return deltas != null;
+        }
+
+        List<byte[]> getDeltas() {
+            return deltas;
+        }
+
+        int getStoredDeltas() {
+            return storedDeltas;
+        }
+
+        boolean clearsDeltas() {
+            return !isDelta() && storedDeltas != 0;
+        }
+
+        int deltasAfterWrite() {
+            return isDelta() ? storedDeltas + deltas.size() : 0;
+        }
+
+        /**
+         * Combines this pending write with a later one, the stored change records being the ones known before this write.
+         */
+        Payload followedBy(Payload next) {
+            if (isDelta() && next.isDelta()) {
+                List<byte[]> combined = new ArrayList<>(deltas);
+                combined.addAll(next.getDeltas());
+                return deltas(next.getImage(), combined, storedDeltas);
+            }
+            return snapshot(next.getImage(), storedDeltas);
+        }
+    }
+
+    abstract void insertInternal(String processId, String processVersion, UUID id, byte[] payload, Collection<String> eventTypes);
+
+    abstract void updateInternal(String processId, String processVersion, UUID id, Payload payload, Collection<String> eventTypes);
+
+    abstract boolean updateWithLock(String processId, String processVersion, UUID id, Payload payload, long version, Collection<String> eventTypes);
 
     abstract boolean deleteInternal(String processId, String processVersion, UUID id);
 
@@ -63,6 +172,14 @@ abstract class Repository {
 
     abstract Stream<Record> findAllInternal(String processId, String processVersion);
 
+    abstract boolean existsInternal(String processId, String processVersion, UUID id);
+
+    abstract Stream<String> findAllIdsInternal(String processId, String processVersion);
+
+    abstract Stream<String> findIdsByEventTypeInternal(String processId, String processVersion, String eventType);
+
+    abstract void executeBatch(WriteBatch batch);
+
     protected RuntimeException uncheckedException(Exception ex, String message, Object... param) {
         return new RuntimeException(String.format(message, param), ex);
     }
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.kie.kogito.process.MutableProcessInstances;
+
+/**
+ * Pending process instance writes collected during a unit of work.
+ * <p>
+ * Operations on the same process instance are coalesced so that only the final state is written:
+ * an insert followed by updates becomes a single insert, consecutive updates keep the version read
+ * by the first one (so the optimistic lock check still applies to the original read) and a delete
+ * of an instance inserted within the same batch cancels both. Change records of consecutive delta updates are
+ * appended in order, while an update written as a full snapshot turns the coalesced update into a full snapshot.
+ * Deletes are executed first, then inserts and finally updates.
+ */
+final class WriteBatch {
+
+    static final class Operation {
+
+        private final String processId;
+        private final String processVersion;
+        private final UUID id;
+        private final Repository.Payload write;
+        private final long version;
+        private final boolean lock;
+        private final Collection<String> eventTypes;
+
+        private Operation(String processId, String processVersion, UUID id, Repository.Payload write, long version, boolean lock, Collection<String> eventTypes) {
+            this.processId = processId;
+            this.processVersion = processVersion;
+            this.id = id;
+            this.write = write;
+            this.version = version;
+            this.lock = lock;
+            this.eventTypes = eventTypes;
+        }
+
+        String getProcessId() {
+            return processId;
+        }
+
+        String getProcessVersion() {
+            return processVersion;
+        }
+
+        UUID getId() {
+            return id;
+        }
+
+        byte[] getPayload() {
+            return write == null ? null : write.getImage();
+        }
+
+        Repository.Payload getWrite() {
+            return write;
+        }
+
+        boolean isDelta() {
+            return write.isDelta();
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        boolean isLock() {
+            return lock;
+        }
+
+        Collection<String> getEventTypes() {
+            return eventTypes;
+        }
+
+        boolean isOf(String processId, String processVersion) {
+            return this.processId.equals(processId) && Objects.equals(this.processVersion, processVersion);
+        }
+
+        boolean isWaitingFor(String eventType) {
+            return eventTypes.contains(eventType) || eventTypes.contains(MutableProcessInstances.ANY_EVENT_TYPE);
+        }
+    }
+
+    private final Map<UUID, Operation> deletes = new LinkedHashMap<>();
+    private final Map<UUID, Operation> inserts = new LinkedHashMap<>();
+    private final Map<UUID, Operation> updates = new LinkedHashMap<>();
+
+    void insert(String processId, String processVersion, UUID id, byte[] payload, Collection<String> eventTypes) {
+        updates.remove(id);
+        inserts.put(id, new Operation(processId, processVersion, id, Repository.Payload.snapshot(payload, 0), 0L, false, eventTypes));
+    }
+
+    /**
+     * Returns the number of change records stored for the instance once this batch is flushed.
+     */
+    int update(String processId, String processVersion, UUID id, Repository.Payload payload, long version, boolean lock, Collection<String> eventTypes) {
+        if (inserts.containsKey(id)) {
+            insert(processId, processVersion, id, payload.getImage(), eventTypes);
+            return 0;
+        }
+        Operation previous = updates.get(id);
+        Operation operation;
+        if (previous != null) {
+            operation = new Operation(processId, processVersion, id, previous.getWrite().followedBy(payload), previous.getVersion(), lock || previous.isLock(), eventTypes);
+        } else {
+            operation = new Operation(processId, processVersion, id, payload, version, lock, eventTypes);
+        }
+        updates.put(id, operation);
+        return operation.getWrite().deltasAfterWrite();
+    }
+
+    void delete(String processId, String processVersion, UUID id) {
+        updates.remove(id);
+        if (inserts.remove(id) == null) {
+            deletes.put(id, new Operation(processId, processVersion, id, null, 0L, false, Collections.emptySet()));
+        }
+    }
+
+    boolean isDeleted(UUID id) {
+        return deletes.containsKey(id) && !inserts.containsKey(id);
+    }
+
+    /**
+     * Returns the record as it will be stored once this batch is flushed, if the instance has pending writes.
+     */
+    Optional<Repository.Record> findPending(UUID id) {
+        Operation insert = inserts.get(id);
+        if (insert != null) {
+            return Optional.of(new Repository.Record(insert.getPayload(), 0L));
+        }
+        Operation update = updates.get(id);
+        if (update != null) {
+            return Optional.of(new Repository.Record(update.getPayload(), update.isLock() ? update.getVersion() + 1 : update.getVersion(), Collections.emptyList(),
+                    update.getWrite().deltasAfterWrite()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the ids of the instances with pending writes that will be subscribed to the given event type once this batch is flushed.
+     */
+    Stream<UUID> findPendingWaitingFor(String processId, String processVersion, String eventType) {
+        return Stream.concat(inserts.values().stream(), updates.values().stream())
+                .filter(operation -> operation.isOf(processId, processVersion) && operation.isWaitingFor(eventType))
+                .map(Operation::getId);
+    }
+
+    /**
+     * Returns the ids of the instances of the given process that will be inserted once this batch is flushed.
+     */
+    Stream<UUID> findPendingInserts(String processId, String processVersion) {
+        return inserts.values().stream().filter(operation -> operation.isOf(processId, processVersion)).map(Operation::getId);
+    }
+
+    /**
+     * Whether flushing this batch changes any instance of the given process.
+     */
+    boolean hasPending(String processId, String processVersion) {
+        return Stream.of(deletes, inserts, updates).flatMap(operations -> operations.values().stream())
+                .anyMatch(operation -> operation.isOf(processId, processVersion));
+    }
+
+    Collection<Operation> deletes() {
+        return deletes.values();
+    }
+
+    Collection<Operation> inserts() {
+        return inserts.values();
+    }
+
+    Collection<Operation> updates() {
+        return updates.values();
+    }
+
+    boolean isEmpty() {
+        return deletes.isEmpty() && inserts.isEmpty() && updates.isEmpty();
+    }
+
+    int size() {
+        return deletes.size() + inserts.size() + updates.size();
+    }
+
+    void clear() {
+        deletes.clear();
+        inserts.clear();
+        updates.clear();
+    }
+}
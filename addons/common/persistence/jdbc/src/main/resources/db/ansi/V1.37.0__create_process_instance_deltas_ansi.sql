@@ -0,0 +1,8 @@
+CREATE TABLE process_instance_deltas
+(
+    id      CHAR(36) NOT NULL,
+    seq     BIGINT   NOT NULL,
+    payload BLOB     NOT NULL,
+    CONSTRAINT process_instance_deltas_pkey PRIMARY KEY (id, seq),
+    CONSTRAINT process_instance_deltas_fkey FOREIGN KEY (id) REFERENCES process_instances (id) ON DELETE CASCADE
+);
@@ -0,0 +1,11 @@
+-- To be used with kogito-addons-quarkus-persistence-jdbc for Quarkus or kogito-addons-springboot-persistence-jdbc for SpringBoot
+CREATE TABLE process_instance_events
+(
+    id         character(36)          NOT NULL,
+    event_type character varying(255) NOT NULL,
+    CONSTRAINT process_instance_events_pkey PRIMARY KEY (id, event_type),
+    CONSTRAINT process_instance_events_fkey FOREIGN KEY (id) REFERENCES process_instances (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_process_instance_events_type ON process_instance_events (event_type, id);
+-- existing instances are subscribed to any event until they are updated
+INSERT INTO process_instance_events (id, event_type) SELECT id, '*' FROM process_instances;
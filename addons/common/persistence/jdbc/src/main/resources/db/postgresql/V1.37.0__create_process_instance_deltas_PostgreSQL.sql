@@ -0,0 +1,9 @@
+-- To be used with kogito-addons-quarkus-persistence-jdbc for Quarkus or kogito-addons-springboot-persistence-jdbc for SpringBoot
+CREATE TABLE process_instance_deltas
+(
+    id      character(36) NOT NULL,
+    seq     bigint        NOT NULL,
+    payload bytea         NOT NULL,
+    CONSTRAINT process_instance_deltas_pkey PRIMARY KEY (id, seq),
+    CONSTRAINT process_instance_deltas_fkey FOREIGN KEY (id) REFERENCES process_instances (id) ON DELETE CASCADE
+);
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.jdbc;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.MutableProcessInstances;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBatchTest {
+
+    private static final String PROCESS_ID = "processId";
+    private static final String PROCESS_VERSION = "1.0";
+    private static final Set<String> EVENT_TYPES = Set.of("signal");
+
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void testInsertFollowedByUpdatesIsSingleInsert() {
+        WriteBatch batch = new WriteBatch();
+        batch.insert(PROCESS_ID, PROCESS_VERSION, id, new byte[] { 1 }, EVENT_TYPES);
+        batch.update(PROCESS_ID, PROCESS_VERSION, id, snapshot(2), 0L, true, EVENT_TYPES);
+
+        assertThat(batch.size()).isOne();
+        assertThat(batch.inserts()).singleElement().satisfies(op -> assertThat(op.getPayload()).containsExactly(2));
+        assertThat(batch.updates()).isEmpty();
+        assertThat(batch.findPending(id)).hasValueSatisfying(r -> assertThat(r.getVersion()).isZero());
+    }
+
+    @Test
+    void testConsecutiveUpdatesKeepFirstVersion() {
+        WriteBatch batch = new WriteBatch();
+        batch.update(PROCESS_ID, PROCESS_VERSION, id, snapshot(1), 3L, true, EVENT_TYPES);
+        batch.update(PROCESS_ID, PROCESS_VERSION, id, snapshot(2), 4L, true, EVENT_TYPES);
+
+        assertThat(batch.updates()).singleElement().satisfies(op -> {
+            assertThat(op.getPayload()).containsExactly(2);
+            assertThat(op.getVersion()).isEqualTo(3L);
+            assertThat(op.isLock()).isTrue();
+        });
+        assertThat(batch.findPending(id)).hasValueSatisfying(r -> assertThat(r.getVersion()).isEqualTo(4L));
+    }
+
+    @Test
+    void testDeleteOfInsertedInstanceCancelsBoth() {
+        WriteBatch batch = new WriteBatch();
+        batch.insert(PROCESS_ID, PROCESS_VERSION, id, new byte[] { 1 }, EVENT_TYPES);
+        batch.delete(PROCESS_ID, PROCESS_VERSION, id);
+
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.isDeleted(id)).isFalse();
+        assertThat(batch.findPending(id)).isEmpty();
+    }
+
+    @Test
+    void testDeleteReplacesUpdate() {
+        WriteBatch batch = new WriteBatch();
+        batch.update(PROCESS_ID, PROCESS_VERSION, id, snapshot(1), 0L, false, EVENT_TYPES);
+        batch.delete(PROCESS_ID, PROCESS_VERSION, id);
+
+        assertThat(batch.updates()).isEmpty();
+        assertThat(batch.deletes()).singleElement().satisfies(op -> assertThat(op.getId()).isEqualTo(id));
+        assertThat(batch.isDeleted(id)).isTrue();
+        assertThat(batch.findPending(id)).isEmpty();
+    }
+
+    @Test
+    void testPendingWaitingFor() {
+        UUID other = UUID.randomUUID();
+        WriteBatch batch = new WriteBatch();
+        batch.insert(PROCESS_ID, PROCESS_VERSION, id, new byte[] { 1 }, EVENT_TYPES);
+        batch.update(PROCESS_ID, PROCESS_VERSION, other, snapshot(1), 0L, false, Set.of(MutableProcessInstances.ANY_EVENT_TYPE));
+
+        assertThat(batch.findPendingWaitingFor(PROCESS_ID, PROCESS_VERSION, "signal")).containsExactly(id, other);
+        assertThat(batch.findPendingWaitingFor(PROCESS_ID, PROCESS_VERSION, "another")).containsExactly(other);
+
+        batch.update(PROCESS_ID, PROCESS_VERSION, id, snapshot(2), 0L, false, Set.of());
+        assertThat(batch.findPendingWaitingFor(PROCESS_ID, PROCESS_VERSION, "signal")).containsExactly(other);
+    }
+
+    @Test
+    void testPendingOfOtherProcessIsIgnored() {
+        UUID other = UUID.randomUUID();
+        WriteBatch batch = new WriteBatch();
+        batch.insert(PROCESS_ID, PROCESS_VERSION, id, new byte[] { 1 }, EVENT_TYPES);
+        batch.insert("otherProcessId", null, other, new byte[] { 1 }, EVENT_TYPES);
+
+        assertThat(batch.findPendingInserts(PROCESS_ID, PROCESS_VERSION)).containsExactly(id);
+        assertThat(batch.findPendingInserts("otherProcessId", null)).containsExactly(other);
+        assertThat(batch.findPendingWaitingFor(PROCESS_ID, PROCESS_VERSION, "signal")).containsExactly(id);
+        assertThat(batch.hasPending(PROCESS_ID, "2.0")).isFalse();
+    }
+
+    @Test
+    void testConsecutiveDeltaUpdatesAppendRecords() {
+        WriteBatch batch = new WriteBatch();
+        assertThat(batch.update(PROCESS_ID, PROCESS_VERSION, id, Repository.Payload.deltas(new byte[] { 1 }, List.of(new byte[] { 11 }), 2), 3L, true, EVENT_TYPES)).isEqualTo(3);
+        assertThat(batch.update(PROCESS_ID, PROCESS_VERSION, id, Repository.Payload.deltas(new byte[] { 2 }, List.of(new byte[] { 12 }), 3), 4L, true, EVENT_TYPES)).isEqualTo(4);
+
+        assertThat(batch.updates()).singleElement().satisfies(op -> {
+            assertThat(op.getPayload()).containsExactly(2);
+            assertThat(op.isDelta()).isTrue();
+            assertThat(op.getWrite().getStoredDeltas()).isEqualTo(2);
+            assertThat(op.getWrite().getDeltas()).containsExactly(new byte[] { 11 }, new byte[] { 12 });
+        });
+        assertThat(batch.findPending(id)).hasValueSatisfying(r -> {
+            assertThat(r.getPayload()).containsExactly(2);
+            assertThat(r.getDeltas()).isEmpty();
+            assertThat(r.getStoredDeltas()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void testSnapshotUpdateDiscardsDeltas() {
+        WriteBatch batch = new WriteBatch();
+        batch.update(PROCESS_ID, PROCESS_VERSION, id, Repository.Payload.deltas(new byte[] { 1 }, List.of(new byte[] { 11 }), 2), 3L, true, EVENT_TYPES);
+        assertThat(batch.update(PROCESS_ID, PROCESS_VERSION, id, Repository.Payload.snapshot(new byte[] { 2 }, 3), 4L, true, EVENT_TYPES)).isZero();
+
+        assertThat(batch.updates()).singleElement().satisfies(op -> {
+            assertThat(op.getPayload()).containsExactly(2);
+            assertThat(op.isDelta()).isFalse();
+            assertThat(op.getWrite().clearsDeltas()).isTrue();
+        });
+    }
+
+    private static Repository.Payload snapshot(int value) {
+        return Repository.Payload.snapshot(new byte[] { (byte) value }, 0);
+    }
+}
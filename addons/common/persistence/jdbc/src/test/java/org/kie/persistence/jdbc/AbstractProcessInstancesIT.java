@@ -18,7 +18,13 @@
  */
 package org.kie.persistence.jdbc;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -96,6 +102,12 @@ abstract class AbstractProcessInstancesIT {
         JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
         assertThat(processInstances.exists(processInstance.id())).isTrue();
         verify(processInstances).create(any(), any());
+        try (Stream<String> ids = processInstances.findIdsWaitingForEvent("workItemCompleted").orElseThrow()) {
+            assertThat(ids).containsExactly(processInstance.id());
+        }
+        try (Stream<String> ids = processInstances.findIdsWaitingForEvent("unknownEvent").orElseThrow()) {
+            assertThat(ids).isEmpty();
+        }
 
         String testVar = (String) processInstance.variables().get("test");
         assertThat(testVar).isEqualTo("test");
@@ -162,7 +174,11 @@ abstract class AbstractProcessInstancesIT {
         BpmnProcessInstance instanceOne = (BpmnProcessInstance) foundOne.get();
         processInstances.update(processInstance.id(), instanceOne);
 
+        assertThat(processInstances.exists(processInstance.id())).isTrue();
         assertThat(processInstances.exists(TEST_ID)).isFalse();
+        try (Stream<String> ids = processInstances.streamIds()) {
+            assertThat(ids).containsExactly(processInstance.id());
+        }
         Optional<?> foundTwo = processInstances.findById(TEST_ID);
         assertThat(foundTwo).isEmpty();
 
@@ -210,6 +226,48 @@ abstract class AbstractProcessInstancesIT {
         assertEmpty(process.instances());
     }
 
+    @Test
+    public void testUpdateWithDeltas() throws SQLException {
+        var factory = new TestProcessInstancesFactory(getDataSource(), lock(), 2);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(singletonMap("test", "test")));
+        processInstance.start();
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        long version = ((BpmnProcessInstance) processInstances.findById(processInstance.id()).get()).version();
+        int maxStoredDeltas = 0;
+        for (int i = 1; i <= 4; i++) {
+            BpmnProcessInstance instance = (BpmnProcessInstance) processInstances.findById(processInstance.id()).get();
+            instance.updateVariables(BpmnVariables.create(singletonMap("s", "value" + i)));
+
+            BpmnProcessInstance found = (BpmnProcessInstance) processInstances.findById(processInstance.id()).get();
+            assertThat(found.variables().toMap()).containsAllEntriesOf(Map.of("test", "test", "s", "value" + i));
+            assertThat(found.version()).isEqualTo(lock() ? version + i : 0);
+            assertThat(found.status()).isEqualTo(STATE_ACTIVE);
+
+            // once the maximum number of change records is reached a full snapshot replaces them
+            int storedDeltas = countDeltas(processInstance.id());
+            assertThat(storedDeltas).isLessThanOrEqualTo(2);
+            maxStoredDeltas = Math.max(maxStoredDeltas, storedDeltas);
+        }
+        assertThat(maxStoredDeltas).isPositive();
+
+        processInstances.remove(processInstance.id());
+        assertEmpty(process.instances());
+        assertThat(countDeltas(processInstance.id())).isZero();
+    }
+
+    private int countDeltas(String id) throws SQLException {
+        try (Connection connection = getDataSource().getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM process_instance_deltas WHERE id = ?")) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     @Test
     public void testRemove() {
         var factory = new TestProcessInstancesFactory(getDataSource(), lock());
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.mongodb;
 
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
@@ -49,15 +50,19 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.result.UpdateResult;
 
 import static java.util.Collections.singletonMap;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_EVENT_TYPES_INDEX;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID_INDEX;
 
 public class MongoDBProcessInstances<T extends Model> implements MutableProcessInstances<T> {
 
     private static final String VERSION = "version";
+    private static final String STATE = "state";
+    private static final String EVENT_TYPES = "eventTypes";
     private org.kie.kogito.process.Process<?> process;
     private ProcessInstanceMarshallerService marshaller;
     private final MongoCollection<Document> collection;
@@ -109,6 +114,7 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
     protected void updateStorage(String id, ProcessInstance<T> instance, boolean checkDuplicates) {
         ClientSession clientSession = transactionManager.getClientSession();
         Document doc = Document.parse(new String(marshaller.marshallProcessInstance(instance)));
+        doc.put(EVENT_TYPES, new ArrayList<>(((AbstractProcessInstance<?>) instance).internalGetSubscribedEventTypes()));
         if (checkDuplicates) {
             createInternal(id, clientSession, doc);
         } else {
@@ -151,9 +157,39 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         return Optional.ofNullable((clientSession != null ? collection.find(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id)) : collection.find(Filters.eq(PROCESS_INSTANCE_ID, id))).first());
     }
 
+    private Optional<Document> findMetadata(String id) {
+        ClientSession clientSession = transactionManager.getClientSession();
+        Bson projection = Projections.include(PROCESS_INSTANCE_ID, STATE, VERSION);
+        return Optional.ofNullable((clientSession != null ? collection.find(clientSession, Filters.eq(PROCESS_INSTANCE_ID, id)) : collection.find(Filters.eq(PROCESS_INSTANCE_ID, id)))
+                .projection(projection).first());
+    }
+
     @Override
     public boolean exists(String id) {
-        return find(id).isPresent();
+        return findMetadata(id).isPresent();
+    }
+
+    @Override
+    public Optional<Integer> findStatusById(String id) {
+        return findMetadata(id).map(doc -> doc.getInteger(STATE, ProcessInstance.STATE_PENDING));
+    }
+
+    @Override
+    public Stream<String> streamIds() {
+        ClientSession clientSession = transactionManager.getClientSession();
+        MongoCursor<Document> docs = (clientSession == null ? collection.find() : collection.find(clientSession))
+                .projection(Projections.include(PROCESS_INSTANCE_ID)).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).map(doc -> doc.getString(PROCESS_INSTANCE_ID)).onClose(docs::close);
+    }
+
+    @Override
+    public Optional<Stream<String>> findIdsWaitingForEvent(String eventType) {
+        ClientSession clientSession = transactionManager.getClientSession();
+        // documents stored before the index was introduced are considered subscribed to any event
+        Bson filter = Filters.or(Filters.in(EVENT_TYPES, eventType, ANY_EVENT_TYPE), Filters.exists(EVENT_TYPES, false));
+        MongoCursor<Document> docs = (clientSession == null ? collection.find(filter) : collection.find(clientSession, filter))
+                .projection(Projections.include(PROCESS_INSTANCE_ID)).iterator();
+        return Optional.of(StreamSupport.stream(Spliterators.spliteratorUnknownSize(docs, Spliterator.ORDERED), false).map(doc -> doc.getString(PROCESS_INSTANCE_ID)).onClose(docs::close));
     }
 
     @Override
@@ -193,6 +229,8 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         //Index creation (if the index already exists it is a no-op)
         collection.createIndex(Indexes.ascending(PROCESS_INSTANCE_ID),
                 new IndexOptions().unique(true).name(PROCESS_INSTANCE_ID_INDEX).background(true));
+        collection.createIndex(Indexes.ascending(EVENT_TYPES),
+                new IndexOptions().name(PROCESS_INSTANCE_EVENT_TYPES_INDEX).background(true));
         return collection;
     }
 }
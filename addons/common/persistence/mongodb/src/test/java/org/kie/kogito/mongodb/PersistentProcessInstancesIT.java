@@ -85,6 +85,8 @@ class PersistentProcessInstancesIT extends TestHelper {
         assertThat(found.variables().toMap()).containsExactly(entry("test", "test"));
         assertThat(mongodbInstance.exists(processInstance.id())).isTrue();
         assertOne(mongodbInstance);
+        assertThat(mongodbInstance.findIdsWaitingForEvent("workItemCompleted").orElseThrow()).containsExactly(processInstance.id());
+        assertThat(mongodbInstance.findIdsWaitingForEvent("unknownEvent").orElseThrow()).isEmpty();
 
         ProcessInstance<?> readOnlyPI = mongodbInstance.findById(processInstance.id(), ProcessInstanceReadMode.READ_ONLY).get();
         assertThat(readOnlyPI).as("ProcessInstanceDocument cannot be null").isNotNull();
@@ -114,6 +116,7 @@ class PersistentProcessInstancesIT extends TestHelper {
         FindIterable<Document> results = mock(FindIterable.class);
         when(results.first()).thenReturn(null);
         when(results.iterator()).thenReturn(cursor);
+        when(results.projection(any())).thenReturn(results);
         when(mongoCollection.find(eq(clientSession), any(Bson.class))).thenReturn(results);
         when(mongoCollection.find(eq(clientSession))).thenReturn(results);
         when(mongoCollection.find(any(Bson.class))).thenReturn(results);
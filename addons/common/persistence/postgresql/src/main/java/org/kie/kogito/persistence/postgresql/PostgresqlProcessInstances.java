@@ -18,11 +18,14 @@
  */
 package org.kie.kogito.persistence.postgresql;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -39,11 +42,13 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.pgclient.PgPool;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 
 @SuppressWarnings({ "rawtypes" })
 public class PostgresqlProcessInstances implements MutableProcessInstances {
 
+    private static final String ID = "id";
     private static final String VERSION = "version";
     private static final String PAYLOAD = "payload";
 
@@ -52,7 +57,14 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
     private static final String UPDATE = "UPDATE process_instances SET payload = $1 WHERE process_id = $2 and id = $3 and process_version ";
     private static final String DELETE = "DELETE FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
     private static final String FIND_BY_ID = "SELECT payload, version FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
+    private static final String EXISTS = "SELECT id FROM process_instances WHERE process_id = $1 and id = $2 and process_version ";
+    private static final String FIND_ALL_IDS = "SELECT id FROM process_instances WHERE process_id = $1 and process_version ";
     private static final String FIND_ALL = "SELECT payload, version FROM process_instances WHERE process_id = $1 and process_version ";
+    private static final String INSERT_EVENT_TYPE = "INSERT INTO process_instance_events (id, event_type) VALUES ($1, $2)";
+    private static final String DELETE_EVENT_TYPES = "DELETE FROM process_instance_events WHERE id = $1";
+    private static final String FIND_IDS_BY_EVENT_TYPE =
+            "SELECT DISTINCT p.id FROM process_instances p JOIN process_instance_events e ON e.id = p.id WHERE p.process_id = $1 and e.event_type IN ($2, $3) and p.process_version ";
+    private static final int MAX_EVENT_TYPE_LENGTH = 255;
     private static final String UPDATE_WITH_LOCK = "UPDATE process_instances SET payload = $1, version = $2 WHERE process_id = $3 and id = $4 and version = $5 and process_version ";
 
     private final Process<?> process;
@@ -71,7 +83,46 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
 
     @Override
     public boolean exists(String id) {
-        return findById(id).isPresent();
+        try {
+            Future<RowSet<Row>> future =
+                    client.preparedQuery(EXISTS + (process.version() == null ? IS_NULL : "= $3"))
+                            .execute(tuple(process.id(), id));
+            return getResultFromFuture(future).map(RowSet::size).map(size -> size > 0).orElse(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error checking existence of process instance %s", id);
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error checking existence of process instance %s", id);
+        }
+    }
+
+    @Override
+    public Stream<String> streamIds() {
+        try {
+            return getResultFromFuture(client.preparedQuery(FIND_ALL_IDS + (process.version() == null ? IS_NULL : "= $2")).execute(tuple(process.id())))
+                    .map(r -> StreamSupport.stream(r.spliterator(), false)).orElse(Stream.empty())
+                    .map(row -> row.getString(ID).trim());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error finding all process instance ids, for processId %s", process.id());
+        } catch (ExecutionException | TimeoutException e) {
+            throw uncheckedException(e, "Error finding all process instance ids, for processId %s", process.id());
+        }
+    }
+
+    @Override
+    public Optional<Stream<String>> findIdsWaitingForEvent(String eventType) {
+        try {
+            return Optional.of(getResultFromFuture(client.preparedQuery(FIND_IDS_BY_EVENT_TYPE + (process.version() == null ? IS_NULL : "= $4"))
+                    .execute(tuple(process.id(), eventType, ANY_EVENT_TYPE)))
+                    .map(r -> StreamSupport.stream(r.spliterator(), false)).orElse(Stream.empty())
+                    .map(row -> row.getString(ID).trim()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uncheckedException(e, "Error finding process instances waiting for event %s, for processId %s", eventType, process.id());
+        } catch (ExecutionException | TimeoutException e) {
+            throw uncheckedException(e, "Error finding process instances waiting for event %s, for processId %s", eventType, process.id());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -81,7 +132,7 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
             disconnect(instance);
             return;
         }
-        insertInternal(id, marshaller.marshallProcessInstance(instance));
+        insertInternal(id, marshaller.marshallProcessInstance(instance), eventTypes(instance));
     }
 
     @SuppressWarnings("unchecked")
@@ -93,9 +144,9 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }
         try {
             if (lock) {
-                updateWithLock(id, marshaller.marshallProcessInstance(instance), instance.version());
+                updateWithLock(id, marshaller.marshallProcessInstance(instance), instance.version(), eventTypes(instance));
             } else {
-                updateInternal(id, marshaller.marshallProcessInstance(instance));
+                updateInternal(id, marshaller.marshallProcessInstance(instance), eventTypes(instance));
             }
         } finally {
             disconnect(instance);
@@ -144,10 +195,11 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }).orElseThrow()));
     }
 
-    private boolean insertInternal(String id, byte[] payload) {
+    private boolean insertInternal(String id, byte[] payload, Collection<String> eventTypes) {
         try {
-            Future<RowSet<Row>> future = client.preparedQuery(INSERT)
-                    .execute(Tuple.of(id, Buffer.buffer(payload), process.id(), process.version(), 0L));
+            Future<RowSet<Row>> future = client.withTransaction(connection -> connection.preparedQuery(INSERT)
+                    .execute(Tuple.of(id, Buffer.buffer(payload), process.id(), process.version(), 0L))
+                    .compose(rows -> insertEventTypes(connection, id, eventTypes).map(rows)));
             return getExecutedResult(future);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -161,11 +213,11 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         return new RuntimeException(String.format(message, param), ex);
     }
 
-    private boolean updateInternal(String id, byte[] payload) {
+    private boolean updateInternal(String id, byte[] payload, Collection<String> eventTypes) {
         try {
-            Future<RowSet<Row>> future =
-                    client.preparedQuery(UPDATE + (process.version() == null ? IS_NULL : "= $4"))
-                            .execute(tuple(Buffer.buffer(payload), process.id(), id));
+            Future<RowSet<Row>> future = client.withTransaction(connection -> connection.preparedQuery(UPDATE + (process.version() == null ? IS_NULL : "= $4"))
+                    .execute(tuple(Buffer.buffer(payload), process.id(), id))
+                    .compose(rows -> replaceEventTypes(connection, id, eventTypes, rows)));
             return getExecutedResult(future);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -220,6 +272,33 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         }
     }
 
+    private static Collection<String> eventTypes(ProcessInstance<?> instance) {
+        Collection<String> eventTypes = ((AbstractProcessInstance<?>) instance).internalGetSubscribedEventTypes();
+        // types not fitting the index column are covered by subscribing to any event
+        if (eventTypes.stream().anyMatch(type -> type.length() > MAX_EVENT_TYPE_LENGTH)) {
+            return Collections.singleton(ANY_EVENT_TYPE);
+        }
+        return eventTypes;
+    }
+
+    private Future<RowSet<Row>> replaceEventTypes(SqlConnection connection, String id, Collection<String> eventTypes, RowSet<Row> rows) {
+        if (rows.rowCount() != 1) {
+            return Future.succeededFuture(rows);
+        }
+        return connection.preparedQuery(DELETE_EVENT_TYPES).execute(Tuple.of(id))
+                .compose(deleted -> insertEventTypes(connection, id, eventTypes))
+                .map(rows);
+    }
+
+    private Future<Void> insertEventTypes(SqlConnection connection, String id, Collection<String> eventTypes) {
+        if (eventTypes.isEmpty()) {
+            return Future.succeededFuture();
+        }
+        return connection.preparedQuery(INSERT_EVENT_TYPE)
+                .executeBatch(eventTypes.stream().map(type -> Tuple.of(id, type)).collect(Collectors.toList()))
+                .mapEmpty();
+    }
+
     private Tuple tuple(Object... parameters) {
         Tuple tuple = Tuple.from(parameters);
         if (process.version() != null) {
@@ -228,10 +307,11 @@ public class PostgresqlProcessInstances implements MutableProcessInstances {
         return tuple;
     }
 
-    private boolean updateWithLock(String id, byte[] payload, long version) {
+    private boolean updateWithLock(String id, byte[] payload, long version, Collection<String> eventTypes) {
         try {
-            Future<RowSet<Row>> future = client.preparedQuery(UPDATE_WITH_LOCK + (process.version() == null ? IS_NULL : "= $6"))
-                    .execute(tuple(Buffer.buffer(payload), version + 1, process.id(), id, version));
+            Future<RowSet<Row>> future = client.withTransaction(connection -> connection.preparedQuery(UPDATE_WITH_LOCK + (process.version() == null ? IS_NULL : "= $6"))
+                    .execute(tuple(Buffer.buffer(payload), version + 1, process.id(), id, version))
+                    .compose(rows -> replaceEventTypes(connection, id, eventTypes, rows)));
             boolean result = getExecutedResult(future);
             if (!result) {
                 throw new ProcessInstanceOptimisticLockingException(id);
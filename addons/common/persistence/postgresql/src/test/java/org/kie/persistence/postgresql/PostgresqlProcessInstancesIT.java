@@ -107,6 +107,8 @@ class PostgresqlProcessInstancesIT {
         PostgresqlProcessInstances processInstances = (PostgresqlProcessInstances) process.instances();
         assertOne(processInstances);
         assertThat(processInstances.exists(processInstance.id())).isTrue();
+        assertThat(processInstances.findIdsWaitingForEvent("workItemCompleted").orElseThrow()).containsExactly(processInstance.id());
+        assertThat(processInstances.findIdsWaitingForEvent("unknownEvent").orElseThrow()).isEmpty();
 
         ProcessInstance<?> readOnlyPI = process.instances().findById(processInstance.id(), ProcessInstanceReadMode.READ_ONLY).get();
         assertThat(readOnlyPI.status()).isEqualTo(STATE_ACTIVE);
@@ -18,11 +18,17 @@
  */
 package org.kie.kogito.tracing.decision;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -33,74 +39,216 @@ import org.kie.kogito.event.cloudevents.utils.CloudEventUtils;
 import org.kie.kogito.tracing.decision.aggregator.Aggregator;
 import org.kie.kogito.tracing.decision.aggregator.DefaultAggregator;
 import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEvent;
+import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEventType;
 import org.kie.kogito.tracing.decision.terminationdetector.CounterTerminationDetector;
 import org.kie.kogito.tracing.decision.terminationdetector.TerminationDetector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class DecisionTracingCollector {
+/**
+ * Collects the events of the decision evaluations and publishes one aggregated trace event per evaluation.
+ * <p>
+ * At most {@code maxInFlight} evaluations are collected at the same time, evaluations are only tracked from their
+ * first event ({@link EvaluateEventType#BEFORE_EVALUATE_ALL} or {@link EvaluateEventType#BEFORE_EVALUATE_DECISION_SERVICE})
+ * and the ones not terminated within {@code timeoutMillis} are evicted. When {@code queueSize} is greater than 0
+ * terminated evaluations are aggregated and published by a background thread, evaluations that do not fit in its queue
+ * are dropped; otherwise they are aggregated on the thread adding their last event.
+ */
+public class DecisionTracingCollector implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 10000;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60000;
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
 
     private static final Logger LOG = LoggerFactory.getLogger(DecisionTracingCollector.class);
 
-    private final Map<String, List<EvaluateEvent>> cacheMap;
-    private final Map<String, TerminationDetector> terminationDetectorMap;
+    private final Map<String, Execution> executions;
     private final Aggregator aggregator;
     private final Consumer<String> payloadConsumer;
     private final BiFunction<String, String, DMNModel> modelSupplier;
     private final Supplier<TerminationDetector> terminationDetectorSupplier;
     private final ConfigBean configBean;
+    private final int maxInFlight;
+    private final long timeoutNanos;
+    private final long evictionIntervalNanos;
+    private final ExecutorService worker;
+
+    private final AtomicLong rejectedExecutions = new AtomicLong();
+    private final AtomicLong evictedExecutions = new AtomicLong();
+    private final AtomicLong droppedExecutions = new AtomicLong();
+    private final AtomicLong lastEviction = new AtomicLong(System.nanoTime());
 
     public DecisionTracingCollector(Consumer<String> payloadConsumer, BiFunction<String, String, DMNModel> modelSupplier, ConfigBean configBean) {
         this(new DefaultAggregator(), payloadConsumer, modelSupplier, CounterTerminationDetector::new, configBean);
     }
 
+    public DecisionTracingCollector(Consumer<String> payloadConsumer, BiFunction<String, String, DMNModel> modelSupplier, ConfigBean configBean,
+            int maxInFlight, long timeoutMillis, int queueSize) {
+        this(new DefaultAggregator(), payloadConsumer, modelSupplier, CounterTerminationDetector::new, configBean, maxInFlight, timeoutMillis, queueSize);
+    }
+
     public DecisionTracingCollector(
             Aggregator aggregator,
             Consumer<String> payloadConsumer,
             BiFunction<String, String, DMNModel> modelSupplier,
             Supplier<TerminationDetector> terminationDetectorSupplier,
             ConfigBean configBean) {
-        this.cacheMap = new ConcurrentHashMap<>();
-        this.terminationDetectorMap = new ConcurrentHashMap<>();
+        this(aggregator, payloadConsumer, modelSupplier, terminationDetectorSupplier, configBean, DEFAULT_MAX_IN_FLIGHT, DEFAULT_TIMEOUT_MILLIS, 0);
+    }
+
+    public DecisionTracingCollector(
+            Aggregator aggregator,
+            Consumer<String> payloadConsumer,
+            BiFunction<String, String, DMNModel> modelSupplier,
+            Supplier<TerminationDetector> terminationDetectorSupplier,
+            ConfigBean configBean,
+            int maxInFlight,
+            long timeoutMillis,
+            int queueSize) {
+        this.executions = new ConcurrentHashMap<>();
         this.aggregator = aggregator;
         this.payloadConsumer = payloadConsumer;
         this.modelSupplier = modelSupplier;
         this.terminationDetectorSupplier = terminationDetectorSupplier;
         this.configBean = configBean;
+        this.maxInFlight = maxInFlight;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // stale evaluations are kept at most a quarter of the timeout longer than the timeout
+        this.evictionIntervalNanos = timeoutNanos / 4;
+        this.worker = queueSize > 0 ? newWorker(queueSize) : null;
     }
 
     public void addEvent(EvaluateEvent event) {
         LOG.trace("Received {}(executionId: {}, modelName: {}, modelNamespace: {})", event.getType(), event.getExecutionId(), event.getModelName(), event.getModelNamespace());
 
         String executionId = event.getExecutionId();
-        if (!cacheMap.containsKey(executionId)) {
-            cacheMap.put(executionId, new LinkedList<>());
-            terminationDetectorMap.put(executionId, terminationDetectorSupplier.get());
-            LOG.trace("Added evaluation {} to cache (current size: {})", executionId, cacheMap.size());
+        long now = System.nanoTime();
+        Execution execution = executions.get(executionId);
+        if (execution == null) {
+            if (!isFirstEvent(event.getType())) {
+                LOG.trace("Ignored {} of untracked evaluation {}", event.getType(), executionId);
+                return;
+            }
+            evictStaleExecutions(now);
+            if (executions.size() >= maxInFlight) {
+                rejectedExecutions.incrementAndGet();
+                LOG.debug("Not tracing evaluation {}, {} evaluations are already in flight", executionId, executions.size());
+                return;
+            }
+            execution = executions.computeIfAbsent(executionId, id -> new Execution(terminationDetectorSupplier.get(), now));
+            LOG.trace("Added evaluation {} to cache (current size: {})", executionId, executions.size());
         }
 
-        cacheMap.get(executionId).add(event);
-        terminationDetectorMap.get(executionId).add(event);
-
-        if (terminationDetectorMap.get(executionId).isTerminated()) {
-            DMNModel dmnModel = modelSupplier.apply(event.getModelNamespace(), event.getModelName());
-            Optional<String> optPayload = aggregate(dmnModel, executionId, cacheMap.get(executionId));
+        List<EvaluateEvent> events;
+        synchronized (execution) {
+            execution.events.add(event);
+            execution.terminationDetector.add(event);
+            if (!execution.terminationDetector.isTerminated() || !executions.remove(executionId, execution)) {
+                return;
+            }
+            events = execution.events;
+        }
+        LOG.trace("Removed evaluation {} from cache (current size: {})", executionId, executions.size());
 
-            if (optPayload.isPresent()) {
-                String payload = optPayload.get();
-                payloadConsumer.accept(payload);
-                LOG.debug("Generated aggregated event for evaluation {} (length {})", executionId, payload.length());
-            } else {
-                LOG.error("Failed aggregating data for evaluation {}", executionId);
+        if (worker == null) {
+            publish(event.getModelNamespace(), event.getModelName(), executionId, events);
+        } else {
+            try {
+                worker.execute(() -> publish(event.getModelNamespace(), event.getModelName(), executionId, events));
+            } catch (RejectedExecutionException e) {
+                droppedExecutions.incrementAndGet();
+                LOG.debug("Dropped trace of evaluation {}, the aggregation queue is full", executionId);
             }
+        }
+    }
+
+    /**
+     * Number of evaluations not traced because too many evaluations were in flight.
+     */
+    public long getRejectedExecutions() {
+        return rejectedExecutions.get();
+    }
+
+    /**
+     * Number of evaluations whose termination was not detected in time.
+     */
+    public long getEvictedExecutions() {
+        return evictedExecutions.get();
+    }
+
+    /**
+     * Number of terminated evaluations that did not fit in the aggregation queue.
+     */
+    public long getDroppedExecutions() {
+        return droppedExecutions.get();
+    }
+
+    public int getInFlightExecutions() {
+        return executions.size();
+    }
+
+    @Override
+    public void close() {
+        if (worker != null) {
+            worker.shutdown();
+        }
+    }
+
+    private void publish(String modelNamespace, String modelName, String executionId, List<EvaluateEvent> events) {
+        DMNModel dmnModel = modelSupplier.apply(modelNamespace, modelName);
+        Optional<String> optPayload = aggregate(dmnModel, executionId, events);
+
+        if (optPayload.isPresent()) {
+            String payload = optPayload.get();
+            payloadConsumer.accept(payload);
+            LOG.debug("Generated aggregated event for evaluation {} (length {})", executionId, payload.length());
+        } else {
+            LOG.error("Failed aggregating data for evaluation {}", executionId);
+        }
+    }
 
-            cacheMap.remove(executionId);
-            terminationDetectorMap.remove(executionId);
-            LOG.trace("Removed evaluation {} from cache (current size: {})", executionId, cacheMap.size());
+    private void evictStaleExecutions(long now) {
+        // scanning is throttled by time only, so a full cache does not make every evaluation scan it
+        long last = lastEviction.get();
+        if (now - last < evictionIntervalNanos || !lastEviction.compareAndSet(last, now)) {
+            return;
         }
+        executions.entrySet().removeIf(entry -> {
+            if (now - entry.getValue().startTime > timeoutNanos) {
+                evictedExecutions.incrementAndGet();
+                LOG.debug("Evicted evaluation {}, its termination was not detected in time", entry.getKey());
+                return true;
+            }
+            return false;
+        });
     }
 
     private Optional<String> aggregate(DMNModel model, String executionId, List<EvaluateEvent> events) {
         return aggregator.aggregate(model, executionId, events, configBean).flatMap(CloudEventUtils::encode);
     }
+
+    private static boolean isFirstEvent(EvaluateEventType type) {
+        return type == EvaluateEventType.BEFORE_EVALUATE_ALL || type == EvaluateEventType.BEFORE_EVALUATE_DECISION_SERVICE;
+    }
+
+    private static ExecutorService newWorker(int queueSize) {
+        // a single thread keeps the traces in termination order
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "kogito-decision-tracing");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class Execution {
+
+        private final List<EvaluateEvent> events = new ArrayList<>();
+        private final TerminationDetector terminationDetector;
+        private final long startTime;
+
+        private Execution(TerminationDetector terminationDetector, long startTime) {
+            this.terminationDetector = terminationDetector;
+            this.startTime = startTime;
+        }
+    }
 }
@@ -23,10 +23,12 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.kie.dmn.api.core.DMNMetadata;
+import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
 import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
 import org.kie.dmn.api.core.event.DMNEvent;
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.kogito.decision.DecisionExecutionIdUtils;
 import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEvent;
 
 import static org.kie.kogito.explainability.Constants.SKIP_TRACING;
@@ -38,11 +40,21 @@ import static org.kie.kogito.explainability.Constants.SKIP_TRACING;
 public class DecisionTracingListener implements DMNRuntimeEventListener {
 
     private Consumer<EvaluateEvent> eventConsumer;
+    private double samplingRate = 1.0;
 
     public DecisionTracingListener(Consumer<EvaluateEvent> eventConsumer) {
         this.eventConsumer = eventConsumer;
     }
 
+    /**
+     * @param samplingRate fraction, between 0 and 1, of the evaluations to trace. Evaluations are sampled by execution
+     *        id, so either all the events of an evaluation are traced or none of them.
+     */
+    public DecisionTracingListener(Consumer<EvaluateEvent> eventConsumer, double samplingRate) {
+        this.eventConsumer = eventConsumer;
+        setSamplingRate(samplingRate);
+    }
+
     protected DecisionTracingListener() {
     }
 
@@ -50,6 +62,13 @@ public class DecisionTracingListener implements DMNRuntimeEventListener {
         this.eventConsumer = eventConsumer;
     }
 
+    protected void setSamplingRate(double samplingRate) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate must be between 0 and 1, was " + samplingRate);
+        }
+        this.samplingRate = samplingRate;
+    }
+
     @Override
     public void beforeEvaluateAll(org.kie.dmn.api.core.event.BeforeEvaluateAllEvent event) {
         commonHandleEvent(EvaluateEvent::from, event);
@@ -111,11 +130,20 @@ public class DecisionTracingListener implements DMNRuntimeEventListener {
     }
 
     private <T extends DMNEvent> void commonHandleEvent(Function<T, EvaluateEvent> factory, T event) {
-        if (!isTracingEnabled(event.getResult().getContext().getMetadata())) {
+        if (!isTracingEnabled(event.getResult().getContext().getMetadata()) && isSampled(event.getResult())) {
             eventConsumer.accept(factory.apply(event));
         }
     }
 
+    private boolean isSampled(DMNResult result) {
+        if (samplingRate >= 1) {
+            return true;
+        }
+        String executionId = DecisionExecutionIdUtils.get(result.getContext());
+        // the same execution id always gets the same answer
+        return executionId != null && (executionId.hashCode() & Integer.MAX_VALUE) < samplingRate * Integer.MAX_VALUE;
+    }
+
     private <T extends DMNEvent> boolean isTracingEnabled(DMNMetadata metadata) {
         Optional<Boolean> skipTracing = Optional.ofNullable((Boolean) metadata.get(SKIP_TRACING));
         return skipTracing.orElse(false);
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -48,6 +50,7 @@ import static org.kie.kogito.dmn.DecisionTestUtils.createDMNModel;
 import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.EVALUATE_ALL_JSON_RESOURCE;
 import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.EVALUATE_DECISION_SERVICE_JSON_RESOURCE;
 import static org.kie.kogito.tracing.decision.DecisionTracingTestUtils.readEvaluateEventsFromJsonResource;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -73,6 +76,57 @@ class DecisionTracingCollectorTest {
         testInterleavedEvaluations(CounterTerminationDetector::new);
     }
 
+    @Test
+    void testCollectorRejectsEvaluationsAboveInFlightLimit() throws IOException {
+        Consumer<String> payloadConsumer = mock(Consumer.class);
+        DecisionTracingCollector collector = new DecisionTracingCollector(new MockDefaultAggregator(), payloadConsumer, (namespace, name) -> model, CounterTerminationDetector::new,
+                configBean, 1, 60000, 0);
+
+        List<EvaluateEvent> evaluateAllEvents = readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE);
+        List<EvaluateEvent> evaluateDecisionServiceEvents = readEvaluateEventsFromJsonResource(EVALUATE_DECISION_SERVICE_JSON_RESOURCE);
+
+        collector.addEvent(evaluateAllEvents.get(0));
+        evaluateDecisionServiceEvents.forEach(collector::addEvent);
+        evaluateAllEvents.subList(1, evaluateAllEvents.size()).forEach(collector::addEvent);
+
+        verify(payloadConsumer, times(1)).accept(any());
+        assertThat(collector.getRejectedExecutions()).isOne();
+        assertThat(collector.getInFlightExecutions()).isZero();
+    }
+
+    @Test
+    void testCollectorEvictsStaleEvaluations() throws Exception {
+        MockDefaultAggregator aggregator = new MockDefaultAggregator();
+        Consumer<String> payloadConsumer = mock(Consumer.class);
+        DecisionTracingCollector collector = new DecisionTracingCollector(aggregator, payloadConsumer, (namespace, name) -> model, CounterTerminationDetector::new,
+                configBean, 10, 0, 0);
+
+        List<EvaluateEvent> evaluateAllEvents = readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE);
+        List<EvaluateEvent> evaluateDecisionServiceEvents = readEvaluateEventsFromJsonResource(EVALUATE_DECISION_SERVICE_JSON_RESOURCE);
+
+        collector.addEvent(evaluateAllEvents.get(0));
+        Thread.sleep(5);
+        evaluateDecisionServiceEvents.forEach(collector::addEvent);
+        evaluateAllEvents.subList(1, evaluateAllEvents.size()).forEach(collector::addEvent);
+
+        assertThat(collector.getEvictedExecutions()).isOne();
+        assertThat(collector.getInFlightExecutions()).isZero();
+        assertThat(aggregator.getCalls()).containsOnlyKeys(EVALUATE_DECISION_SERVICE_EXECUTION_ID);
+        verify(payloadConsumer, times(1)).accept(any());
+    }
+
+    @Test
+    void testCollectorAggregatesOnBackgroundThread() throws Exception {
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        try (DecisionTracingCollector collector = new DecisionTracingCollector(new MockDefaultAggregator(), payload -> thread.complete(Thread.currentThread().getName()),
+                (namespace, name) -> model, CounterTerminationDetector::new, configBean, 10, 60000, 10)) {
+            readEvaluateEventsFromJsonResource(EVALUATE_ALL_JSON_RESOURCE).forEach(collector::addEvent);
+
+            assertThat(thread.get(5, TimeUnit.SECONDS)).isNotEqualTo(Thread.currentThread().getName());
+            assertThat(collector.getDroppedExecutions()).isZero();
+        }
+    }
+
     private void testInterleavedEvaluations(Supplier<TerminationDetector> terminationDetectorSupplier) throws IOException {
         MockDefaultAggregator aggregator = new MockDefaultAggregator();
         Consumer<String> payloadConsumer = mock(Consumer.class);
@@ -42,6 +42,7 @@ import org.kie.kogito.tracing.decision.mock.MockBeforeEvaluateAllEvent;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.kie.kogito.dmn.DecisionTestUtils.DECISION_SERVICE_NODE_ID;
 import static org.kie.kogito.dmn.DecisionTestUtils.DECISION_SERVICE_NODE_NAME;
 import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAME;
@@ -52,7 +53,9 @@ import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContextForError
 import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateAllContextForWarning;
 import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateDecisionServiceContext;
 import static org.kie.kogito.dmn.DecisionTestUtils.getEvaluateDecisionServiceContextForWarning;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -86,6 +89,28 @@ class DecisionTracingListenerTest {
         assertEvaluateAllEvents(eventCaptor.getAllValues(), MOCKED_MODEL_NAMESPACE, MOCKED_MODEL_NAME, TEST_EXECUTION_ID_1);
     }
 
+    @Test
+    void testListenerSamplesEvaluations() {
+        DMNContextImpl context = new DMNContextImpl();
+        DecisionExecutionIdUtils.inject(context, () -> TEST_EXECUTION_ID_1);
+
+        DMNResultImpl result = new DMNResultImpl(new DMNModelImpl());
+        result.setContext(context);
+
+        Consumer<EvaluateEvent> eventConsumer = mock(Consumer.class);
+        DecisionTracingListener listener = new DecisionTracingListener(eventConsumer, 0);
+        listener.beforeEvaluateAll(new MockBeforeEvaluateAllEvent(MOCKED_MODEL_NAMESPACE, MOCKED_MODEL_NAME, result));
+        listener.afterEvaluateAll(new MockAfterEvaluateAllEvent(MOCKED_MODEL_NAMESPACE, MOCKED_MODEL_NAME, result));
+        verify(eventConsumer, never()).accept(any());
+
+        listener.setSamplingRate(1);
+        listener.beforeEvaluateAll(new MockBeforeEvaluateAllEvent(MOCKED_MODEL_NAMESPACE, MOCKED_MODEL_NAME, result));
+        listener.afterEvaluateAll(new MockAfterEvaluateAllEvent(MOCKED_MODEL_NAMESPACE, MOCKED_MODEL_NAME, result));
+        verify(eventConsumer, times(2)).accept(any());
+
+        assertThatThrownBy(() -> new DecisionTracingListener(eventConsumer, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void testListenerWithRealEvaluateAllIsWorking() {
         testWithRealEvaluateAll(getEvaluateAllContext(), 14);
@@ -18,8 +18,16 @@
  */
 package org.kie.kogito.process;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface MutableProcessInstances<T> extends ProcessInstances<T> {
 
+    /**
+     * Event type stored in the event subscription index for instances that might react to any event.
+     */
+    String ANY_EVENT_TYPE = "*";
+
     boolean exists(String id);
 
     void create(String id, ProcessInstance<T> instance);
@@ -35,4 +43,38 @@ public interface MutableProcessInstances<T> extends ProcessInstances<T> {
     default boolean lock() {
         return false;
     }
+
+    /**
+     * Returns the status of the process instance with given id. Implementations should read only
+     * the instance metadata when the storage keeps it apart from the marshalled instance.
+     *
+     * @param id process instance id
+     * @return status of the process instance or empty if it does not exist
+     */
+    default Optional<Integer> findStatusById(String id) {
+        return findById(id, ProcessInstanceReadMode.READ_ONLY).map(ProcessInstance::status);
+    }
+
+    /**
+     * Returns the ids of all stored process instances. Implementations should avoid
+     * unmarshalling the process instances to compute them.
+     *
+     * @return stream of process instance ids, to be closed by the caller
+     */
+    default Stream<String> streamIds() {
+        return stream(ProcessInstanceReadMode.READ_ONLY).map(ProcessInstance::id);
+    }
+
+    /**
+     * Returns the ids of the process instances that might react to a signal of the given type, as recorded
+     * by the event subscription index of the storage. The result may contain instances that end up ignoring
+     * the signal but never misses one that would react to it.
+     *
+     * @param eventType type of the signal
+     * @return stream of process instance ids, to be closed by the caller, or empty if the storage does not
+     *         keep an event subscription index and all instances must be considered
+     */
+    default Optional<Stream<String>> findIdsWaitingForEvent(String eventType) {
+        return Optional.empty();
+    }
 }
@@ -38,4 +38,11 @@ public interface ProcessConfig extends KogitoConfig {
     ProcessVersionResolver versionResolver();
 
     IdentityProvider identityProvider();
+
+    /**
+     * Returns the executor running work item handlers concurrently, or null to run them on the calling thread.
+     */
+    default WorkItemExecutor workItemExecutor() {
+        return null;
+    }
 }
@@ -20,6 +20,7 @@ package org.kie.kogito.process;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -158,6 +159,15 @@ public interface ProcessService {
 
     <T extends MappableToModel<R>, R> Optional<R> signalProcessInstance(Process<T> process, String id, Object data, String signalName);
 
+    <T extends Model> Optional<ProcessInstance<T>> signalAndGetProcessInstance(Process<T> process, String id, Object data, String signalName);
+
+    /**
+     * Sends one signal per element of {@code data}, in order and within a single unit of work, so that the process instance
+     * is loaded and stored once. Signaling stops as soon as the instance is no longer active, leaving the remaining
+     * elements in the iterator.
+     */
+    <T extends Model> Optional<ProcessInstance<T>> signalAllAndGetProcessInstance(Process<T> process, String id, Iterator<?> data, String signalName);
+
     //Schema
     <T extends Model> Map<String, Object> getSchemaAndPhases(Process<T> process,
             String id,
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.process;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor used to run work item handlers concurrently, e.g. the handlers of the iterations of a parallel
+ * multi instance loop whose work item node opted in through the <code>customConcurrent</code> metadata.
+ * <p>
+ * Implementations are managed by the application, which shuts them down, and are expected to propagate the context
+ * of the calling thread supported by the platform (such as the request context or the transaction) to the tasks they run.
+ */
+public interface WorkItemExecutor extends Executor {
+
+    String POOL_SIZE_PROPERTY = "kogito.workflow.concurrent-work-items.pool-size";
+    String DEFAULT_POOL_SIZE = "10";
+    String ALL_LOOPS_PROPERTY = "kogito.workflow.concurrent-work-items.all-loops";
+    String DEFAULT_ALL_LOOPS = "false";
+
+    /**
+     * Whether every parallel multi instance loop runs its work items concurrently, not only the ones opting in through
+     * the <code>customConcurrent</code> metadata.
+     */
+    default boolean isEnabledForAllLoops() {
+        return false;
+    }
+}
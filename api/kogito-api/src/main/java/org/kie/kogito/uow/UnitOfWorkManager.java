@@ -45,6 +45,18 @@ public interface UnitOfWorkManager {
      */
     UnitOfWork newUnitOfWork();
 
+    /**
+     * Runs given action with given unit of work as current unit of work of the calling execution context (usually thread),
+     * restoring the previous one afterwards. Allows work done on another thread on behalf of a unit of work to be collected.
+     * Managers not bound to the execution context simply run the action.
+     * 
+     * @param unitOfWork unit of work to be current while the action runs
+     * @param action action to run
+     */
+    default void runWith(UnitOfWork unitOfWork, Runnable action) {
+        action.run();
+    }
+
     /**
      * Returns instance of the event manager configured for this unit of work manager
      * 
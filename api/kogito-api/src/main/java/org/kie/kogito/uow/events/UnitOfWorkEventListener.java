@@ -24,6 +24,14 @@ public interface UnitOfWorkEventListener {
         //NO-OP
     }
 
+    /**
+     * Invoked once all the work of the unit has been performed but before its events are published.
+     * Failing here prevents the events from being published and leaves the unit of work to be aborted.
+     */
+    default void onBeforePublishEvent(UnitOfWorkEndEvent event) {
+        //NO-OP
+    }
+
     default void onAfterEndEvent(UnitOfWorkEndEvent event) {
         //NO-OP
     }
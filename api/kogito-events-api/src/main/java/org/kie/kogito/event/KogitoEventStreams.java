@@ -25,7 +25,44 @@ public class KogitoEventStreams {
     public static final String QUEUE_SIZE_PROPERTY = "kogito.quarkus.events.threads.queueSize";
     public static final String DEFAULT_MAX_THREADS = "10";
     public static final String DEFAULT_QUEUE_SIZE = "1";
+    /**
+     * Maximum number of events for the same process instance delivered within one unit of work. Values greater than one
+     * also enable parallel delivery across process instances, with events of one instance kept in order.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "kogito.quarkus.events.batchSize";
+    public static final String DEFAULT_BATCH_SIZE = "1";
+    /**
+     * Maximum number of events held while waiting for the previous events of their process instance to be delivered,
+     * when {@link #BATCH_SIZE_PROPERTY} is greater than one. Once reached, further events wait, unacknowledged, for
+     * queued ones to be delivered, so the receiver stops fetching once its limit of unacknowledged messages is reached.
+     */
+    public static final String MAX_QUEUED_EVENTS_PROPERTY = "kogito.quarkus.events.maxQueuedEvents";
+    public static final String DEFAULT_MAX_QUEUED_EVENTS = "1000";
     public static final String THREAD_NAME = "kogito-event-executor";
+    /**
+     * Number of threads evaluating the decision, prediction and rule requests received as events. Zero evaluates them on
+     * the thread receiving the event.
+     */
+    public static final String REQUEST_THREADS_PROPERTY = "kogito.events.requests.threads.poolSize";
+    public static final String DEFAULT_REQUEST_THREADS = "10";
+    /**
+     * Evaluates requests on virtual threads, one per request, when the JVM supports them.
+     */
+    public static final String REQUEST_VIRTUAL_THREADS_PROPERTY = "kogito.events.requests.threads.virtual";
+    public static final String DEFAULT_REQUEST_VIRTUAL_THREADS = "false";
+    /**
+     * Maximum number of requests being evaluated or waiting for their response to be acknowledged. Once reached, new
+     * requests are queued without blocking the receiving thread, and are not acknowledged until they have been evaluated.
+     */
+    public static final String REQUEST_MAX_IN_FLIGHT_PROPERTY = "kogito.events.requests.maxInFlight";
+    public static final String DEFAULT_REQUEST_MAX_IN_FLIGHT = "100";
+    /**
+     * Maximum number of requests queued once {@link #REQUEST_MAX_IN_FLIGHT_PROPERTY} is reached. Further requests are
+     * rejected, so the receiver does not acknowledge them.
+     */
+    public static final String REQUEST_MAX_QUEUED_PROPERTY = "kogito.events.requests.maxQueued";
+    public static final String DEFAULT_REQUEST_MAX_QUEUED = "1000";
+    public static final String REQUEST_THREAD_NAME = "kogito-event-request";
 
     private KogitoEventStreams() {
     }
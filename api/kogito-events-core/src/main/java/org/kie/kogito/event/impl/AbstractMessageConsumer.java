@@ -49,8 +49,21 @@ public abstract class AbstractMessageConsumer<M extends Model, D> {
             ProcessService processService,
             ExecutorService executorService,
             Set<String> correlations) {
+        init(application, process, trigger, eventReceiver, dataClass, processService, executorService, correlations, 1, Integer.MAX_VALUE);
+    }
+
+    protected void init(Application application,
+            Process<M> process,
+            String trigger,
+            EventReceiver eventReceiver,
+            Class<D> dataClass,
+            ProcessService processService,
+            ExecutorService executorService,
+            Set<String> correlations,
+            int batchSize,
+            int maxQueuedEvents) {
         this.trigger = trigger;
-        this.eventDispatcher = new ProcessEventDispatcher<>(process, getModelConverter(), processService, executorService, correlations, getDataResolver());
+        this.eventDispatcher = new ProcessEventDispatcher<>(process, getModelConverter(), processService, executorService, correlations, getDataResolver(), batchSize, maxQueuedEvents);
         eventReceiver.subscribe(this::consume, dataClass);
         logger.info("Consumer for {} started", trigger);
     }
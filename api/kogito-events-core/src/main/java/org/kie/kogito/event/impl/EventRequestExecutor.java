@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.EventEmitter;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.KogitoThreadPoolFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates requests received as events, such as decision or rule requests, and emits their responses.
+ * <p>
+ * Requests are evaluated on the given executor, and the stage returned for each of them completes once its response,
+ * if any, has been acknowledged by the emitter. No more than {@code maxInFlight} requests are being evaluated or
+ * waiting for that acknowledge at any time: once reached, new requests are queued without blocking the thread
+ * submitting them, usually an I/O thread of the receiver, and their stages stay pending until they have been
+ * evaluated. Receivers limit the number of unacknowledged messages they deliver, so those pending stages slow them down.
+ * No more than {@code maxQueued} requests are queued, further ones are rejected with a failed stage.
+ */
+public class EventRequestExecutor implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventRequestExecutor.class);
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private final int maxQueued;
+    private int available;
+    private boolean draining;
+
+    /**
+     * Evaluates requests on the thread submitting them, with no bound on the requests waiting for their acknowledge.
+     */
+    public static EventRequestExecutor sameThread() {
+        return new EventRequestExecutor(Runnable::run, Integer.MAX_VALUE, 0, null);
+    }
+
+    /**
+     * @param threads number of platform threads, zero evaluates requests on the thread submitting them
+     * @param virtualThreads one virtual thread per request, falling back to platform threads when the JVM does not support them
+     * @param maxInFlight maximum number of requests being evaluated or waiting for the acknowledge of their response
+     * @param maxQueued maximum number of requests waiting for one of the {@code maxInFlight} ones to complete
+     */
+    public static EventRequestExecutor of(int threads, boolean virtualThreads, int maxInFlight, int maxQueued) {
+        ExecutorService executor = virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        if (executor == null && threads > 0) {
+            executor = Executors.newFixedThreadPool(threads, new KogitoThreadPoolFactory(KogitoEventStreams.REQUEST_THREAD_NAME));
+        }
+        return executor == null ? new EventRequestExecutor(Runnable::run, maxInFlight, maxQueued, null) : new EventRequestExecutor(executor, maxInFlight, maxQueued, executor);
+    }
+
+    public EventRequestExecutor(Executor executor, int maxInFlight, int maxQueued) {
+        this(executor, maxInFlight, maxQueued, null);
+    }
+
+    private EventRequestExecutor(Executor executor, int maxInFlight, int maxQueued, ExecutorService ownedExecutor) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of requests in flight must be positive, it is " + maxInFlight);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Maximum number of queued requests cannot be negative, it is " + maxQueued);
+        }
+        this.executor = executor;
+        this.available = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /**
+     * Evaluates the request and emits the response it returns, if any.
+     *
+     * @return stage completed once the response has been acknowledged by the emitter, or failed if either the evaluation
+     *         or the emission failed, or if the request was rejected because too many requests are queued
+     */
+    public CompletionStage<Void> execute(Supplier<Optional<DataEvent<?>>> request, EventEmitter eventEmitter) {
+        return executeAll(() -> request.get().<Collection<DataEvent<?>>> map(Collections::singletonList).orElse(Collections.emptyList()), eventEmitter);
+    }
+
+    /**
+     * Evaluates a request producing any number of responses, such as several requests evaluated together, and emits
+     * them. The request takes a single slot of the {@code maxInFlight} ones.
+     *
+     * @return stage completed once every response has been acknowledged by the emitter, or failed if either the
+     *         evaluation or any emission failed, or if the request was rejected because too many requests are queued
+     */
+    public CompletionStage<Void> executeAll(Supplier<? extends Collection<DataEvent<?>>> request, EventEmitter eventEmitter) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Runnable start = () -> start(request, eventEmitter, result);
+        boolean startNow;
+        synchronized (this) {
+            startNow = available > 0;
+            if (startNow) {
+                available--;
+            } else if (pending.size() < maxQueued) {
+                pending.add(start);
+            } else {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Too many requests queued, the maximum is " + maxQueued));
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return result;
+    }
+
+    private void start(Supplier<? extends Collection<DataEvent<?>>> request, EventEmitter eventEmitter, CompletableFuture<Void> result) {
+        CompletableFuture<Void> evaluation;
+        try {
+            evaluation = CompletableFuture.supplyAsync(request, executor).thenCompose(responses -> emitAll(responses, eventEmitter));
+        } catch (RejectedExecutionException e) {
+            evaluation = CompletableFuture.failedFuture(e);
+        }
+        evaluation.whenComplete((v, e) -> {
+            release();
+            if (e == null) {
+                result.complete(v);
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private static CompletableFuture<Void> emitAll(Collection<DataEvent<?>> responses, EventEmitter eventEmitter) {
+        CompletableFuture<Void> emitted = CompletableFuture.completedFuture(null);
+        for (DataEvent<?> response : responses) {
+            emitted = emitted.thenCombine(eventEmitter.emit(response), (previous, current) -> null);
+        }
+        return emitted;
+    }
+
+    private void release() {
+        synchronized (this) {
+            available++;
+            if (draining) {
+                // the thread already draining the queue picks up the released slot
+                return;
+            }
+            draining = true;
+        }
+        // starting a request only submits its evaluation to the executor. The queue is drained in a loop rather than
+        // recursively, since a request completing synchronously releases its slot again from within next.run()
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                if (available == 0 || pending.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                available--;
+                next = pending.poll();
+            }
+            next.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // looked up reflectively, virtual threads are not available in every supported JVM
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads are not supported by this JVM, using platform threads to evaluate requests");
+            return null;
+        }
+    }
+}
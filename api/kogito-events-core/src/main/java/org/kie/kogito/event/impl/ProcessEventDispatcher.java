@@ -18,16 +18,21 @@
  */
 package org.kie.kogito.event.impl;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,15 +60,42 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
     private final Process<M> process;
     private final ExecutorService executor;
     private final Function<DataEvent<D>, D> dataResolver;
+    private final int batchSize;
+    private final int maxQueuedEvents;
+    // events waiting for an instance whose previous events are still being delivered, guarded by itself
+    private final Map<String, InstanceQueue> pendingEvents = new HashMap<>();
+    // events received once maxQueuedEvents was reached, in arrival order, guarded by pendingEvents
+    private final Deque<PendingEvent> notAdmitted = new ArrayDeque<>();
+    private int queuedEvents;
 
     public ProcessEventDispatcher(Process<M> process, Optional<Function<D, M>> modelConverter, ProcessService processService, ExecutorService executor, Set<String> correlationKeys,
             Function<DataEvent<D>, D> dataResolver) {
+        this(process, modelConverter, processService, executor, correlationKeys, dataResolver, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * When {@code batchSize} is greater than one, events targeting an existing process instance are queued per instance:
+     * different instances are signaled in parallel, events for the same instance are delivered in arrival order and up
+     * to {@code batchSize} of the events queued for an instance are delivered within a single unit of work.
+     * <p>
+     * Once {@code maxQueuedEvents} events are queued, further events keep their place in the queue of their instance but
+     * are only admitted for delivery, in arrival order, as queued events are delivered. Their stages stay pending
+     * meanwhile, so the receiver, which does not acknowledge them, stops fetching once its own limit of unacknowledged
+     * messages is reached.
+     */
+    public ProcessEventDispatcher(Process<M> process, Optional<Function<D, M>> modelConverter, ProcessService processService, ExecutorService executor, Set<String> correlationKeys,
+            Function<DataEvent<D>, D> dataResolver, int batchSize, int maxQueuedEvents) {
+        if (maxQueuedEvents < 1) {
+            throw new IllegalArgumentException("Maximum number of queued events must be positive, it is " + maxQueuedEvents);
+        }
         this.process = process;
         this.modelConverter = modelConverter;
         this.processService = processService;
         this.executor = executor;
         this.correlationKeys = correlationKeys;
         this.dataResolver = dataResolver;
+        this.batchSize = batchSize;
+        this.maxQueuedEvents = maxQueuedEvents;
     }
 
     @Override
@@ -77,6 +109,9 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
 
         final String kogitoReferenceId = resolveCorrelationId(event);
         if (!ConversionUtils.isEmpty(kogitoReferenceId)) {
+            if (batchSize > 1) {
+                return enqueue(trigger, event, kogitoReferenceId);
+            }
             return CompletableFuture.supplyAsync(() -> handleMessageWithReference(trigger, event, kogitoReferenceId), executor);
         }
 
@@ -117,20 +152,176 @@ public class ProcessEventDispatcher<M extends Model, D> implements EventDispatch
         LOGGER.debug("Received message with reference id '{}' going to use it to send signal '{}'",
                 instanceId,
                 trigger);
-        return process.instances()
-                .findById(instanceId)
-                .map(instance -> {
-                    signalProcessInstance(trigger, instance.id(), event);
-                    return instance;
-                })
+        // the instance is looked up and signaled within the same unit of work, so it is only read once
+        return processService.signalAndGetProcessInstance(process, instanceId, dataResolver.apply(event), "Message-" + trigger)
                 .orElseGet(() -> {
                     LOGGER.info("Process instance with id '{}' not found for triggering signal '{}'", instanceId, trigger);
                     return startNewInstance(trigger, event);
                 });
     }
 
-    private Optional<M> signalProcessInstance(String trigger, String id, DataEvent<D> event) {
-        return processService.signalProcessInstance((Process) process, id, dataResolver.apply(event), "Message-" + trigger);
+    private CompletableFuture<ProcessInstance<M>> enqueue(String trigger, DataEvent<D> event, String instanceId) {
+        PendingEvent pending = new PendingEvent(trigger, event, instanceId);
+        boolean start;
+        synchronized (pendingEvents) {
+            InstanceQueue queue = pendingEvents.computeIfAbsent(instanceId, k -> new InstanceQueue());
+            queue.events.add(pending);
+            if (notAdmitted.isEmpty() && queuedEvents < maxQueuedEvents) {
+                pending.admitted = true;
+                queuedEvents++;
+            } else {
+                // admitted once queued events are delivered, its stage stays pending meanwhile
+                notAdmitted.add(pending);
+            }
+            start = queue.claim();
+        }
+        if (start) {
+            executor.execute(() -> drain(instanceId));
+        }
+        return pending.result;
+    }
+
+    /**
+     * Admits the events that were over the limit while there is room for them, returning the instances whose queue
+     * the caller should drain. Must be called holding the lock on {@code pendingEvents}.
+     */
+    private List<String> admitQueued() {
+        List<String> claimed = new ArrayList<>();
+        while (queuedEvents < maxQueuedEvents && !notAdmitted.isEmpty()) {
+            PendingEvent pending = notAdmitted.poll();
+            pending.admitted = true;
+            queuedEvents++;
+            if (pendingEvents.get(pending.instanceId).claim()) {
+                claimed.add(pending.instanceId);
+            }
+        }
+        return claimed;
+    }
+
+    private void drain(String instanceId) {
+        boolean more = true;
+        while (more) {
+            List<PendingEvent> batch = new ArrayList<>(batchSize);
+            List<String> admitted;
+            synchronized (pendingEvents) {
+                Deque<PendingEvent> queue = pendingEvents.get(instanceId).events;
+                while (batch.size() < batchSize && !queue.isEmpty() && queue.peek().admitted) {
+                    batch.add(queue.poll());
+                }
+                queuedEvents -= batch.size();
+                admitted = admitQueued();
+            }
+            try {
+                int start = 0;
+                while (start < batch.size()) {
+                    // the events of a batch usually share the trigger, split it otherwise
+                    String trigger = batch.get(start).trigger;
+                    int end = start + 1;
+                    while (end < batch.size() && trigger.equals(batch.get(end).trigger)) {
+                        end++;
+                    }
+                    deliver(trigger, instanceId, batch.subList(start, end));
+                    start = end;
+                }
+            } finally {
+                synchronized (pendingEvents) {
+                    InstanceQueue queue = pendingEvents.get(instanceId);
+                    queue.draining = false;
+                    if (queue.events.isEmpty()) {
+                        pendingEvents.remove(instanceId);
+                    }
+                    more = queue.claim();
+                }
+            }
+            admitted.forEach(this::startDrain);
+            if (more) {
+                try {
+                    // gives other instances a chance before the next batch of this one
+                    executor.execute(() -> drain(instanceId));
+                    more = false;
+                } catch (RejectedExecutionException e) {
+                    LOGGER.trace("Executor saturated, draining events of process instance {} on the current thread", instanceId);
+                }
+            }
+        }
+    }
+
+    private void startDrain(String instanceId) {
+        try {
+            executor.execute(() -> drain(instanceId));
+        } catch (RejectedExecutionException e) {
+            LOGGER.trace("Executor saturated, draining events of process instance {} on the current thread", instanceId);
+            drain(instanceId);
+        }
+    }
+
+    private void deliver(String trigger, String instanceId, List<PendingEvent> events) {
+        if (events.size() == 1) {
+            deliverOne(trigger, instanceId, events.get(0));
+            return;
+        }
+        ListIterator<D> iterator;
+        Optional<ProcessInstance<M>> instance;
+        try {
+            List<D> data = new ArrayList<>(events.size());
+            for (PendingEvent pending : events) {
+                data.add(dataResolver.apply(pending.event));
+            }
+            iterator = data.listIterator();
+            instance = processService.signalAllAndGetProcessInstance(process, instanceId, iterator, "Message-" + trigger);
+        } catch (RuntimeException e) {
+            // the unit of work was rolled back, so retry one by one to only fail the offending events
+            LOGGER.warn("Error delivering {} events to process instance {} for trigger {}, delivering them one by one", events.size(), instanceId, trigger, e);
+            events.forEach(pending -> deliverOne(trigger, instanceId, pending));
+            return;
+        }
+        int delivered = instance.isPresent() ? iterator.nextIndex() : 0;
+        LOGGER.debug("Delivered {} of {} events to process instance {} for trigger {} in one unit of work", delivered, events.size(), instanceId, trigger);
+        for (int i = 0; i < delivered; i++) {
+            events.get(i).result.complete(instance.get());
+        }
+        // the instance does not exist or completed before consuming every event
+        for (PendingEvent pending : events.subList(delivered, events.size())) {
+            deliverOne(trigger, instanceId, pending);
+        }
+    }
+
+    private void deliverOne(String trigger, String instanceId, PendingEvent pending) {
+        try {
+            pending.result.complete(handleMessageWithReference(trigger, pending.event, instanceId));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private class InstanceQueue {
+        private final Deque<PendingEvent> events = new ArrayDeque<>();
+        private boolean draining;
+
+        /**
+         * Whether the caller should drain this queue, which is the case when nobody drains it and its next event can be delivered.
+         */
+        private boolean claim() {
+            if (draining || events.isEmpty() || !events.peek().admitted) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+    }
+
+    private class PendingEvent {
+        private final String trigger;
+        private final DataEvent<D> event;
+        private final String instanceId;
+        private final CompletableFuture<ProcessInstance<M>> result = new CompletableFuture<>();
+        private boolean admitted;
+
+        private PendingEvent(String trigger, DataEvent<D> event, String instanceId) {
+            this.trigger = trigger;
+            this.event = event;
+            this.instanceId = instanceId;
+        }
     }
 
     private ProcessInstance<M> startNewInstance(String trigger, DataEvent<D> event) {
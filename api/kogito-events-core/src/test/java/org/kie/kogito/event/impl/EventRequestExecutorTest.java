@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.EventEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventRequestExecutorTest {
+
+    @Test
+    void testCompletesOnceResponseIsAcknowledged() {
+        EventEmitter emitter = mock(EventEmitter.class);
+        CompletableFuture<Void> acknowledge = new CompletableFuture<>();
+        when(emitter.emit(any())).thenReturn(acknowledge);
+        try (EventRequestExecutor executor = EventRequestExecutor.sameThread()) {
+            CompletableFuture<Void> result = executor.execute(() -> Optional.of(mock(DataEvent.class)), emitter).toCompletableFuture();
+            assertThat(result).isNotDone();
+            acknowledge.complete(null);
+            assertThat(result).isCompleted();
+        }
+    }
+
+    @Test
+    void testRequestWithoutResponse() {
+        EventEmitter emitter = mock(EventEmitter.class);
+        try (EventRequestExecutor executor = EventRequestExecutor.sameThread()) {
+            assertThat(executor.execute(Optional::empty, emitter).toCompletableFuture()).isCompleted();
+        }
+        verify(emitter, never()).emit(any());
+    }
+
+    @Test
+    void testFailedRequest() {
+        EventEmitter emitter = mock(EventEmitter.class);
+        try (EventRequestExecutor executor = EventRequestExecutor.sameThread()) {
+            assertThat(executor.execute(() -> {
+                throw new IllegalStateException("failed");
+            }, emitter).toCompletableFuture()).isCompletedExceptionally();
+        }
+    }
+
+    @Test
+    void testRequestsInFlightAreBounded() throws Exception {
+        EventEmitter emitter = mock(EventEmitter.class);
+        List<CompletableFuture<Void>> acknowledges = new ArrayList<>();
+        when(emitter.emit(any())).thenAnswer(invocation -> {
+            CompletableFuture<Void> acknowledge = new CompletableFuture<>();
+            synchronized (acknowledges) {
+                acknowledges.add(acknowledge);
+            }
+            return acknowledge;
+        });
+        AtomicInteger evaluated = new AtomicInteger();
+        try (EventRequestExecutor executor = EventRequestExecutor.of(4, false, 2, 10)) {
+            executor.execute(() -> respond(evaluated), emitter);
+            executor.execute(() -> respond(evaluated), emitter);
+            // the thread submitting the request is not blocked, its stage stays pending instead
+            CompletableFuture<Void> queued = executor.execute(() -> respond(evaluated), emitter).toCompletableFuture();
+
+            waitForAcknowledges(acknowledges, 2);
+            Thread.sleep(100);
+            assertThat(evaluated.get()).isEqualTo(2);
+            assertThat(queued).isNotDone();
+
+            synchronized (acknowledges) {
+                acknowledges.get(0).complete(null);
+            }
+            waitForAcknowledges(acknowledges, 3);
+            synchronized (acknowledges) {
+                acknowledges.get(2).complete(null);
+            }
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isNull();
+            assertThat(evaluated.get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testQueuedRequestsAreBounded() {
+        EventEmitter emitter = mock(EventEmitter.class);
+        CompletableFuture<Void> acknowledge = new CompletableFuture<>();
+        when(emitter.emit(any())).thenReturn(acknowledge);
+        AtomicInteger evaluated = new AtomicInteger();
+        try (EventRequestExecutor executor = new EventRequestExecutor(Runnable::run, 1, 1)) {
+            executor.execute(() -> respond(evaluated), emitter);
+            CompletableFuture<Void> queued = executor.execute(() -> respond(evaluated), emitter).toCompletableFuture();
+            CompletableFuture<Void> rejected = executor.execute(() -> respond(evaluated), emitter).toCompletableFuture();
+
+            assertThat(queued).isNotDone();
+            assertThatThrownBy(rejected::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(RejectedExecutionException.class);
+            acknowledge.complete(null);
+            assertThat(queued).isCompleted();
+            assertThat(evaluated.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testQueuedRequestsAreDrainedWithoutRecursion() {
+        EventEmitter emitter = mock(EventEmitter.class);
+        CompletableFuture<Void> acknowledge = new CompletableFuture<>();
+        when(emitter.emit(any())).thenReturn(acknowledge);
+        int requests = 10000;
+        AtomicInteger evaluated = new AtomicInteger();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        try (EventRequestExecutor executor = new EventRequestExecutor(Runnable::run, 1, requests)) {
+            executor.execute(() -> respond(evaluated), emitter);
+            for (int i = 0; i < requests; i++) {
+                // completed synchronously once started, releasing its slot from the thread that started it
+                results.add(executor.execute(Optional::empty, emitter).toCompletableFuture());
+            }
+            acknowledge.complete(null);
+        }
+        assertThat(results).allMatch(CompletableFuture::isDone).noneMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    private static Optional<DataEvent<?>> respond(AtomicInteger evaluated) {
+        evaluated.incrementAndGet();
+        return Optional.of(mock(DataEvent.class));
+    }
+
+    private static void waitForAcknowledges(List<CompletableFuture<Void>> acknowledges, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            synchronized (acknowledges) {
+                if (acknowledges.size() >= size) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Expected " + size + " responses to be emitted");
+    }
+}
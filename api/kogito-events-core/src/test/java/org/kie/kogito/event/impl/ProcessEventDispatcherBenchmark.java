@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.event.impl;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.event.EventDispatcher;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many correlated events per second a single consumer dispatches to an existing process instance.
+ * Reading and unmarshalling the instance is simulated by burning {@code loadCost} CPU tokens per read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessEventDispatcherBenchmark {
+
+    private static final String TRIGGER = "benchmark";
+
+    @Param({ "1000", "20000" })
+    private long loadCost;
+
+    private ExecutorService executor;
+    private EventDispatcher<DummyModel, TestEvent> dispatcher;
+    private TestCloudEvent<TestEvent> event;
+
+    @Setup
+    public void setup() {
+        ProcessInstance<DummyModel> instance = stub(ProcessInstance.class);
+        Process<DummyModel> process = stub(Process.class);
+        ProcessService processService = (ProcessService) Proxy.newProxyInstance(ProcessService.class.getClassLoader(), new Class<?>[] { ProcessService.class }, (proxy, method, args) -> {
+            if (method.getName().equals("signalAndGetProcessInstance")) {
+                Blackhole.consumeCPU(loadCost);
+                return Optional.of(instance);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        executor = Executors.newSingleThreadExecutor();
+        dispatcher = new ProcessEventDispatcher<>(process, Optional.empty(), processService, executor, null, e -> e.getData());
+        event = new TestCloudEvent<>(new TestEvent("benchmark"), TRIGGER, "source", "1");
+    }
+
+    @TearDown
+    public void close() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public ProcessInstance<DummyModel> dispatchToExistingInstance() {
+        return dispatcher.dispatch(TRIGGER, event).toCompletableFuture().join();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<?> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
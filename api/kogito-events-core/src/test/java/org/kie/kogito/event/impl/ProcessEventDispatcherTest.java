@@ -18,14 +18,19 @@
  */
 package org.kie.kogito.event.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,9 +52,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -80,7 +87,8 @@ class ProcessEventDispatcherTest {
         when(processInstances.findById("1")).thenReturn(Optional.of(processInstance));
         processService = mock(ProcessService.class);
         when(processService.createProcessInstance(eq(process), any(), any(), any(), any(), any(), any(), any())).thenReturn(processInstance);
-        when(processService.signalProcessInstance(eq(process), any(), any(), any())).thenReturn(Optional.of(mock(DummyModel.class)));
+        when(processService.signalAndGetProcessInstance(eq(process), any(), any(), any())).thenReturn(Optional.empty());
+        when(processService.signalAndGetProcessInstance(eq(process), eq("1"), any(), any())).thenReturn(Optional.of(processInstance));
         executor = Executors.newSingleThreadExecutor();
     }
 
@@ -102,7 +110,8 @@ class ProcessEventDispatcherTest {
         ArgumentCaptor<String> signal = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> processInstanceId = ArgumentCaptor.forClass(String.class);
 
-        verify(processService, times(1)).signalProcessInstance(Mockito.any(Process.class), processInstanceId.capture(), Mockito.any(Object.class), signal.capture());
+        verify(processService, times(1)).signalAndGetProcessInstance(Mockito.any(Process.class), processInstanceId.capture(), Mockito.any(Object.class), signal.capture());
+        verify(processInstances, never()).findById(any());
 
         assertThat(signal.getValue()).isEqualTo("Message-" + DUMMY_TOPIC);
         assertThat(processInstanceId.getValue()).isEqualTo("1");
@@ -118,7 +127,7 @@ class ProcessEventDispatcherTest {
         ArgumentCaptor<String> referenceId = ArgumentCaptor.forClass(String.class);
 
         verify(processInstances, never()).findById(any());
-        verify(processService, never()).signalProcessInstance(eq(process), any(), any(), signal.capture());
+        verify(processService, never()).signalAndGetProcessInstance(eq(process), any(), any(), signal.capture());
         verify(processService, times(1)).createProcessInstance(eq(process), any(), any(DummyModel.class), any(), any(), signal.capture(), referenceId.capture(), isNull());
 
         assertThat(signal.getValue()).isEqualTo(DUMMY_TOPIC);
@@ -135,8 +144,8 @@ class ProcessEventDispatcherTest {
         ArgumentCaptor<String> referenceId = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Map<String, List<String>>> headers = ArgumentCaptor.forClass(Map.class);
 
-        verify(processInstances, times(1)).findById("invalidReference");
-        verify(processService, never()).signalProcessInstance(eq(process), any(), any(), signal.capture());
+        verify(processInstances, never()).findById(any());
+        verify(processService, times(1)).signalAndGetProcessInstance(eq(process), eq("invalidReference"), any(), any());
         verify(processService, times(1)).createProcessInstance(eq(process), any(), any(DummyModel.class), headers.capture(), any(), signal.capture(), referenceId.capture(), isNull());
 
         assertThat(signal.getValue()).isEqualTo(DUMMY_TOPIC);
@@ -173,7 +182,7 @@ class ProcessEventDispatcherTest {
         ArgumentCaptor<String> processInstanceId = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Object> signalObject = ArgumentCaptor.forClass(Object.class);
 
-        verify(processService, times(1)).signalProcessInstance(Mockito.any(Process.class), processInstanceId.capture(), signalObject.capture(), signal.capture());
+        verify(processService, times(1)).signalAndGetProcessInstance(Mockito.any(Process.class), processInstanceId.capture(), signalObject.capture(), signal.capture());
 
         assertThat(signal.getValue()).isEqualTo("Message-" + DUMMY_TOPIC);
         assertThat(signalObject.getValue()).isEqualTo("pepe");
@@ -246,10 +255,108 @@ class ProcessEventDispatcherTest {
         ArgumentCaptor<String> processInstanceId = ArgumentCaptor.forClass(String.class);
 
         verify(correlationService).find(compositeCorrelation);
-        verify(processService).signalProcessInstance(Mockito.any(Process.class), processInstanceId.capture(), Mockito.any(Object.class), signal.capture());
+        verify(processService).signalAndGetProcessInstance(Mockito.any(Process.class), processInstanceId.capture(), Mockito.any(Object.class), signal.capture());
 
         assertThat(signal.getValue()).isEqualTo("Message-" + DUMMY_TOPIC);
         assertThat(processInstanceId.getValue()).isEqualTo("1");
         assertThat(processInstance).isEqualTo(instance);
     }
+
+    @Test
+    void testBatchedEventsForSameInstanceAreDeliveredInOrderInOneUnitOfWork() throws Exception {
+        CountDownLatch firstDelivering = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstDelivering.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return Optional.of(processInstance);
+        }).when(processService).signalAndGetProcessInstance(eq(process), eq("1"), any(), any());
+        List<Object> batched = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<?> data = invocation.getArgument(2);
+            data.forEachRemaining(batched::add);
+            return Optional.of(processInstance);
+        }).when(processService).signalAllAndGetProcessInstance(eq(process), eq("1"), any(), any());
+
+        EventDispatcher<DummyModel, TestEvent> dispatcher = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), 10, 100);
+        CompletableFuture<ProcessInstance<DummyModel>> first = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("first"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+        assertThat(firstDelivering.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<ProcessInstance<DummyModel>>> others = new ArrayList<>();
+        for (String name : List.of("second", "third", "fourth")) {
+            others.add(dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent(name), DUMMY_TOPIC, "source", "1")).toCompletableFuture());
+        }
+        releaseFirst.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+        for (CompletableFuture<ProcessInstance<DummyModel>> other : others) {
+            assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+        }
+        verify(processService, times(1)).signalAndGetProcessInstance(eq(process), eq("1"), any(), eq("Message-" + DUMMY_TOPIC));
+        verify(processService, times(1)).signalAllAndGetProcessInstance(eq(process), eq("1"), any(), eq("Message-" + DUMMY_TOPIC));
+        assertThat(batched).containsExactly(new TestEvent("second"), new TestEvent("third"), new TestEvent("fourth"));
+    }
+
+    @Test
+    void testFailedBatchIsDeliveredOneByOne() throws Exception {
+        CountDownLatch firstDelivering = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Object data = invocation.getArgument(2);
+            if (data.equals(new TestEvent("first"))) {
+                firstDelivering.countDown();
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            } else if (data.equals(new TestEvent("poison"))) {
+                throw new IllegalStateException("poison");
+            }
+            return Optional.of(processInstance);
+        }).when(processService).signalAndGetProcessInstance(eq(process), eq("1"), any(), any());
+        when(processService.signalAllAndGetProcessInstance(eq(process), eq("1"), any(), any())).thenThrow(new IllegalStateException("poison"));
+
+        EventDispatcher<DummyModel, TestEvent> dispatcher = new ProcessEventDispatcher<>(process, modelConverter(), processService, executor, null, o -> o.getData(), 10, 100);
+        CompletableFuture<ProcessInstance<DummyModel>> first = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("first"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+        assertThat(firstDelivering.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ProcessInstance<DummyModel>> poison = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("poison"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+        CompletableFuture<ProcessInstance<DummyModel>> last = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("last"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+        releaseFirst.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+        assertThatThrownBy(() -> poison.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(last.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+    }
+
+    @Test
+    void testQueuedEventsAreBounded() throws Exception {
+        CountDownLatch firstDelivering = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(2).equals(new TestEvent("first"))) {
+                firstDelivering.countDown();
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.of(processInstance);
+        }).when(processService).signalAndGetProcessInstance(eq(process), eq("1"), any(), any());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            EventDispatcher<DummyModel, TestEvent> dispatcher = new ProcessEventDispatcher<>(process, modelConverter(), processService, pool, null, o -> o.getData(), 10, 1);
+            CompletableFuture<ProcessInstance<DummyModel>> first = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("first"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+            assertThat(firstDelivering.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<ProcessInstance<DummyModel>> queued = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("queued"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+            // over the limit, so held even though their instance is free and threads are available
+            CompletableFuture<ProcessInstance<DummyModel>> held = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("held"), DUMMY_TOPIC, "source", "2")).toCompletableFuture();
+            CompletableFuture<ProcessInstance<DummyModel>> heldAfter = dispatcher.dispatch(DUMMY_TOPIC, new TestCloudEvent<>(new TestEvent("heldAfter"), DUMMY_TOPIC, "source", "1")).toCompletableFuture();
+            Thread.sleep(100);
+            assertThat(queued).isNotDone();
+            assertThat(held).isNotDone();
+            assertThat(heldAfter).isNotDone();
+            verify(processService, never()).signalAndGetProcessInstance(eq(process), eq("2"), any(), any());
+            releaseFirst.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            assertThat(held.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+            assertThat(heldAfter.get(5, TimeUnit.SECONDS)).isEqualTo(processInstance);
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.kie.kogito.jobs.DurationExpirationTime;
+import org.kie.kogito.jobs.ExactExpirationTime;
+import org.kie.kogito.jobs.ExpirationTime;
+import org.kie.kogito.jobs.JobsServiceException;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobStore} keeping one small properties file per job in a directory. Files are written to a temporary file
+ * first and then moved in place, so a crash never leaves a partially written job behind.
+ */
+public class FileSystemJobStore implements JobStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemJobStore.class);
+
+    private static final String SUFFIX = ".job";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private static final String ID = "id";
+    private static final String TIMER_ID = "timerId";
+    private static final String EXPIRATION_TIME = "expirationTime";
+    private static final String REPEAT_INTERVAL = "repeatInterval";
+    private static final String REPEAT_LIMIT = "repeatLimit";
+    private static final String PRIORITY = "priority";
+    private static final String PROCESS_INSTANCE_ID = "processInstanceId";
+    private static final String ROOT_PROCESS_INSTANCE_ID = "rootProcessInstanceId";
+    private static final String PROCESS_ID = "processId";
+    private static final String ROOT_PROCESS_ID = "rootProcessId";
+    private static final String NODE_INSTANCE_ID = "nodeInstanceId";
+
+    private final Path directory;
+
+    public FileSystemJobStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new JobsServiceException("Unable to create job store directory " + directory, e);
+        }
+    }
+
+    @Override
+    public void store(ProcessInstanceJobDescription description) {
+        Properties properties = new Properties();
+        properties.setProperty(ID, description.id());
+        properties.setProperty(TIMER_ID, description.timerId());
+        properties.setProperty(EXPIRATION_TIME, description.expirationTime().get().toString());
+        setIfPresent(properties, REPEAT_INTERVAL, description.expirationTime().repeatInterval());
+        setIfPresent(properties, REPEAT_LIMIT, description.expirationTime().repeatLimit());
+        setIfPresent(properties, PRIORITY, description.priority());
+        properties.setProperty(PROCESS_INSTANCE_ID, description.processInstanceId());
+        setIfPresent(properties, ROOT_PROCESS_INSTANCE_ID, description.rootProcessInstanceId());
+        setIfPresent(properties, PROCESS_ID, description.processId());
+        setIfPresent(properties, ROOT_PROCESS_ID, description.rootProcessId());
+        setIfPresent(properties, NODE_INSTANCE_ID, description.nodeInstanceId());
+
+        Path file = fileOf(description.id());
+        Path tmp = file.resolveSibling(file.getFileName() + TMP_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new JobsServiceException("Unable to store job " + description.id(), e);
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        try {
+            Files.deleteIfExists(fileOf(id));
+        } catch (IOException e) {
+            throw new JobsServiceException("Unable to remove job " + id, e);
+        }
+    }
+
+    @Override
+    public List<ProcessInstanceJobDescription> loadAll() {
+        List<ProcessInstanceJobDescription> jobs = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    Properties properties = new Properties();
+                    properties.load(in);
+                    jobs.add(toDescription(properties));
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("Skipping unreadable job file {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new JobsServiceException("Unable to read job store directory " + directory, e);
+        }
+        return jobs;
+    }
+
+    private static ProcessInstanceJobDescription toDescription(Properties properties) {
+        ZonedDateTime expiration = ZonedDateTime.parse(properties.getProperty(EXPIRATION_TIME));
+        String repeatInterval = properties.getProperty(REPEAT_INTERVAL);
+        ExpirationTime expirationTime;
+        if (repeatInterval == null) {
+            expirationTime = ExactExpirationTime.of(expiration);
+        } else {
+            expirationTime = DurationExpirationTime.repeat(Duration.between(ZonedDateTime.now(), expiration).toMillis(), Long.valueOf(repeatInterval),
+                    Integer.valueOf(properties.getProperty(REPEAT_LIMIT, "-1")));
+        }
+        String priority = properties.getProperty(PRIORITY);
+        return ProcessInstanceJobDescription.builder()
+                .id(properties.getProperty(ID))
+                .timerId(properties.getProperty(TIMER_ID))
+                .expirationTime(expirationTime)
+                .priority(priority == null ? ProcessInstanceJobDescription.DEFAULT_PRIORITY : Integer.valueOf(priority))
+                .processInstanceId(properties.getProperty(PROCESS_INSTANCE_ID))
+                .rootProcessInstanceId(properties.getProperty(ROOT_PROCESS_INSTANCE_ID))
+                .processId(properties.getProperty(PROCESS_ID))
+                .rootProcessId(properties.getProperty(ROOT_PROCESS_ID))
+                .nodeInstanceId(properties.getProperty(NODE_INSTANCE_ID))
+                .build();
+    }
+
+    private static void setIfPresent(Properties properties, String key, Object value) {
+        if (value != null) {
+            properties.setProperty(key, value.toString());
+        }
+    }
+
+    private Path fileOf(String id) {
+        return directory.resolve(URLEncoder.encode(id, StandardCharsets.UTF_8) + SUFFIX);
+    }
+}
@@ -18,8 +18,11 @@
  */
 package org.kie.kogito.services.jobs.impl;
 
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -28,6 +31,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.kie.kogito.Model;
+import org.kie.kogito.jobs.DurationExpirationTime;
 import org.kie.kogito.jobs.JobDescription;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
@@ -37,17 +41,36 @@ import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.services.uow.UnitOfWorkExecutor;
 import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class InMemoryJobService implements JobsService, AutoCloseable {
 
     public static final String IN_MEMORY_JOB_SERVICE_POOL_SIZE_PROPERTY = "kogito.in-memory.job-service.pool-size";
+    /**
+     * Selects the scheduler backing the jobs, either {@value #THREAD_POOL_SCHEDULER} (default) or {@value #TIMING_WHEEL_SCHEDULER},
+     * which is cheaper to schedule and cancel large numbers of timers, most of them cancelled before expiring.
+     */
+    public static final String IN_MEMORY_JOB_SERVICE_SCHEDULER_PROPERTY = "kogito.in-memory.job-service.scheduler";
+    public static final String THREAD_POOL_SCHEDULER = "thread-pool";
+    public static final String TIMING_WHEEL_SCHEDULER = "timing-wheel";
+    /**
+     * Directory where process instance jobs are persisted so that they are re-armed after a restart. Jobs are only kept
+     * in memory when not set.
+     */
+    public static final String IN_MEMORY_JOB_SERVICE_STORE_PATH_PROPERTY = "kogito.in-memory.job-service.store.path";
+    /**
+     * Number of overdue jobs fired together when they are restored, and the delay in milliseconds between two such batches.
+     */
+    public static final String IN_MEMORY_JOB_SERVICE_STORE_CATCH_UP_BATCH_SIZE_PROPERTY = "kogito.in-memory.job-service.store.catch-up.batch-size";
+    public static final String IN_MEMORY_JOB_SERVICE_STORE_CATCH_UP_INTERVAL_PROPERTY = "kogito.in-memory.job-service.store.catch-up.interval";
     private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryJobService.class);
     protected static final String TRIGGER = "timer";
 
     protected final ScheduledExecutorService scheduler;
     protected final UnitOfWorkManager unitOfWorkManager;
+    private final JobStore jobStore;
 
     protected ConcurrentHashMap<String, ScheduledFuture<?>> scheduledJobs = new ConcurrentHashMap<>();
     private final Processes processes;
@@ -55,26 +78,73 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
     private static final ConcurrentHashMap<Processes, InMemoryJobService> INSTANCE = new ConcurrentHashMap<>();
 
     protected InMemoryJobService(Processes processes, UnitOfWorkManager unitOfWorkManager) {
-        this(processes, unitOfWorkManager, new ScheduledThreadPoolExecutor(Integer.parseInt(System.getProperty(IN_MEMORY_JOB_SERVICE_POOL_SIZE_PROPERTY, "10"))));
+        this(processes, unitOfWorkManager, newScheduler());
     }
 
     protected InMemoryJobService(Processes processes, UnitOfWorkManager unitOfWorkManager, ScheduledExecutorService scheduler) {
+        this(processes, unitOfWorkManager, scheduler, null);
+    }
+
+    protected InMemoryJobService(Processes processes, UnitOfWorkManager unitOfWorkManager, ScheduledExecutorService scheduler, JobStore jobStore) {
         this.processes = processes;
         this.unitOfWorkManager = unitOfWorkManager;
         this.scheduler = scheduler;
+        this.jobStore = jobStore;
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        int poolSize = Integer.parseInt(System.getProperty(IN_MEMORY_JOB_SERVICE_POOL_SIZE_PROPERTY, "10"));
+        if (TIMING_WHEEL_SCHEDULER.equals(System.getProperty(IN_MEMORY_JOB_SERVICE_SCHEDULER_PROPERTY, THREAD_POOL_SCHEDULER))) {
+            return new TimingWheelScheduledExecutorService(poolSize);
+        }
+        return new ScheduledThreadPoolExecutor(poolSize);
+    }
+
+    private static JobStore newJobStore() {
+        String path = System.getProperty(IN_MEMORY_JOB_SERVICE_STORE_PATH_PROPERTY);
+        return path == null ? null : new FileSystemJobStore(Paths.get(path));
     }
 
     public static InMemoryJobService get(Processes processes, UnitOfWorkManager unitOfWorkManager) {
         Objects.requireNonNull(processes);
         Objects.requireNonNull(unitOfWorkManager);
-        return INSTANCE.computeIfAbsent(processes, k -> new InMemoryJobService(processes, unitOfWorkManager));
+        return INSTANCE.computeIfAbsent(processes, k -> restored(new InMemoryJobService(processes, unitOfWorkManager, newScheduler(), newJobStore())));
     }
 
     public static InMemoryJobService get(Processes processes, UnitOfWorkManager unitOfWorkManager, ScheduledExecutorService scheduler) {
         Objects.requireNonNull(processes);
         Objects.requireNonNull(unitOfWorkManager);
         Objects.requireNonNull(scheduler);
-        return INSTANCE.computeIfAbsent(processes, k -> new InMemoryJobService(processes, unitOfWorkManager, scheduler));
+        return INSTANCE.computeIfAbsent(processes, k -> restored(new InMemoryJobService(processes, unitOfWorkManager, scheduler, newJobStore())));
+    }
+
+    private static InMemoryJobService restored(InMemoryJobService jobService) {
+        jobService.restoreJobs(Integer.parseInt(System.getProperty(IN_MEMORY_JOB_SERVICE_STORE_CATCH_UP_BATCH_SIZE_PROPERTY, "100")),
+                Long.parseLong(System.getProperty(IN_MEMORY_JOB_SERVICE_STORE_CATCH_UP_INTERVAL_PROPERTY, "1000")));
+        return jobService;
+    }
+
+    /**
+     * Re-arms the jobs found in the job store. Jobs that expired while the application was down are fired in batches
+     * of {@code batchSize}, one batch every {@code interval} milliseconds, in expiration order, so that a long downtime
+     * does not flood the application with timers on startup.
+     */
+    protected void restoreJobs(int batchSize, long interval) {
+        if (jobStore == null) {
+            return;
+        }
+        List<ProcessInstanceJobDescription> jobs = jobStore.loadAll();
+        jobs.sort(Comparator.comparing(job -> job.expirationTime().get()));
+        ZonedDateTime now = ZonedDateTime.now();
+        int overdue = 0;
+        for (ProcessInstanceJobDescription job : jobs) {
+            if (job.expirationTime().get().isAfter(now)) {
+                schedule(job, calculateDelay(job));
+            } else {
+                schedule(job, 1 + (overdue++ / Math.max(batchSize, 1)) * interval);
+            }
+        }
+        LOGGER.info("Restored {} jobs, {} of them overdue", jobs.size(), overdue);
     }
 
     @Override
@@ -92,22 +162,25 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
 
     @Override
     public String scheduleProcessInstanceJob(ProcessInstanceJobDescription description) {
+        store(description);
+        schedule(description, calculateDelay(description));
+        return description.id();
+    }
+
+    private void schedule(ProcessInstanceJobDescription description, long delay) {
         ScheduledFuture<?> future;
         if (description.expirationTime().repeatInterval() != null) {
             future = scheduler.scheduleAtFixedRate(
                     getSignalProcessInstanceCommand(description, false, description.expirationTime().repeatLimit()),
-                    calculateDelay(description), description.expirationTime().repeatInterval(), TimeUnit.MILLISECONDS);
+                    delay, description.expirationTime().repeatInterval(), TimeUnit.MILLISECONDS);
         } else {
-            future = scheduler.schedule(getSignalProcessInstanceCommand(description, true, 1), calculateDelay(description),
-                    TimeUnit.MILLISECONDS);
+            future = scheduler.schedule(getSignalProcessInstanceCommand(description, true, 1), delay, TimeUnit.MILLISECONDS);
         }
         scheduledJobs.put(description.id(), future);
-        return description.id();
     }
 
     public Runnable getSignalProcessInstanceCommand(ProcessInstanceJobDescription description, boolean remove, int limit) {
-        return new SignalProcessInstanceOnExpiredTimer(description.id(), description.timerId(), description
-                .processInstanceId(), description.processId(), remove, limit);
+        return new SignalProcessInstanceOnExpiredTimer(description, remove, limit);
     }
 
     @Override
@@ -117,12 +190,22 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
 
     public boolean cancelJob(String id, boolean force) {
         LOGGER.debug("Cancel Job: {}", id);
+        if (jobStore != null) {
+            unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(id, jobStore::remove));
+        }
         if (scheduledJobs.containsKey(id)) {
             return scheduledJobs.remove(id).cancel(force);
         }
         return false;
     }
 
+    // job store writes are part of the current unit of work, done when it ends and dropped if it is aborted
+    private void store(ProcessInstanceJobDescription description) {
+        if (jobStore != null) {
+            unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(description, jobStore::store));
+        }
+    }
+
     protected long calculateDelay(JobDescription description) {
         long delay = Duration.between(ZonedDateTime.now(), description.expirationTime().get()).toMillis();
         if (delay <= 0) {
@@ -141,6 +224,7 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
 
     private class SignalProcessInstanceOnExpiredTimer implements Runnable {
 
+        private final ProcessInstanceJobDescription description;
         private final String id;
         private final String timerId;
         private boolean removeAtExecution;
@@ -148,13 +232,14 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
         private Integer limit;
         private String processId;
 
-        private SignalProcessInstanceOnExpiredTimer(String id, String timerId, String processInstanceId, String processId, boolean removeAtExecution, Integer limit) {
-            this.id = id;
-            this.timerId = timerId;
-            this.processInstanceId = processInstanceId;
+        private SignalProcessInstanceOnExpiredTimer(ProcessInstanceJobDescription description, boolean removeAtExecution, Integer limit) {
+            this.description = description;
+            this.id = description.id();
+            this.timerId = description.timerId();
+            this.processInstanceId = description.processInstanceId();
             this.removeAtExecution = removeAtExecution;
             this.limit = limit;
-            this.processId = processId;
+            this.processId = description.processId();
         }
 
         @Override
@@ -166,6 +251,8 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
                 boolean executed = new TriggerJobCommand(processInstanceId, id, timerId, limit, process, unitOfWorkManager).execute();
                 if (limit == 0 || !executed) {
                     cancelJob(id, false);
+                } else if (jobStore != null && !removeAtExecution && scheduledJobs.containsKey(id)) {
+                    storeNextRepetition();
                 }
                 LOGGER.debug("Job {} completed", id);
             } catch (ProcessInstanceOptimisticLockingException ex) {
@@ -178,6 +265,21 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
                 }
             }
         }
+
+        private void storeNextRepetition() {
+            Long repeatInterval = description.expirationTime().repeatInterval();
+            store(ProcessInstanceJobDescription.builder()
+                    .id(id)
+                    .timerId(timerId)
+                    .expirationTime(DurationExpirationTime.repeat(repeatInterval, repeatInterval, limit))
+                    .priority(description.priority())
+                    .processInstanceId(processInstanceId)
+                    .rootProcessInstanceId(description.rootProcessInstanceId())
+                    .processId(processId)
+                    .rootProcessId(description.rootProcessId())
+                    .nodeInstanceId(description.nodeInstanceId())
+                    .build());
+        }
     }
 
     private class StartProcessOnExpiredTimer implements Runnable {
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.util.List;
+
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+
+/**
+ * Durable storage of the process instance jobs scheduled by {@link InMemoryJobService}, so that pending timers
+ * survive a restart of the application.
+ */
+public interface JobStore {
+
+    /**
+     * Stores the job, replacing any previous version with the same id.
+     */
+    void store(ProcessInstanceJobDescription description);
+
+    void remove(String id);
+
+    List<ProcessInstanceJobDescription> loadAll();
+}
@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ScheduledExecutorService} keeping delayed tasks in a hierarchical timing wheel, so that scheduling and
+ * cancelling a task are constant time operations whatever the number of pending tasks.
+ * <p>
+ * The first wheel has {@code wheelSize} buckets of {@code tick} each, every following wheel has buckets as long as the
+ * whole previous wheel and is only created when a task does not fit the previous ones. A single ticker thread owns the
+ * wheels: it moves the tasks of a bucket of an upper wheel to the lower wheels once the bucket is reached and hands the
+ * expired tasks to a fixed number of workers through a bounded queue. When the queue is full the ticker waits for the
+ * workers, which shows up as timer lag instead of growing the queue.
+ * <p>
+ * Tasks never run before their deadline and run at most one tick after it when workers are available. Cancelled tasks
+ * are unlinked from their bucket on the next tick. Pending delayed tasks are dropped on {@link #shutdown()}.
+ */
+public class TimingWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelScheduledExecutorService.class);
+
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(10);
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final long tickNanos;
+    private final int wheelSize;
+    private final long startNanos = System.nanoTime();
+
+    private final ThreadPoolExecutor workers;
+    private final Thread ticker;
+    private volatile boolean running = true;
+
+    // tasks are handed to the ticker thread, which is the only one touching the wheels
+    private final Queue<TimerTask<?>> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<TimerTask<?>> cancelled = new ConcurrentLinkedQueue<>();
+
+    // owned by the ticker thread
+    private final List<Bucket[]> wheels = new ArrayList<>();
+    private long currentTick;
+
+    private final AtomicLong pendingTimers = new AtomicLong();
+    private final LongAdder firedTimers = new LongAdder();
+    private final LongAdder cancelledTimers = new LongAdder();
+    private final LongAdder totalLagNanos = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    public TimingWheelScheduledExecutorService(int workers) {
+        this(workers, DEFAULT_TICK, DEFAULT_WHEEL_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public TimingWheelScheduledExecutorService(int workers, Duration tick, int wheelSize, int queueCapacity) {
+        if (workers <= 0 || tick.isNegative() || tick.isZero() || wheelSize <= 1 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        this.tickNanos = tick.toNanos();
+        this.wheelSize = wheelSize;
+        int pool = POOL_NUMBER.incrementAndGet();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory("timing-wheel-" + pool + "-worker-"), TimingWheelScheduledExecutorService::waitForCapacity);
+        this.wheels.add(newWheel());
+        this.ticker = threadFactory("timing-wheel-" + pool + "-ticker").newThread(this::tickLoop);
+        this.ticker.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(new TimerTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return schedule(new TimerTask<>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return schedule(new TimerTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive");
+        }
+        // negative period stands for a delay counted from the end of the previous execution
+        return schedule(new TimerTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        workers.execute(command);
+    }
+
+    /**
+     * Returns the number of delayed tasks currently held by the wheels.
+     */
+    public long getPendingTimers() {
+        return pendingTimers.get();
+    }
+
+    public long getFiredTimers() {
+        return firedTimers.sum();
+    }
+
+    /**
+     * Returns the number of delayed tasks cancelled before their deadline.
+     */
+    public long getCancelledTimers() {
+        return cancelledTimers.sum();
+    }
+
+    /**
+     * Returns the longest delay observed between the deadline of a task and the start of its execution.
+     */
+    public Duration getMaxLag() {
+        return Duration.ofNanos(maxLagNanos.get());
+    }
+
+    public Duration getAverageLag() {
+        long fired = firedTimers.sum();
+        return fired == 0 ? Duration.ZERO : Duration.ofNanos(totalLagNanos.sum() / fired);
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(ticker);
+        workers.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return !running;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return !ticker.isAlive() && workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        ticker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        return workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS) && !ticker.isAlive();
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        return System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+    }
+
+    private <V> TimerTask<V> schedule(TimerTask<V> task) {
+        if (!running) {
+            throw new RejectedExecutionException("Timing wheel has been shut down");
+        }
+        scheduled.add(task);
+        return task;
+    }
+
+    private void tickLoop() {
+        while (running) {
+            long sleep = (currentTick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            try {
+                transferCancelled();
+                transferScheduled();
+                long now = System.nanoTime() - startNanos;
+                while (running && (currentTick + 1) * tickNanos <= now) {
+                    expire(currentTick);
+                    currentTick++;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error while advancing timing wheel", e);
+            }
+        }
+        // pending tasks are not going to run, cancel them so that nobody waits for their completion
+        scheduled.forEach(task -> task.cancel(false));
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                for (TimerTask<?> task = bucket.removeAll(); task != null; task = task.next) {
+                    task.cancel(false);
+                }
+            }
+        }
+        scheduled.clear();
+        cancelled.clear();
+        pendingTimers.set(0);
+    }
+
+    private void transferCancelled() {
+        TimerTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                pendingTimers.decrementAndGet();
+                cancelledTimers.increment();
+            }
+        }
+    }
+
+    private void transferScheduled() {
+        TimerTask<?> task;
+        while ((task = scheduled.poll()) != null) {
+            if (task.isCancelled()) {
+                cancelledTimers.increment();
+            } else {
+                add(task);
+            }
+        }
+    }
+
+    private void add(TimerTask<?> task) {
+        long tick = task.deadline / tickNanos;
+        if (tick < currentTick) {
+            dispatch(task);
+            return;
+        }
+        // lowest wheel whose range covers the deadline, the bucket of the current tick of each wheel is never used
+        // by upper wheels since the task then fits one of the lower wheels
+        int level = 0;
+        long unit = 1;
+        while (tick / unit - currentTick / unit >= wheelSize) {
+            level++;
+            unit *= wheelSize;
+            if (level == wheels.size()) {
+                wheels.add(newWheel());
+            }
+        }
+        wheels.get(level)[(int) ((tick / unit) % wheelSize)].add(task);
+        pendingTimers.incrementAndGet();
+    }
+
+    private void expire(long tick) {
+        // cascade the upper wheels whose bucket starts at this tick, from the highest one down
+        long unit = 1;
+        for (int level = 1; level < wheels.size(); level++) {
+            unit *= wheelSize;
+        }
+        for (int level = wheels.size() - 1; level > 0; level--) {
+            if (tick % unit == 0) {
+                Bucket bucket = wheels.get(level)[(int) ((tick / unit) % wheelSize)];
+                for (TimerTask<?> task = bucket.removeAll(); task != null;) {
+                    TimerTask<?> next = task.next;
+                    task.next = null;
+                    pendingTimers.decrementAndGet();
+                    add(task);
+                    task = next;
+                }
+            }
+            unit /= wheelSize;
+        }
+        Bucket bucket = wheels.get(0)[(int) (tick % wheelSize)];
+        for (TimerTask<?> task = bucket.removeAll(); task != null;) {
+            TimerTask<?> next = task.next;
+            task.next = null;
+            pendingTimers.decrementAndGet();
+            dispatch(task);
+            task = next;
+        }
+    }
+
+    private void dispatch(TimerTask<?> task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Timer task dropped since the timing wheel has been shut down");
+        }
+    }
+
+    private Bucket[] newWheel() {
+        Bucket[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+        return buckets;
+    }
+
+    private void recordLag(long lagNanos) {
+        firedTimers.increment();
+        totalLagNanos.add(lagNanos);
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    private static void waitForCapacity(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Timing wheel has been shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a timing wheel worker", e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix.endsWith("-") ? prefix + counter.incrementAndGet() : prefix);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Doubly linked list of the tasks expiring within the same bucket, for constant time removal on cancellation.
+     */
+    private static final class Bucket {
+
+        private TimerTask<?> head;
+
+        void add(TimerTask<?> task) {
+            task.bucket = this;
+            task.prev = null;
+            task.next = head;
+            if (head != null) {
+                head.prev = task;
+            }
+            head = task;
+        }
+
+        void remove(TimerTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            task.bucket = null;
+            task.prev = null;
+            task.next = null;
+        }
+
+        TimerTask<?> removeAll() {
+            TimerTask<?> first = head;
+            for (TimerTask<?> task = first; task != null; task = task.next) {
+                task.bucket = null;
+                task.prev = null;
+            }
+            head = null;
+            return first;
+        }
+    }
+
+    private final class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private volatile long deadline;
+        private final long period;
+
+        // owned by the ticker thread
+        private Bucket bucket;
+        private TimerTask<?> prev;
+        private TimerTask<?> next;
+
+        private TimerTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public void run() {
+            recordLag(System.nanoTime() - startNanos - deadline);
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset() && running) {
+                deadline = period > 0 ? deadline + period : System.nanoTime() - startNanos - period;
+                scheduled.add(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result) {
+                cancelled.add(this);
+            }
+            return result;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(startNanos + deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -47,6 +47,8 @@ public class DefaultUnitOfWorkManager implements UnitOfWorkManager {
     private EventManager eventManager = new BaseEventManager();
 
     private Set<UnitOfWorkEventListener> listeners = new LinkedHashSet<>();
+    // listeners that react before publishing, the units of work only get the extra work unit when there is one
+    private Set<UnitOfWorkEventListener> beforePublishListeners = new LinkedHashSet<>();
 
     public DefaultUnitOfWorkManager(UnitOfWorkFactory factory) {
         super();
@@ -71,7 +73,22 @@ public class DefaultUnitOfWorkManager implements UnitOfWorkManager {
 
     @Override
     public UnitOfWork newUnitOfWork() {
-        return new ManagedUnitOfWork(factory.create(eventManager), this::onStart, this::onEnd, this::onAbort);
+        return new ManagedUnitOfWork(factory.create(eventManager), this::onStart, this::onEnd, this::onAbort, beforePublishListeners.isEmpty() ? null : this::onBeforePublish);
+    }
+
+    @Override
+    public void runWith(UnitOfWork unitOfWork, Runnable action) {
+        UnitOfWork previous = currentUnitOfWork.get();
+        currentUnitOfWork.set(unitOfWork);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                currentUnitOfWork.remove();
+            } else {
+                currentUnitOfWork.set(previous);
+            }
+        }
     }
 
     protected void onStart(UnitOfWork unit) {
@@ -79,6 +96,10 @@ public class DefaultUnitOfWorkManager implements UnitOfWorkManager {
         listeners.forEach(l -> l.onBeforeStartEvent(new UnitOfWorkStartEvent(unit)));
     }
 
+    protected void onBeforePublish(UnitOfWork unit) {
+        beforePublishListeners.forEach(l -> l.onBeforePublishEvent(new UnitOfWorkEndEvent(unit)));
+    }
+
     protected void onEnd(UnitOfWork unit) {
         this.dissociate(unit);
         listeners.forEach(l -> l.onAfterEndEvent(new UnitOfWorkEndEvent(unit)));
@@ -105,5 +126,16 @@ public class DefaultUnitOfWorkManager implements UnitOfWorkManager {
     @Override
     public void register(UnitOfWorkEventListener listener) {
         listeners.add(listener);
+        if (overridesBeforePublish(listener)) {
+            beforePublishListeners.add(listener);
+        }
+    }
+
+    private static boolean overridesBeforePublish(UnitOfWorkEventListener listener) {
+        try {
+            return listener.getClass().getMethod("onBeforePublishEvent", UnitOfWorkEndEvent.class).getDeclaringClass() != UnitOfWorkEventListener.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 }
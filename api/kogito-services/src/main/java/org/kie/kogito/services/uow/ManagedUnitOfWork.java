@@ -34,19 +34,30 @@ public class ManagedUnitOfWork implements UnitOfWork {
     private Consumer<UnitOfWork> onStart;
     private Consumer<UnitOfWork> onEnd;
     private Consumer<UnitOfWork> onAbort;
+    private Consumer<UnitOfWork> onBeforePublish;
 
     public ManagedUnitOfWork(UnitOfWork delegate, Consumer<UnitOfWork> onStart, Consumer<UnitOfWork> onEnd, Consumer<UnitOfWork> onAbort) {
+        this(delegate, onStart, onEnd, onAbort, null);
+    }
+
+    public ManagedUnitOfWork(UnitOfWork delegate, Consumer<UnitOfWork> onStart, Consumer<UnitOfWork> onEnd, Consumer<UnitOfWork> onAbort,
+            Consumer<UnitOfWork> onBeforePublish) {
         super();
         this.delegate = delegate;
         this.onStart = onStart;
         this.onEnd = onEnd;
         this.onAbort = onAbort;
+        this.onBeforePublish = onBeforePublish;
     }
 
     @Override
     public void start() {
         onStart.accept(delegate);
         delegate.start();
+        if (onBeforePublish != null) {
+            // performed last, after all other work and before the collected events are published
+            delegate.intercept(new BaseWorkUnit<>(delegate, onBeforePublish, null, Integer.MAX_VALUE));
+        }
     }
 
     @Override
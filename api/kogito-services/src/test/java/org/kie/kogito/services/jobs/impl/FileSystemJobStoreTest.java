@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.kogito.jobs.DurationExpirationTime;
+import org.kie.kogito.jobs.ExactExpirationTime;
+import org.kie.kogito.jobs.ExpirationTime;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemJobStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testStoreAndLoad() {
+        ZonedDateTime expiration = ZonedDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MILLIS);
+        new FileSystemJobStore(directory).store(job("job/1", ExactExpirationTime.of(expiration)));
+        new FileSystemJobStore(directory).store(job("job2", DurationExpirationTime.repeat(60000, 1000L, 3)));
+
+        assertThat(new FileSystemJobStore(directory).loadAll()).hasSize(2).allSatisfy(job -> {
+            assertThat(job.timerId()).isEqualTo("timer");
+            assertThat(job.processInstanceId()).isEqualTo("instance");
+            assertThat(job.processId()).isEqualTo("process");
+            assertThat(job.rootProcessInstanceId()).isNull();
+            if (job.id().equals("job/1")) {
+                assertThat(job.expirationTime().get()).isEqualTo(expiration);
+                assertThat(job.expirationTime().repeatInterval()).isNull();
+            } else {
+                assertThat(job.expirationTime().get()).isAfter(ZonedDateTime.now().plusSeconds(50));
+                assertThat(job.expirationTime().repeatInterval()).isEqualTo(1000L);
+                assertThat(job.expirationTime().repeatLimit()).isEqualTo(3);
+            }
+        });
+    }
+
+    @Test
+    void testStoreReplacesAndRemoves() {
+        FileSystemJobStore store = new FileSystemJobStore(directory);
+        store.store(job("job", ExactExpirationTime.now()));
+        store.store(job("job", DurationExpirationTime.repeat(10, 10L, 2)));
+        assertThat(store.loadAll()).singleElement().satisfies(job -> assertThat(job.expirationTime().repeatLimit()).isEqualTo(2));
+
+        store.remove("job");
+        store.remove("unknown");
+        assertThat(store.loadAll()).isEmpty();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    static ProcessInstanceJobDescription job(String id, ExpirationTime expirationTime) {
+        return ProcessInstanceJobDescription.builder()
+                .id(id)
+                .timerId("timer")
+                .expirationTime(expirationTime)
+                .processInstanceId("instance")
+                .processId("process")
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.kogito.jobs.ExactExpirationTime;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.services.jobs.impl.FileSystemJobStoreTest.job;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryJobServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private Processes processes;
+
+    private UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture<?> future;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(future).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void testJobsArePersistedUntilCancelled() {
+        JobStore store = new FileSystemJobStore(directory);
+        InMemoryJobService jobService = new InMemoryJobService(processes, unitOfWorkManager, scheduler, store);
+
+        jobService.scheduleProcessInstanceJob(job("job1", ExactExpirationTime.of(ZonedDateTime.now().plusMinutes(1))));
+        jobService.scheduleProcessInstanceJob(job("job2", ExactExpirationTime.of(ZonedDateTime.now().plusMinutes(1))));
+        jobService.cancelJob("job1");
+
+        assertThat(store.loadAll()).extracting(j -> j.id()).containsExactly("job2");
+    }
+
+    @Test
+    void testJobsArePersistedWhenUnitOfWorkEnds() {
+        JobStore store = new FileSystemJobStore(directory);
+        InMemoryJobService jobService = new InMemoryJobService(processes, unitOfWorkManager, scheduler, store);
+
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        jobService.scheduleProcessInstanceJob(job("job1", ExactExpirationTime.of(ZonedDateTime.now().plusMinutes(1))));
+        assertThat(store.loadAll()).isEmpty();
+        unitOfWork.end();
+        assertThat(store.loadAll()).extracting(j -> j.id()).containsExactly("job1");
+
+        unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        jobService.scheduleProcessInstanceJob(job("job2", ExactExpirationTime.of(ZonedDateTime.now().plusMinutes(1))));
+        jobService.cancelJob("job1");
+        unitOfWork.abort();
+        assertThat(store.loadAll()).extracting(j -> j.id()).containsExactly("job1");
+    }
+
+    @Test
+    void testRestoreCatchesUpOverdueJobsInBatches() {
+        JobStore store = new FileSystemJobStore(directory);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            store.store(job("overdue" + i, ExactExpirationTime.of(now.minusMinutes(i + 1L))));
+        }
+        store.store(job("pending", ExactExpirationTime.of(now.plusHours(1))));
+
+        new InMemoryJobService(processes, unitOfWorkManager, scheduler, store).restoreJobs(2, 1000);
+
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(1001L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(2001L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, times(6)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertThat(store.loadAll()).hasSize(6);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.services.jobs.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelScheduledExecutorServiceTest {
+
+    private TimingWheelScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setup() {
+        // tiny wheels so that the tests go through several levels, a single worker to keep the execution order
+        scheduler = new TimingWheelScheduledExecutorService(1, Duration.ofMillis(1), 4, 100);
+    }
+
+    @AfterEach
+    void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testTasksRunInDeadlineOrderAndNeverEarly() throws Exception {
+        List<Long> delays = List.of(150L, 3L, 70L, 20L, 5L);
+        List<Long> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Long> early = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(delays.size());
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            scheduler.schedule(() -> {
+                if (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(delay)) {
+                    early.add(delay);
+                }
+                executed.add(delay);
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly(3L, 5L, 20L, 70L, 150L);
+        assertThat(early).isEmpty();
+        assertThat(scheduler.getFiredTimers()).isEqualTo(delays.size());
+        assertThat(scheduler.getPendingTimers()).isZero();
+        assertThat(scheduler.getMaxLag()).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testCancelledTaskDoesNotRun() throws Exception {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        ScheduledFuture<?> cancelled = scheduler.schedule(cancelledLatch::countDown, 30, TimeUnit.MILLISECONDS);
+        scheduler.schedule(latch::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel(false)).isTrue();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledLatch.getCount()).isOne();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(scheduler.getCancelledTimers()).isOne();
+        assertThat(scheduler.getFiredTimers()).isOne();
+    }
+
+    @Test
+    void testPeriodicTaskRunsUntilCancelled() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(latch::countDown, 5, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+        long fired = scheduler.getFiredTimers();
+        Thread.sleep(50);
+        assertThat(scheduler.getFiredTimers()).isLessThanOrEqualTo(fired + 1);
+    }
+
+    @Test
+    void testCallableResult() throws Exception {
+        assertThat(scheduler.schedule(() -> "done", 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+}
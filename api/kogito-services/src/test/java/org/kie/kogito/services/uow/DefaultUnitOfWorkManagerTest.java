@@ -18,18 +18,25 @@
  */
 package org.kie.kogito.services.uow;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.uow.UnitOfWork;
 import org.kie.kogito.uow.UnitOfWorkManager;
 import org.kie.kogito.uow.WorkUnit;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
 import org.kie.kogito.uow.events.UnitOfWorkEventListener;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -69,10 +76,75 @@ public class DefaultUnitOfWorkManagerTest {
 
         assertThat(counter).hasValue(1);
         verify(listener).onBeforeStartEvent(any());
+        verify(listener).onBeforePublishEvent(any());
         verify(listener).onAfterEndEvent(any());
         verify(listener, never()).onAfterAbortEvent(any());
     }
 
+    @Test
+    public void testUnitOfWorkBeforePublishAfterWork() {
+        EventPublisher publisher = mock(EventPublisher.class);
+        unitOfWorkManager.eventManager().addPublisher(publisher);
+
+        final AtomicInteger counter = new AtomicInteger(0);
+        final AtomicInteger beforePublishCounter = new AtomicInteger(-1);
+        doAnswer(invocation -> {
+            beforePublishCounter.set(counter.get());
+            verify(publisher, never()).publish(anyCollection());
+            return null;
+        }).when(listener).onBeforePublishEvent(any());
+
+        UnitOfWork unit = unitOfWorkManager.newUnitOfWork();
+        unit.start();
+        unit.intercept(new BaseWorkUnit<>(counter, AtomicInteger::incrementAndGet, null, WorkUnit.LOW_PRIORITY));
+        unit.end();
+
+        // invoked once the lowest priority work has been performed, before publishing
+        assertThat(beforePublishCounter).hasValue(1);
+        verify(publisher).publish(anyCollection());
+    }
+
+    @Test
+    public void testUnitOfWorkBeforePublishFailure() {
+        EventPublisher publisher = mock(EventPublisher.class);
+        unitOfWorkManager.eventManager().addPublisher(publisher);
+        doThrow(new IllegalArgumentException("flush failed")).when(listener).onBeforePublishEvent(any());
+
+        UnitOfWork unit = unitOfWorkManager.newUnitOfWork();
+        unit.start();
+        assertThrows(IllegalArgumentException.class, () -> unit.end());
+        unit.abort();
+
+        verify(publisher, never()).publish(anyCollection());
+        verify(listener, never()).onAfterEndEvent(any());
+        verify(listener).onAfterAbortEvent(any());
+        assertThat(unitOfWorkManager.currentUnitOfWork()).isInstanceOf(PassThroughUnitOfWork.class);
+    }
+
+    @Test
+    public void testNoBeforePublishWorkWithoutListenerForIt() {
+        List<WorkUnit<?>> intercepted = new ArrayList<>();
+        UnitOfWorkManager manager = new DefaultUnitOfWorkManager(eventManager -> new CollectingUnitOfWork(eventManager) {
+            @Override
+            public void intercept(WorkUnit work) {
+                intercepted.add(work);
+                super.intercept(work);
+            }
+        });
+        manager.register(new UnitOfWorkEventListener() {
+            @Override
+            public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+                // only reacts once the unit has ended
+            }
+        });
+
+        UnitOfWork unit = manager.newUnitOfWork();
+        unit.start();
+        unit.end();
+
+        assertThat(intercepted).isEmpty();
+    }
+
     @Test
     public void testUnitOfWorkStartAbort() {
 
@@ -18,10 +18,27 @@
  */
 package org.kie.kogito.decision;
 
+import java.util.concurrent.Executor;
+
 import org.kie.kogito.KogitoConfig;
 
 public interface DecisionConfig extends KogitoConfig {
 
     DecisionEventListenerConfig decisionEventListeners();
 
+    /**
+     * Executor running the evaluations of batches submitted to the generated batch endpoints. Evaluates them on the
+     * thread writing the results unless overridden.
+     */
+    default Executor batchExecutor() {
+        return Runnable::run;
+    }
+
+    /**
+     * Maximum number of evaluations of a single batch running at the same time.
+     */
+    default int batchParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
 }
@@ -21,8 +21,13 @@ package org.kie.kogito.dmn;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
+import javax.xml.namespace.QName;
+
+import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNRuntime;
 import org.kie.kogito.Application;
 import org.kie.kogito.ExecutionIdSupplier;
@@ -42,6 +47,8 @@ public abstract class AbstractDecisionModels implements DecisionModels {
     private static ExecutionIdSupplier execIdSupplier = null;
     private static BiFunction<DecisionModel, KogitoGAV, DecisionModel> decisionModelTransformer = null;
     private KogitoGAV gav = KogitoGAV.EMPTY_GAV;
+    // transformed decision models by namespace and name, they are stateless and shared by every evaluation
+    private final Map<QName, DecisionModel> decisionModels = new ConcurrentHashMap<>();
 
     protected static void init(ExecutionIdSupplier executionIdSupplier,
             BiFunction<DecisionModel, KogitoGAV, DecisionModel> decisionModelTransformerInit,
@@ -54,7 +61,11 @@ public abstract class AbstractDecisionModels implements DecisionModels {
     }
 
     public DecisionModel getDecisionModel(String namespace, String name) {
-        DecisionModel model = new DmnDecisionModel(dmnRuntime, namespace, name, execIdSupplier);
+        return decisionModels.computeIfAbsent(new QName(namespace, name), this::buildDecisionModel);
+    }
+
+    private DecisionModel buildDecisionModel(QName key) {
+        DecisionModel model = new DmnDecisionModel(dmnRuntime, key.getNamespaceURI(), key.getLocalPart(), execIdSupplier);
         return decisionModelTransformer == null
                 ? model
                 : decisionModelTransformer.apply(model, gav);
@@ -71,6 +82,11 @@ public abstract class AbstractDecisionModels implements DecisionModels {
     protected void initApplication(Application app) {
         app.config().get(DecisionConfig.class).decisionEventListeners().listeners().forEach(dmnRuntime::addListener);
         gav = app.config().get(ConfigBean.class).getGav().orElse(KogitoGAV.EMPTY_GAV);
+        // the transformer depends on the gav, so models are built once it is known
+        decisionModels.clear();
+        for (DMNModel dmnModel : dmnRuntime.getModels()) {
+            getDecisionModel(dmnModel.getNamespace(), dmnModel.getName());
+        }
     }
 
     @Deprecated
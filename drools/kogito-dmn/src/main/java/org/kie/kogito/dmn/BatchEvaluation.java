@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+
+/**
+ * Evaluates a stream of contexts running up to a given number of evaluations at the same time.
+ * <p>
+ * The contexts are pulled from the source stream as results are consumed, so no more than {@code parallelism} of them
+ * are in memory at any time, and the results are returned in the order of the contexts.
+ * An evaluation failing with an exception fails the returned stream when its result is reached.
+ * Closing the returned stream closes the source one and cancels the evaluations that did not start yet.
+ */
+public final class BatchEvaluation {
+
+    public static Stream<DMNResult> evaluate(Stream<DMNContext> contexts, Function<DMNContext, DMNResult> evaluation, Executor executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, it is " + parallelism);
+        }
+        OrderedResults results = new OrderedResults(contexts.iterator(), evaluation, executor, parallelism);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(results::cancel)
+                .onClose(contexts::close);
+    }
+
+    private static class OrderedResults implements Iterator<DMNResult> {
+
+        private final Iterator<DMNContext> contexts;
+        private final Function<DMNContext, DMNResult> evaluation;
+        private final Executor executor;
+        private final int parallelism;
+        private final Deque<CompletableFuture<DMNResult>> pending;
+
+        private OrderedResults(Iterator<DMNContext> contexts, Function<DMNContext, DMNResult> evaluation, Executor executor, int parallelism) {
+            this.contexts = contexts;
+            this.evaluation = evaluation;
+            this.executor = executor;
+            this.parallelism = parallelism;
+            this.pending = new ArrayDeque<>(parallelism);
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public DMNResult next() {
+            fill();
+            CompletableFuture<DMNResult> result = pending.poll();
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        private void fill() {
+            while (pending.size() < parallelism && contexts.hasNext()) {
+                DMNContext context = contexts.next();
+                pending.add(CompletableFuture.supplyAsync(() -> evaluation.apply(context), executor));
+            }
+        }
+
+        private void cancel() {
+            pending.forEach(result -> result.cancel(false));
+            pending.clear();
+        }
+    }
+
+    private BatchEvaluation() {
+        // intentionally private.
+    }
+}
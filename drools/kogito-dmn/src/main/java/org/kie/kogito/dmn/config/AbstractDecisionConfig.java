@@ -20,6 +20,11 @@ package org.kie.kogito.dmn.config;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -31,7 +36,13 @@ import static java.util.stream.Collectors.toList;
 
 public abstract class AbstractDecisionConfig implements org.kie.kogito.decision.DecisionConfig {
 
+    private static final String BATCH_THREAD_NAME = "kogito-decision-batch-";
+
     private final DecisionEventListenerConfig decisionEventListener;
+    private int batchParallelism = Runtime.getRuntime().availableProcessors();
+    private int batchThreads = Runtime.getRuntime().availableProcessors();
+    // created on the first batch, most applications never evaluate any
+    private ExecutorService batchExecutor;
 
     protected AbstractDecisionConfig(
             Iterable<DecisionEventListenerConfig> decisionEventListenerConfigs,
@@ -44,6 +55,44 @@ public abstract class AbstractDecisionConfig implements org.kie.kogito.decision.
         return decisionEventListener;
     }
 
+    @Override
+    public int batchParallelism() {
+        return batchParallelism;
+    }
+
+    protected void setBatchParallelism(int batchParallelism) {
+        this.batchParallelism = batchParallelism;
+    }
+
+    /**
+     * Fixed size pool shared by the batches of every decision model, so concurrent batches cannot use more than
+     * {@code batchThreads} threads.
+     */
+    @Override
+    public synchronized Executor batchExecutor() {
+        if (batchExecutor == null) {
+            batchExecutor = Executors.newFixedThreadPool(batchThreads, new BatchThreadFactory());
+        }
+        return batchExecutor;
+    }
+
+    protected void setBatchThreads(int batchThreads) {
+        if (batchThreads < 1) {
+            throw new IllegalArgumentException("Number of batch threads must be positive, it is " + batchThreads);
+        }
+        this.batchThreads = batchThreads;
+    }
+
+    /**
+     * Shuts down the batch executor, evaluations already submitted are completed.
+     */
+    public synchronized void close() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+            batchExecutor = null;
+        }
+    }
+
     private DecisionEventListenerConfig extractDecisionEventListenerConfig(
             Iterable<DecisionEventListenerConfig> decisionEventListenerConfigs,
             Iterable<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
@@ -60,6 +109,18 @@ public abstract class AbstractDecisionConfig implements org.kie.kogito.decision.
         return new org.kie.kogito.dmn.config.CachedDecisionEventListenerConfig(merge(decisionEventListenerConfigs, DecisionEventListenerConfig::listeners, dmnRuntimeEventListeners));
     }
 
+    private static class BatchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, BATCH_THREAD_NAME + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     private static <C, L> List<L> merge(Collection<C> configs, Function<C, Collection<L>> configToListeners, Collection<L> listeners) {
         return Stream.concat(
                 configs.stream().flatMap(c -> configToListeners.apply(c).stream()),
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.kogito.decision.DecisionConfig;
+import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.BatchEvaluation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Internal Utility class.<br/>
+ * Used to simplify generated/scaffolded code to evaluate batches of newline delimited JSON (NDJSON) inputs
+ */
+public class DMNBatchUtils {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final TypeReference<Map<String, Object>> INPUT_TYPE = new TypeReference<>() {
+    };
+    private static final int NEW_LINE = '\n';
+
+    /**
+     * Internal Utility method.<br/>
+     * Reads one input per line, writes one {@link KogitoDMNResult} per line in the same order. Neither the inputs nor the
+     * results of the whole batch are kept in memory, see {@link BatchEvaluation}.
+     */
+    public static void evaluateAll(DecisionModel dm, DecisionConfig config, ObjectMapper mapper, InputStream input, OutputStream output) throws IOException {
+        try (MappingIterator<Map<String, Object>> inputs = mapper.readerFor(INPUT_TYPE).readValues(input);
+                Stream<DMNResult> results = BatchEvaluation.evaluate(stream(inputs).map(variables -> DMNJSONUtils.ctx(dm, variables)), dm::evaluateAll,
+                        config.batchExecutor(), config.batchParallelism())) {
+            write(dm, mapper, results, output);
+        }
+    }
+
+    /**
+     * Internal Utility method.<br/>
+     * Same as {@link #evaluateAll(DecisionModel, DecisionConfig, ObjectMapper, InputStream, OutputStream)} for a decision service.
+     */
+    public static void evaluateDecisionService(DecisionModel dm, String decisionServiceName, DecisionConfig config, ObjectMapper mapper, InputStream input, OutputStream output)
+            throws IOException {
+        try (MappingIterator<Map<String, Object>> inputs = mapper.readerFor(INPUT_TYPE).readValues(input);
+                Stream<DMNResult> results = BatchEvaluation.evaluate(stream(inputs).map(variables -> DMNJSONUtils.ctx(dm, variables, decisionServiceName)),
+                        context -> dm.evaluateDecisionService(context, decisionServiceName), config.batchExecutor(), config.batchParallelism())) {
+            write(dm, mapper, results, output);
+        }
+    }
+
+    private static Stream<Map<String, Object>> stream(Iterator<Map<String, Object>> inputs) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(inputs, Spliterator.ORDERED), false);
+    }
+
+    private static void write(DecisionModel dm, ObjectMapper mapper, Stream<DMNResult> results, OutputStream output) throws IOException {
+        String namespace = dm.getDMNModel().getNamespace();
+        String name = dm.getDMNModel().getName();
+        Iterator<DMNResult> iterator = results.iterator();
+        while (iterator.hasNext()) {
+            // writeValueAsBytes, writing to the stream directly would close it
+            output.write(mapper.writeValueAsBytes(new KogitoDMNResult(namespace, name, iterator.next())));
+            output.write(NEW_LINE);
+        }
+        output.flush();
+    }
+
+    private DMNBatchUtils() {
+        // intentionally private.
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.decision.DecisionModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAMESPACE;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_RESOURCE;
+
+class AbstractDecisionModelsTest {
+
+    private static final AtomicInteger transformations = new AtomicInteger();
+
+    static class TestDecisionModels extends AbstractDecisionModels {
+
+        static {
+            init(null,
+                    (model, gav) -> {
+                        transformations.incrementAndGet();
+                        return model;
+                    },
+                    readResource(AbstractDecisionModelsTest.class.getResourceAsStream(MODEL_RESOURCE), "UTF-8"));
+        }
+    }
+
+    @Test
+    void testDecisionModelIsBuiltOnce() {
+        TestDecisionModels decisionModels = new TestDecisionModels();
+        int before = transformations.get();
+
+        DecisionModel decisionModel = decisionModels.getDecisionModel(MODEL_NAMESPACE, MODEL_NAME);
+
+        assertThat(decisionModel.getDMNModel().getName()).isEqualTo(MODEL_NAME);
+        assertThat(decisionModels.getDecisionModel(MODEL_NAMESPACE, MODEL_NAME)).isSameAs(decisionModel);
+        assertThat(transformations.get() - before).isOne();
+    }
+
+    @Test
+    void testUnknownDecisionModel() {
+        TestDecisionModels decisionModels = new TestDecisionModels();
+
+        assertThatThrownBy(() -> decisionModels.getDecisionModel(MODEL_NAMESPACE, "unknown")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> decisionModels.getDecisionModel(MODEL_NAMESPACE, "unknown")).isInstanceOf(IllegalStateException.class);
+    }
+}
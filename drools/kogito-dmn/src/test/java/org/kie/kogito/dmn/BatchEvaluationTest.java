@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.core.impl.DMNContextImpl;
+import org.kie.dmn.core.impl.DMNResultImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchEvaluationTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void close() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testResultsKeepTheOrderOfTheContexts() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (Stream<DMNResult> results = BatchEvaluation.evaluate(contexts(20), context -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                // later contexts finish first
+                TimeUnit.MILLISECONDS.sleep(20 - index(context));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return result(context);
+        }, executor, 3)) {
+            assertThat(results.map(result -> index(result.getContext())).collect(Collectors.toList()))
+                    .isEqualTo(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+        }
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void testContextsAreConsumedLazily() {
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<DMNContext> contexts = contexts(100).peek(context -> consumed.incrementAndGet());
+        try (Stream<DMNResult> results = BatchEvaluation.evaluate(contexts, BatchEvaluationTest::result, executor, 2)) {
+            Iterator<DMNResult> iterator = results.iterator();
+            assertThat(index(iterator.next().getContext())).isZero();
+            assertThat(consumed.get()).isLessThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    void testFailedEvaluation() {
+        try (Stream<DMNResult> results = BatchEvaluation.evaluate(contexts(5), context -> {
+            if (index(context) == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return result(context);
+        }, executor, 2)) {
+            Iterator<DMNResult> iterator = results.iterator();
+            iterator.next();
+            iterator.next();
+            assertThatThrownBy(iterator::next).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+        }
+    }
+
+    private static Stream<DMNContext> contexts(int size) {
+        return IntStream.range(0, size).mapToObj(i -> new DMNContextImpl(Map.of("index", i)));
+    }
+
+    private static int index(DMNContext context) {
+        return (Integer) context.get("index");
+    }
+
+    private static DMNResult result(DMNContext context) {
+        DMNResultImpl result = new DMNResultImpl(null);
+        result.setContext(context);
+        return result;
+    }
+}
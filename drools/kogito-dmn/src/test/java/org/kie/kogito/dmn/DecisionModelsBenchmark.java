@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.rest.DMNJSONUtils;
+import org.kie.kogito.dmn.rest.KogitoDMNResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAMESPACE;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_RESOURCE;
+
+/**
+ * Measures the per request overhead of the generated decisions REST resources: looking the decision model up, building
+ * the context, evaluating it and wrapping the result. {@code buildModel} is what every lookup used to cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecisionModelsBenchmark {
+
+    static class BenchmarkDecisionModels extends AbstractDecisionModels {
+
+        static {
+            init(null, (model, gav) -> model, readResource(DecisionModelsBenchmark.class.getResourceAsStream(MODEL_RESOURCE), "UTF-8"));
+        }
+    }
+
+    private DMNRuntime dmnRuntime;
+    private BenchmarkDecisionModels decisionModels;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        dmnRuntime = DecisionTestUtils.createDMNRuntime();
+        decisionModels = new BenchmarkDecisionModels();
+        variables = DecisionTestUtils.getEvaluateAllContext();
+    }
+
+    @Benchmark
+    public DecisionModel buildModel() {
+        return new DmnDecisionModel(dmnRuntime, MODEL_NAMESPACE, MODEL_NAME);
+    }
+
+    @Benchmark
+    public DecisionModel lookupModel() {
+        return decisionModels.getDecisionModel(MODEL_NAMESPACE, MODEL_NAME);
+    }
+
+    @Benchmark
+    public KogitoDMNResult evaluate() {
+        DecisionModel decision = decisionModels.getDecisionModel(MODEL_NAMESPACE, MODEL_NAME);
+        DMNResult decisionResult = decision.evaluateAll(DMNJSONUtils.ctx(decision, variables));
+        return new KogitoDMNResult(MODEL_NAMESPACE, MODEL_NAME, decisionResult);
+    }
+}
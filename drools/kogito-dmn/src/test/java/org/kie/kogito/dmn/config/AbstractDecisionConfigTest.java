@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn.config;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbstractDecisionConfigTest {
+
+    @Test
+    void testBatchExecutorIsBoundedAndClosed() throws InterruptedException {
+        TestDecisionConfig config = new TestDecisionConfig();
+        config.setBatchThreads(2);
+        ExecutorService executor = (ExecutorService) config.batchExecutor();
+        assertThat(config.batchExecutor()).isSameAs(executor);
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).hasSizeLessThanOrEqualTo(2).allMatch(name -> name.startsWith("kogito-decision-batch-"));
+
+        config.close();
+        assertThat(executor.isShutdown()).isTrue();
+    }
+
+    private static class TestDecisionConfig extends AbstractDecisionConfig {
+
+        private TestDecisionConfig() {
+            super(Collections.emptyList(), Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.dmn.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.decision.DecisionModel;
+import org.kie.kogito.dmn.DecisionTestUtils;
+import org.kie.kogito.dmn.DmnDecisionModel;
+import org.kie.kogito.dmn.config.StaticDecisionConfig;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.dmn.DecisionTestUtils.DECISION_SERVICE_NODE_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MAPPER;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAME;
+import static org.kie.kogito.dmn.DecisionTestUtils.MODEL_NAMESPACE;
+
+class DMNBatchUtilsTest {
+
+    private final DecisionModel decisionModel = new DmnDecisionModel(DecisionTestUtils.createDMNRuntime(), MODEL_NAMESPACE, MODEL_NAME);
+
+    @Test
+    void testEvaluateAll() throws Exception {
+        List<JsonNode> results = evaluate(false, DecisionTestUtils.getEvaluateAllContext(), DecisionTestUtils.getEvaluateAllContextForError(),
+                DecisionTestUtils.getEvaluateAllContextForWarning());
+
+        assertThat(results).hasSize(3);
+        assertThat(results).allSatisfy(result -> assertThat(result.get("modelName").asText()).isEqualTo(MODEL_NAME));
+        assertThat(results.get(0).get("dmnContext").get("Should the driver be suspended?").asText()).isEqualTo("No");
+        assertThat(results.get(1).get("messages")).isNotEmpty();
+        assertThat(results.get(2).get("dmnContext").get("Fine").isNull()).isTrue();
+    }
+
+    @Test
+    void testEvaluateDecisionService() throws Exception {
+        List<JsonNode> results = evaluate(true, DecisionTestUtils.getEvaluateDecisionServiceContext(), DecisionTestUtils.getEvaluateDecisionServiceContextForWarning());
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).get("dmnContext").get("Fine").get("Points").asInt()).isEqualTo(3);
+        assertThat(results.get(1).get("dmnContext").get("Fine").isNull()).isTrue();
+    }
+
+    private List<JsonNode> evaluate(boolean decisionService, Object... inputs) throws Exception {
+        StringBuilder input = new StringBuilder();
+        for (Object value : inputs) {
+            input.append(MAPPER.writeValueAsString(value)).append('\n');
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8));
+        if (decisionService) {
+            DMNBatchUtils.evaluateDecisionService(decisionModel, DECISION_SERVICE_NODE_NAME, new StaticDecisionConfig(), MAPPER, inputStream, output);
+        } else {
+            DMNBatchUtils.evaluateAll(decisionModel, new StaticDecisionConfig(), MAPPER, inputStream, output);
+        }
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode[] results = new JsonNode[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            results[i] = MAPPER.readTree(lines[i]);
+        }
+        return List.of(results);
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.pmml;
 
+import java.net.URL;
 import java.util.Map;
 
 import org.kie.api.pmml.PMML4Result;
@@ -30,28 +31,33 @@ import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 import org.kie.pmml.evaluator.core.PMMLRuntimeContextImpl;
 
 import static org.kie.kogito.pmml.PMMLKogito.modelByName;
+import static org.kie.kogito.pmml.utils.PMMLUtils.getFieldTypes;
 import static org.kie.kogito.pmml.utils.PMMLUtils.getPMMLRequestData;
 
 public class PmmlPredictionModel implements PredictionModel {
 
     private final PMMLRuntime pmmlRuntime;
     private final PMMLModel pmmlModel;
+    // mining field types, resolved once when the model is loaded and reused by every request
+    private final Map<String, Class<?>> fieldTypes;
+    // shared by the contexts of every request, generated classes are only defined once
+    private final KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader;
 
     public PmmlPredictionModel(PMMLRuntime pmmlRuntime, String fileName, String modelName) {
         this.pmmlRuntime = pmmlRuntime;
+        this.memoryCompilerClassLoader = new SharedMemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
         this.pmmlModel = modelByName(pmmlRuntime, fileName, modelName);
         if (this.pmmlModel == null) {
             String exceptionString = String.format("PMML model %s@%s not found in the inherent " +
                     "PMMLRuntime.", modelName, fileName);
             throw new IllegalStateException(exceptionString);
         }
+        this.fieldTypes = getFieldTypes(pmmlModel);
     }
 
     @Override
     public PMMLRuntimeContext newContext(Map<String, Object> variables) {
-        final PMMLRequestData pmmlRequestData = getPMMLRequestData(pmmlModel.getName(), variables);
-        KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader =
-                new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
+        final PMMLRequestData pmmlRequestData = getPMMLRequestData(pmmlModel.getName(), variables, fieldTypes);
         return new PMMLRuntimeContextImpl(pmmlRequestData, pmmlModel.getFileName(), memoryCompilerClassLoader);
     }
 
@@ -65,4 +71,45 @@ public class PmmlPredictionModel implements PredictionModel {
         return pmmlModel;
     }
 
+    /**
+     * Every new context adds the generated classes of the model to the class loader, so concurrent requests need the
+     * maps of the memory compiler class loader to be guarded. The class loader is not parallel capable, class loading
+     * already locks on it.
+     */
+    private static class SharedMemoryCompilerClassLoader extends KieMemoryCompiler.MemoryCompilerClassLoader {
+
+        private SharedMemoryCompilerClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public synchronized void addCode(String name, byte[] bytes) {
+            super.addCode(name, bytes);
+        }
+
+        @Override
+        public synchronized void addCodeIfAbsent(String name, byte[] bytes) {
+            super.addCodeIfAbsent(name, bytes);
+        }
+
+        @Override
+        public synchronized byte[] getCode(String name) {
+            return super.getCode(name);
+        }
+
+        @Override
+        public synchronized void addResource(String name, URL url) {
+            super.addResource(name, url);
+        }
+
+        @Override
+        protected synchronized Class<?> findClass(String name) throws ClassNotFoundException {
+            return super.findClass(name);
+        }
+
+        @Override
+        protected synchronized URL findResource(String name) {
+            return super.findResource(name);
+        }
+    }
 }
@@ -18,9 +18,14 @@
  */
 package org.kie.kogito.pmml.utils;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
+import org.kie.pmml.api.models.MiningField;
+import org.kie.pmml.api.models.PMMLModel;
 import org.kie.pmml.evaluator.core.utils.PMMLRequestDataBuilder;
 
 /**
@@ -35,13 +40,40 @@ public class PMMLUtils {
     }
 
     public static PMMLRequestData getPMMLRequestData(String modelName, Map<String, Object> parameters) {
-        PMMLRequestDataBuilder pmmlRequestDataBuilder = new PMMLRequestDataBuilder(CORRELATION_ID, modelName);
+        return getPMMLRequestData(modelName, parameters, Collections.emptyMap());
+    }
+
+    /**
+     * Build the request data of the given model, parameters matching a field of <code>fieldTypes</code> get its type,
+     * the others the class of their value. <code>fieldTypes</code> is meant to be computed once per model with
+     * {@link #getFieldTypes(PMMLModel)}.
+     */
+    public static PMMLRequestData getPMMLRequestData(String modelName, Map<String, Object> parameters, Map<String, Class<?>> fieldTypes) {
+        // same content as PMMLRequestDataBuilder, without collecting the parameters twice
+        PMMLRequestData pmmlRequestData = new PMMLRequestData(CORRELATION_ID, modelName);
         for (Map.Entry<String, Object> entry : parameters.entrySet()) {
             Object pValue = entry.getValue();
-            Class class1 = pValue.getClass();
-            pmmlRequestDataBuilder.addParameter(entry.getKey(), pValue, class1);
+            Class class1 = fieldTypes.get(entry.getKey());
+            if (class1 == null) {
+                class1 = pValue.getClass();
+            }
+            pmmlRequestData.addRequestParam(new ParameterInfo<>(CORRELATION_ID, entry.getKey(), class1, pValue));
         }
-        return pmmlRequestDataBuilder.build();
+        return pmmlRequestData;
+    }
+
+    /**
+     * Map the name of every mining field of the given model to the class of its data type, so that it is resolved
+     * once per model instead of on every request.
+     */
+    public static Map<String, Class<?>> getFieldTypes(PMMLModel pmmlModel) {
+        Map<String, Class<?>> toReturn = new HashMap<>();
+        for (MiningField miningField : pmmlModel.getMiningFields()) {
+            if (miningField.getDataType() != null) {
+                toReturn.put(miningField.getName(), miningField.getDataType().getMappedClass());
+            }
+        }
+        return Collections.unmodifiableMap(toReturn);
     }
 
     public static PMMLRequestData getPMMLRequestData(String modelName) {
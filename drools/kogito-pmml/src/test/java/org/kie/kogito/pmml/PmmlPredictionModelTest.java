@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -77,6 +78,16 @@ class PmmlPredictionModelTest {
         });
     }
 
+    @Test
+    void newContextConcurrently() {
+        final Map<String, Object> parameters = getParameters();
+        List<PMMLRuntimeContext> retrieved = IntStream.range(0, 100).parallel()
+                .mapToObj(i -> pmmlPredictionModel.newContext(parameters))
+                .collect(Collectors.toList());
+        assertThat(retrieved).hasSize(100)
+                .allSatisfy(context -> assertThat(context.getRequestData().getMappedRequestParams()).hasSameSizeAs(parameters));
+    }
+
     @Test
     void evaluateAll() {
         final Map<String, Object> parameters = getParameters();
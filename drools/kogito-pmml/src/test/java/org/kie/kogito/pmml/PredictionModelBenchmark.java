@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.pmml;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.api.models.MiningField;
+import org.kie.pmml.api.models.OutputField;
+import org.kie.pmml.api.models.PMMLModel;
+import org.kie.pmml.api.runtime.PMMLRuntime;
+import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per request overhead of scoring a PMML model: {@code pmmlKogito} builds a new class loader for every
+ * evaluation, {@code predictionModel} reuses the one of the model. The runtime returns a fixed result, so the model
+ * evaluation itself does not hide that overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PredictionModelBenchmark {
+
+    private static final String FILE_NAME = "benchmark.pmml";
+    private static final String MODEL_NAME = "benchmark";
+
+    private PMMLRuntime pmmlRuntime;
+    private PmmlPredictionModel predictionModel;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        pmmlRuntime = new FixedResultPMMLRuntime();
+        predictionModel = new PmmlPredictionModel(pmmlRuntime, FILE_NAME, MODEL_NAME);
+        variables = new HashMap<>();
+        variables.put("age", 42);
+        variables.put("salary", 2500.0);
+        variables.put("car_location", "street");
+    }
+
+    @Benchmark
+    public PMML4Result pmmlKogito() {
+        return PMMLKogito.evaluate(pmmlRuntime, FILE_NAME, MODEL_NAME, variables);
+    }
+
+    @Benchmark
+    public PMML4Result predictionModel() {
+        return predictionModel.evaluateAll(predictionModel.newContext(variables));
+    }
+
+    private static class FixedResultPMMLRuntime implements PMMLRuntime {
+
+        private final PMML4Result result = new PMML4Result();
+        private final List<PMMLModel> models = Collections.singletonList(new PMMLModel() {
+            @Override
+            public String getFileName() {
+                return FILE_NAME;
+            }
+
+            @Override
+            public String getName() {
+                return MODEL_NAME;
+            }
+
+            @Override
+            public List<MiningField> getMiningFields() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<OutputField> getOutputFields() {
+                return Collections.emptyList();
+            }
+        });
+
+        @Override
+        public List<PMMLModel> getPMMLModels(PMMLRuntimeContext context) {
+            return models;
+        }
+
+        @Override
+        public Optional<PMMLModel> getPMMLModel(String fileName, String modelName, PMMLRuntimeContext context) {
+            return models.stream().findFirst();
+        }
+
+        @Override
+        public PMML4Result evaluate(String modelName, PMMLRuntimeContext context) {
+            return result;
+        }
+    }
+}
@@ -18,13 +18,22 @@
  */
 package org.kie.kogito.pmml.utils;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.kie.api.pmml.PMMLRequestData;
 import org.kie.api.pmml.ParameterInfo;
+import org.kie.pmml.api.enums.DATA_TYPE;
+import org.kie.pmml.api.enums.FIELD_USAGE_TYPE;
+import org.kie.pmml.api.enums.OP_TYPE;
+import org.kie.pmml.api.models.MiningField;
+import org.kie.pmml.api.models.OutputField;
+import org.kie.pmml.api.models.PMMLModel;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -48,6 +57,61 @@ class PMMLUtilsTest {
         });
     }
 
+    @Test
+    void getPMMLRequestDataWithFieldTypes() {
+        final Map<String, Object> parameters = getParameters();
+        parameters.put("AGE", 34);
+        final Map<String, Class<?>> fieldTypes = Collections.singletonMap("AGE", Double.class);
+        final PMMLRequestData retrieved = PMMLUtils.getPMMLRequestData("MODEL_NAME", parameters, fieldTypes);
+        final Map<String, ParameterInfo> parameterInfos = retrieved.getMappedRequestParams();
+        assertThat(parameterInfos).hasSameSizeAs(parameters);
+        assertThat(parameters).allSatisfy((key, value) -> {
+            ParameterInfo parameterInfo = parameterInfos.get(key);
+            assertThat(parameterInfo.getValue()).isEqualTo(value);
+            assertThat(parameterInfo.getType()).isEqualTo(fieldTypes.containsKey(key) ? fieldTypes.get(key) : value.getClass());
+        });
+    }
+
+    @Test
+    void getFieldTypes() {
+        final List<MiningField> miningFields = Arrays.asList(getMiningField("AGE", DATA_TYPE.DOUBLE),
+                getMiningField("NAME", DATA_TYPE.STRING),
+                getMiningField("UNTYPED", null));
+        final Map<String, Class<?>> retrieved = PMMLUtils.getFieldTypes(getPMMLModel(miningFields));
+        assertThat(retrieved).hasSize(2)
+                .containsEntry("AGE", DATA_TYPE.DOUBLE.getMappedClass())
+                .containsEntry("NAME", DATA_TYPE.STRING.getMappedClass());
+    }
+
+    private MiningField getMiningField(String name, DATA_TYPE dataType) {
+        return new MiningField(name, FIELD_USAGE_TYPE.ACTIVE, OP_TYPE.CONTINUOUS, dataType, null, null, null, null, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private PMMLModel getPMMLModel(List<MiningField> miningFields) {
+        return new PMMLModel() {
+
+            @Override
+            public String getFileName() {
+                return "FILE_NAME";
+            }
+
+            @Override
+            public String getName() {
+                return "MODEL_NAME";
+            }
+
+            @Override
+            public List<MiningField> getMiningFields() {
+                return miningFields;
+            }
+
+            @Override
+            public List<OutputField> getOutputFields() {
+                return Collections.emptyList();
+            }
+        };
+    }
+
     private Map<String, Object> getParameters() {
         final Map<String, Object> toReturn = new HashMap<>();
         IntStream.range(0, 3).forEach(i -> {
@@ -35,6 +35,8 @@ import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.test.util.AbstractBaseTest;
 import org.jbpm.workflow.instance.WorkflowProcessInstanceUpgrader;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
+import org.jbpm.workflow.instance.node.CompositeNodeInstance;
 import org.junit.jupiter.api.Test;
 import org.kie.api.io.ResourceType;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
@@ -235,6 +237,11 @@ public class ProcessUpgradeTest extends AbstractBaseTest {
         WorkflowProcessInstanceUpgrader.upgradeProcessInstance(
                 kruntime, processInstance.getStringId(), "org.test.ruleflow2", mapping);
         assertThat(processInstance.getProcessId()).isEqualTo("org.test.ruleflow2");
+        // node instances are looked up by their new node id
+        WorkflowProcessInstanceImpl workflowProcessInstance = (WorkflowProcessInstanceImpl) processInstance;
+        assertThat(workflowProcessInstance.getNodeInstances(2)).isEmpty();
+        assertThat(workflowProcessInstance.getNodeInstances(102)).hasSize(1);
+        assertThat(workflowProcessInstance.getFirstNodeInstance(102)).isNotNull();
 
         kruntime.getKogitoWorkItemManager().completeWorkItem(handler.getWorkItem().getStringId(), null);
         assertThat(list).hasSize(1);
@@ -357,6 +364,9 @@ public class ProcessUpgradeTest extends AbstractBaseTest {
         WorkflowProcessInstanceUpgrader.upgradeProcessInstance(
                 kruntime, processInstance.getStringId(), "org.test.ruleflow2", mapping);
         assertThat(processInstance.getProcessId()).isEqualTo("org.test.ruleflow2");
+        CompositeNodeInstance compositeNodeInstance = (CompositeNodeInstance) ((WorkflowProcessInstanceImpl) processInstance).getNodeInstances(2).get(0);
+        assertThat(compositeNodeInstance.getNodeInstances(1)).isEmpty();
+        assertThat(compositeNodeInstance.getNodeInstances(101)).hasSize(1);
 
         kruntime.getKogitoWorkItemManager().completeWorkItem(handler.getWorkItem().getStringId(), null);
         assertThat(list).hasSize(1);
@@ -18,6 +18,7 @@
  */
 package org.jbpm.process.core.event;
 
+import java.io.Serializable;
 import java.util.function.Function;
 
 import org.jbpm.process.core.correlation.CorrelationExpressionEvaluator;
@@ -31,6 +32,9 @@ public class MVELMessageExpressionEvaluator implements CorrelationExpressionEval
     private static final long serialVersionUID = 3516244528735842694L;
 
     private String expression;
+    // compiled on first use, one per evaluation mode as optimized accessors depend on the evaluation context
+    private transient Serializable compiledEventExpression;
+    private transient Serializable compiledResolverExpression;
 
     public MVELMessageExpressionEvaluator(String expression) {
         this.expression = expression;
@@ -38,7 +42,10 @@ public class MVELMessageExpressionEvaluator implements CorrelationExpressionEval
 
     @Override
     public Object eval(Object event) {
-        return MVEL.eval(expression, event);
+        if (compiledEventExpression == null) {
+            compiledEventExpression = MVEL.compileExpression(expression);
+        }
+        return MVEL.executeExpression(compiledEventExpression, event);
     }
 
     @Override
@@ -56,7 +63,10 @@ public class MVELMessageExpressionEvaluator implements CorrelationExpressionEval
                 return new SimpleValueResolver(resolver.apply("#{" + name + "}"));
             };
         };
-        return MVEL.eval(expression, factory);
+        if (compiledResolverExpression == null) {
+            compiledResolverExpression = MVEL.compileExpression(expression);
+        }
+        return MVEL.executeExpression(compiledResolverExpression, factory);
     }
 
 }
\ No newline at end of file
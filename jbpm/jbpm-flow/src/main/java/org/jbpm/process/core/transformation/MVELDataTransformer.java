@@ -20,6 +20,7 @@ package org.jbpm.process.core.transformation;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jbpm.workflow.instance.impl.MVELProcessHelper;
 import org.kie.api.runtime.process.DataTransformer;
@@ -37,6 +38,9 @@ public class MVELDataTransformer implements DataTransformer {
 
     private static final Logger logger = LoggerFactory.getLogger(MVELDataTransformer.class);
 
+    // expressions given as source are compiled once, with the default parser context
+    private final Map<String, Object> compiledExpressions = new ConcurrentHashMap<>();
+
     @Override
     public Object compile(String expression, Map<String, Object> parameters) {
         logger.debug("About to compile mvel expression {}", expression);
@@ -68,6 +72,9 @@ public class MVELDataTransformer implements DataTransformer {
     @Override
     public Object transform(Object expression, Map<String, Object> parameters) {
         logger.debug("About to execute mvel expression {} with parameters {}", expression, parameters);
+        if (expression instanceof String) {
+            expression = compiledExpressions.computeIfAbsent((String) expression, MVELProcessHelper::compileExpression);
+        }
         return MVELProcessHelper.evaluator().executeExpression(expression, parameters);
     }
 
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.process.instance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.kie.kogito.process.workitem.Policy;
+import org.kie.kogito.process.workitem.Transition;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
+
+/**
+ * Collects the work item handler invocations issued by the current thread between {@link #begin()} and {@link #end()}
+ * so that they can be run concurrently afterwards.
+ * <p>
+ * Only handlers implementing {@link ConcurrentWorkItemHandler} are collected, any other handler runs right away on the
+ * calling thread. Collected handlers run on the given executor with a work item manager that only records the
+ * completions, aborts and transitions they ask for, and with a unit of work of their own that records the work they
+ * hand to it. Those are applied by the caller once every handler returned, on its own thread and in the order the work
+ * items were executed, since neither process instances nor units of work are thread safe.
+ */
+public class ConcurrentWorkItemExecution {
+
+    private static final ThreadLocal<ConcurrentWorkItemExecution> CURRENT = new ThreadLocal<>();
+
+    private final ConcurrentWorkItemExecution previous;
+    private final List<Invocation> invocations = new ArrayList<>();
+
+    private ConcurrentWorkItemExecution(ConcurrentWorkItemExecution previous) {
+        this.previous = previous;
+    }
+
+    public static ConcurrentWorkItemExecution begin() {
+        ConcurrentWorkItemExecution execution = new ConcurrentWorkItemExecution(CURRENT.get());
+        CURRENT.set(execution);
+        return execution;
+    }
+
+    /**
+     * @param afterExecution run by {@link Outcome#apply(KogitoWorkItemManager, UnitOfWork)} once the recorded calls of
+     *        the handler have been applied, in place of the caller running it after the handler returns
+     * @return whether the invocation was deferred, otherwise the caller runs the handler itself
+     */
+    static boolean defer(InternalKogitoWorkItem workItem, KogitoWorkItemHandler handler, Runnable afterExecution) {
+        ConcurrentWorkItemExecution execution = CURRENT.get();
+        if (execution == null || !(handler instanceof ConcurrentWorkItemHandler)) {
+            return false;
+        }
+        execution.invocations.add(new Invocation(workItem, handler, afterExecution));
+        return true;
+    }
+
+    public void end() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs the collected invocations on the given executor and waits for all of them.
+     *
+     * @param unitOfWorkManager manager used to make the unit of work of each invocation current while its handler runs,
+     *        may be null
+     * @return the outcome of every invocation, in the order the work items were executed
+     */
+    public List<Outcome> execute(Executor executor, UnitOfWorkManager unitOfWorkManager) {
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(invocations.size());
+        for (Invocation invocation : invocations) {
+            futures.add(CompletableFuture.supplyAsync(() -> invocation.run(unitOfWorkManager), executor));
+        }
+        invocations.clear();
+        List<Outcome> outcomes = new ArrayList<>(futures.size());
+        for (CompletableFuture<Outcome> future : futures) {
+            outcomes.add(future.join());
+        }
+        return outcomes;
+    }
+
+    private static class Invocation {
+
+        private final InternalKogitoWorkItem workItem;
+        private final KogitoWorkItemHandler handler;
+        private final Runnable afterExecution;
+
+        private Invocation(InternalKogitoWorkItem workItem, KogitoWorkItemHandler handler, Runnable afterExecution) {
+            this.workItem = workItem;
+            this.handler = handler;
+            this.afterExecution = afterExecution;
+        }
+
+        private Outcome run(UnitOfWorkManager unitOfWorkManager) {
+            RecordingWorkItemManager manager = new RecordingWorkItemManager();
+            RecordingUnitOfWork unitOfWork = new RecordingUnitOfWork();
+            try {
+                if (unitOfWorkManager == null) {
+                    handler.executeWorkItem(workItem, manager);
+                } else {
+                    unitOfWorkManager.runWith(unitOfWork, () -> handler.executeWorkItem(workItem, manager));
+                }
+                return new Outcome(workItem, unitOfWork.work, manager.actions, afterExecution, null);
+            } catch (RuntimeException e) {
+                return new Outcome(workItem, unitOfWork.work, manager.actions, afterExecution, e);
+            }
+        }
+    }
+
+    public static class Outcome {
+
+        private final InternalKogitoWorkItem workItem;
+        private final List<WorkUnit<?>> work;
+        private final List<Consumer<KogitoWorkItemManager>> actions;
+        private final Runnable afterExecution;
+        private final RuntimeException error;
+
+        private Outcome(InternalKogitoWorkItem workItem, List<WorkUnit<?>> work, List<Consumer<KogitoWorkItemManager>> actions, Runnable afterExecution,
+                RuntimeException error) {
+            this.workItem = workItem;
+            this.work = work;
+            this.actions = actions;
+            this.afterExecution = afterExecution;
+            this.error = error;
+        }
+
+        public InternalKogitoWorkItem getWorkItem() {
+            return workItem;
+        }
+
+        /**
+         * The exception thrown by the handler, if any, in which case nothing should be applied.
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        /**
+         * Hands the work recorded by the handler to the given unit of work, then applies the recorded work item
+         * manager calls, and finally fires the after transition event of the work item execution, as if the handler
+         * had run on the calling thread. That event is not fired when the handler failed, as for a handler failing on
+         * the calling thread.
+         */
+        public void apply(KogitoWorkItemManager manager, UnitOfWork unitOfWork) {
+            if (unitOfWork != null) {
+                work.forEach(unitOfWork::intercept);
+            }
+            for (Consumer<KogitoWorkItemManager> action : actions) {
+                action.accept(manager);
+            }
+            if (error == null) {
+                afterExecution.run();
+            }
+        }
+    }
+
+    private static class RecordingWorkItemManager implements KogitoWorkItemManager {
+
+        private final List<Consumer<KogitoWorkItemManager>> actions = new ArrayList<>();
+
+        @Override
+        public void completeWorkItem(String id, Map<String, Object> results, Policy<?>... policies) {
+            actions.add(manager -> manager.completeWorkItem(id, results, policies));
+        }
+
+        @Override
+        public void abortWorkItem(String id, Policy<?>... policies) {
+            actions.add(manager -> manager.abortWorkItem(id, policies));
+        }
+
+        @Override
+        public void transitionWorkItem(String id, Transition<?> transition) {
+            actions.add(manager -> manager.transitionWorkItem(id, transition));
+        }
+
+        @Override
+        public <T> T updateWorkItem(String id, Function<KogitoWorkItem, T> updater, Policy<?>... policies) {
+            throw new UnsupportedOperationException("Work items cannot be updated while executed concurrently");
+        }
+
+        @Override
+        public void registerWorkItemHandler(String workItemName, KogitoWorkItemHandler handler) {
+            throw new UnsupportedOperationException("Work item handlers cannot be registered while executed concurrently");
+        }
+    }
+
+    private static class RecordingUnitOfWork implements UnitOfWork {
+
+        private final List<WorkUnit<?>> work = new ArrayList<>();
+
+        @Override
+        public void start() {
+            // the unit of work of the calling thread is the one started
+        }
+
+        @Override
+        public void end() {
+            // the unit of work of the calling thread is the one ended
+        }
+
+        @Override
+        public void abort() {
+            work.clear();
+        }
+
+        @SuppressWarnings("rawtypes")
+        @Override
+        public void intercept(WorkUnit work) {
+            this.work.add(work);
+        }
+    }
+}
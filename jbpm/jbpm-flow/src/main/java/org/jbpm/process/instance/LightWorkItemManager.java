@@ -77,9 +77,12 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
             Transition<?> transition = new TransitionToActive();
             eventSupport.fireBeforeWorkItemTransition(processInstance, workItem, transition, null);
 
-            handler.executeWorkItem(workItem, this);
-
-            eventSupport.fireAfterWorkItemTransition(processInstance, workItem, transition, null);
+            Runnable afterExecution = () -> eventSupport.fireAfterWorkItemTransition(processInstance, workItem, transition, null);
+            // a deferred handler runs later, its after event is fired once what it did has been applied
+            if (!ConcurrentWorkItemExecution.defer(workItem, handler, afterExecution)) {
+                handler.executeWorkItem(workItem, this);
+                afterExecution.run();
+            }
         } else {
             throw new KogitoWorkItemHandlerNotFoundException(workItem.getName());
         }
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.workflow.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jbpm.process.core.event.BroadcastEventTypeFilter;
+import org.jbpm.process.core.event.EventFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.process.core.event.NonAcceptingEventTypeFilter;
+import org.jbpm.util.PatternConstants;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.DynamicNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.EventNodeInterface;
+import org.jbpm.workflow.core.node.EventSubProcessNode;
+import org.kie.api.definition.process.Node;
+
+/**
+ * Index of the top level nodes of a process that might react to a signal of a given type, so that signaling a process
+ * instance does not need to ask every node of the definition whether it accepts the event.
+ * <p>
+ * The index only narrows the candidates down, callers still check {@link EventNodeInterface#acceptsEvent} on them.
+ * Event types containing variable expressions, such as {@code Message-#{id}}, are matched against a pattern where every
+ * expression stands for any text. Nodes whose accepted types cannot be told from the definition are always candidates.
+ * Candidates are returned in the order of {@link WorkflowProcessImpl#getNodes()}.
+ */
+public class EventNodeIndex {
+
+    private final Map<String, List<Candidate>> eventNodesByType = new HashMap<>();
+    private final List<Candidate> eventNodesForAnyType = new ArrayList<>();
+
+    private final Map<String, List<Node>> dynamicNodesByName = new HashMap<>();
+    private final List<Node> dynamicNodesForAnyName = new ArrayList<>();
+
+    public EventNodeIndex(Node[] nodes) {
+        List<EventTypes> types = new ArrayList<>(nodes.length);
+        Set<String> knownTypes = new LinkedHashSet<>();
+        for (Node node : nodes) {
+            EventTypes nodeTypes = node instanceof EventNodeInterface ? eventTypes(node) : EventTypes.NONE;
+            types.add(nodeTypes);
+            knownTypes.addAll(nodeTypes.exact);
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            EventTypes nodeTypes = types.get(i);
+            if (nodeTypes.any || !nodeTypes.templates.isEmpty()) {
+                eventNodesForAnyType.add(new Candidate(nodes[i], nodeTypes.any ? null : nodeTypes.templates));
+            }
+        }
+        for (String type : knownTypes) {
+            List<Candidate> candidates = new ArrayList<>();
+            for (int i = 0; i < nodes.length; i++) {
+                EventTypes nodeTypes = types.get(i);
+                if (nodeTypes.any || nodeTypes.exact.contains(type)) {
+                    candidates.add(new Candidate(nodes[i], null));
+                } else if (!nodeTypes.templates.isEmpty()) {
+                    candidates.add(new Candidate(nodes[i], nodeTypes.templates));
+                }
+            }
+            eventNodesByType.put(type, candidates);
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (Node node : nodes) {
+            if (node instanceof CompositeNode) {
+                dynamicNodesForAnyName.add(node);
+            }
+            if (node.getName() != null && node.getIncomingConnections().isEmpty()) {
+                names.add(node.getName());
+            }
+        }
+        for (String name : names) {
+            List<Node> candidates = new ArrayList<>();
+            for (Node node : nodes) {
+                if (node instanceof CompositeNode || (name.equals(node.getName()) && node.getIncomingConnections().isEmpty())) {
+                    candidates.add(node);
+                }
+            }
+            dynamicNodesByName.put(name, candidates);
+        }
+    }
+
+    /**
+     * Nodes that might accept an event of the given type.
+     */
+    public List<Node> getEventNodes(String type) {
+        List<Candidate> candidates = eventNodesByType.getOrDefault(type, eventNodesForAnyType);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Node> result = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (candidate.matches(type)) {
+                result.add(candidate.node);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Nodes of a dynamic process that must be visited for an event of the given type: nodes without incoming connections
+     * named after the type, which are triggered, and composite nodes, which are signaled.
+     */
+    public List<Node> getDynamicNodes(String type) {
+        return dynamicNodesByName.getOrDefault(type, dynamicNodesForAnyName);
+    }
+
+    private static EventTypes eventTypes(Node node) {
+        if (node instanceof DynamicNode) {
+            // event types inside dynamic nodes are resolved against every active node instance
+            return EventTypes.ANY;
+        }
+        EventTypes types = new EventTypes();
+        if (node instanceof EventSubProcessNode) {
+            for (String type : ((EventSubProcessNode) node).getEvents()) {
+                types.add(type);
+            }
+        }
+        if (node instanceof CompositeNode) {
+            for (Node child : ((CompositeNode) node).internalGetNodes()) {
+                if (child instanceof EventNodeInterface) {
+                    types.addAll(eventTypes(child));
+                }
+            }
+        } else if (node instanceof EventNode) {
+            List<EventFilter> filters = ((EventNode) node).getEventFilters();
+            if (filters.isEmpty()) {
+                return EventTypes.ANY;
+            }
+            for (EventFilter filter : filters) {
+                if (isTypeFilter(filter)) {
+                    types.add(((EventTypeFilter) filter).getType());
+                } else {
+                    types.any = true;
+                }
+            }
+        } else {
+            types.any = true;
+        }
+        return types;
+    }
+
+    private static boolean isTypeFilter(EventFilter filter) {
+        // filters whose acceptance only depends on the (resolved) type
+        Class<?> filterClass = filter.getClass();
+        return filterClass == EventTypeFilter.class || filterClass == BroadcastEventTypeFilter.class || filterClass == NonAcceptingEventTypeFilter.class;
+    }
+
+    private static Pattern templatePattern(String type) {
+        StringBuilder regex = new StringBuilder();
+        Matcher matcher = PatternConstants.PARAMETER_MATCHER.matcher(type);
+        int start = 0;
+        while (matcher.find()) {
+            regex.append(Pattern.quote(type.substring(start, matcher.start()))).append(".*");
+            start = matcher.end();
+        }
+        regex.append(Pattern.quote(type.substring(start)));
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static class EventTypes {
+
+        private static final EventTypes NONE = new EventTypes();
+        private static final EventTypes ANY = new EventTypes();
+
+        static {
+            ANY.any = true;
+        }
+
+        private boolean any;
+        private final Set<String> exact = new LinkedHashSet<>();
+        private final List<Pattern> templates = new ArrayList<>();
+
+        private void add(String type) {
+            if (type == null) {
+                any = true;
+            } else if (PatternConstants.PARAMETER_MATCHER.matcher(type).find()) {
+                templates.add(templatePattern(type));
+            } else {
+                exact.add(type);
+            }
+        }
+
+        private void addAll(EventTypes other) {
+            any |= other.any;
+            exact.addAll(other.exact);
+            templates.addAll(other.templates);
+        }
+    }
+
+    private static class Candidate {
+
+        private final Node node;
+        // null when the node is a candidate no matter the type
+        private final List<Pattern> templates;
+
+        private Candidate(Node node, List<Pattern> templates) {
+            this.node = node;
+            this.templates = templates;
+        }
+
+        private boolean matches(String type) {
+            if (templates == null) {
+                return true;
+            }
+            for (Pattern template : templates) {
+                if (template.matcher(type).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
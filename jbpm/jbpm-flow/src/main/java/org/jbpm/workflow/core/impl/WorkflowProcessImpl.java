@@ -56,6 +56,7 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     private WorkflowModelValidator outputValidator;
     private org.jbpm.workflow.core.NodeContainer nodeContainer;
     private String exprLanguage;
+    private transient volatile EventNodeIndex eventNodeIndex;
 
     private transient BiFunction<String, ProcessInstance, String> expressionEvaluator = (expression, p) -> {
 
@@ -128,12 +129,26 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     public void removeNode(final org.kie.api.definition.process.Node node) {
         nodeContainer.removeNode(node);
         ((Node) node).setParentContainer(null);
+        eventNodeIndex = null;
     }
 
     @Override
     public void addNode(final org.kie.api.definition.process.Node node) {
         nodeContainer.addNode(node);
         ((Node) node).setParentContainer(this);
+        eventNodeIndex = null;
+    }
+
+    /**
+     * Index of the nodes that might react to a signal, built on first use once the process definition is complete.
+     */
+    public EventNodeIndex getEventNodeIndex() {
+        EventNodeIndex index = eventNodeIndex;
+        if (index == null) {
+            index = new EventNodeIndex(getNodes());
+            eventNodeIndex = index;
+        }
+        return index;
     }
 
     @Override
@@ -18,6 +18,7 @@
  */
 package org.jbpm.workflow.core.node;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,6 +31,7 @@ import org.jbpm.process.instance.impl.Action;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.impl.ConnectionImpl;
 import org.jbpm.workflow.core.impl.ExtendedNodeImpl;
+import org.jbpm.workflow.instance.impl.MVELProcessHelper;
 import org.kie.kogito.process.expr.Expression;
 import org.kie.kogito.process.expr.ExpressionHandlerFactory;
 
@@ -54,6 +56,8 @@ public class ForEachNode extends CompositeContextNode {
     private Action finishAction;
     private boolean waitForCompletion = true;
     private Expression evaluateExpression;
+    private transient Serializable compiledCollectionExpression;
+    private transient Serializable compiledCompletionConditionExpression;
 
     public ForEachNode() {
         // Split
@@ -255,6 +259,17 @@ public class ForEachNode extends CompositeContextNode {
 
     public void setCollectionExpression(String collectionExpression) {
         this.collectionExpression = collectionExpression;
+        this.compiledCollectionExpression = null;
+    }
+
+    /**
+     * MVEL compiled form of the collection expression, compiled on first use.
+     */
+    public Serializable getCompiledCollectionExpression() {
+        if (compiledCollectionExpression == null) {
+            compiledCollectionExpression = MVELProcessHelper.compileExpression(collectionExpression);
+        }
+        return compiledCollectionExpression;
     }
 
     public String getOutputCollectionExpression() {
@@ -331,6 +346,17 @@ public class ForEachNode extends CompositeContextNode {
     public void setCompletionConditionExpression(
             String completionConditionExpression) {
         this.completionConditionExpression = completionConditionExpression;
+        this.compiledCompletionConditionExpression = null;
+    }
+
+    /**
+     * MVEL compiled form of the completion condition, compiled on first use.
+     */
+    public Serializable getCompiledCompletionConditionExpression() {
+        if (compiledCompletionConditionExpression == null) {
+            compiledCompletionConditionExpression = MVELProcessHelper.compileExpression(completionConditionExpression);
+        }
+        return compiledCompletionConditionExpression;
     }
 
     public boolean isSequential() {
@@ -43,6 +43,13 @@ public interface NodeInstanceContainer extends KogitoNodeInstanceContainer {
 
     void removeNodeInstance(NodeInstance nodeInstance);
 
+    /**
+     * Notifies the container that one of its node instances now refers to another node.
+     */
+    default void nodeInstanceNodeIdChanged(NodeInstance nodeInstance, long previousNodeId) {
+        // no lookup structures to update by default
+    }
+
     NodeContainer getNodeContainer();
 
     void nodeInstanceCompleted(NodeInstance nodeInstance, String outType);
@@ -109,7 +109,12 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
     }
 
     public void setNodeId(final long nodeId) {
+        long previousNodeId = this.nodeId;
         this.nodeId = nodeId;
+        if (previousNodeId != nodeId && this.nodeInstanceContainer != null) {
+            // keep the lookup by node id of the container in sync, e.g. when migrating the process instance
+            this.nodeInstanceContainer.nodeInstanceNodeIdChanged(this, previousNodeId);
+        }
     }
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.workflow.instance.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbpm.workflow.instance.NodeInstance;
+import org.jbpm.workflow.instance.NodeInstanceContainer;
+
+/**
+ * Lookup structures kept by node instance containers next to their list of node instances, so that finding a node
+ * instance by its id or by the id of its node does not require scanning every active node instance.
+ * <p>
+ * Node instances of the same node are kept in the order they were added, as in the list of the container.
+ * A node instance moved to another node, e.g. when migrating or upgrading a process instance, is appended
+ * to the node instances of its new node.
+ */
+public class NodeInstanceIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, NodeInstance> byId = new HashMap<>();
+    private final Map<Long, Set<NodeInstance>> byNodeId = new HashMap<>();
+    private final Set<NodeInstance> containers = new LinkedHashSet<>();
+
+    public void add(NodeInstance nodeInstance) {
+        byId.put(nodeInstance.getStringId(), nodeInstance);
+        byNodeId.computeIfAbsent(nodeInstance.getNodeId(), k -> new LinkedHashSet<>()).add(nodeInstance);
+        if (nodeInstance instanceof NodeInstanceContainer) {
+            containers.add(nodeInstance);
+        }
+    }
+
+    public void remove(NodeInstance nodeInstance) {
+        byId.remove(nodeInstance.getStringId(), nodeInstance);
+        Set<NodeInstance> nodeInstances = byNodeId.get(nodeInstance.getNodeId());
+        if (nodeInstances != null && nodeInstances.remove(nodeInstance) && nodeInstances.isEmpty()) {
+            byNodeId.remove(nodeInstance.getNodeId());
+        }
+        containers.remove(nodeInstance);
+    }
+
+    public void nodeIdChanged(NodeInstance nodeInstance, long previousNodeId) {
+        Set<NodeInstance> nodeInstances = byNodeId.get(previousNodeId);
+        if (nodeInstances != null && nodeInstances.remove(nodeInstance)) {
+            if (nodeInstances.isEmpty()) {
+                byNodeId.remove(previousNodeId);
+            }
+            byNodeId.computeIfAbsent(nodeInstance.getNodeId(), k -> new LinkedHashSet<>()).add(nodeInstance);
+        }
+    }
+
+    public NodeInstance getNodeInstance(String nodeInstanceId, boolean recursive) {
+        NodeInstance nodeInstance = byId.get(nodeInstanceId);
+        if (nodeInstance == null && recursive) {
+            for (NodeInstance container : containers) {
+                nodeInstance = ((NodeInstanceContainer) container).getNodeInstance(nodeInstanceId, true);
+                if (nodeInstance != null) {
+                    break;
+                }
+            }
+        }
+        return nodeInstance;
+    }
+
+    public List<NodeInstance> getNodeInstances(long nodeId) {
+        Set<NodeInstance> nodeInstances = byNodeId.get(nodeId);
+        return nodeInstances == null ? new ArrayList<>() : new ArrayList<>(nodeInstances);
+    }
+
+    public NodeInstance getFirstNodeInstance(long nodeId, int level) {
+        for (NodeInstance nodeInstance : byNodeId.getOrDefault(nodeId, Collections.emptySet())) {
+            if (nodeInstance.getLevel() == level) {
+                return nodeInstance;
+            }
+        }
+        return null;
+    }
+}
@@ -20,6 +20,7 @@ package org.jbpm.workflow.instance.impl;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -27,7 +28,6 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -43,6 +43,8 @@ import org.drools.mvel.util.MVELEvaluator;
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.core.event.EventFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
 import org.jbpm.process.core.timer.BusinessCalendar;
 import org.jbpm.process.core.timer.DateTimeUtils;
 import org.jbpm.process.core.timer.Timer;
@@ -54,7 +56,9 @@ import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.util.PatternConstants;
 import org.jbpm.workflow.core.DroolsAction;
 import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.impl.EventNodeIndex;
 import org.jbpm.workflow.core.impl.NodeImpl;
+import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
 import org.jbpm.workflow.core.node.BoundaryEventNode;
 import org.jbpm.workflow.core.node.CompositeNode;
 import org.jbpm.workflow.core.node.DynamicNode;
@@ -87,6 +91,7 @@ import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.process.BaseEventDescription;
 import org.kie.kogito.process.EventDescription;
+import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.NamedDataType;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.flexible.AdHocFragment;
@@ -120,6 +125,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     private static final Logger logger = LoggerFactory.getLogger(WorkflowProcessInstanceImpl.class);
 
     private final List<NodeInstance> nodeInstances = new ArrayList<>();
+    private final NodeInstanceIndex nodeInstanceIndex = new NodeInstanceIndex();
 
     private Map<String, List<KogitoEventListener>> eventListeners = new HashMap<>();
     private Map<String, List<KogitoEventListener>> externalEventListeners = new HashMap<>();
@@ -168,6 +174,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
             ((NodeInstanceImpl) nodeInstance).setId(UUID.randomUUID().toString());
         }
         this.nodeInstances.add(nodeInstance);
+        this.nodeInstanceIndex.add(nodeInstance);
     }
 
     @Override
@@ -196,6 +203,12 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                     getKnowledgeRuntime().getFactHandle(nodeInstance));
         }
         this.nodeInstances.remove(nodeInstance);
+        this.nodeInstanceIndex.remove(nodeInstance);
+    }
+
+    @Override
+    public void nodeInstanceNodeIdChanged(final NodeInstance nodeInstance, final long previousNodeId) {
+        this.nodeInstanceIndex.nodeIdChanged(nodeInstance, previousNodeId);
     }
 
     @Override
@@ -245,10 +258,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public NodeInstance getNodeInstance(String nodeInstanceId, boolean recursive) {
-        return getNodeInstances(recursive).stream()
-                .filter(nodeInstance -> Objects.equals(nodeInstance.getStringId(), nodeInstanceId))
-                .findFirst()
-                .orElse(null);
+        return nodeInstanceIndex.getNodeInstance(nodeInstanceId, recursive);
     }
 
     public List<String> getActiveNodeIds() {
@@ -268,22 +278,11 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public NodeInstance getFirstNodeInstance(final long nodeId) {
-        for (final NodeInstance nodeInstance : this.nodeInstances) {
-            if (nodeInstance.getNodeId() == nodeId && nodeInstance.getLevel() == getCurrentLevel()) {
-                return nodeInstance;
-            }
-        }
-        return null;
+        return nodeInstanceIndex.getFirstNodeInstance(nodeId, getCurrentLevel());
     }
 
     public List<NodeInstance> getNodeInstances(final long nodeId) {
-        List<NodeInstance> result = new ArrayList<>();
-        for (final NodeInstance nodeInstance : this.nodeInstances) {
-            if (nodeInstance.getNodeId() == nodeId) {
-                result.add(nodeInstance);
-            }
-        }
-        return result;
+        return nodeInstanceIndex.getNodeInstances(nodeId);
     }
 
     public List<NodeInstance> getNodeInstances(final long nodeId, final List<NodeInstance> currentView) {
@@ -655,7 +654,10 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                 return;
             }
 
-            List<NodeInstance> currentView = new ArrayList<>(this.nodeInstances);
+            EventNodeIndex eventNodeIndex = getWorkflowProcess() instanceof WorkflowProcessImpl ? ((WorkflowProcessImpl) getWorkflowProcess()).getEventNodeIndex() : null;
+            Collection<org.kie.api.definition.process.Node> eventNodes =
+                    eventNodeIndex == null ? Arrays.asList(getWorkflowProcess().getNodes()) : eventNodeIndex.getEventNodes(type);
+            List<NodeInstance> currentView = eventNodes.isEmpty() ? Collections.emptyList() : new ArrayList<>(this.nodeInstances);
 
             try {
                 this.activatingNodeIds = new ArrayList<>();
@@ -671,7 +673,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                         listener.signalEvent(type, event);
                     }
                 }
-                for (org.kie.api.definition.process.Node node : getWorkflowProcess().getNodes()) {
+                for (org.kie.api.definition.process.Node node : eventNodes) {
                     if (node instanceof EventNodeInterface
                             && ((EventNodeInterface) node).acceptsEvent(type, event, getResolver(node, currentView))) {
                         if (node instanceof EventNode && ((EventNode) node).getFrom() == null) {
@@ -694,7 +696,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                 }
 
                 if (((org.jbpm.workflow.core.WorkflowProcess) getWorkflowProcess()).isDynamic()) {
-                    for (org.kie.api.definition.process.Node node : getWorkflowProcess().getNodes()) {
+                    for (org.kie.api.definition.process.Node node : eventNodeIndex == null ? Arrays.asList(getWorkflowProcess().getNodes()) : eventNodeIndex.getDynamicNodes(type)) {
                         if (type.equals(node.getName()) && node.getIncomingConnections().isEmpty()) {
                             NodeInstance nodeInstance = getNodeInstance(node);
                             if (event != null) {
@@ -708,7 +710,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                             }
                             nodeInstance.trigger(null, Node.CONNECTION_DEFAULT_TYPE);
                         } else if (node instanceof CompositeNode) {
-                            Optional<NodeInstance> instance = this.nodeInstances.stream().filter(ni -> ni.getNodeId() == node.getId()).findFirst();
+                            Optional<NodeInstance> instance = getNodeInstances(node.getId()).stream().findFirst();
                             instance.ifPresent(n -> ((CompositeNodeInstance) n).signalEvent(type, event));
                         }
                     }
@@ -824,6 +826,45 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         return externalEventListeners.keySet().stream().map(this::resolveVariable).collect(Collectors.toList()).toArray(new String[externalEventListeners.size()]);
     }
 
+    /**
+     * Returns the event types {@link #signalEvent(String, Object)} might react to in the current state of this instance,
+     * that is the types of the registered listeners plus the ones accepted by the event nodes of the definition.
+     * When those cannot be determined upfront (dynamic processes or custom event filters) the returned set
+     * contains {@link MutableProcessInstances#ANY_EVENT_TYPE}.
+     */
+    public Set<String> getSubscribedEventTypes() {
+        if (getState() != KogitoProcessInstance.STATE_ACTIVE) {
+            return Collections.emptySet();
+        }
+        if (((org.jbpm.workflow.core.WorkflowProcess) getProcess()).isDynamic()) {
+            return Collections.singleton(MutableProcessInstances.ANY_EVENT_TYPE);
+        }
+        Set<String> types = new LinkedHashSet<>();
+        eventListeners.keySet().forEach(type -> types.add(resolveVariable(type)));
+        externalEventListeners.keySet().forEach(type -> types.add(resolveVariable(type)));
+        for (org.kie.api.definition.process.Node node : ((org.jbpm.workflow.core.WorkflowProcess) getProcess()).getNodesRecursively()) {
+            if (node instanceof DynamicNode) {
+                return Collections.singleton(MutableProcessInstances.ANY_EVENT_TYPE);
+            } else if (node instanceof EventSubProcessNode) {
+                ((EventSubProcessNode) node).getEvents().forEach(type -> types.add(resolveVariable(type)));
+            } else if (node instanceof EventNode) {
+                List<EventFilter> filters = ((EventNode) node).getEventFilters();
+                if (filters.isEmpty()) {
+                    return Collections.singleton(MutableProcessInstances.ANY_EVENT_TYPE);
+                }
+                for (EventFilter filter : filters) {
+                    if (!(filter instanceof EventTypeFilter) || ((EventTypeFilter) filter).getType() == null) {
+                        return Collections.singleton(MutableProcessInstances.ANY_EVENT_TYPE);
+                    }
+                    types.add(resolveVariable(((EventTypeFilter) filter).getType()));
+                }
+            } else if (node instanceof EventNodeInterface && !(node instanceof CompositeNode)) {
+                return Collections.singleton(MutableProcessInstances.ANY_EVENT_TYPE);
+            }
+        }
+        return types;
+    }
+
     @Override
     public Set<EventDescription<?>> getEventDescriptions() {
         if (getState() == KogitoProcessInstance.STATE_COMPLETED || getState() == KogitoProcessInstance.STATE_ABORTED) {
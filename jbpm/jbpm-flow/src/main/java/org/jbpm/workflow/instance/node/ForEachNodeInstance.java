@@ -26,11 +26,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.instance.ConcurrentWorkItemExecution;
 import org.jbpm.process.instance.ContextInstance;
 import org.jbpm.process.instance.ContextableInstance;
+import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.Action;
 import org.jbpm.ruleflow.core.Metadata;
@@ -40,13 +44,23 @@ import org.jbpm.workflow.core.node.AsyncEventNodeInstance;
 import org.jbpm.workflow.core.node.ForEachNode;
 import org.jbpm.workflow.core.node.ForEachNode.ForEachJoinNode;
 import org.jbpm.workflow.core.node.ForEachNode.ForEachSplitNode;
+import org.jbpm.workflow.core.node.HumanTaskNode;
+import org.jbpm.workflow.core.node.WorkItemNode;
 import org.jbpm.workflow.instance.NodeInstance;
 import org.jbpm.workflow.instance.NodeInstanceContainer;
 import org.jbpm.workflow.instance.impl.MVELProcessHelper;
 import org.jbpm.workflow.instance.impl.NodeInstanceImpl;
 import org.jbpm.workflow.instance.impl.NodeInstanceResolverFactory;
 import org.kie.api.definition.process.Connection;
+import org.kie.kogito.Application;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
+import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
+import org.kie.kogito.process.ProcessConfig;
+import org.kie.kogito.process.WorkItemExecutor;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
 import org.mvel2.integration.VariableResolver;
 import org.mvel2.integration.impl.SimpleValueResolver;
 
@@ -137,6 +151,43 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
         return getForEachNode().isSequential() || hasAsyncInstances;
     }
 
+    /**
+     * Executor running the work items of this loop concurrently, or null when they run serially: the loop is not
+     * parallel, did not opt in, either through the customConcurrent metadata or for every loop through the executor,
+     * or has no work item that can run concurrently.
+     */
+    private WorkItemExecutor concurrentExecutor() {
+        if (isSequential()) {
+            return null;
+        }
+        WorkItemExecutor executor = workItemExecutor();
+        if (executor == null || !(executor.isEnabledForAllLoops() || Boolean.parseBoolean((String) getForEachNode().getMetaData(Metadata.CUSTOM_CONCURRENT)))) {
+            return null;
+        }
+        org.kie.api.definition.process.NodeContainer body = getForEachNode().getCompositeNode();
+        // human tasks need the actual work item manager to go through their life cycle
+        return containsNode(body, WorkItemNode.class::isInstance) && !containsNode(body, HumanTaskNode.class::isInstance) ? executor : null;
+    }
+
+    // loops fall back to serial execution when the application does not provide a work item executor
+    private WorkItemExecutor workItemExecutor() {
+        Application application = InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime()).getApplication();
+        if (application == null || application.config() == null) {
+            return null;
+        }
+        ProcessConfig processConfig = application.config().get(ProcessConfig.class);
+        return processConfig == null ? null : processConfig.workItemExecutor();
+    }
+
+    private static boolean containsNode(org.kie.api.definition.process.NodeContainer container, Predicate<org.kie.api.definition.process.Node> predicate) {
+        for (org.kie.api.definition.process.Node node : container.getNodes()) {
+            if (predicate.test(node) || (node instanceof org.kie.api.definition.process.NodeContainer && containsNode((org.kie.api.definition.process.NodeContainer) node, predicate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public class ForEachSplitNodeInstance extends NodeInstanceImpl implements ContextableInstance {
 
         private static final long serialVersionUID = 510l;
@@ -164,16 +215,27 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                     nodeInstances.add(nodeInstance);
                 }
 
-                for (NodeInstance nodeInstance : nodeInstances) {
-                    logger.debug("Triggering [{}] in multi-instance loop.", nodeInstance.getNodeId());
-                    nodeInstance.trigger(this, getForEachSplitNode().getTo().getToType());
-
-                    //this is required because Parallel instances execution does not work with async, so it fallbacks to sequential
-                    hasAsyncInstances = checkAsyncInstance(nodeInstance);
-                    if (isSequential()) {
-                        // for sequential mode trigger only first item from the list
-                        break;
+                Executor executor = concurrentExecutor();
+                ConcurrentWorkItemExecution concurrentExecution = executor != null ? ConcurrentWorkItemExecution.begin() : null;
+                try {
+                    for (NodeInstance nodeInstance : nodeInstances) {
+                        logger.debug("Triggering [{}] in multi-instance loop.", nodeInstance.getNodeId());
+                        nodeInstance.trigger(this, getForEachSplitNode().getTo().getToType());
+
+                        //this is required because Parallel instances execution does not work with async, so it fallbacks to sequential
+                        hasAsyncInstances = checkAsyncInstance(nodeInstance);
+                        if (isSequential()) {
+                            // for sequential mode trigger only first item from the list
+                            break;
+                        }
                     }
+                } finally {
+                    if (concurrentExecution != null) {
+                        concurrentExecution.end();
+                    }
+                }
+                if (concurrentExecution != null) {
+                    completeConcurrently(concurrentExecution, executor);
                 }
 
                 if (!getForEachNode().isWaitForCompletion()) {
@@ -182,6 +244,28 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
             }
         }
 
+        private void completeConcurrently(ConcurrentWorkItemExecution concurrentExecution, Executor executor) {
+            KogitoProcessRuntime runtime = InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime());
+            InternalKogitoWorkItemManager workItemManager = (InternalKogitoWorkItemManager) runtime.getKogitoWorkItemManager();
+            // every handler records the work it hands to its unit of work, which is then handed to the one of this thread
+            UnitOfWorkManager unitOfWorkManager = runtime.getApplication() == null ? null : runtime.getApplication().unitOfWorkManager();
+            UnitOfWork unitOfWork = unitOfWorkManager == null ? null : unitOfWorkManager.currentUnitOfWork();
+            for (ConcurrentWorkItemExecution.Outcome outcome : concurrentExecution.execute(executor, unitOfWorkManager)) {
+                InternalKogitoWorkItem workItem = outcome.getWorkItem();
+                if (workItemManager.getWorkItem(workItem.getStringId()) == null) {
+                    // already cancelled, e.g. an earlier iteration met the completion condition
+                    continue;
+                }
+                if (outcome.getError() == null) {
+                    outcome.apply(workItemManager, unitOfWork);
+                } else if (workItem.getNodeInstance() instanceof WorkItemNodeInstance) {
+                    ((WorkItemNodeInstance) workItem.getNodeInstance()).handleConcurrentExecutionError(outcome.getError());
+                } else {
+                    throw outcome.getError();
+                }
+            }
+        }
+
         private Collection<?> evaluateCollectionExpression() {
             Object collection;
             String collectionExpression = getForEachNode().getCollectionExpression();
@@ -193,8 +277,8 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                 collection = getForEachNode().getEvaluateExpression().eval(getVariable((String) getForEachNode().getMetaData(Metadata.VARIABLE)), Collection.class, ContextFactory.fromNode(this));
             } else {
                 try {
-                    collection = MVELProcessHelper.evaluator().eval(collectionExpression, new NodeInstanceResolverFactory(
-                            this));
+                    collection = MVELProcessHelper.evaluator().executeExpression(getForEachNode().getCompiledCollectionExpression(),
+                            new NodeInstanceResolverFactory(this));
                 } catch (Exception t) {
                     throw new IllegalArgumentException(
                             "Could not find collection " + collectionExpression);
@@ -328,7 +412,7 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                 return false;
             } else {
                 try {
-                    Object result = MVELProcessHelper.evaluator().eval(expression,
+                    Object result = MVELProcessHelper.evaluator().executeExpression(getForEachNode().getCompiledCompletionConditionExpression(),
                             new ForEachNodeInstanceResolverFactory(this, tempVariables));
                     if (!(result instanceof Boolean)) {
                         throw new IllegalArgumentException("Completion condition expression must return boolean values: " +
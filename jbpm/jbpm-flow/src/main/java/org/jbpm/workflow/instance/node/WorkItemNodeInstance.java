@@ -197,6 +197,13 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
         }
     }
 
+    void handleConcurrentExecutionError(RuntimeException error) {
+        // handlers executed concurrently fail on another thread, their errors are handled as if they were thrown here
+        processWorkItemHandler(() -> {
+            throw error;
+        });
+    }
+
     protected void handleException(String exceptionName, Exception e) {
         getExceptionScopeInstance(exceptionName, e).handleException(exceptionName, getProcessContext(e));
     }
@@ -18,6 +18,10 @@
  */
 package org.kie.kogito.process.expr;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 
@@ -26,7 +30,17 @@ public class ExpressionHandlerFactory {
     private ExpressionHandlerFactory() {
     }
 
-    private static final ServiceLoader<ExpressionHandler> serviceLoader = ServiceLoader.load(ExpressionHandler.class);
+    // handlers are loaded once, every provider lookup through the service loader would instantiate a new handler,
+    // losing whatever the handler caches
+    private static final Map<String, ExpressionHandler> handlers = loadHandlers();
+
+    private static Map<String, ExpressionHandler> loadHandlers() {
+        Map<String, ExpressionHandler> result = new HashMap<>();
+        for (ExpressionHandler handler : ServiceLoader.load(ExpressionHandler.class)) {
+            result.putIfAbsent(handler.lang(), handler);
+        }
+        return result;
+    }
 
     public static Expression get(String lang, String expr) {
         return getExpressionHandler(lang).orElseThrow(
@@ -34,10 +48,14 @@ public class ExpressionHandlerFactory {
     }
 
     public static boolean isSupported(String lang) {
-        return serviceLoader.stream().anyMatch(p -> p.get().lang().equals(lang));
+        return handlers.containsKey(lang);
+    }
+
+    public static Collection<ExpressionHandler> getExpressionHandlers() {
+        return Collections.unmodifiableCollection(handlers.values());
     }
 
     private static Optional<ExpressionHandler> getExpressionHandler(String lang) {
-        return serviceLoader.stream().filter(p -> p.get().lang().equals(lang)).findFirst().map(p -> p.get());
+        return Optional.ofNullable(handlers.get(lang));
     }
 }
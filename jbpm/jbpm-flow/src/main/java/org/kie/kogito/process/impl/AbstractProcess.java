@@ -170,8 +170,18 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public <S> void send(Signal<S> signal) {
-        try (Stream<ProcessInstance<T>> stream = instances.stream()) {
-            stream.forEach(pi -> pi.send(signal));
+        Optional<Stream<String>> candidates = instances.findIdsWaitingForEvent(signal.channel());
+        if (candidates.isPresent()) {
+            List<String> ids;
+            // ids are collected upfront as delivering the signal updates the index being read
+            try (Stream<String> stream = candidates.get()) {
+                ids = stream.collect(Collectors.toList());
+            }
+            ids.forEach(id -> instances.findById(id).ifPresent(pi -> pi.send(signal)));
+        } else {
+            try (Stream<ProcessInstance<T>> stream = instances.stream()) {
+                stream.forEach(pi -> pi.send(signal));
+            }
         }
     }
 
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.process.impl;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Supplier;
@@ -33,6 +34,7 @@ import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.process.ProcessConfig;
 import org.kie.kogito.process.ProcessEventListenerConfig;
 import org.kie.kogito.process.ProcessVersionResolver;
+import org.kie.kogito.process.WorkItemExecutor;
 import org.kie.kogito.process.WorkItemHandlerConfig;
 import org.kie.kogito.services.identity.NoOpIdentityProvider;
 import org.kie.kogito.services.signal.DefaultSignalManagerHub;
@@ -51,6 +53,7 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
     private final JobsService jobsService;
     private final ProcessVersionResolver versionResolver;
     private final IdentityProvider identityProvider;
+    private final WorkItemExecutor workItemExecutor;
 
     protected AbstractProcessConfig(
             Iterable<WorkItemHandlerConfig> workItemHandlerConfig,
@@ -63,6 +66,22 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
             Iterable<UnitOfWorkEventListener> unitOfWorkListeners,
             Iterable<ProcessVersionResolver> versionResolver,
             Iterable<IdentityProvider> identityProvider) {
+        this(workItemHandlerConfig, processEventListenerConfigs, processEventListeners, unitOfWorkManager, jobsService, eventPublishers, kogitoService, unitOfWorkListeners,
+                versionResolver, identityProvider, Collections.emptyList());
+    }
+
+    protected AbstractProcessConfig(
+            Iterable<WorkItemHandlerConfig> workItemHandlerConfig,
+            Iterable<ProcessEventListenerConfig> processEventListenerConfigs,
+            Iterable<ProcessEventListener> processEventListeners,
+            Iterable<UnitOfWorkManager> unitOfWorkManager,
+            Iterable<JobsService> jobsService,
+            Iterable<EventPublisher> eventPublishers,
+            String kogitoService,
+            Iterable<UnitOfWorkEventListener> unitOfWorkListeners,
+            Iterable<ProcessVersionResolver> versionResolver,
+            Iterable<IdentityProvider> identityProvider,
+            Iterable<WorkItemExecutor> workItemExecutor) {
 
         this.workItemHandlerConfig = mergeWorkItemHandler(workItemHandlerConfig, DefaultWorkItemHandlerConfig::new);
         this.processEventListenerConfig = merge(processEventListenerConfigs, processEventListeners);
@@ -72,6 +91,7 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
         this.jobsService = orDefault(jobsService, () -> null);
         this.versionResolver = orDefault(versionResolver, () -> null);
         this.identityProvider = orDefault(identityProvider, NoOpIdentityProvider::new);
+        this.workItemExecutor = orDefault(workItemExecutor, () -> null);
 
         eventPublishers.forEach(publisher -> unitOfWorkManager().eventManager().addPublisher(publisher));
         unitOfWorkListeners.forEach(listener -> unitOfWorkManager().register(listener));
@@ -124,6 +144,11 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
         return identityProvider;
     }
 
+    @Override
+    public WorkItemExecutor workItemExecutor() {
+        return workItemExecutor;
+    }
+
     public org.kie.kogito.Addons addons() {
         return Addons.EMTPY;
     }
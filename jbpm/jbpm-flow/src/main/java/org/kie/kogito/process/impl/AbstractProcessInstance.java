@@ -100,6 +100,8 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
 
     protected long version;
 
+    private Object persistenceState;
+
     private Optional<CorrelationInstance> correlationInstance = Optional.empty();
 
     public AbstractProcessInstance(AbstractProcess<T> process, T variables, ProcessRuntime rt) {
@@ -231,6 +233,17 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         return processInstance;
     }
 
+    /**
+     * Returns the event types this instance is currently subscribed to, for storages keeping an event subscription index.
+     */
+    public Set<String> internalGetSubscribedEventTypes() {
+        if (processInstance == null) {
+            // disconnected, the subscriptions cannot be computed without reloading so any event is assumed
+            return Collections.singleton(MutableProcessInstances.ANY_EVENT_TYPE);
+        }
+        return ((WorkflowProcessInstanceImpl) processInstance).getSubscribedEventTypes();
+    }
+
     public void internalSetProcessInstance(WorkflowProcessInstance processInstance) {
         this.processInstance = processInstance;
         processInstance.wrap(this);
@@ -370,6 +383,17 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         this.version = version;
     }
 
+    /**
+     * Returns the state attached by the storage this instance was loaded from or written to, if any.
+     */
+    public Object internalGetPersistenceState() {
+        return persistenceState;
+    }
+
+    public void internalSetPersistenceState(Object persistenceState) {
+        this.persistenceState = persistenceState;
+    }
+
     @Override
     public T updateVariables(T updates) {
         return updateVariables(bind(updates));
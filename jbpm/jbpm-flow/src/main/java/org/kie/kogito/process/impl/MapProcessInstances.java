@@ -67,4 +67,9 @@ class MapProcessInstances<T> implements MutableProcessInstances<T> {
     public Stream<ProcessInstance<T>> stream(ProcessInstanceReadMode mode) {
         return instances.values().stream();
     }
+
+    @Override
+    public Stream<String> streamIds() {
+        return instances.keySet().stream();
+    }
 }
@@ -20,6 +20,7 @@ package org.kie.kogito.process.impl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -385,6 +386,30 @@ public class ProcessServiceImpl implements ProcessService {
                         }));
     }
 
+    @Override
+    public <T extends Model> Optional<ProcessInstance<T>> signalAndGetProcessInstance(Process<T> process, String id, Object data, String signalName) {
+        return UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(),
+                () -> process.instances().findById(id)
+                        .map(pi -> {
+                            pi.send(Sig.of(signalName, data));
+                            pi.checkError();
+                            return pi;
+                        }));
+    }
+
+    @Override
+    public <T extends Model> Optional<ProcessInstance<T>> signalAllAndGetProcessInstance(Process<T> process, String id, Iterator<?> data, String signalName) {
+        return UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(),
+                () -> process.instances().findById(id)
+                        .map(pi -> {
+                            while (data.hasNext() && pi.status() == ProcessInstance.STATE_ACTIVE) {
+                                pi.send(Sig.of(signalName, data.next()));
+                            }
+                            pi.checkError();
+                            return pi;
+                        }));
+    }
+
     //Schema
     @Override
     public <T extends Model> Map<String, Object> getSchemaAndPhases(Process<T> process,
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.kie.kogito.event.KogitoThreadPoolFactory;
+import org.kie.kogito.process.WorkItemExecutor;
+
+/**
+ * Work item executor backed by a fixed size thread pool, created on first use and shut down when closed.
+ * Subclasses propagate the context of the calling thread through {@link #contextual(Runnable)}.
+ */
+public class ThreadPoolWorkItemExecutor implements WorkItemExecutor, AutoCloseable {
+
+    private static final String THREAD_NAME = "kogito-work-item";
+
+    private final int poolSize;
+    private final boolean enabledForAllLoops;
+    private ExecutorService executor;
+    private boolean closed;
+
+    public ThreadPoolWorkItemExecutor(int poolSize) {
+        this(poolSize, false);
+    }
+
+    public ThreadPoolWorkItemExecutor(int poolSize, boolean enabledForAllLoops) {
+        this.poolSize = poolSize;
+        this.enabledForAllLoops = enabledForAllLoops;
+    }
+
+    @Override
+    public boolean isEnabledForAllLoops() {
+        return enabledForAllLoops;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor().execute(contextual(command));
+    }
+
+    private synchronized ExecutorService executor() {
+        if (closed) {
+            throw new RejectedExecutionException("Work item executor is closed");
+        }
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(poolSize, new KogitoThreadPoolFactory(THREAD_NAME));
+        }
+        return executor;
+    }
+
+    protected Runnable contextual(Runnable command) {
+        return command;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
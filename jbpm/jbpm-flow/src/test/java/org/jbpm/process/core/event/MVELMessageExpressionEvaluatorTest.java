@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.process.core.event;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MVELMessageExpressionEvaluatorTest {
+
+    @Test
+    public void testExpressionIsReused() {
+        MVELMessageExpressionEvaluator evaluator = new MVELMessageExpressionEvaluator("id + '-' + name");
+
+        assertThat(evaluator.eval(Map.of("id", "1", "name", "first"))).isEqualTo("1-first");
+        assertThat(evaluator.eval(Map.of("id", "2", "name", "second"))).isEqualTo("2-second");
+        assertThat(evaluator.eval(name -> "#{id}".equals(name) ? "3" : "third")).isEqualTo("3-third");
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.process.core.transformation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MVELDataTransformerTest {
+
+    @Test
+    public void testTransformCompiledAndSourceExpressions() {
+        MVELDataTransformer transformer = new MVELDataTransformer();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("a", 2);
+        parameters.put("b", 3);
+
+        Object compiled = transformer.compile("a * b", Collections.emptyMap());
+        assertThat(transformer.transform(compiled, parameters)).isEqualTo(6);
+        assertThat(transformer.transform("a + b", parameters)).isEqualTo(5);
+        parameters.put("b", 4);
+        assertThat(transformer.transform("a + b", parameters)).isEqualTo(6);
+    }
+}
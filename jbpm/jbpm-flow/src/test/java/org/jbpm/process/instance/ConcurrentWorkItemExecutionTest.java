@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.process.instance;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.services.uow.BaseWorkUnit;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ConcurrentWorkItemExecutionTest {
+
+    private static final Runnable NO_EVENT = () -> {
+    };
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void close() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testHandlersRunConcurrentlyAndOutcomesKeepOrder() {
+        // both handlers wait for each other, so they only complete when run at the same time
+        CountDownLatch latch = new CountDownLatch(2);
+        KogitoWorkItemHandler handler = new TestHandler(latch);
+        InternalKogitoWorkItem first = workItem("1");
+        InternalKogitoWorkItem second = workItem("2");
+        Runnable afterSecond = mock(Runnable.class);
+
+        ConcurrentWorkItemExecution execution = ConcurrentWorkItemExecution.begin();
+        try {
+            assertThat(ConcurrentWorkItemExecution.defer(first, handler, NO_EVENT)).isTrue();
+            assertThat(ConcurrentWorkItemExecution.defer(second, handler, afterSecond)).isTrue();
+        } finally {
+            execution.end();
+        }
+        assertThat(ConcurrentWorkItemExecution.defer(workItem("3"), handler, NO_EVENT)).isFalse();
+
+        List<ConcurrentWorkItemExecution.Outcome> outcomes = execution.execute(executor, null);
+
+        assertThat(outcomes).extracting(ConcurrentWorkItemExecution.Outcome::getWorkItem).containsExactly(first, second);
+        assertThat(outcomes).extracting(ConcurrentWorkItemExecution.Outcome::getError).containsOnlyNulls();
+        verifyNoInteractions(afterSecond);
+        KogitoWorkItemManager manager = mock(KogitoWorkItemManager.class);
+        outcomes.get(1).apply(manager, null);
+        // the after event of the execution follows what the handler did, as when run on the calling thread
+        InOrder order = inOrder(manager, afterSecond);
+        order.verify(manager).completeWorkItem("2", Collections.singletonMap("Result", "2"));
+        order.verify(afterSecond).run();
+    }
+
+    @Test
+    void testHandlerErrorIsReturned() {
+        IllegalStateException error = new IllegalStateException("failed");
+        KogitoWorkItemHandler handler = new TestHandler(null) {
+            @Override
+            public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+                throw error;
+            }
+        };
+
+        Runnable afterExecution = mock(Runnable.class);
+
+        ConcurrentWorkItemExecution execution = ConcurrentWorkItemExecution.begin();
+        try {
+            ConcurrentWorkItemExecution.defer(workItem("1"), handler, afterExecution);
+        } finally {
+            execution.end();
+        }
+
+        List<ConcurrentWorkItemExecution.Outcome> outcomes = execution.execute(executor, null);
+        assertThat(outcomes).extracting(ConcurrentWorkItemExecution.Outcome::getError).containsExactly(error);
+        KogitoWorkItemManager manager = mock(KogitoWorkItemManager.class);
+        outcomes.get(0).apply(manager, null);
+        verifyNoInteractions(manager);
+        verify(afterExecution, never()).run();
+    }
+
+    @Test
+    void testHandlersNotMarkedConcurrentAreNotDeferred() {
+        KogitoWorkItemHandler handler = mock(KogitoWorkItemHandler.class);
+        ConcurrentWorkItemExecution execution = ConcurrentWorkItemExecution.begin();
+        try {
+            assertThat(ConcurrentWorkItemExecution.defer(workItem("1"), handler, NO_EVENT)).isFalse();
+        } finally {
+            execution.end();
+        }
+        assertThat(execution.execute(executor, null)).isEmpty();
+    }
+
+    @Test
+    void testWorkOfHandlersIsHandedToCallerUnitOfWork() {
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        WorkUnit<String> work = new BaseWorkUnit<>("1", data -> {
+        });
+        KogitoWorkItemHandler handler = new TestHandler(null) {
+            @Override
+            public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+                unitOfWorkManager.currentUnitOfWork().intercept(work);
+                super.executeWorkItem(workItem, manager);
+            }
+        };
+
+        ConcurrentWorkItemExecution execution = ConcurrentWorkItemExecution.begin();
+        try {
+            ConcurrentWorkItemExecution.defer(workItem("1"), handler, NO_EVENT);
+        } finally {
+            execution.end();
+        }
+
+        List<ConcurrentWorkItemExecution.Outcome> outcomes = execution.execute(executor, unitOfWorkManager);
+        UnitOfWork unitOfWork = mock(UnitOfWork.class);
+        KogitoWorkItemManager manager = mock(KogitoWorkItemManager.class);
+        outcomes.get(0).apply(manager, unitOfWork);
+        verify(unitOfWork).intercept(work);
+        verify(manager).completeWorkItem("1", Collections.singletonMap("Result", "1"));
+    }
+
+    @Test
+    void testNestedExecutionRestoresOuterOne() {
+        KogitoWorkItemHandler handler = new TestHandler(null);
+        ConcurrentWorkItemExecution outer = ConcurrentWorkItemExecution.begin();
+        try {
+            ConcurrentWorkItemExecution inner = ConcurrentWorkItemExecution.begin();
+            inner.end();
+            ConcurrentWorkItemExecution.defer(workItem("1"), handler, NO_EVENT);
+        } finally {
+            outer.end();
+        }
+
+        assertThat(outer.execute(executor, null)).hasSize(1);
+    }
+
+    private static InternalKogitoWorkItem workItem(String id) {
+        InternalKogitoWorkItem workItem = mock(InternalKogitoWorkItem.class);
+        when(workItem.getStringId()).thenReturn(id);
+        return workItem;
+    }
+
+    private static class TestHandler implements ConcurrentWorkItemHandler {
+
+        private final CountDownLatch latch;
+
+        private TestHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            if (latch != null) {
+                latch.countDown();
+                try {
+                    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Map<String, Object> results = Collections.singletonMap("Result", workItem.getStringId());
+            manager.completeWorkItem(workItem.getStringId(), results);
+        }
+
+        @Override
+        public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.workflow.core.impl;
+
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.Node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventNodeIndexTest {
+
+    @Test
+    void testEventNodesByType() {
+        EventNode exact = eventNode(1, "Message-order");
+        EventNode template = eventNode(2, "Message-#{id}");
+        EventNode other = eventNode(3, "Timer-1");
+        ActionNode action = actionNode(4, "action");
+        CompositeNode composite = new CompositeNode();
+        composite.setId(5);
+        composite.addNode(eventNode(6, "Timer-1"));
+
+        EventNodeIndex index = new EventNodeIndex(new Node[] { exact, template, other, action, composite });
+
+        assertThat(index.getEventNodes("Message-order")).containsExactly(exact, template);
+        assertThat(index.getEventNodes("Timer-1")).containsExactly(other, composite);
+        assertThat(index.getEventNodes("Message-invoice")).containsExactly(template);
+        assertThat(index.getEventNodes("unknown")).isEmpty();
+    }
+
+    @Test
+    void testEventNodeWithoutFiltersAcceptsAnyType() {
+        EventNode any = new EventNode();
+        any.setId(1);
+        EventNode exact = eventNode(2, "signal");
+
+        EventNodeIndex index = new EventNodeIndex(new Node[] { any, exact });
+
+        assertThat(index.getEventNodes("signal")).containsExactly(any, exact);
+        assertThat(index.getEventNodes("unknown")).containsExactly(any);
+    }
+
+    @Test
+    void testDynamicNodes() {
+        ActionNode named = actionNode(1, "adHoc");
+        ActionNode connected = actionNode(2, "adHoc");
+        new ConnectionImpl(named, org.jbpm.workflow.core.Node.CONNECTION_DEFAULT_TYPE, connected, org.jbpm.workflow.core.Node.CONNECTION_DEFAULT_TYPE);
+        CompositeNode composite = new CompositeNode();
+        composite.setId(3);
+
+        EventNodeIndex index = new EventNodeIndex(new Node[] { named, connected, composite });
+
+        assertThat(index.getDynamicNodes("adHoc")).containsExactly(named, composite);
+        assertThat(index.getDynamicNodes("unknown")).containsExactly(composite);
+    }
+
+    private static EventNode eventNode(long id, String type) {
+        EventTypeFilter filter = new EventTypeFilter();
+        filter.setType(type);
+        EventNode node = new EventNode();
+        node.setId(id);
+        node.addEventFilter(filter);
+        return node;
+    }
+
+    private static ActionNode actionNode(long id, String name) {
+        ActionNode node = new ActionNode();
+        node.setId(id);
+        node.setName(name);
+        return node;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.workflow.instance.impl;
+
+import org.jbpm.workflow.instance.node.ActionNodeInstance;
+import org.jbpm.workflow.instance.node.CompositeNodeInstance;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NodeInstanceIndexTest {
+
+    @Test
+    void testLookupByIdAndNodeId() {
+        NodeInstanceIndex index = new NodeInstanceIndex();
+        ActionNodeInstance first = nodeInstance(1, "first", 1);
+        ActionNodeInstance second = nodeInstance(1, "second", 2);
+        ActionNodeInstance other = nodeInstance(2, "other", 1);
+        index.add(first);
+        index.add(second);
+        index.add(other);
+
+        assertThat(index.getNodeInstance("second", false)).isSameAs(second);
+        assertThat(index.getNodeInstance("unknown", false)).isNull();
+        assertThat(index.getNodeInstances(1)).containsExactly(first, second);
+        assertThat(index.getNodeInstances(3)).isEmpty();
+        assertThat(index.getFirstNodeInstance(1, 2)).isSameAs(second);
+        assertThat(index.getFirstNodeInstance(2, 2)).isNull();
+
+        index.remove(first);
+
+        assertThat(index.getNodeInstance("first", false)).isNull();
+        assertThat(index.getNodeInstances(1)).containsExactly(second);
+    }
+
+    @Test
+    void testNodeIdChanged() {
+        NodeInstanceIndex index = new NodeInstanceIndex();
+        ActionNodeInstance first = nodeInstance(1, "first", 1);
+        ActionNodeInstance other = nodeInstance(2, "other", 1);
+        index.add(first);
+        index.add(other);
+
+        first.setNodeId(2);
+        index.nodeIdChanged(first, 1);
+
+        assertThat(index.getNodeInstances(1)).isEmpty();
+        assertThat(index.getNodeInstances(2)).containsExactly(other, first);
+        assertThat(index.getFirstNodeInstance(1, 1)).isNull();
+
+        index.remove(first);
+
+        assertThat(index.getNodeInstances(2)).containsExactly(other);
+    }
+
+    @Test
+    void testNodeIdChangedOnAttachedNodeInstance() {
+        CompositeNodeInstance composite = new CompositeNodeInstance();
+        ActionNodeInstance nested = nodeInstance(1, "nested", 1);
+        nested.setNodeInstanceContainer(composite);
+
+        nested.setNodeId(5);
+
+        assertThat(composite.getNodeInstances(1)).isEmpty();
+        assertThat(composite.getNodeInstances(5)).containsExactly(nested);
+    }
+
+    @Test
+    void testRecursiveLookup() {
+        NodeInstanceIndex index = new NodeInstanceIndex();
+        CompositeNodeInstance composite = new CompositeNodeInstance();
+        composite.setNodeId(1);
+        composite.setId("composite");
+        ActionNodeInstance nested = nodeInstance(2, "nested", 0);
+        composite.addNodeInstance(nested);
+        index.add(composite);
+
+        assertThat(index.getNodeInstance("nested", false)).isNull();
+        assertThat(index.getNodeInstance("nested", true)).isSameAs(nested);
+
+        composite.removeNodeInstance(nested);
+
+        assertThat(index.getNodeInstance("nested", true)).isNull();
+    }
+
+    private static ActionNodeInstance nodeInstance(long nodeId, String id, int level) {
+        ActionNodeInstance nodeInstance = new ActionNodeInstance();
+        nodeInstance.setNodeId(nodeId);
+        nodeInstance.setId(id);
+        nodeInstance.setLevel(level);
+        return nodeInstance;
+    }
+}
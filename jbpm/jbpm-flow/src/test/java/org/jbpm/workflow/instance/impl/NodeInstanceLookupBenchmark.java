@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jbpm.workflow.instance.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
+import org.jbpm.workflow.instance.NodeInstance;
+import org.jbpm.workflow.instance.node.ActionNodeInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures node instance lookups on a process instance holding many active node instances, most of them belonging to
+ * the same node as it happens with large multi instance loops.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NodeInstanceLookupBenchmark {
+
+    private static final long LOOP_NODE_ID = 1;
+    private static final long WAITING_NODE_ID = 2;
+
+    @Param({ "100", "1000", "10000" })
+    private int nodeInstances;
+
+    private RuleFlowProcessInstance processInstance;
+    private String lastNodeInstanceId;
+
+    @Setup
+    public void setup() {
+        processInstance = new RuleFlowProcessInstance();
+        for (int i = 0; i < nodeInstances; i++) {
+            processInstance.addNodeInstance(nodeInstance(LOOP_NODE_ID, "loop-" + i));
+        }
+        lastNodeInstanceId = "waiting";
+        processInstance.addNodeInstance(nodeInstance(WAITING_NODE_ID, lastNodeInstanceId));
+    }
+
+    @Benchmark
+    public NodeInstance getNodeInstanceById() {
+        return processInstance.getNodeInstance(lastNodeInstanceId, false);
+    }
+
+    @Benchmark
+    public NodeInstance getNodeInstanceByIdRecursive() {
+        return processInstance.getNodeInstance(lastNodeInstanceId, true);
+    }
+
+    @Benchmark
+    public NodeInstance getFirstNodeInstance() {
+        return processInstance.getFirstNodeInstance(WAITING_NODE_ID);
+    }
+
+    @Benchmark
+    public List<NodeInstance> getNodeInstancesOfNode() {
+        return processInstance.getNodeInstances(WAITING_NODE_ID);
+    }
+
+    private static NodeInstance nodeInstance(long nodeId, String id) {
+        ActionNodeInstance nodeInstance = new ActionNodeInstance();
+        nodeInstance.setNodeId(nodeId);
+        nodeInstance.setId(id);
+        return nodeInstance;
+    }
+}
@@ -34,6 +34,7 @@ import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.serialization.process.impl.ProtobufProcessInstanceDelta;
 import org.kie.kogito.serialization.process.impl.ProtobufProcessInstanceMarshallerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,6 +118,39 @@ public class ProcessInstanceMarshallerService {
         }
     }
 
+    /**
+     * Computes the changes between two images of the same process instance returned by {@link #marshallProcessInstance(ProcessInstance)},
+     * so that only the variables and node instances that changed need to be stored.
+     * Only supported by the binary format.
+     */
+    public byte[] diffProcessInstance(byte[] previous, byte[] current) {
+        checkBinaryFormat();
+        try {
+            return ProtobufProcessInstanceDelta.diff(previous, current);
+        } catch (Exception e) {
+            throw new ProcessInstanceMarshallerException("Error while computing process instance changes", e);
+        }
+    }
+
+    /**
+     * Rebuilds the full image of a process instance by applying, in order, the changes returned by {@link #diffProcessInstance(byte[], byte[])}
+     * to a snapshot. Only supported by the binary format.
+     */
+    public byte[] mergeProcessInstance(byte[] snapshot, List<byte[]> deltas) {
+        checkBinaryFormat();
+        try {
+            return ProtobufProcessInstanceDelta.apply(snapshot, deltas);
+        } catch (Exception e) {
+            throw new ProcessInstanceMarshallerException("Error while applying process instance changes", e);
+        }
+    }
+
+    private void checkBinaryFormat() {
+        if (MarshallerContextName.MARSHALLER_FORMAT_JSON.equals(contextEntries.get(MarshallerContextName.MARSHALLER_FORMAT))) {
+            throw new ProcessInstanceMarshallerException("Process instance changes are only supported by the binary format");
+        }
+    }
+
     public ProcessInstance<?> unmarshallProcessInstance(byte[] data, Process<?> process, boolean readOnly) {
         try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
             MarshallerReaderContext context = processInstanceMarshallerFactory.newReaderContext(bais);
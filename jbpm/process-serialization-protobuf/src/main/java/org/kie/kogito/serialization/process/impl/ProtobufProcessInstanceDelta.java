@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Computes and applies the changes between two binary images of the same process instance.
+ * <p>
+ * A delta is a {@link KogitoProcessInstanceProtobuf.ProcessInstance} itself: every field but the workflow context is
+ * copied from the newer image, the exclusive groups and iteration levels of the context are copied as well, while
+ * only the variables and node instances that changed are included. A variable without value stands for a removed
+ * variable and a node instance without content for a removed node instance.
+ * <p>
+ * Variables and node instances are kept sorted by name and id, as {@link ProtobufProcessInstanceWriter} does, so that
+ * applying the deltas to a snapshot rebuilds the very same image.
+ */
+public final class ProtobufProcessInstanceDelta {
+
+    private ProtobufProcessInstanceDelta() {
+    }
+
+    public static byte[] diff(byte[] previous, byte[] current) throws InvalidProtocolBufferException {
+        KogitoProcessInstanceProtobuf.ProcessInstance base = KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(previous);
+        KogitoProcessInstanceProtobuf.ProcessInstance target = KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(current);
+        if (!target.hasContext()) {
+            return current;
+        }
+        KogitoTypesProtobuf.WorkflowContext baseContext = base.getContext();
+        KogitoTypesProtobuf.WorkflowContext targetContext = target.getContext();
+        KogitoTypesProtobuf.WorkflowContext.Builder context = targetContext.toBuilder().clearVariable().clearNodeInstance();
+
+        Map<String, KogitoTypesProtobuf.Variable> variables = index(baseContext.getVariableList(), KogitoTypesProtobuf.Variable::getName);
+        for (KogitoTypesProtobuf.Variable variable : targetContext.getVariableList()) {
+            if (!variable.equals(variables.remove(variable.getName()))) {
+                context.addVariable(variable);
+            }
+        }
+        for (String removed : variables.keySet()) {
+            context.addVariable(KogitoTypesProtobuf.Variable.newBuilder().setName(removed));
+        }
+
+        Map<String, KogitoTypesProtobuf.NodeInstance> nodeInstances = index(baseContext.getNodeInstanceList(), KogitoTypesProtobuf.NodeInstance::getId);
+        for (KogitoTypesProtobuf.NodeInstance nodeInstance : targetContext.getNodeInstanceList()) {
+            if (!nodeInstance.equals(nodeInstances.remove(nodeInstance.getId()))) {
+                context.addNodeInstance(nodeInstance);
+            }
+        }
+        for (String removed : nodeInstances.keySet()) {
+            context.addNodeInstance(KogitoTypesProtobuf.NodeInstance.newBuilder().setId(removed));
+        }
+
+        return target.toBuilder().setContext(context).build().toByteArray();
+    }
+
+    public static byte[] apply(byte[] snapshot, List<byte[]> deltas) throws InvalidProtocolBufferException {
+        if (deltas.isEmpty()) {
+            return snapshot;
+        }
+        KogitoProcessInstanceProtobuf.ProcessInstance current = KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(snapshot);
+        for (byte[] data : deltas) {
+            current = apply(current, KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(data));
+        }
+        return current.toByteArray();
+    }
+
+    private static KogitoProcessInstanceProtobuf.ProcessInstance apply(KogitoProcessInstanceProtobuf.ProcessInstance base, KogitoProcessInstanceProtobuf.ProcessInstance delta) {
+        if (!delta.hasContext()) {
+            return delta;
+        }
+        KogitoTypesProtobuf.WorkflowContext baseContext = base.getContext();
+        KogitoTypesProtobuf.WorkflowContext deltaContext = delta.getContext();
+
+        Map<String, KogitoTypesProtobuf.Variable> variables = new TreeMap<>(index(baseContext.getVariableList(), KogitoTypesProtobuf.Variable::getName));
+        for (KogitoTypesProtobuf.Variable variable : deltaContext.getVariableList()) {
+            if (variable.hasValue()) {
+                variables.put(variable.getName(), variable);
+            } else {
+                variables.remove(variable.getName());
+            }
+        }
+
+        Map<String, KogitoTypesProtobuf.NodeInstance> nodeInstances = new TreeMap<>(index(baseContext.getNodeInstanceList(), KogitoTypesProtobuf.NodeInstance::getId));
+        for (KogitoTypesProtobuf.NodeInstance nodeInstance : deltaContext.getNodeInstanceList()) {
+            if (nodeInstance.hasContent()) {
+                nodeInstances.put(nodeInstance.getId(), nodeInstance);
+            } else {
+                nodeInstances.remove(nodeInstance.getId());
+            }
+        }
+
+        KogitoTypesProtobuf.WorkflowContext.Builder context = deltaContext.toBuilder()
+                .clearVariable()
+                .addAllVariable(variables.values())
+                .clearNodeInstance()
+                .addAllNodeInstance(nodeInstances.values());
+        return delta.toBuilder().setContext(context).build();
+    }
+
+    private static <T> Map<String, T> index(List<T> items, Function<T, String> key) {
+        Map<String, T> index = new LinkedHashMap<>();
+        for (T item : items) {
+            index.put(key.apply(item), item);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kie.kogito.serialization.process.ObjectMarshallerStrategy;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerException;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+
+/**
+ * Stores plain java beans field by field using the Smile binary format instead of java serialization.
+ * <p>
+ * A class is accepted when its whole state can be rebuilt from its fields: it must be a concrete, non generic class
+ * with a no-arg constructor and without custom java serialization hooks, and every non transient field must be a
+ * primitive or simple value type, an enum, another accepted class, or an array, list, set or map of those.
+ * Classes whose field types can lead back to themselves are not accepted, so cyclic graphs are never written.
+ * This analysis is done once per class.
+ * <p>
+ * Field values whose class differs from the declared one cannot be rebuilt without type information, and lists, sets
+ * and maps are read back as {@link ArrayList}, {@link HashSet} and {@link LinkedHashMap} unless declared otherwise; when
+ * a value or container of another class is found the value is stored by {@link ProtobufObjectMarshallerStrategy}
+ * instead. Objects referenced from several fields are written once per reference.
+ */
+public class ProtobufBeanMarshallerStrategy implements ObjectMarshallerStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProtobufBeanMarshallerStrategy.class);
+
+    private static final Set<Class<?>> KEY_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, UUID.class);
+
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, UUID.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class, Duration.class);
+
+    private static final Set<Class<?>> COLLECTION_TYPES = Set.of(Collection.class, List.class, Set.class, ArrayList.class, HashSet.class, LinkedHashSet.class);
+
+    private static final Set<Class<?>> MAP_TYPES = Set.of(Map.class, HashMap.class, LinkedHashMap.class);
+
+    // classes of the containers declared with an interface that are read back without losing anything, a hash map
+    // being read back as a linked hash map
+    private static final Map<Class<?>, Set<Class<?>>> CONTAINER_IMPLEMENTATIONS = Map.of(Collection.class, Set.of(ArrayList.class), List.class, Set.of(ArrayList.class),
+            Set.class, Set.of(HashSet.class), Map.class, Set.of(LinkedHashMap.class, HashMap.class));
+
+    private static final Set<String> SERIALIZATION_HOOKS = Set.of("writeObject", "readObject", "readObjectNoData", "writeReplace", "readResolve");
+
+    private final ObjectMapper mapper = SmileMapper.builder()
+            .disable(MapperFeature.USE_ANNOTATIONS)
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule().setSerializerModifier(new DeclaredTypesModifier()))
+            .build();
+
+    private final ClassValue<Boolean> accepted = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return isBean(type, new HashSet<>());
+            } catch (RuntimeException e) {
+                LOGGER.debug("Class {} cannot be stored field by field", type.getName(), e);
+                return false;
+            }
+        }
+    };
+
+    private final Map<String, CachedReader> readers = new ConcurrentHashMap<>();
+
+    private final ObjectMarshallerStrategy fallback = new ProtobufObjectMarshallerStrategy();
+
+    @Override
+    public Integer order() {
+        // right before the java serialization fallback
+        return fallback.order() + 1;
+    }
+
+    @Override
+    public boolean acceptForMarshalling(Object value) {
+        return value != null && accepted.get(value.getClass());
+    }
+
+    @Override
+    public boolean acceptForUnmarshalling(Any value) {
+        return value.is(KogitoTypesProtobuf.BinaryObject.class);
+    }
+
+    @Override
+    public Any marshall(Object unmarshalled) {
+        byte[] content;
+        try {
+            content = mapper.writeValueAsBytes(unmarshalled);
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("Value of type {} cannot be stored field by field, using java serialization: {}", unmarshalled.getClass().getName(), e.getMessage());
+            return fallback.marshall(unmarshalled);
+        }
+        return Any.pack(KogitoTypesProtobuf.BinaryObject.newBuilder()
+                .setClassName(unmarshalled.getClass().getName())
+                .setContent(ByteString.copyFrom(content))
+                .build());
+    }
+
+    @Override
+    public Object unmarshall(Any data) {
+        try {
+            KogitoTypesProtobuf.BinaryObject storedValue = data.unpack(KogitoTypesProtobuf.BinaryObject.class);
+            return readerFor(storedValue.getClassName()).readValue(storedValue.getContent().newInput());
+        } catch (IOException | ClassNotFoundException e) {
+            throw new ProcessInstanceMarshallerException("Unexpected error while trying to read object", e);
+        }
+    }
+
+    private ObjectReader readerFor(String className) throws ClassNotFoundException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        CachedReader cached = readers.get(className);
+        if (cached == null || cached.classLoader != classLoader) {
+            Class<?> type = Class.forName(className, false, classLoader);
+            // the stored class name is not trusted, only classes this strategy writes are read
+            if (!accepted.get(type)) {
+                throw new ProcessInstanceMarshallerException("Class " + className + " cannot be read field by field");
+            }
+            cached = new CachedReader(classLoader, mapper.readerFor(type));
+            readers.put(className, cached);
+        }
+        return cached.reader;
+    }
+
+    private boolean isBean(Class<?> type, Set<Class<?>> visiting) {
+        if (!visiting.add(type)) {
+            return false;
+        }
+        try {
+            if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum() || type.isAnonymousClass() || type.isLocalClass()
+                    || Modifier.isAbstract(type.getModifiers()) || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))
+                    || type.getTypeParameters().length > 0 || Externalizable.class.isAssignableFrom(type) || !hasNoArgConstructor(type)) {
+                return false;
+            }
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                if (isPlatformClass(current) || hasSerializationHooks(current)) {
+                    return false;
+                }
+            }
+            if (!(mapper.getSerializerProviderInstance().findValueSerializer(type) instanceof BeanSerializer)) {
+                return false;
+            }
+            BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (!property.hasField() || !isSupported(property.getPrimaryType(), visiting)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (JsonMappingException e) {
+            LOGGER.debug("Class {} cannot be stored field by field", type.getName(), e);
+            return false;
+        } finally {
+            visiting.remove(type);
+        }
+    }
+
+    private boolean isSupported(JavaType type, Set<Class<?>> visiting) {
+        Class<?> rawClass = type.getRawClass();
+        if (rawClass.isPrimitive() || rawClass.isEnum() || VALUE_TYPES.contains(rawClass)) {
+            return true;
+        }
+        if (type.isArrayType()) {
+            return isSupported(type.getContentType(), visiting);
+        }
+        if (type.isCollectionLikeType()) {
+            return COLLECTION_TYPES.contains(rawClass) && isSupported(type.getContentType(), visiting);
+        }
+        if (type.isMapLikeType()) {
+            Class<?> keyClass = type.getKeyType().getRawClass();
+            return MAP_TYPES.contains(rawClass) && (keyClass.isEnum() || KEY_TYPES.contains(keyClass)) && isSupported(type.getContentType(), visiting);
+        }
+        return isBean(rawClass, visiting);
+    }
+
+    private static boolean hasNoArgConstructor(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasSerializationHooks(Class<?> type) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (SERIALIZATION_HOOKS.contains(method.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    /**
+     * Whether values of the given declared type may hold objects, or be containers, whose class has to match the one read back.
+     */
+    private static boolean needsTypeCheck(JavaType type) {
+        Class<?> rawClass = type.getRawClass();
+        if (rawClass.isPrimitive() || rawClass.isEnum() || VALUE_TYPES.contains(rawClass)) {
+            return false;
+        }
+        if (type.isArrayType()) {
+            return needsTypeCheck(type.getContentType());
+        }
+        return true;
+    }
+
+    private static final class CachedReader {
+
+        private final ClassLoader classLoader;
+        private final ObjectReader reader;
+
+        private CachedReader(ClassLoader classLoader, ObjectReader reader) {
+            this.classLoader = classLoader;
+            this.reader = reader;
+        }
+    }
+
+    private static final class DeclaredTypesModifier extends BeanSerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+            List<BeanPropertyWriter> properties = new ArrayList<>(beanProperties.size());
+            for (BeanPropertyWriter property : beanProperties) {
+                properties.add(needsTypeCheck(property.getType()) ? new DeclaredTypePropertyWriter(property) : property);
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * Rejects field values holding objects or containers that are not exactly of the class they would be read back as.
+     */
+    private static final class DeclaredTypePropertyWriter extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        private DeclaredTypePropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            checkType(get(bean), getType(), gen);
+            super.serializeAsField(bean, gen, prov);
+        }
+
+        private void checkType(Object value, JavaType type, JsonGenerator gen) throws JsonMappingException {
+            if (value == null) {
+                return;
+            }
+            if (type.isArrayType()) {
+                if (needsTypeCheck(type.getContentType())) {
+                    for (int i = 0; i < Array.getLength(value); i++) {
+                        checkType(Array.get(value, i), type.getContentType(), gen);
+                    }
+                }
+                return;
+            }
+            Set<Class<?>> expected = CONTAINER_IMPLEMENTATIONS.getOrDefault(type.getRawClass(), Set.of(type.getRawClass()));
+            if (!expected.contains(value.getClass())) {
+                throw new JsonMappingException(gen, "Field " + getName() + " holds a " + value.getClass().getName() + " that would be read back as a " + type.getRawClass().getName());
+            }
+            if (type.isCollectionLikeType()) {
+                if (needsTypeCheck(type.getContentType())) {
+                    for (Object item : (Collection<?>) value) {
+                        checkType(item, type.getContentType(), gen);
+                    }
+                }
+            } else if (type.isMapLikeType()) {
+                if (needsTypeCheck(type.getContentType())) {
+                    for (Object item : ((Map<?, ?>) value).values()) {
+                        checkType(item, type.getContentType(), gen);
+                    }
+                }
+            }
+        }
+    }
+}
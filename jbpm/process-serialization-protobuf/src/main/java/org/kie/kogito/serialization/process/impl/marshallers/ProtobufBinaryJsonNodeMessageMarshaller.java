@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import java.io.IOException;
+
+import org.kie.kogito.serialization.process.ObjectMarshallerStrategy;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerException;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+
+/**
+ * Stores {@link JsonNode} values using the Smile binary format, which avoids rendering the tree as
+ * (pretty printed) text and re-tokenizing it on every load.
+ * Values stored by {@link ProtobufJsonNodeMessageMarshaller} are still read by that strategy, so
+ * existing process instances keep working and are rewritten in binary form on their next update.
+ */
+public class ProtobufBinaryJsonNodeMessageMarshaller implements ObjectMarshallerStrategy {
+
+    private static final ObjectMapper MAPPER = SmileMapper.builder().build();
+
+    @Override
+    public Integer order() {
+        // takes precedence over the text based json node strategy when marshalling
+        return DEFAULT_ORDER + 1;
+    }
+
+    @Override
+    public boolean acceptForMarshalling(Object value) {
+        return value instanceof JsonNode;
+    }
+
+    @Override
+    public boolean acceptForUnmarshalling(Any value) {
+        return value.is(KogitoTypesProtobuf.BinaryJsonNode.class);
+    }
+
+    @Override
+    public Any marshall(Object unmarshalled) {
+        try {
+            return Any.pack(KogitoTypesProtobuf.BinaryJsonNode.newBuilder()
+                    .setContent(ByteString.copyFrom(MAPPER.writeValueAsBytes(unmarshalled)))
+                    .build());
+        } catch (IOException e) {
+            throw new ProcessInstanceMarshallerException("Error trying to marshalling a Json Node value", e);
+        }
+    }
+
+    @Override
+    public Object unmarshall(Any data) {
+        try {
+            KogitoTypesProtobuf.BinaryJsonNode storedValue = data.unpack(KogitoTypesProtobuf.BinaryJsonNode.class);
+            return MAPPER.readTree(storedValue.getContent().newInput());
+        } catch (IOException e) {
+            throw new ProcessInstanceMarshallerException("Error trying to unmarshalling a Json Node value", e);
+        }
+    }
+}
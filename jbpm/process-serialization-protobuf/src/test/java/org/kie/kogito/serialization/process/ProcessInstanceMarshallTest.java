@@ -38,6 +38,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jbpm.process.core.context.variable.Variable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -48,7 +49,9 @@ import org.kie.kogito.serialization.process.impl.ProtobufVariableReader;
 import org.kie.kogito.serialization.process.impl.ProtobufVariableWriter;
 import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Any;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,6 +131,37 @@ public class ProcessInstanceMarshallTest {
         assertThat(unmarshalledVars.get(0).getValue()).isEqualTo(toMarshall);
     }
 
+    @Test
+    public void testJsonNodeIsStoredAsBinary() throws Exception {
+        JsonNode node = new ObjectMapper().readTree("{ \"key\" : \"value\", \"amount\" : 12345678901234567890.123456789, \"items\" : [1, 2.5, true, null] }");
+        ProtobufProcessMarshallerWriteContext ctxOut = new ProtobufProcessMarshallerWriteContext(new ByteArrayOutputStream());
+        ctxOut.set(MarshallerContextName.OBJECT_MARSHALLING_STRATEGIES, defaultStrategies());
+        List<KogitoTypesProtobuf.Variable> variables = new ProtobufVariableWriter(ctxOut).buildVariables(singletonMap("var", (Object) node).entrySet().stream().collect(Collectors.toList()));
+        assertThat(variables).hasSize(1);
+        assertThat(variables.get(0).getValue().is(KogitoTypesProtobuf.BinaryJsonNode.class)).isTrue();
+
+        ProtobufMarshallerReaderContext ctxIn = new ProtobufMarshallerReaderContext(new ByteArrayInputStream(new byte[0]));
+        ctxIn.set(MarshallerContextName.OBJECT_MARSHALLING_STRATEGIES, defaultStrategies());
+        List<Variable> unmarshalledVars = new ProtobufVariableReader(ctxIn).buildVariables(variables);
+        assertThat(unmarshalledVars.get(0).getValue()).isEqualTo(node);
+    }
+
+    @Test
+    public void testReadJsonNodeStoredAsText() throws Exception {
+        JsonNode node = new ObjectMapper().readTree("{ \"key\" : \"value\", \"items\" : [1, 2, 3] }");
+        KogitoTypesProtobuf.Variable variable = KogitoTypesProtobuf.Variable.newBuilder()
+                .setName("var")
+                .setDataType(node.getClass().getName())
+                .setValue(Any.pack(KogitoTypesProtobuf.JsonNode.newBuilder().setContent(node.toPrettyString()).build()))
+                .build();
+
+        ProtobufMarshallerReaderContext ctxIn = new ProtobufMarshallerReaderContext(new ByteArrayInputStream(new byte[0]));
+        ctxIn.set(MarshallerContextName.OBJECT_MARSHALLING_STRATEGIES, defaultStrategies());
+        List<Variable> unmarshalledVars = new ProtobufVariableReader(ctxIn).buildVariables(Collections.singletonList(variable));
+        assertThat(unmarshalledVars).hasSize(1);
+        assertThat(unmarshalledVars.get(0).getValue()).isEqualTo(node);
+    }
+
     private ObjectMarshallerStrategy[] defaultStrategies() {
         List<ObjectMarshallerStrategy> strats = new ArrayList<>();
         ServiceLoader<ObjectMarshallerStrategy> loader = ServiceLoader.load(ObjectMarshallerStrategy.class);
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.StringValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProtobufProcessInstanceDeltaTest {
+
+    @Test
+    void testDiffOnlyContainsChanges() throws Exception {
+        byte[] previous = instance(1, context(variables("a", "1", "b", "2", "c", "3"), nodeInstances("n1", "n2")));
+        byte[] current = instance(2, context(variables("a", "1", "b", "changed", "d", "4"), nodeInstances("n1", "n3")));
+
+        KogitoProcessInstanceProtobuf.ProcessInstance delta = KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(ProtobufProcessInstanceDelta.diff(previous, current));
+
+        assertThat(delta.getState()).isEqualTo(2);
+        assertThat(delta.getContext().getVariableList()).extracting(KogitoTypesProtobuf.Variable::getName).containsExactly("b", "d", "c");
+        assertThat(delta.getContext().getVariable(2).hasValue()).isFalse();
+        assertThat(delta.getContext().getNodeInstanceList()).extracting(KogitoTypesProtobuf.NodeInstance::getId).containsExactly("n3", "n2");
+        assertThat(delta.getContext().getNodeInstance(1).hasContent()).isFalse();
+        assertThat(delta.getContext().getExclusiveGroupCount()).isOne();
+    }
+
+    @Test
+    void testApplyRebuildsImage() throws Exception {
+        byte[] first = instance(1, context(variables("a", "1", "b", "2"), nodeInstances("n1")));
+        byte[] second = instance(1, context(variables("a", "1", "b", "3", "c", "4"), nodeInstances("n1", "n2")));
+        byte[] third = instance(2, context(variables("b", "3", "c", "5"), nodeInstances("n2", "n3")));
+
+        byte[] merged = ProtobufProcessInstanceDelta.apply(first,
+                Arrays.asList(ProtobufProcessInstanceDelta.diff(first, second), ProtobufProcessInstanceDelta.diff(second, third)));
+
+        assertThat(merged).isEqualTo(third);
+    }
+
+    @Test
+    void testApplyWithoutContext() throws Exception {
+        byte[] first = instance(1, context(variables("a", "1"), nodeInstances("n1")));
+        byte[] second = instance(2, null);
+
+        assertThat(ProtobufProcessInstanceDelta.apply(first, Collections.singletonList(ProtobufProcessInstanceDelta.diff(first, second)))).isEqualTo(second);
+        assertThat(ProtobufProcessInstanceDelta.apply(first, Collections.emptyList())).isEqualTo(first);
+    }
+
+    private static byte[] instance(int state, KogitoTypesProtobuf.WorkflowContext context) {
+        KogitoProcessInstanceProtobuf.ProcessInstance.Builder builder = KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder()
+                .setProcessType("RuleFlow")
+                .setProcessId("process")
+                .setId("instance")
+                .setState(state);
+        if (context != null) {
+            builder.setContext(context);
+        }
+        return builder.build().toByteArray();
+    }
+
+    private static KogitoTypesProtobuf.WorkflowContext context(Iterable<KogitoTypesProtobuf.Variable> variables, Iterable<KogitoTypesProtobuf.NodeInstance> nodeInstances) {
+        return KogitoTypesProtobuf.WorkflowContext.newBuilder()
+                .addAllVariable(variables)
+                .addAllNodeInstance(nodeInstances)
+                .addExclusiveGroup(KogitoTypesProtobuf.NodeInstanceGroup.newBuilder().addGroupNodeInstanceId("n1"))
+                .build();
+    }
+
+    private static Iterable<KogitoTypesProtobuf.Variable> variables(String... namesAndValues) {
+        KogitoTypesProtobuf.Variable[] variables = new KogitoTypesProtobuf.Variable[namesAndValues.length / 2];
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = KogitoTypesProtobuf.Variable.newBuilder()
+                    .setName(namesAndValues[i * 2])
+                    .setDataType(String.class.getName())
+                    .setValue(Any.pack(StringValue.of(namesAndValues[i * 2 + 1])))
+                    .build();
+        }
+        return Arrays.asList(variables);
+    }
+
+    private static Iterable<KogitoTypesProtobuf.NodeInstance> nodeInstances(String... ids) {
+        KogitoTypesProtobuf.NodeInstance[] nodeInstances = new KogitoTypesProtobuf.NodeInstance[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            nodeInstances[i] = KogitoTypesProtobuf.NodeInstance.newBuilder()
+                    .setId(ids[i])
+                    .setNodeId(i)
+                    .setContent(Any.pack(StringValue.of(ids[i])))
+                    .build();
+        }
+        return Arrays.asList(nodeInstances);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Domain like classes shared by the bean marshalling test and benchmark.
+ */
+public final class Beans {
+
+    private Beans() {
+    }
+
+    public enum Status {
+        OPEN,
+        SHIPPED
+    }
+
+    public static class Address implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String street;
+        private String city;
+        private String zipCode;
+
+        public Address() {
+        }
+
+        public Address(String street, String city, String zipCode) {
+            this.street = street;
+            this.city = city;
+            this.zipCode = zipCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Address)) {
+                return false;
+            }
+            Address other = (Address) obj;
+            return Objects.equals(street, other.street) && Objects.equals(city, other.city) && Objects.equals(zipCode, other.zipCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(street, city, zipCode);
+        }
+    }
+
+    public static class VerifiedAddress extends Address {
+
+        private static final long serialVersionUID = 1L;
+
+        private boolean verified;
+
+        public VerifiedAddress() {
+        }
+
+        public VerifiedAddress(String street, String city, String zipCode) {
+            super(street, city, zipCode);
+            this.verified = true;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof VerifiedAddress && super.equals(obj) && verified == ((VerifiedAddress) obj).verified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), verified);
+        }
+    }
+
+    public static class OrderLine implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String product;
+        private int quantity;
+        private BigDecimal price;
+
+        public OrderLine() {
+        }
+
+        public OrderLine(String product, int quantity, BigDecimal price) {
+            this.product = product;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof OrderLine)) {
+                return false;
+            }
+            OrderLine other = (OrderLine) obj;
+            return quantity == other.quantity && Objects.equals(product, other.product) && Objects.equals(price, other.price);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(product, quantity, price);
+        }
+    }
+
+    public static class Order implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String id;
+        private Status status;
+        private LocalDate created;
+        private Address shippingAddress;
+        private List<OrderLine> lines = new ArrayList<>();
+        private Map<String, String> tags = new HashMap<>();
+        private transient String cachedSummary;
+
+        public Order() {
+        }
+
+        public Order(String id, Status status, LocalDate created, Address shippingAddress) {
+            this.id = id;
+            this.status = status;
+            this.created = created;
+            this.shippingAddress = shippingAddress;
+        }
+
+        public List<OrderLine> getLines() {
+            return lines;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public void setLines(List<OrderLine> lines) {
+            this.lines = lines;
+        }
+
+        public void setTags(Map<String, String> tags) {
+            this.tags = tags;
+        }
+
+        public void setCachedSummary(String cachedSummary) {
+            this.cachedSummary = cachedSummary;
+        }
+
+        public String getCachedSummary() {
+            return cachedSummary;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Order)) {
+                return false;
+            }
+            Order other = (Order) obj;
+            return Objects.equals(id, other.id) && status == other.status && Objects.equals(created, other.created) && Objects.equals(shippingAddress, other.shippingAddress)
+                    && Objects.equals(lines, other.lines) && Objects.equals(tags, other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, status, created, shippingAddress, lines, tags);
+        }
+    }
+
+    public static class TreeNode implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String name;
+        private List<TreeNode> children = new ArrayList<>();
+    }
+
+    public static class Holder implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Object value;
+    }
+
+    public static Order order(int lines) {
+        Order order = new Order("order-1", Status.OPEN, LocalDate.of(2024, 3, 1), new Address("Main Street 1", "Springfield", "12345"));
+        for (int i = 0; i < lines; i++) {
+            order.getLines().add(new OrderLine("product-" + i, i + 1, BigDecimal.valueOf(1000 + i, 2)));
+        }
+        order.getTags().put("channel", "web");
+        order.getTags().put("priority", "high");
+        return order;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.serialization.process.ObjectMarshallerStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.protobuf.Any;
+
+/**
+ * Compares the java serialization fallback with the field level bean strategy for a domain like variable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMarshallerStrategyBenchmark {
+
+    @Param({ "java", "bean" })
+    private String strategyName;
+
+    @Param({ "1", "50" })
+    private int lines;
+
+    private ObjectMarshallerStrategy strategy;
+    private Object value;
+    private Any stored;
+
+    @Setup
+    public void setup() {
+        strategy = "java".equals(strategyName) ? new ProtobufObjectMarshallerStrategy() : new ProtobufBeanMarshallerStrategy();
+        value = Beans.order(lines);
+        stored = strategy.marshall(value);
+    }
+
+    @Benchmark
+    public Any marshall() {
+        return strategy.marshall(value);
+    }
+
+    @Benchmark
+    public Object unmarshall() {
+        return strategy.unmarshall(stored);
+    }
+}
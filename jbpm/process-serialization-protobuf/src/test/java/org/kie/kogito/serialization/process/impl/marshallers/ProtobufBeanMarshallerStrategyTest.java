@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serialization.process.impl.marshallers;
+
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerException;
+import org.kie.kogito.serialization.process.impl.marshallers.Beans.Address;
+import org.kie.kogito.serialization.process.impl.marshallers.Beans.Holder;
+import org.kie.kogito.serialization.process.impl.marshallers.Beans.Order;
+import org.kie.kogito.serialization.process.impl.marshallers.Beans.TreeNode;
+import org.kie.kogito.serialization.process.impl.marshallers.Beans.VerifiedAddress;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BytesValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProtobufBeanMarshallerStrategyTest {
+
+    private final ProtobufBeanMarshallerStrategy strategy = new ProtobufBeanMarshallerStrategy();
+
+    @Test
+    public void testBeanRoundTrip() {
+        Order order = Beans.order(3);
+        order.setCachedSummary("not stored");
+        assertThat(strategy.acceptForMarshalling(order)).isTrue();
+
+        Any stored = strategy.marshall(order);
+        assertThat(stored.is(KogitoTypesProtobuf.BinaryObject.class)).isTrue();
+        assertThat(strategy.acceptForUnmarshalling(stored)).isTrue();
+
+        Order read = (Order) strategy.unmarshall(stored);
+        assertThat(read).isEqualTo(order);
+        assertThat(read.getCachedSummary()).isNull();
+    }
+
+    @Test
+    public void testNullFields() {
+        Order order = new Order(null, null, null, null);
+        assertThat(strategy.unmarshall(strategy.marshall(order))).isEqualTo(order);
+    }
+
+    @Test
+    public void testUnsupportedClasses() {
+        assertThat(strategy.acceptForMarshalling(null)).isFalse();
+        assertThat(strategy.acceptForMarshalling("text")).isFalse();
+        assertThat(strategy.acceptForMarshalling(new Date())).isFalse();
+        assertThat(strategy.acceptForMarshalling(new TreeNode())).isFalse();
+        assertThat(strategy.acceptForMarshalling(new Holder())).isFalse();
+        assertThat(strategy.acceptForMarshalling(new Object() {
+        })).isFalse();
+    }
+
+    @Test
+    public void testSubclassValueUsesJavaSerialization() {
+        Order order = new Order("order-2", Beans.Status.SHIPPED, null, new VerifiedAddress("Elm Street 2", "Shelbyville", "54321"));
+        assertThat(strategy.acceptForMarshalling(order)).isTrue();
+
+        Any stored = strategy.marshall(order);
+        assertThat(stored.is(BytesValue.class)).isTrue();
+        assertThat(new ProtobufObjectMarshallerStrategy().unmarshall(stored)).isEqualTo(order);
+        assertThat(strategy.marshall(new Order("order-3", null, null, new Address())).is(KogitoTypesProtobuf.BinaryObject.class)).isTrue();
+    }
+
+    @Test
+    public void testContainerOfAnotherClassUsesJavaSerialization() {
+        Order order = Beans.order(2);
+        order.setTags(new TreeMap<>(Map.of("b", "2", "a", "1")));
+
+        Any stored = strategy.marshall(order);
+        assertThat(stored.is(BytesValue.class)).isTrue();
+        Order read = (Order) new ProtobufObjectMarshallerStrategy().unmarshall(stored);
+        assertThat(read.getTags()).isInstanceOf(TreeMap.class);
+
+        order.setTags(new TreeMap<>());
+        order.setLines(new LinkedList<>(order.getLines()));
+        assertThat(strategy.marshall(order).is(BytesValue.class)).isTrue();
+    }
+
+    @Test
+    public void testStoredClassNotAcceptedIsNotRead() throws Exception {
+        Any stored = Any.pack(KogitoTypesProtobuf.BinaryObject.newBuilder()
+                .setClassName(Date.class.getName())
+                .setContent(strategy.marshall(new Address()).unpack(KogitoTypesProtobuf.BinaryObject.class).getContent())
+                .build());
+        assertThatThrownBy(() -> strategy.unmarshall(stored)).isInstanceOf(ProcessInstanceMarshallerException.class);
+    }
+
+    @Test
+    public void testOrder() {
+        assertThat(strategy.compareTo(new ProtobufObjectMarshallerStrategy())).isNegative();
+        assertThat(strategy.compareTo(new ProtobufStringMarshallerStrategy())).isPositive();
+    }
+}
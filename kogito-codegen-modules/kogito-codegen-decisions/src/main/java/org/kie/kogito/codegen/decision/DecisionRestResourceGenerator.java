@@ -141,7 +141,10 @@ public class DecisionRestResourceGenerator {
         MethodDeclaration dmnMethod = template.findAll(MethodDeclaration.class, x -> x.getName().toString().equals("dmn")).get(0);
         processOASAnn(dmnMethod, null);
 
+        MethodDeclaration batchMethod = template.findAll(MethodDeclaration.class, x -> x.getName().toString().equals("dmn_batch")).get(0);
+
         final String dmnMethodUrlPlaceholder = "$dmnMethodUrl$";
+        final String batchMethodUrlPlaceholder = "$batchMethodUrl$";
 
         template.addMember(cloneForDMNResult(dmnMethod, "dmn_dmnresult", "dmnresult", dmnMethodUrlPlaceholder));
         for (DecisionService ds : dmnModel.getDefinitions().getDecisionService()) {
@@ -177,10 +180,12 @@ public class DecisionRestResourceGenerator {
 
             template.addMember(clonedMethod);
             template.addMember(cloneForDMNResult(clonedMethod, name + "_dmnresult", ds.getName() + "/dmnresult", path));
+            template.addMember(cloneForDecisionServiceBatch(batchMethod, name + "_batch", ds.getName(), batchMethodUrlPlaceholder));
         }
 
         //set the root path for the dmnMethod itself
         interpolateRequestPath("", dmnMethodUrlPlaceholder, dmnMethod);
+        interpolateRequestPath("batch", batchMethodUrlPlaceholder, batchMethod);
 
         if (context.getAddonsConfig().useMonitoring()) {
             addMonitoringImports(clazz);
@@ -290,6 +295,18 @@ public class DecisionRestResourceGenerator {
         return clonedDmnMethod;
     }
 
+    private MethodDeclaration cloneForDecisionServiceBatch(MethodDeclaration batchMethod, String name, String decisionServiceName, String placeHolder) {
+        MethodDeclaration clonedBatchMethod = batchMethod.clone();
+        clonedBatchMethod.setName(name);
+
+        interpolateRequestPath(decisionServiceName + "/batch", placeHolder, clonedBatchMethod);
+
+        MethodCallExpr evaluateCall = clonedBatchMethod.findFirst(MethodCallExpr.class, x -> x.getNameAsString().equals("evaluateAll")).orElseThrow(TEMPLATE_WAS_MODIFIED);
+        evaluateCall.setName(new SimpleName("evaluateDecisionService"));
+        evaluateCall.getArguments().add(1, new StringLiteralExpr(decisionServiceName));
+        return clonedBatchMethod;
+    }
+
     private void interpolateRequestPath(String pathName, String placeHolder, MethodDeclaration clonedDmnMethod) {
         clonedDmnMethod.getAnnotations().stream()
                 .filter(a -> a.getNameAsString().endsWith("Path") || a.getNameAsString().endsWith("PostMapping")) // e.g.: @jakarta.ws.rs.Path("/DSn/dmnresult") or @org.springframework.web.bind.annotation.PostMapping(value = "$dmnMethodUrl$", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -30,9 +30,11 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
 import org.kie.kogito.Application;
+import org.kie.kogito.dmn.rest.DMNBatchUtils;
 import org.kie.kogito.dmn.rest.DMNEvaluationErrorException;
 import org.kie.kogito.dmn.rest.DMNJSONUtils;
 import org.kie.kogito.dmn.rest.KogitoDMNResult;
@@ -70,6 +72,16 @@ public class DMNRestResourceTemplate {
         return enrichResponseHeaders(decisionResult, $extractContextMethod$(result));
     }
 
+    @POST
+    @Path("/$batchMethodUrl$")
+    @Consumes(DMNBatchUtils.NDJSON)
+    @Produces(DMNBatchUtils.NDJSON)
+    public StreamingOutput dmn_batch(InputStream input) {
+        org.kie.kogito.decision.DecisionModel decision = application.get(org.kie.kogito.decision.DecisionModels.class).getDecisionModel("$modelNamespace$", "$modelName$");
+        org.kie.kogito.decision.DecisionConfig config = application.config().get(org.kie.kogito.decision.DecisionConfig.class);
+        return output -> DMNBatchUtils.evaluateAll(decision, config, objectMapper, input, output);
+    }
+
     @GET
     @Produces(MediaType.APPLICATION_XML)
     public String dmn() throws java.io.IOException {
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 
 import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
 import org.kie.kogito.Application;
+import org.kie.kogito.dmn.rest.DMNBatchUtils;
 import org.kie.kogito.dmn.rest.DMNEvaluationErrorException;
 import org.kie.kogito.dmn.rest.DMNJSONUtils;
 import org.kie.kogito.dmn.rest.KogitoDMNResult;
@@ -42,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/$nameURL$")
@@ -74,6 +76,13 @@ public class DMNRestResourceTemplate {
         return enrichResponseHeaders(decisionResult, $extractContextMethod$(result));
     }
 
+    @PostMapping(value = "$batchMethodUrl$", produces = DMNBatchUtils.NDJSON, consumes = DMNBatchUtils.NDJSON)
+    public ResponseEntity<StreamingResponseBody> dmn_batch(InputStream input) {
+        org.kie.kogito.decision.DecisionModel decision = application.get(org.kie.kogito.decision.DecisionModels.class).getDecisionModel("$modelNamespace$", "$modelName$");
+        org.kie.kogito.decision.DecisionConfig config = application.config().get(org.kie.kogito.decision.DecisionConfig.class);
+        return ResponseEntity.ok(output -> DMNBatchUtils.evaluateAll(decision, config, objectMapper, input, output));
+    }
+
     @GetMapping(produces = MediaType.APPLICATION_XML_VALUE)
     public String dmn() throws java.io.IOException {
         try (InputStream is = this.getClass().getResourceAsStream(CodegenStringUtil.escapeIdentifier("$modelName$") + ".dmn_nologic")) {
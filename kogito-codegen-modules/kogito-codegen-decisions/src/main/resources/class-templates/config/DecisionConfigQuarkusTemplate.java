@@ -38,8 +38,17 @@ class DecisionConfig extends AbstractDecisionConfig {
     @jakarta.inject.Inject
     public DecisionConfig(
             Instance<DecisionEventListenerConfig> decisionEventListenerConfigs,
-            Instance<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
+            Instance<DMNRuntimeEventListener> dmnRuntimeEventListeners,
+            @org.eclipse.microprofile.config.inject.ConfigProperty(name = "kogito.decisions.batch.parallelism") java.util.Optional<Integer> batchParallelism,
+            @org.eclipse.microprofile.config.inject.ConfigProperty(name = "kogito.decisions.batch.threads") java.util.Optional<Integer> batchThreads) {
         super(decisionEventListenerConfigs, dmnRuntimeEventListeners);
+        batchParallelism.ifPresent(this::setBatchParallelism);
+        batchThreads.ifPresent(this::setBatchThreads);
+    }
+
+    @jakarta.annotation.PreDestroy
+    void onPreDestroy() {
+        close();
     }
 
 }
@@ -36,8 +36,17 @@ class DecisionConfig extends AbstractDecisionConfig {
     @org.springframework.beans.factory.annotation.Autowired
     public DecisionConfig(
             List<DecisionEventListenerConfig> decisionEventListenerConfigs,
-            List<DMNRuntimeEventListener> dmnRuntimeEventListeners) {
+            List<DMNRuntimeEventListener> dmnRuntimeEventListeners,
+            @org.springframework.beans.factory.annotation.Value("${kogito.decisions.batch.parallelism:#{null}}") java.util.Optional<Integer> batchParallelism,
+            @org.springframework.beans.factory.annotation.Value("${kogito.decisions.batch.threads:#{null}}") java.util.Optional<Integer> batchThreads) {
         super(decisionEventListenerConfigs, dmnRuntimeEventListeners);
+        batchParallelism.ifPresent(this::setBatchParallelism);
+        batchThreads.ifPresent(this::setBatchThreads);
+    }
+
+    @jakarta.annotation.PreDestroy
+    void onPreDestroy() {
+        close();
     }
 
 }
@@ -291,6 +291,9 @@ public class DecisionCodegenTest {
                 .map(x -> x.findFirst(ReturnStmt.class).orElseThrow(() -> new NoSuchElementException("Could not find return statement")))
                 .map(x -> x.findFirst(MethodCallExpr.class).orElseThrow(() -> new NoSuchElementException("Could not find method call")))
                 .forEach(x -> assertThat(x.getNameAsString()).isEqualTo("buildDMNResultResponse"));
+        assertThat(compilationUnit.findAll(MethodDeclaration.class, x -> x.getNameAsString().endsWith("_batch")))
+                .isNotEmpty()
+                .allSatisfy(x -> assertThat(x.toString()).doesNotContain("$batchMethodUrl$"));
     }
 
     protected DecisionCodegen getDecisionCodegen(String sourcePath, KogitoBuildContext.Builder contextBuilder) {
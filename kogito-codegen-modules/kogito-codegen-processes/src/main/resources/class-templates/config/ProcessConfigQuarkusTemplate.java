@@ -26,6 +26,7 @@ import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.process.ProcessEventListenerConfig;
 import org.kie.kogito.process.ProcessVersionResolver;
+import org.kie.kogito.process.WorkItemExecutor;
 import org.kie.kogito.process.WorkItemHandlerConfig;
 import org.kie.kogito.uow.UnitOfWorkManager;
 import org.kie.kogito.uow.events.UnitOfWorkEventListener;
@@ -44,7 +45,8 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
             org.kie.kogito.config.ConfigBean configBean,
             Instance<UnitOfWorkEventListener> unitOfWorkEventListeners,
             Instance<ProcessVersionResolver> versionResolver,
-            Instance<IdentityProvider> identityProvider) {
+            Instance<IdentityProvider> identityProvider,
+            Instance<WorkItemExecutor> workItemExecutor) {
 
         super(workItemHandlerConfig,
                 processEventListenerConfigs,
@@ -55,7 +57,8 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
                 configBean.getServiceUrl(),
                 unitOfWorkEventListeners,
                 versionResolver,
-                identityProvider);
+                identityProvider,
+                workItemExecutor);
     }
 
 }
@@ -26,6 +26,7 @@ import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.process.ProcessEventListenerConfig;
 import org.kie.kogito.process.ProcessVersionResolver;
+import org.kie.kogito.process.WorkItemExecutor;
 import org.kie.kogito.process.WorkItemHandlerConfig;
 import org.kie.kogito.uow.UnitOfWorkManager;
 import org.kie.kogito.uow.events.UnitOfWorkEventListener;
@@ -44,7 +45,8 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
             org.kie.kogito.config.ConfigBean configBean,
             List<UnitOfWorkEventListener> unitOfWorkEventListeners,
             List<ProcessVersionResolver> versionResolver,
-            List<IdentityProvider> identityProvider) {
+            List<IdentityProvider> identityProvider,
+            List<WorkItemExecutor> workItemExecutor) {
 
         super(workItemHandlerConfig,
                 processEventListenerConfigs,
@@ -55,6 +57,7 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
                 configBean.getServiceUrl(),
                 unitOfWorkEventListeners,
                 versionResolver,
-                identityProvider);
+                identityProvider,
+                workItemExecutor);
     }
 }
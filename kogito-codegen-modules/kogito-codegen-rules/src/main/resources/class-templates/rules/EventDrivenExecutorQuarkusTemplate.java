@@ -19,6 +19,7 @@
 package com.myspace.demo;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -26,6 +27,7 @@ import org.kie.kogito.eventdriven.rules.AbstractEventDrivenQueryExecutor;
 import org.drools.ruleunits.api.RuleUnit;
 import org.kie.kogito.eventdriven.rules.EventDrivenRulesController;
 import io.quarkus.runtime.Startup;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 
 @ApplicationScoped
@@ -38,8 +40,16 @@ public class $QueryType$EventDrivenExecutor extends AbstractEventDrivenQueryExec
     @Inject
     EventDrivenRulesController controller;
 
+    @ConfigProperty(name = AbstractEventDrivenQueryExecutor.INSTANCE_POOL_SIZE_PROPERTY, defaultValue = AbstractEventDrivenQueryExecutor.DEFAULT_INSTANCE_POOL_SIZE)
+    int instancePoolSize;
+
     @PostConstruct
     private void onPostConstruct() {
-        setup(controller, ruleUnit, "$name$", $QueryType$::execute, $DataType$.class);
+        setup(controller, ruleUnit, "$name$", $QueryType$::execute, $DataType$.class, instancePoolSize);
+    }
+
+    @PreDestroy
+    private void onPreDestroy() {
+        close();
     }
 }
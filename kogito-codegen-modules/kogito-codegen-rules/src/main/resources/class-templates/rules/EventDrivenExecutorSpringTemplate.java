@@ -21,13 +21,21 @@ package com.myspace.demo;
 import org.kie.kogito.eventdriven.rules.AbstractEventDrivenQueryExecutor;
 import org.drools.ruleunits.api.RuleUnit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.kie.kogito.eventdriven.rules.EventDrivenRulesController;
+import jakarta.annotation.PreDestroy;
 @Component
 public class $QueryType$EventDrivenExecutor extends AbstractEventDrivenQueryExecutor<$DataType$> {
 
     @Autowired
-    public $QueryType$EventDrivenExecutor(EventDrivenRulesController controller, RuleUnit<$DataType$> ruleUnit) {
-        super(controller, ruleUnit, "$name$", $QueryType$::execute, $DataType$.class);
+    public $QueryType$EventDrivenExecutor(EventDrivenRulesController controller, RuleUnit<$DataType$> ruleUnit,
+            @Value("${" + AbstractEventDrivenQueryExecutor.INSTANCE_POOL_SIZE_PROPERTY + ":#{" + AbstractEventDrivenQueryExecutor.DEFAULT_INSTANCE_POOL_SIZE + "}}") int instancePoolSize) {
+        super(controller, ruleUnit, "$name$", $QueryType$::execute, $DataType$.class, instancePoolSize);
+    }
+
+    @PreDestroy
+    void onPreDestroy() {
+        close();
     }
 }
@@ -25,6 +25,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
@@ -62,6 +63,7 @@ public class JqExpression implements Expression {
     private final String expr;
 
     private net.thisptr.jackson.jq.Expression internalExpr;
+    private Predicate<String> referencedVariables = name -> true;
     private JsonQueryException validationError;
     private static Field rhsField;
 
@@ -80,6 +82,7 @@ public class JqExpression implements Expression {
         try {
             this.internalExpr = compile(version);
             checkFunctionCall(internalExpr);
+            JqVariableReferences.of(internalExpr).ifPresent(names -> referencedVariables = names::contains);
         } catch (JsonQueryException ex) {
             validationError = ex;
         }
@@ -213,7 +216,7 @@ public class JqExpression implements Expression {
             throw new IllegalArgumentException("Unable to evaluate content " + context + " using expr " + expr, validationError);
         }
         TypedOutput output = output(returnClass);
-        try (JsonNodeContext jsonNode = JsonNodeContext.from(context, processInfo)) {
+        try (JsonNodeContext jsonNode = JsonNodeContext.from(context, processInfo, referencedVariables)) {
             internalExpr.apply(getScope(processInfo), jsonNode.getNode(), output);
             return JsonObjectUtils.convertValue(output.getResult(), returnClass);
         } catch (JsonQueryException e) {
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.expr.jq;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.thisptr.jackson.jq.Expression;
+import net.thisptr.jackson.jq.internal.misc.Pair;
+import net.thisptr.jackson.jq.internal.tree.ArrayConstruction;
+import net.thisptr.jackson.jq.internal.tree.AssignPipeComponent;
+import net.thisptr.jackson.jq.internal.tree.Conditional;
+import net.thisptr.jackson.jq.internal.tree.FieldConstruction;
+import net.thisptr.jackson.jq.internal.tree.FunctionCall;
+import net.thisptr.jackson.jq.internal.tree.IdentifierKeyFieldConstruction;
+import net.thisptr.jackson.jq.internal.tree.JsonQueryKeyFieldConstruction;
+import net.thisptr.jackson.jq.internal.tree.LabelPipeComponent;
+import net.thisptr.jackson.jq.internal.tree.NegativeExpression;
+import net.thisptr.jackson.jq.internal.tree.ObjectConstruction;
+import net.thisptr.jackson.jq.internal.tree.PipeComponent;
+import net.thisptr.jackson.jq.internal.tree.PipedQuery;
+import net.thisptr.jackson.jq.internal.tree.SemicolonOperator;
+import net.thisptr.jackson.jq.internal.tree.StringInterpolation;
+import net.thisptr.jackson.jq.internal.tree.StringKeyFieldConstruction;
+import net.thisptr.jackson.jq.internal.tree.ThisObject;
+import net.thisptr.jackson.jq.internal.tree.TopLevelExpression;
+import net.thisptr.jackson.jq.internal.tree.TransformPipeComponent;
+import net.thisptr.jackson.jq.internal.tree.TryCatch;
+import net.thisptr.jackson.jq.internal.tree.Tuple;
+import net.thisptr.jackson.jq.internal.tree.VariableAccess;
+import net.thisptr.jackson.jq.internal.tree.VariableKeyFieldConstruction;
+import net.thisptr.jackson.jq.internal.tree.binaryop.BinaryOperatorExpression;
+import net.thisptr.jackson.jq.internal.tree.fieldaccess.BracketFieldAccess;
+import net.thisptr.jackson.jq.internal.tree.fieldaccess.FieldAccess;
+import net.thisptr.jackson.jq.internal.tree.fieldaccess.IdentifierFieldAccess;
+import net.thisptr.jackson.jq.internal.tree.fieldaccess.StringFieldAccess;
+import net.thisptr.jackson.jq.internal.tree.literal.StringLiteral;
+import net.thisptr.jackson.jq.internal.tree.literal.ValueLiteral;
+import net.thisptr.jackson.jq.internal.tree.matcher.matchers.ValueMatcher;
+
+/**
+ * Finds out, from a compiled jq expression, which fields of its input it reads by name, so that only the process
+ * variables with those names are added to the input before evaluating it.
+ * <p>
+ * The analysis is conservative: as soon as the input might be read as a whole (for example {@code .}, {@code keys} or
+ * {@code .[]}) or a construct is not known, the referenced fields are considered unknown.
+ */
+final class JqVariableReferences {
+
+    private static final Map<String, Optional<Field>> fields = new ConcurrentHashMap<>();
+
+    private final Set<String> names = new HashSet<>();
+    private boolean unknown;
+
+    private JqVariableReferences() {
+    }
+
+    /**
+     * Names of the input fields read by the expression, empty if they cannot be told.
+     */
+    static Optional<Set<String>> of(Expression expression) {
+        JqVariableReferences references = new JqVariableReferences();
+        try {
+            references.visit(expression, true);
+        } catch (IllegalStateException e) {
+            // the internal tree of the jq library is not the expected one
+            return Optional.empty();
+        }
+        return references.unknown ? Optional.empty() : Optional.of(references.names);
+    }
+
+    /**
+     * @param expression the expression to visit
+     * @param input whether the expression is applied to the input of the whole expression
+     */
+    private void visit(Expression expression, boolean input) {
+        if (unknown || expression == null || expression instanceof ValueLiteral || expression instanceof VariableAccess) {
+            return;
+        }
+        if (expression instanceof ThisObject) {
+            unknown = input;
+        } else if (expression instanceof FieldAccess) {
+            visitFieldAccess((FieldAccess) expression, input);
+        } else if (expression instanceof PipedQuery) {
+            for (PipeComponent component : JqVariableReferences.<List<PipeComponent>> get(expression, PipedQuery.class, "components")) {
+                if (component instanceof TransformPipeComponent) {
+                    visit(((TransformPipeComponent) component).expr, input);
+                    // the following components are applied to the output of this one
+                    input = false;
+                } else if (component instanceof AssignPipeComponent && ((AssignPipeComponent) component).matcher instanceof ValueMatcher) {
+                    // binding a variable does not change the input of the next component
+                    visit(((AssignPipeComponent) component).expr, input);
+                } else if (!(component instanceof LabelPipeComponent)) {
+                    unknown = true;
+                }
+            }
+        } else if (expression instanceof BinaryOperatorExpression) {
+            if (expression.getClass().getPackageName().endsWith(".assignment")) {
+                // assignments output their whole input
+                unknown |= input;
+            }
+            visit(get(expression, BinaryOperatorExpression.class, "lhs"), input);
+            visit(get(expression, BinaryOperatorExpression.class, "rhs"), input);
+        } else if (expression instanceof ObjectConstruction) {
+            for (FieldConstruction field : ((ObjectConstruction) expression).fields) {
+                visitFieldConstruction(field, input);
+            }
+        } else if (expression instanceof ArrayConstruction) {
+            visit(((ArrayConstruction) expression).q, input);
+        } else if (expression instanceof StringInterpolation) {
+            for (Pair<Integer, Expression> interpolation : JqVariableReferences.<List<Pair<Integer, Expression>>> get(expression, StringInterpolation.class, "interpolations")) {
+                visit(interpolation._2, input);
+            }
+            visit(get(expression, StringInterpolation.class, "formatter"), false);
+        } else if (expression instanceof Conditional) {
+            for (Pair<Expression, Expression> condition : JqVariableReferences.<List<Pair<Expression, Expression>>> get(expression, Conditional.class, "switches")) {
+                visit(condition._1, input);
+                visit(condition._2, input);
+            }
+            visit(get(expression, Conditional.class, "otherwise"), input);
+        } else if (expression instanceof FunctionCall) {
+            // a function might read its input as a whole
+            unknown |= input;
+            for (Expression arg : JqVariableReferences.<List<Expression>> get(expression, FunctionCall.class, "args")) {
+                visit(arg, input);
+            }
+        } else if (expression instanceof TryCatch) {
+            visit(get(expression, TryCatch.class, "tryExpr"), input);
+            visit(get(expression, TryCatch.class, "catchExpr"), false);
+        } else if (expression instanceof NegativeExpression) {
+            visit(get(expression, NegativeExpression.class, "value"), input);
+        } else if (expression instanceof Tuple) {
+            for (Expression q : ((Tuple) expression).qs) {
+                visit(q, input);
+            }
+        } else if (expression instanceof SemicolonOperator) {
+            for (Expression q : JqVariableReferences.<List<Expression>> get(expression, SemicolonOperator.class, "qs")) {
+                visit(q, input);
+            }
+        } else if (expression instanceof TopLevelExpression) {
+            visit(get(expression, TopLevelExpression.class, "expr"), input);
+        } else {
+            unknown = true;
+        }
+    }
+
+    private void visitFieldAccess(FieldAccess expression, boolean input) {
+        Expression target = get(expression, FieldAccess.class, "target");
+        boolean inputField = input && target instanceof ThisObject;
+        if (expression instanceof IdentifierFieldAccess) {
+            if (inputField) {
+                names.add(get(expression, IdentifierFieldAccess.class, "field"));
+            }
+        } else if (expression instanceof StringFieldAccess) {
+            Expression field = get(expression, StringFieldAccess.class, "field");
+            if (inputField) {
+                addName(field);
+            }
+            visit(field, input);
+        } else if (expression instanceof BracketFieldAccess && isStringKey((BracketFieldAccess) expression)) {
+            if (inputField) {
+                addName(get(expression, BracketFieldAccess.class, "startExpr"));
+            }
+        } else {
+            // indexes, slices and iterations
+            unknown |= inputField;
+            for (Field field : getExpressionFields(expression.getClass())) {
+                visit(get(expression, field), input);
+            }
+        }
+        if (!inputField) {
+            visit(target, input);
+        }
+    }
+
+    private void visitFieldConstruction(FieldConstruction field, boolean input) {
+        if (field instanceof IdentifierKeyFieldConstruction) {
+            IdentifierKeyFieldConstruction identifierField = (IdentifierKeyFieldConstruction) field;
+            if (identifierField.value == null) {
+                // {name} is short for {name: .name}
+                names.add(identifierField.key);
+            } else {
+                visit(identifierField.value, input);
+            }
+        } else if (field instanceof StringKeyFieldConstruction) {
+            StringKeyFieldConstruction stringField = (StringKeyFieldConstruction) field;
+            visit(stringField.key, input);
+            if (stringField.value == null) {
+                addName(stringField.key);
+            } else {
+                visit(stringField.value, input);
+            }
+        } else if (field instanceof JsonQueryKeyFieldConstruction) {
+            visit(get(field, JsonQueryKeyFieldConstruction.class, "key"), input);
+            visit(get(field, JsonQueryKeyFieldConstruction.class, "value"), input);
+        } else if (!(field instanceof VariableKeyFieldConstruction)) {
+            unknown = true;
+        }
+    }
+
+    private static boolean isStringKey(BracketFieldAccess expression) {
+        return !JqVariableReferences.<Boolean> get(expression, BracketFieldAccess.class, "isRange") && get(expression, BracketFieldAccess.class, "startExpr") instanceof StringLiteral;
+    }
+
+    private void addName(Expression key) {
+        if (key instanceof StringLiteral) {
+            names.add(((StringLiteral) key).value().asText());
+        } else {
+            unknown = true;
+        }
+    }
+
+    private static Collection<Field> getExpressionFields(Class<?> clazz) {
+        Collection<Field> result = new HashSet<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (Expression.class.isAssignableFrom(field.getType())) {
+                field.setAccessible(true);
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    private static <T> T get(Object object, Class<?> clazz, String name) {
+        Field field = fields.computeIfAbsent(clazz.getName() + '.' + name, k -> getField(clazz, name))
+                .orElseThrow(() -> new IllegalStateException("Missing field " + name + " in " + clazz));
+        return get(object, field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Object object, Field field) {
+        try {
+            return (T) field.get(object);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Optional<Field> getField(Class<?> clazz, String name) {
+        try {
+            Field field = clazz.getDeclaredField(name);
+            field.setAccessible(true);
+            return Optional.of(field);
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.expr.jq;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import net.thisptr.jackson.jq.Version;
+import net.thisptr.jackson.jq.exception.JsonQueryException;
+import net.thisptr.jackson.jq.internal.javacc.ExpressionParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JqVariableReferencesTest {
+
+    private static Stream<Arguments> provideReferencedExpressions() {
+        return Stream.of(
+                Arguments.of(".name", Set.of("name")),
+                Arguments.of(".person.name", Set.of("person")),
+                Arguments.of(".[\"name\"]", Set.of("name")),
+                Arguments.of(".a + .b * 2", Set.of("a", "b")),
+                Arguments.of("{x: .a, b}", Set.of("a", "b")),
+                Arguments.of("[.a, .b]", Set.of("a", "b")),
+                Arguments.of(".items | map(.price) | add", Set.of("items")),
+                Arguments.of(".a as $x | .b + $x", Set.of("a", "b")),
+                Arguments.of("if .a then .b else \"none\" end", Set.of("a", "b")),
+                Arguments.of(".list[.index]", Set.of("list", "index")),
+                Arguments.of("\"hello \\(.name)\"", Set.of("name")),
+                Arguments.of("$WORKFLOW.instanceId", Set.of()),
+                Arguments.of("42", Set.of()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideReferencedExpressions")
+    void testReferencedFields(String expr, Set<String> expected) throws JsonQueryException {
+        assertThat(JqVariableReferences.of(ExpressionParser.compile(expr, Version.LATEST))).hasValue(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { ".", "keys", "to_entries", ".[]", "..", "del(.a)", ".a = 1", "select(.a)", ".[\"a\" + .b]", "tojson", ". as $all | $all.a" })
+    void testUnknownFields(String expr) throws JsonQueryException {
+        assertThat(JqVariableReferences.of(ExpressionParser.compile(expr, Version.LATEST))).isEqualTo(Optional.empty());
+    }
+}
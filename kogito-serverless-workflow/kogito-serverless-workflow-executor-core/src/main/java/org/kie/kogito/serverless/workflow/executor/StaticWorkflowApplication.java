@@ -24,14 +24,23 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
 import org.jbpm.workflow.core.node.SubProcessNode;
@@ -82,6 +91,9 @@ import io.serverlessworkflow.api.Workflow;
  * }
  * </code>
  * 
+ * Workflows can also be executed concurrently, using <code>executeAsync</code> or <code>executeAll</code>. Those run on the
+ * executor set through <code>executor</code> (for example, a virtual thread per task executor), or on a pool with as many
+ * threads as processors if none has been set.
  *
  */
 public class StaticWorkflowApplication extends StaticApplication implements AutoCloseable {
@@ -93,29 +105,26 @@ public class StaticWorkflowApplication extends StaticApplication implements Auto
     private Iterable<StaticWorkflowRegister> workflowRegisters;
     private Iterable<StaticProcessRegister> processRegisters;
     private final Collection<AutoCloseable> closeables = new ArrayList<>();
-    private final Map<String, SynchronousQueue<JsonNodeModel>> queues;
+    private final Map<String, CompletableFuture<JsonNodeModel>> completions;
     private ProcessInstancesFactory processInstancesFactory;
+    private Executor executor;
+    private ExecutorService defaultExecutor;
 
     private static class StaticCompletionEventListener extends DefaultKogitoProcessEventListener {
 
-        private final Map<String, SynchronousQueue<JsonNodeModel>> queues;
+        private final Map<String, CompletableFuture<JsonNodeModel>> completions;
 
-        public StaticCompletionEventListener(Map<String, SynchronousQueue<JsonNodeModel>> queues) {
-            this.queues = queues;
+        public StaticCompletionEventListener(Map<String, CompletableFuture<JsonNodeModel>> completions) {
+            this.completions = completions;
         }
 
         @Override
         public void afterProcessCompleted(ProcessCompletedEvent event) {
             WorkflowProcessInstance instance = (WorkflowProcessInstance) event.getProcessInstance();
-            SynchronousQueue<JsonNodeModel> queue = queues.remove(instance.getId());
-            if (queue != null) {
-                try {
-                    if (queue.offer(new JsonNodeModel(instance.getId(), instance.getVariables().get(SWFConstants.DEFAULT_WORKFLOW_VAR)), 1L, TimeUnit.SECONDS)) {
-                        logger.debug("waiting process instance {} has been notified about its completion", instance.getId());
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+            CompletableFuture<JsonNodeModel> completion = completions.remove(instance.getId());
+            if (completion != null) {
+                completion.complete(new JsonNodeModel(instance.getId(), instance.getVariables().get(SWFConstants.DEFAULT_WORKFLOW_VAR)));
+                logger.debug("waiting process instance {} has been notified about its completion", instance.getId());
             }
         }
     }
@@ -133,20 +142,20 @@ public class StaticWorkflowApplication extends StaticApplication implements Auto
     }
 
     public static StaticWorkflowApplication create(Map<String, Object> properties) {
-        Map<String, SynchronousQueue<JsonNodeModel>> queues = new ConcurrentHashMap<>();
-        StaticWorkflowApplication application = new StaticWorkflowApplication(properties, queues);
+        Map<String, CompletableFuture<JsonNodeModel>> completions = new ConcurrentHashMap<>();
+        StaticWorkflowApplication application = new StaticWorkflowApplication(properties, completions);
         application.applicationRegisters.forEach(register -> register.register(application));
         return application;
     }
 
-    private StaticWorkflowApplication(Map<String, Object> properties, Map<String, SynchronousQueue<JsonNodeModel>> queues) {
+    private StaticWorkflowApplication(Map<String, Object> properties, Map<String, CompletableFuture<JsonNodeModel>> completions) {
         super(new StaticConfig(new Addons(Collections.emptySet()), new StaticProcessConfig(new CachedWorkItemHandlerConfig(),
-                new DefaultProcessEventListenerConfig(new StaticCompletionEventListener(queues)),
+                new DefaultProcessEventListenerConfig(new StaticCompletionEventListener(completions)),
                 new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory())), new StaticConfigBean()));
         if (!properties.isEmpty()) {
             ConfigResolverHolder.setConfigResolver(MultiSourceConfigResolver.withSystemProperties(properties));
         }
-        this.queues = queues;
+        this.completions = completions;
         applicationRegisters = ServiceLoader.load(StaticApplicationRegister.class);
         workflowRegisters = ServiceLoader.load(StaticWorkflowRegister.class);
         processRegisters = ServiceLoader.load(StaticProcessRegister.class);
@@ -183,6 +192,17 @@ public class StaticWorkflowApplication extends StaticApplication implements Auto
         return this;
     }
 
+    /**
+     * Sets the executor used by asynchronous executions. The executor is not shut down when this application is closed.
+     * 
+     * @param executor Executor to run workflows on, for example <code>Executors.newVirtualThreadPerTaskExecutor()</code>
+     * @return this application
+     */
+    public StaticWorkflowApplication executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     private Process<JsonNodeModel> findOrCreate(Workflow workflow) {
         return findProcessById(workflow.getId()).orElseGet(() -> process(workflow));
     }
@@ -222,6 +242,75 @@ public class StaticWorkflowApplication extends StaticApplication implements Auto
         return processInstance.variables();
     }
 
+    /**
+     * Given a process definition, executes it asynchronously. The returned stage completes when the process instance
+     * finishes, which for workflows waiting for events might happen well after the start.
+     * 
+     * @param process Executable process definition
+     * @param data A JsonNode containing workflow input parameters.
+     * @return stage completed with the workflow output
+     */
+    public CompletionStage<JsonNodeModel> executeAsync(Process<JsonNodeModel> process, JsonNode data) {
+        return executeAsync(process, new JsonNodeModel(data));
+    }
+
+    /**
+     * Given a process definition, executes it asynchronously. The returned stage completes when the process instance
+     * finishes, which for workflows waiting for events might happen well after the start.
+     * 
+     * @param process Executable process definition
+     * @param model JsonNodeModel obtained from a previous execution of another flow
+     * @return stage completed with the workflow output
+     */
+    public CompletionStage<JsonNodeModel> executeAsync(Process<JsonNodeModel> process, JsonNodeModel model) {
+        return CompletableFuture.supplyAsync(() -> start(process, model), getExecutor()).thenCompose(Function.identity());
+    }
+
+    /**
+     * Executes the given process definition once per input, concurrently.
+     * 
+     * @param process Executable process definition
+     * @param data Workflow inputs
+     * @return stage completed with the workflow outputs, in the same order as the inputs, once all of them finish
+     */
+    public CompletionStage<List<JsonNodeModel>> executeAll(Process<JsonNodeModel> process, Collection<? extends JsonNode> data) {
+        List<CompletableFuture<JsonNodeModel>> executions = data.stream().map(input -> executeAsync(process, input).toCompletableFuture()).collect(Collectors.toList());
+        return CompletableFuture.allOf(executions.toArray(CompletableFuture[]::new))
+                .thenApply(v -> executions.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<JsonNodeModel> start(Process<JsonNodeModel> process, JsonNodeModel model) {
+        ProcessInstance<JsonNodeModel> processInstance = process.createInstance(model);
+        // registered before starting, the instance might complete while starting
+        CompletableFuture<JsonNodeModel> completion = new CompletableFuture<>();
+        completions.put(processInstance.id(), completion);
+        try {
+            processInstance.start();
+        } catch (RuntimeException e) {
+            completions.remove(processInstance.id());
+            throw e;
+        }
+        if (processInstance.status() != ProcessInstance.STATE_ACTIVE && !completion.isDone()) {
+            // aborted or failed instances do not notify the completion listener
+            completions.remove(processInstance.id());
+            completion.complete(processInstance.variables());
+        }
+        return completion;
+    }
+
+    private synchronized Executor getExecutor() {
+        if (executor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            defaultExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "kogito-static-workflow-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor = defaultExecutor;
+        }
+        return executor;
+    }
+
     /**
      * Parses the flow, generating a process definition. You can reuse that process definition to invoke
      * the same flow several times, using <code>execute</code> method
@@ -262,16 +351,18 @@ public class StaticWorkflowApplication extends StaticApplication implements Auto
     }
 
     public Optional<JsonNodeModel> waitForFinish(String id, Duration duration) throws InterruptedException, TimeoutException {
-        JsonNodeModel model = queues.computeIfAbsent(id, k -> new SynchronousQueue<>()).poll(duration.toMillis(), TimeUnit.MILLISECONDS);
-        if (model == null) {
+        try {
+            return Optional.of(completions.computeIfAbsent(id, k -> new CompletableFuture<>()).get(duration.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
             Optional<ProcessInstance<JsonNodeModel>> pi = findProcessInstance(id);
             if (pi.isEmpty()) {
-                queues.remove(id);
+                completions.remove(id);
                 return pi.map(ProcessInstance::variables);
             }
             throw new TimeoutException("Process " + id + " has not finished after " + duration);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
         }
-        return Optional.of(model);
     }
 
     private Process<JsonNodeModel> createProcess(Workflow workflow) {
@@ -324,5 +415,10 @@ public class StaticWorkflowApplication extends StaticApplication implements Auto
                 logger.warn("Error closing resource", e);
             }
         });
+        synchronized (this) {
+            if (defaultExecutor != null) {
+                defaultExecutor.shutdown();
+            }
+        }
     }
 }
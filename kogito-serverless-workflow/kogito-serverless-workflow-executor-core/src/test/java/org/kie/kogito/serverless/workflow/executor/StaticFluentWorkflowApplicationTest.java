@@ -21,8 +21,12 @@ package org.kie.kogito.serverless.workflow.executor;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.process.Process;
@@ -245,6 +249,18 @@ public class StaticFluentWorkflowApplicationTest {
         }
     }
 
+    @Test
+    void testExecuteAll() throws Exception {
+        try (StaticWorkflowApplication application = StaticWorkflowApplication.create()) {
+            Process<JsonNodeModel> process = application.process(workflow("ConcurrentDouble")
+                    .start(operation().action(call(expr("double", ".input*=2"))).outputFilter("{result:.input}")).end().build());
+            List<JsonNode> inputs = IntStream.range(0, 100).mapToObj(i -> (JsonNode) jsonObject().put("input", i)).collect(Collectors.toList());
+            List<JsonNodeModel> outputs = application.executeAll(process, inputs).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThat(outputs).extracting(model -> model.getWorkflowdata().get("result").asInt())
+                    .containsExactlyElementsOf(IntStream.range(0, 100).map(i -> i * 2).boxed().collect(Collectors.toList()));
+        }
+    }
+
     @Test
     void testMissingMessageException() {
         final String funcName = "badlogging";
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.serverless.workflow.executor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -25,25 +26,58 @@ import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.kie.kogito.event.DataEvent;
 import org.kie.kogito.event.EventEmitter;
+import org.kie.kogito.event.cloudevents.CloudEventExtensionConstants;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.jackson.JsonCloudEventData;
 
+/**
+ * Sends events to a Kafka topic. Records are keyed by the value of the configured cloud event attribute, or by the
+ * process instance id when the event does not have it, so that all the events of a process instance go to the same
+ * partition and keep their order. The returned stage completes once the broker acknowledges the record.
+ */
 public class KafkaEventEmitter implements EventEmitter {
 
     private final Producer<byte[], CloudEvent> kafkaProducer;
     private final String topic;
+    private final String keyAttribute;
 
     public KafkaEventEmitter(Producer<byte[], CloudEvent> kafkaProducer, String topic) {
+        this(kafkaProducer, topic, CloudEventExtensionConstants.PROCESS_INSTANCE_ID);
+    }
+
+    public KafkaEventEmitter(Producer<byte[], CloudEvent> kafkaProducer, String topic, String keyAttribute) {
         this.kafkaProducer = kafkaProducer;
         this.topic = topic;
+        this.keyAttribute = keyAttribute;
     }
 
     @Override
     public CompletionStage<Void> emit(DataEvent<?> dataEvent) {
-        kafkaProducer.send(new ProducerRecord<>(topic, dataEvent.asCloudEvent(o -> JsonCloudEventData.wrap((JsonNode) o))));
-        return CompletableFuture.completedStage(null);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            CloudEvent event = dataEvent.asCloudEvent(o -> JsonCloudEventData.wrap((JsonNode) o));
+            kafkaProducer.send(new ProducerRecord<>(topic, getKey(event), event), (metadata, exception) -> {
+                if (exception == null) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(exception);
+                }
+            });
+        } catch (RuntimeException ex) {
+            // serialization errors or producer closed or unable to get metadata within max.block.ms
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+
+    private byte[] getKey(CloudEvent event) {
+        Object key = event.getExtension(keyAttribute);
+        if (key == null) {
+            key = event.getExtension(CloudEventExtensionConstants.PROCESS_INSTANCE_ID);
+        }
+        return key == null ? null : key.toString().getBytes(StandardCharsets.UTF_8);
     }
 }
@@ -45,7 +45,7 @@ public class KafkaEventEmitterFactory implements EventEmitterFactory {
                 producer = createKafkaProducer();
             }
         }
-        return new KafkaEventEmitter(producer, trigger);
+        return new KafkaEventEmitter(producer, trigger, KafkaPropertiesFactory.get().getRecordKeyAttribute());
     }
 
     @Override
@@ -21,7 +21,12 @@ package org.kie.kogito.serverless.workflow.executor;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 import org.kie.kogito.event.CloudEventUnmarshaller;
@@ -36,30 +41,96 @@ import org.kie.kogito.jackson.utils.ObjectMapperFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.PojoCloudEventData;
+import io.cloudevents.jackson.JsonCloudEventData;
 
+/**
+ * Receives the events of a topic. Subscriptions are registered for an event type (the trigger name) and only receive the
+ * events of that type; events whose type has no subscription go to every subscription of the topic.
+ * <p>
+ * The data of an event is parsed once, every subscription gets its own copy of the parsed tree.
+ */
 public class KafkaEventReceiver implements EventReceiver {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaEventReceiver.class);
-    private final Collection<Subscription<?, CloudEvent>> subscriptions = new ArrayList<>();
+    private final Collection<Subscription<?, CloudEvent>> subscriptions = new CopyOnWriteArrayList<>();
+    private final Collection<Subscription<?, CloudEvent>> anyTypeSubscriptions = new CopyOnWriteArrayList<>();
+    private final Map<String, Collection<Subscription<?, CloudEvent>>> subscriptionsByType = new ConcurrentHashMap<>();
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    public void onEvent(CloudEvent value) {
-        for (Subscription subscription : subscriptions) {
+    public CompletionStage<Void> onEvent(CloudEvent value) {
+        Collection<Subscription<?, CloudEvent>> candidates = getSubscriptions(value.getType());
+        List<CompletableFuture<?>> results = new ArrayList<>(candidates.size());
+        JsonNode data = candidates.size() > 1 ? parseData(value) : null;
+        boolean first = true;
+        for (Subscription subscription : candidates) {
             try {
-                subscription.getConsumer().apply(subscription.getConverter().convert(value));
+                CloudEvent event = data == null ? value : CloudEventBuilder.from(value).withData(JsonCloudEventData.wrap(first ? data : data.deepCopy())).build();
+                first = false;
+                results.add(((CompletionStage<?>) subscription.getConsumer().apply(subscription.getConverter().convert(event))).toCompletableFuture());
             } catch (IOException e) {
                 logger.info("Problem deserializing event {}", value, e);
+            } catch (RuntimeException e) {
+                logger.warn("Problem consuming event {}", value, e);
             }
         }
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+    }
+
+    private Collection<Subscription<?, CloudEvent>> getSubscriptions(String type) {
+        Collection<Subscription<?, CloudEvent>> typeSubscriptions = type == null ? null : subscriptionsByType.get(type);
+        if (typeSubscriptions == null) {
+            return subscriptions;
+        }
+        if (anyTypeSubscriptions.isEmpty()) {
+            return typeSubscriptions;
+        }
+        Collection<Subscription<?, CloudEvent>> result = new ArrayList<>(typeSubscriptions);
+        result.addAll(anyTypeSubscriptions);
+        return result;
+    }
+
+    private static JsonNode parseData(CloudEvent event) {
+        CloudEventData data = event.getData();
+        if (data == null || data instanceof JsonCloudEventData || data instanceof PojoCloudEventData) {
+            // nothing to parse
+            return null;
+        }
+        try {
+            return ObjectMapperFactory.listenerAware().readTree(data.toBytes());
+        } catch (IOException e) {
+            // not json, every subscription will deal with the raw bytes
+            return null;
+        }
     }
 
     @Override
     public <T> void subscribe(Function<DataEvent<T>, CompletionStage<?>> consumer, Class<T> dataClass) {
-        subscriptions.add(new Subscription<>(consumer, new CloudEventConverter<>(dataClass, new CloudEventUnmarshallerFactory<CloudEvent>() {
+        subscribe(null, consumer, dataClass);
+    }
+
+    /**
+     * Returns a receiver whose subscriptions are only interested in the events of the given type
+     */
+    public EventReceiver forType(String type) {
+        return new EventReceiver() {
+            @Override
+            public <T> void subscribe(Function<DataEvent<T>, CompletionStage<?>> consumer, Class<T> dataClass) {
+                KafkaEventReceiver.this.subscribe(type, consumer, dataClass);
+            }
+        };
+    }
+
+    private synchronized <T> void subscribe(String type, Function<DataEvent<T>, CompletionStage<?>> consumer, Class<T> dataClass) {
+        Subscription<?, CloudEvent> subscription = new Subscription<>(consumer, new CloudEventConverter<>(dataClass, new CloudEventUnmarshallerFactory<CloudEvent>() {
             @Override
             public <S> CloudEventUnmarshaller<CloudEvent, S> unmarshaller(Class<S> targetClass) {
+                Converter<CloudEventData, S> dataConverter = new JacksonCloudEventDataConverter<>(ObjectMapperFactory.listenerAware(), targetClass);
                 return new CloudEventUnmarshaller<CloudEvent, S>() {
                     @Override
                     public Converter<CloudEvent, CloudEvent> cloudEvent() {
@@ -73,10 +144,16 @@ public class KafkaEventReceiver implements EventReceiver {
 
                     @Override
                     public Converter<CloudEventData, S> data() {
-                        return new JacksonCloudEventDataConverter<>(ObjectMapperFactory.listenerAware(), targetClass);
+                        return dataConverter;
                     }
                 };
             }
-        })));
+        }));
+        subscriptions.add(subscription);
+        if (type == null) {
+            anyTypeSubscriptions.add(subscription);
+        } else {
+            subscriptionsByType.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(subscription);
+        }
     }
 }
@@ -19,6 +19,8 @@
 package org.kie.kogito.serverless.workflow.executor;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,8 +28,12 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.kie.kogito.event.EventReceiver;
 import org.kie.kogito.event.EventReceiverFactory;
 import org.kie.kogito.serverless.workflow.utils.ConfigResolverHolder;
@@ -36,18 +42,29 @@ import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
+/**
+ * Consumes the subscribed topics on a dedicated thread and processes the events on a {@link KeyOrderedExecutor}.
+ * <p>
+ * Delivery is at least once: the offset of a record is only committed once that record, and every previous record of
+ * its partition, has been processed. Records being processed when the consumer stops or loses a partition are
+ * consumed again.
+ */
 public class KafkaEventReceiverFactory implements EventReceiverFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaEventReceiverFactory.class);
+    private static final int DEFAULT_MAX_PENDING = 1000;
+    private static final Duration PAUSED_POLL_INTERVAL = Duration.ofMillis(100);
     private Map<String, String> trigger2Topic = KafkaPropertiesFactory.get().triggerToTopicMap("kogito.addon.messaging.incoming.trigger.");
     private Map<String, KafkaEventReceiver> receivers = new ConcurrentHashMap<>();
     private Consumer<byte[], CloudEvent> consumer;
     private Lock consumerLock = new ReentrantLock();
     private Thread consumerThread;
+    private KeyOrderedExecutor executor;
+    private ProcessedOffsets offsets;
 
     @Override
     public EventReceiver apply(String trigger) {
-        return receivers.computeIfAbsent(trigger2Topic.getOrDefault(trigger, trigger), k -> new KafkaEventReceiver());
+        return receivers.computeIfAbsent(trigger2Topic.getOrDefault(trigger, trigger), k -> new KafkaEventReceiver()).forType(trigger);
     }
 
     @Override
@@ -58,6 +75,7 @@ public class KafkaEventReceiverFactory implements EventReceiverFactory {
             consumerLock.lock();
             consumerClosed = consumer != null;
             if (consumerClosed) {
+                commit(offsets.committable(), false);
                 consumer.close();
                 consumer = null;
             }
@@ -67,6 +85,9 @@ public class KafkaEventReceiverFactory implements EventReceiverFactory {
         if (consumerClosed) {
             consumerThread.join();
             consumerThread = null;
+            executor.close();
+            executor = null;
+            offsets = null;
         }
     }
 
@@ -80,8 +101,11 @@ public class KafkaEventReceiverFactory implements EventReceiverFactory {
                 consumerCreated = consumer == null;
                 if (consumerCreated) {
                     consumer = createKafkaConsumer();
+                    executor = new KeyOrderedExecutor(getConfigProperty("kogito.sw.executor.event.workers", Runtime.getRuntime().availableProcessors()),
+                            getConfigProperty("kogito.sw.executor.event.maxPending", DEFAULT_MAX_PENDING));
+                    offsets = new ProcessedOffsets();
                 }
-                consumer.subscribe(topics);
+                consumer.subscribe(topics, new CommitOnRevoke(offsets));
             } finally {
                 consumerLock.unlock();
             }
@@ -96,26 +120,38 @@ public class KafkaEventReceiverFactory implements EventReceiverFactory {
         return new KafkaConsumer<>(KafkaPropertiesFactory.get().getKafkaConsumerConfig());
     }
 
+    private static int getConfigProperty(String name, int defaultValue) {
+        return ConfigResolverHolder.getConfigResolver().getConfigProperty(name, Integer.class).orElse(defaultValue);
+    }
+
     private void eventLoop() {
+        // workers might still complete records once the factory is closed
+        ProcessedOffsets processed = offsets;
+        boolean paused = false;
         while (true) {
             Iterable<ConsumerRecord<byte[], CloudEvent>> records;
-            int pollTimeout = ConfigResolverHolder.getConfigResolver().getConfigProperty("kogito.sw.executor.event.pollInterval", int.class).orElse(10);
+            // while paused, poll often to resume as soon as the workers catch up
+            Duration pollTimeout = paused ? PAUSED_POLL_INTERVAL : Duration.ofSeconds(getConfigProperty("kogito.sw.executor.event.pollInterval", 10));
             try {
                 consumerLock.lock();
                 if (consumer == null) {
                     return;
                 }
-                records = consumer.poll(Duration.ofSeconds(pollTimeout));
+                records = consumer.poll(pollTimeout);
             } finally {
                 consumerLock.unlock();
             }
             for (ConsumerRecord<byte[], CloudEvent> record : records) {
                 String topic = record.topic();
                 KafkaEventReceiver receiver = receivers.get(topic);
+                TopicPartition partition = new TopicPartition(topic, record.partition());
+                long offset = record.offset();
+                processed.received(partition, offset);
                 if (receiver == null) {
                     logger.info("No subscription for topic {}", topic);
+                    processed.completed(partition, offset);
                 } else {
-                    receiver.onEvent(record.value());
+                    executor.execute(getOrderingKey(record), () -> receiver.onEvent(record.value()), () -> processed.completed(partition, offset));
                 }
             }
             try {
@@ -123,10 +159,73 @@ public class KafkaEventReceiverFactory implements EventReceiverFactory {
                 if (consumer == null) {
                     return;
                 }
-                consumer.commitAsync();
+                if (executor.isSaturated()) {
+                    // also pauses partitions assigned since the previous pause
+                    consumer.pause(consumer.assignment());
+                    if (!paused) {
+                        logger.debug("Pausing consumption, {} events pending", executor.getPending());
+                        paused = true;
+                    }
+                } else if (paused && executor.canResume()) {
+                    logger.debug("Resuming consumption, {} events pending", executor.getPending());
+                    consumer.resume(consumer.paused());
+                    paused = false;
+                }
+                commit(processed.committable(), true);
             } finally {
                 consumerLock.unlock();
             }
         }
     }
+
+    // should be called holding the consumer lock
+    private void commit(Map<TopicPartition, OffsetAndMetadata> committable, boolean async) {
+        if (!committable.isEmpty()) {
+            if (async) {
+                consumer.commitAsync(committable, (attempted, e) -> {
+                    if (e != null) {
+                        logger.warn("Error committing offsets {}", attempted, e);
+                    }
+                });
+            } else {
+                try {
+                    consumer.commitSync(committable);
+                } catch (KafkaException e) {
+                    logger.warn("Error committing offsets {}", committable, e);
+                }
+            }
+        }
+    }
+
+    private class CommitOnRevoke implements ConsumerRebalanceListener {
+
+        private final ProcessedOffsets offsets;
+
+        private CommitOnRevoke(ProcessedOffsets offsets) {
+            this.offsets = offsets;
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            // called from poll, so the consumer lock is already held
+            commit(offsets.committable(partitions), false);
+            offsets.revoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            // already owned by another consumer, committing would fail
+            offsets.revoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // nothing to do, tracking starts with the first record of the partition
+        }
+    }
+
+    private static int getOrderingKey(ConsumerRecord<byte[], ?> record) {
+        // records without key keep the order of their partition
+        return record.key() == null ? 31 * record.topic().hashCode() + record.partition() : Arrays.hashCode(record.key());
+    }
 }
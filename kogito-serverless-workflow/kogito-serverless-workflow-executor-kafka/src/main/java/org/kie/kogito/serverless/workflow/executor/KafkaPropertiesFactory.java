@@ -26,6 +26,7 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.kie.kogito.event.cloudevents.CloudEventExtensionConstants;
 import org.kie.kogito.serverless.workflow.utils.ConfigResolverHolder;
 
 import io.cloudevents.kafka.CloudEventDeserializer;
@@ -35,6 +36,15 @@ public class KafkaPropertiesFactory {
 
     private static final KafkaPropertiesFactory INSTANCE = new KafkaPropertiesFactory();
 
+    /**
+     * Name of the cloud event attribute whose value is used as key of the records sent, process instance id by default.
+     */
+    public static final String RECORD_KEY_ATTRIBUTE = "kogito.sw.executor.event.keyAttribute";
+
+    // records sent within this interval to the same partition are sent together
+    private static final int DEFAULT_LINGER_MS = 5;
+    private static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
     public static KafkaPropertiesFactory get() {
         return INSTANCE;
     }
@@ -50,9 +60,19 @@ public class KafkaPropertiesFactory {
         initCommonProperties(map);
         map.putIfAbsent(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, CloudEventSerializer.class);
         map.putIfAbsent(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        map.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, DEFAULT_LINGER_MS);
+        map.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, DEFAULT_BATCH_SIZE);
+        // retries must not reorder the records of a partition
+        map.putIfAbsent(ProducerConfig.ACKS_CONFIG, "all");
+        map.putIfAbsent(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         return map;
     }
 
+    public String getRecordKeyAttribute() {
+        Object keyAttribute = configMap.get(RECORD_KEY_ATTRIBUTE);
+        return keyAttribute == null ? CloudEventExtensionConstants.PROCESS_INSTANCE_ID : keyAttribute.toString();
+    }
+
     public Map<String, Object> getKafkaConsumerConfig() {
         Map<String, Object> map = new HashMap<>(configMap);
         initCommonProperties(map);
@@ -60,6 +80,8 @@ public class KafkaPropertiesFactory {
         map.putIfAbsent(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         map.putIfAbsent(ConsumerConfig.GROUP_ID_CONFIG, "serverless-workflow-executor");
         map.putIfAbsent(ConsumerConfig.CLIENT_ID_CONFIG, UUID.randomUUID().toString());
+        // offsets are committed by the receiver once their records are processed, auto commit would commit records still queued
+        map.putIfAbsent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         return map;
     }
 
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks on a fixed number of single threaded lanes. Tasks with the same key always run on the same lane, one after
+ * the other, each one waiting for the completion of the previous one, so they keep the submission order.
+ * <p>
+ * The number of submitted but not yet completed tasks is tracked, so that the submitter can stop submitting when too
+ * many are pending.
+ */
+class KeyOrderedExecutor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyOrderedExecutor.class);
+
+    private final ExecutorService[] lanes;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    KeyOrderedExecutor(int numLanes, int maxPending) {
+        if (numLanes <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("Number of lanes and max pending tasks should be greater than 0");
+        }
+        this.maxPending = maxPending;
+        this.lanes = new ExecutorService[numLanes];
+        for (int i = 0; i < numLanes; i++) {
+            String name = "kogito-event-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    void execute(int key, Supplier<CompletionStage<?>> task) {
+        execute(key, task, () -> {
+        });
+    }
+
+    /**
+     * Same as {@link #execute(int, Supplier)}, calling {@code onDone} once the task completes, successfully or not
+     */
+    void execute(int key, Supplier<CompletionStage<?>> task, Runnable onDone) {
+        pending.incrementAndGet();
+        try {
+            lanes[Math.floorMod(key, lanes.length)].execute(() -> {
+                try {
+                    task.get().toCompletableFuture().join();
+                } catch (RuntimeException e) {
+                    logger.warn("Error processing task with key {}", key, e);
+                } finally {
+                    pending.decrementAndGet();
+                    onDone.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Whether the submitter should stop submitting tasks
+     */
+    boolean isSaturated() {
+        return pending.get() >= maxPending;
+    }
+
+    /**
+     * Whether a submitter that stopped because the executor was saturated might submit again
+     */
+    boolean canResume() {
+        return pending.get() <= maxPending / 2;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                lane.shutdownNow();
+            }
+        }
+    }
+}
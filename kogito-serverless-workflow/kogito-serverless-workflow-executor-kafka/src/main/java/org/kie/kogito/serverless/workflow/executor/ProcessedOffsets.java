@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Tracks, per partition, the offsets of the records handed to the workers, so that only offsets whose records, and
+ * every record before them in the partition, have completed are committed.
+ * <p>
+ * Records of a partition might complete out of order because records with different keys run on different lanes, hence
+ * the committable offset of a partition is the lowest offset still being processed.
+ */
+class ProcessedOffsets {
+
+    private final Map<TopicPartition, PartitionOffsets> partitions = new HashMap<>();
+
+    synchronized void received(TopicPartition partition, long offset) {
+        PartitionOffsets offsets = partitions.computeIfAbsent(partition, k -> new PartitionOffsets(offset));
+        offsets.inProgress.add(offset);
+        offsets.next = Math.max(offsets.next, offset + 1);
+    }
+
+    synchronized void completed(TopicPartition partition, long offset) {
+        PartitionOffsets offsets = partitions.get(partition);
+        if (offsets != null) {
+            offsets.inProgress.remove(offset);
+        }
+    }
+
+    /**
+     * Returns the offsets that can be committed and were not returned before
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> committable() {
+        return committable(partitions.keySet());
+    }
+
+    synchronized Map<TopicPartition, OffsetAndMetadata> committable(Collection<TopicPartition> partitionsToCommit) {
+        Map<TopicPartition, OffsetAndMetadata> result = new HashMap<>();
+        for (TopicPartition partition : partitionsToCommit) {
+            PartitionOffsets offsets = partitions.get(partition);
+            if (offsets != null) {
+                long offset = offsets.inProgress.isEmpty() ? offsets.next : offsets.inProgress.first();
+                if (offset > offsets.committed) {
+                    result.put(partition, new OffsetAndMetadata(offset));
+                    offsets.committed = offset;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stops tracking partitions no longer assigned to the consumer. Records of those partitions still being processed
+     * will not be committed, so the new owner of the partition processes them again.
+     */
+    synchronized void revoked(Collection<TopicPartition> revoked) {
+        partitions.keySet().removeAll(revoked);
+    }
+
+    private static class PartitionOffsets {
+        private final TreeSet<Long> inProgress = new TreeSet<>();
+        private long next;
+        // the first offset received is where the consumer already is, no need to commit it
+        private long committed;
+
+        private PartitionOffsets(long firstOffset) {
+            this.next = firstOffset;
+            this.committed = firstOffset;
+        }
+    }
+}
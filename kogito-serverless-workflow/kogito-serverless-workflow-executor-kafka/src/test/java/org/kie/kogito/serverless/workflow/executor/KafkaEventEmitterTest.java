@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.AbstractDataEvent;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.DataEventFactory;
+import org.kie.kogito.event.cloudevents.CloudEventExtensionConstants;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.kafka.CloudEventSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaEventEmitterTest {
+
+    private final MockProducer<byte[], CloudEvent> producer = new MockProducer<>(false, new ByteArraySerializer(), new CloudEventSerializer() {
+        @Override
+        public byte[] serialize(String topic, CloudEvent data) {
+            return super.serialize(topic, new RecordHeaders(), data);
+        }
+    });
+
+    @Test
+    void testRecordsAreKeyedByProcessInstance() {
+        KafkaEventEmitter emitter = new KafkaEventEmitter(producer, "topic");
+        emitter.emit(event(CloudEventExtensionConstants.PROCESS_INSTANCE_ID, "instance1"));
+        emitter.emit(event("correlation", "customer1"));
+
+        assertThat(producer.history()).hasSize(2);
+        assertThat(new String(producer.history().get(0).key(), StandardCharsets.UTF_8)).isEqualTo("instance1");
+        assertThat(producer.history().get(1).key()).isNull();
+    }
+
+    @Test
+    void testRecordsAreKeyedByAttribute() {
+        KafkaEventEmitter emitter = new KafkaEventEmitter(producer, "topic", "correlation");
+        emitter.emit(event("correlation", "customer1"));
+
+        assertThat(new String(producer.history().get(0).key(), StandardCharsets.UTF_8)).isEqualTo("customer1");
+    }
+
+    @Test
+    void testCompletionFollowsAcknowledge() {
+        KafkaEventEmitter emitter = new KafkaEventEmitter(producer, "topic");
+        CompletableFuture<Void> acked = emitter.emit(event(CloudEventExtensionConstants.PROCESS_INSTANCE_ID, "instance1")).toCompletableFuture();
+        CompletableFuture<Void> failed = emitter.emit(event(CloudEventExtensionConstants.PROCESS_INSTANCE_ID, "instance1")).toCompletableFuture();
+        assertThat(acked).isNotDone();
+
+        producer.completeNext();
+        producer.errorNext(new IllegalStateException("broker down"));
+
+        assertThat(acked).isCompleted();
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    private static DataEvent<JsonNode> event(String attribute, String value) {
+        AbstractDataEvent<JsonNode> event = (AbstractDataEvent<JsonNode>) DataEventFactory.<JsonNode> from(ObjectMapperFactory.get().createObjectNode().put("name", "Javierito"), "test", URI.create("/test"), Optional.empty());
+        event.addExtensionAttribute(attribute, value);
+        return event;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.DataEvent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaEventReceiverTest {
+
+    @Test
+    void testEventsAreRoutedByType() {
+        KafkaEventReceiver receiver = new KafkaEventReceiver();
+        List<DataEvent<JsonNode>> orders = new ArrayList<>();
+        List<DataEvent<JsonNode>> payments = new ArrayList<>();
+        receiver.forType("order").subscribe(e -> add(orders, e), JsonNode.class);
+        receiver.forType("payment").subscribe(e -> add(payments, e), JsonNode.class);
+
+        receiver.onEvent(event("order"));
+        receiver.onEvent(event("payment"));
+        receiver.onEvent(event("unknown"));
+
+        assertThat(orders).extracting(DataEvent::getType).containsExactly("order", "unknown");
+        assertThat(payments).extracting(DataEvent::getType).containsExactly("payment", "unknown");
+    }
+
+    @Test
+    void testEverySubscriptionGetsItsOwnData() {
+        KafkaEventReceiver receiver = new KafkaEventReceiver();
+        List<DataEvent<JsonNode>> first = new ArrayList<>();
+        List<DataEvent<JsonNode>> second = new ArrayList<>();
+        receiver.forType("order").subscribe(e -> add(first, e), JsonNode.class);
+        receiver.forType("order").subscribe(e -> add(second, e), JsonNode.class);
+
+        assertThat(receiver.onEvent(event("order"))).isCompleted();
+
+        JsonNode firstData = first.get(0).getData();
+        JsonNode secondData = second.get(0).getData();
+        assertThat(firstData).isEqualTo(secondData).isNotSameAs(secondData);
+        assertThat(firstData.get("name").asText()).isEqualTo("Javierito");
+    }
+
+    private static CompletableFuture<?> add(List<DataEvent<JsonNode>> events, DataEvent<JsonNode> event) {
+        events.add(event);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CloudEvent event(String type) {
+        return CloudEventBuilder.v1()
+                .withId(UUID.randomUUID().toString())
+                .withSource(URI.create("/test"))
+                .withType(type)
+                .withDataContentType("application/json")
+                .withData("{\"name\":\"Javierito\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyOrderedExecutorTest {
+
+    @Test
+    void testTasksWithSameKeyKeepOrder() throws Exception {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(100);
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(4, 1000)) {
+            for (int i = 0; i < 100; i++) {
+                int value = i;
+                // the stage completes asynchronously, the next task of the lane has to wait for it
+                executor.execute(7, () -> CompletableFuture.runAsync(() -> {
+                    executed.add(value);
+                    latch.countDown();
+                }));
+            }
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        assertThat(executed).isEqualTo(expected);
+    }
+
+    @Test
+    void testSaturation() throws Exception {
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(2, 4)) {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(i, () -> blocker);
+            }
+            assertThat(executor.isSaturated()).isTrue();
+            assertThat(executor.canResume()).isFalse();
+
+            blocker.complete(null);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (executor.getPending() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(executor.isSaturated()).isFalse();
+            assertThat(executor.canResume()).isTrue();
+        }
+    }
+}
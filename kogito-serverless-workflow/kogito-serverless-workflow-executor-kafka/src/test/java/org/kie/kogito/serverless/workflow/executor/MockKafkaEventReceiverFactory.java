@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.MockConsumer;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 import org.apache.kafka.common.TopicPartition;
@@ -44,8 +45,8 @@ public class MockKafkaEventReceiverFactory extends KafkaEventReceiverFactory {
     protected Consumer<byte[], CloudEvent> createKafkaConsumer() {
         return consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
             @Override
-            public void subscribe(Collection<String> topics) {
-                super.subscribe(topics);
+            public void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+                super.subscribe(topics, listener);
                 List<TopicPartition> partitions = topics.stream().map(topic -> new TopicPartition(topic, 0)).collect(Collectors.toList());
                 Map<TopicPartition, Long> partitionsBeginningMap = new HashMap<>();
                 Map<TopicPartition, Long> partitionsEndMap = new HashMap<>();
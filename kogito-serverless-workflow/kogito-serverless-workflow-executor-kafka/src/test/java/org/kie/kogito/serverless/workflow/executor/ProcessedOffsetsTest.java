@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.util.Collections;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ProcessedOffsetsTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("orders", 0);
+    private static final TopicPartition OTHER_PARTITION = new TopicPartition("orders", 1);
+
+    @Test
+    void testOnlyCompletedPrefixIsCommittable() {
+        ProcessedOffsets offsets = new ProcessedOffsets();
+        offsets.received(PARTITION, 5);
+        offsets.received(PARTITION, 6);
+        offsets.received(PARTITION, 7);
+        assertThat(offsets.committable()).isEmpty();
+
+        // completes out of order, the record at 5 is still being processed
+        offsets.completed(PARTITION, 6);
+        assertThat(offsets.committable()).isEmpty();
+
+        offsets.completed(PARTITION, 5);
+        assertThat(offsets.committable()).containsExactly(entry(PARTITION, new OffsetAndMetadata(7)));
+        assertThat(offsets.committable()).isEmpty();
+
+        offsets.completed(PARTITION, 7);
+        assertThat(offsets.committable()).containsExactly(entry(PARTITION, new OffsetAndMetadata(8)));
+    }
+
+    @Test
+    void testPartitionsAreTrackedSeparately() {
+        ProcessedOffsets offsets = new ProcessedOffsets();
+        offsets.received(PARTITION, 0);
+        offsets.received(OTHER_PARTITION, 3);
+        offsets.completed(OTHER_PARTITION, 3);
+
+        assertThat(offsets.committable()).containsExactly(entry(OTHER_PARTITION, new OffsetAndMetadata(4)));
+        assertThat(offsets.committable(Collections.singleton(PARTITION))).isEmpty();
+    }
+
+    @Test
+    void testRevokedPartitionIsNotCommitted() {
+        ProcessedOffsets offsets = new ProcessedOffsets();
+        offsets.received(PARTITION, 0);
+        offsets.revoked(Collections.singleton(PARTITION));
+        offsets.completed(PARTITION, 0);
+
+        assertThat(offsets.committable()).isEmpty();
+    }
+}
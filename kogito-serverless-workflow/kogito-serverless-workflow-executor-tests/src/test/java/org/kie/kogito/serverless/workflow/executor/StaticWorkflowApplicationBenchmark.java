@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.executor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.kie.kogito.process.Process;
+import org.kie.kogito.serverless.workflow.models.JsonNodeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.kie.kogito.serverless.workflow.fluent.ActionBuilder.call;
+import static org.kie.kogito.serverless.workflow.fluent.FunctionBuilder.expr;
+import static org.kie.kogito.serverless.workflow.fluent.StateBuilder.operation;
+import static org.kie.kogito.serverless.workflow.fluent.WorkflowBuilder.jsonObject;
+import static org.kie.kogito.serverless.workflow.fluent.WorkflowBuilder.workflow;
+
+/**
+ * Measures workflow executions per second of a short lived workflow, executed one by one from every available thread
+ * and in batches through {@link StaticWorkflowApplication#executeAll}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StaticWorkflowApplicationBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private StaticWorkflowApplication application;
+    private Process<JsonNodeModel> process;
+    private List<JsonNode> batch;
+
+    @Setup
+    public void setup() {
+        application = StaticWorkflowApplication.create();
+        process = application.process(workflow("BenchmarkWorkflow")
+                .start(operation().action(call(expr("square", ".input*=.input"))).outputFilter("{result:.input}")).end().build());
+        batch = IntStream.range(0, BATCH_SIZE).mapToObj(i -> (JsonNode) jsonObject().put("input", i)).collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public JsonNodeModel execute() {
+        return application.execute(process, jsonObject().put("input", 4));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<JsonNodeModel> executeAll() {
+        return application.executeAll(process, batch).toCompletableFuture().join();
+    }
+}
@@ -33,6 +33,7 @@ import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import org.jbpm.process.instance.ConcurrentWorkItemHandler;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.jackson.utils.JsonObjectUtils;
 import org.kie.kogito.serverless.workflow.SWFConstants;
@@ -59,7 +60,7 @@ import io.grpc.protobuf.ProtoUtils;
 import io.grpc.stub.ClientCalls;
 import io.grpc.stub.StreamObserver;
 
-public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler {
+public abstract class RPCWorkItemHandler extends WorkflowWorkItemHandler implements ConcurrentWorkItemHandler {
 
     public static final String SERVICE_PROP = "serviceName";
     public static final String FILE_PROP = "fileName";
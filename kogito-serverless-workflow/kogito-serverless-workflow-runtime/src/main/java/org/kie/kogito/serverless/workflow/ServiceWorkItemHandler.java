@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
+import org.jbpm.process.instance.ConcurrentWorkItemHandler;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 
 import static org.kie.kogito.serverless.workflow.SWFConstants.CONTENT_DATA;
@@ -32,7 +33,7 @@ import static org.kie.kogito.serverless.workflow.SWFConstants.WORKITEM_INTERFACE
 import static org.kie.kogito.serverless.workflow.SWFConstants.WORKITEM_OPERATION;
 import static org.kie.kogito.serverless.workflow.SWFConstants.WORKITEM_OPERATION_IMPL;
 
-public abstract class ServiceWorkItemHandler extends WorkflowWorkItemHandler {
+public abstract class ServiceWorkItemHandler extends WorkflowWorkItemHandler implements ConcurrentWorkItemHandler {
 
     private static final Collection<String> keysToRemove = Set.of(SERVICE_IMPL_KEY, WORKITEM_OPERATION_IMPL, WORKITEM_INTERFACE_IMPL);
 
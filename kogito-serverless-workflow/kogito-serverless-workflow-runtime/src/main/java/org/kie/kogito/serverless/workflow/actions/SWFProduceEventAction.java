@@ -36,19 +36,25 @@ public class SWFProduceEventAction extends ProduceEventAction<JsonNode> {
 
     protected final String exprLang;
     protected final String data;
+    private transient Expression expr;
 
     public SWFProduceEventAction(String triggerName, String varName, Supplier<MessageProducer<JsonNode>> supplier, String exprLang, String data) {
         super(triggerName, varName, supplier);
         this.exprLang = exprLang;
         this.data = data;
+        if (data != null && ExpressionHandlerFactory.isSupported(exprLang)) {
+            // parsed once, when the process definition is built
+            this.expr = ExpressionHandlerFactory.get(exprLang, data);
+        }
     }
 
     @Override
     protected JsonNode getObject(Object object, KogitoProcessContext context) {
-        Expression expr = null;
         JsonNode value = null;
         if (data != null) {
-            expr = ExpressionHandlerFactory.get(exprLang, data);
+            if (expr == null) {
+                expr = ExpressionHandlerFactory.get(exprLang, data);
+            }
             if (!expr.isValid()) {
                 try {
                     value = ObjectMapperFactory.get().readTree(data);
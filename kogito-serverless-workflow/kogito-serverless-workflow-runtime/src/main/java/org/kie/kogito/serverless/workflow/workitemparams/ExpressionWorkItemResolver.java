@@ -43,6 +43,32 @@ public abstract class ExpressionWorkItemResolver<T> implements WorkItemParamReso
         this.language = language;
         this.expression = expression;
         this.paramName = paramName;
+        precompile();
+    }
+
+    private void precompile() {
+        // parse expressions when the process definition is built rather than when the first work item is executed,
+        // text the language does not recognize as an expression is used as is, so it is not compiled any further
+        if (language != null && expression != null && ExpressionHandlerFactory.isSupported(language)) {
+            try {
+                JsonNodeVisitor.transformTextNode(JsonObjectUtils.fromValue(expression), node -> {
+                    if (!isExpression(ExpressionHandlerFactory.get(language, node.asText()))) {
+                        logger.trace("Text {} is not a {} expression, it will be used as is", node, language);
+                    }
+                    return node;
+                });
+            } catch (RuntimeException ex) {
+                logger.debug("Error precompiling expression {}, it will be compiled when used", expression, ex);
+            }
+        }
+    }
+
+    /**
+     * Whether the language recognizes the text as an expression, text nodes that are not are used as is.
+     * Parsing is completed by this check for the languages compiling lazily.
+     */
+    private static boolean isExpression(Expression expr) {
+        return expr.isValid();
     }
 
     protected final JsonNode evalExpression(KogitoWorkItem workItem) {
@@ -55,7 +81,7 @@ public abstract class ExpressionWorkItemResolver<T> implements WorkItemParamReso
             if (logger.isTraceEnabled()) {
                 logger.trace("Expression: {}, valid: {}", expr.asString(), expr.isValid());
             }
-            return expr.isValid() ? expr.eval(inputModel, JsonNode.class, context) : node;
+            return isExpression(expr) ? expr.eval(inputModel, JsonNode.class, context) : node;
         } catch (Exception ex) {
             logger.info("Error evaluating expression, returning original text {}", node);
             return node;
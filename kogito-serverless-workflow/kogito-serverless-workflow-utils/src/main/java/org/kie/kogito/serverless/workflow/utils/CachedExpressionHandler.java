@@ -18,21 +18,135 @@
  */
 package org.kie.kogito.serverless.workflow.utils;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.kie.kogito.process.expr.Expression;
 import org.kie.kogito.process.expr.ExpressionHandler;
 
+/**
+ * Expression handler keeping the expressions it built, so that every expression is parsed once.
+ * <p>
+ * Expressions are kept in a concurrent map keyed by the trimmed expression, so that the same expression written with or
+ * without its delimiters is built once, and lookups do not lock. The number of expressions kept is bounded by {@value #MAX_SIZE_PROPERTY} (default {@value #DEFAULT_MAX_SIZE}). Once the
+ * bound is exceeded, expressions not used since the previous eviction are removed (second chance policy), so that
+ * expressions in use survive.
+ */
 public abstract class CachedExpressionHandler implements ExpressionHandler {
 
-    private Map<String, Expression> expressions = Collections.synchronizedMap(new WeakHashMap<>());
+    public static final String MAX_SIZE_PROPERTY = "kogito.sw.expression.cache.max-size";
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Map<String, Entry> expressions = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder compileNanos = new LongAdder();
+
+    protected CachedExpressionHandler() {
+        this(ConfigResolverHolder.getConfigResolver().getConfigProperty(MAX_SIZE_PROPERTY, Integer.class).orElse(DEFAULT_MAX_SIZE));
+    }
+
+    protected CachedExpressionHandler(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Expression cache size must be positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
 
     @Override
     public Expression get(String expr) {
-        return expressions.computeIfAbsent(ExpressionHandlerUtils.trimExpr(expr), this::buildExpression);
+        String key = ExpressionHandlerUtils.trimExpr(expr);
+        Entry entry = expressions.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.used = true;
+            return entry.expression;
+        }
+        misses.increment();
+        entry = expressions.computeIfAbsent(key, this::compile);
+        if (expressions.size() > maxSize) {
+            evict(entry);
+        }
+        return entry.expression;
+    }
+
+    private Entry compile(String expr) {
+        long start = System.nanoTime();
+        try {
+            return new Entry(buildExpression(expr));
+        } finally {
+            compileNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void evict(Entry added) {
+        // a single thread sweeps at a time, the others go on while the cache is briefly above its bound
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<Entry> iter = expressions.values().iterator();
+            while (expressions.size() > maxSize) {
+                if (!iter.hasNext()) {
+                    iter = expressions.values().iterator();
+                }
+                Entry entry = iter.next();
+                if (entry == added) {
+                    // the expression that has just been built is not a candidate
+                    continue;
+                }
+                if (entry.used) {
+                    entry.used = false;
+                } else {
+                    iter.remove();
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Total time spent building expressions.
+     */
+    public Duration getCompileTime() {
+        return Duration.ofNanos(compileNanos.sum());
+    }
+
+    public int size() {
+        return expressions.size();
     }
 
     protected abstract Expression buildExpression(String expr);
+
+    private static class Entry {
+
+        private final Expression expression;
+        private volatile boolean used;
+
+        private Entry(Expression expression) {
+            this.expression = expression;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -70,10 +71,18 @@ public class JsonNodeContext implements AutoCloseable {
     }
 
     public static JsonNodeContext from(JsonNode jsonNode, KogitoProcessContext context) {
+        return from(jsonNode, context, name -> true);
+    }
+
+    /**
+     * Same as {@link #from(JsonNode, KogitoProcessContext)}, but only the variables accepted by the given filter, usually
+     * the ones referenced by the expression being evaluated, are added to the node.
+     */
+    public static JsonNodeContext from(JsonNode jsonNode, KogitoProcessContext context, Predicate<String> variableFilter) {
         Map<String, JsonNode> map = new HashMap<>();
         if (jsonNode.isObject()) {
             ObjectNode objectNode = (ObjectNode) jsonNode;
-            addVariablesFromContext(objectNode, context, map);
+            addVariablesFromContext(objectNode, context, variableFilter, map);
         }
         return new JsonNodeContext(jsonNode, map.keySet());
     }
@@ -87,23 +96,29 @@ public class JsonNodeContext implements AutoCloseable {
         this.keys = keys;
     }
 
-    private static void addVariablesFromContext(ObjectNode jsonNode, KogitoProcessContext processInfo, Map<String, JsonNode> variables) {
+    private static void addVariablesFromContext(ObjectNode jsonNode, KogitoProcessContext processInfo, Predicate<String> variableFilter, Map<String, JsonNode> variables) {
         KogitoNodeInstance nodeInstance = processInfo.getNodeInstance();
         if (nodeInstance != null) {
             NodeInstanceContainer container = nodeInstance instanceof NodeInstanceContainer ? (NodeInstanceContainer) nodeInstance : nodeInstance.getNodeInstanceContainer();
             while (container instanceof ContextableInstance) {
-                getVariablesFromContext(jsonNode, (ContextableInstance) container, variables);
+                getVariablesFromContext(jsonNode, (ContextableInstance) container, variableFilter, variables);
                 container = container instanceof KogitoNodeInstance ? ((KogitoNodeInstance) container).getNodeInstanceContainer() : null;
             }
         }
         variables.forEach(jsonNode::set);
     }
 
-    private static void getVariablesFromContext(ObjectNode jsonNode, ContextableInstance node, Map<String, JsonNode> variables) {
+    private static void getVariablesFromContext(ObjectNode jsonNode, ContextableInstance node, Predicate<String> variableFilter, Map<String, JsonNode> variables) {
         VariableScopeInstance variableScope = (VariableScopeInstance) node.getContextInstance(VariableScope.VARIABLE_SCOPE);
         if (variableScope != null) {
-            Collection<String> evalVariables = getEvalVariables(node).map(Variable::getName).collect(Collectors.toList());
+            Collection<String> evalVariables = null;
             for (Entry<String, Object> e : variableScope.getVariables().entrySet()) {
+                if (!variableFilter.test(e.getKey()) || variables.containsKey(e.getKey())) {
+                    continue;
+                }
+                if (evalVariables == null) {
+                    evalVariables = getEvalVariables(node).map(Variable::getName).collect(Collectors.toList());
+                }
                 if (evalVariables.contains(e.getKey()) || node instanceof WorkflowProcessInstance && !Objects.equals(jsonNode, e.getValue())) {
                     variables.putIfAbsent(e.getKey(), JsonObjectUtils.fromValue(e.getValue()));
                 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.expr.Expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CachedExpressionHandlerTest {
+
+    @Test
+    void testExpressionsAreBuiltOnce() {
+        TestHandler handler = new TestHandler(10);
+
+        Expression expr = handler.get("${ .name }");
+
+        assertThat(handler.get("${ .name }")).isSameAs(expr);
+        assertThat(handler.built).containsExactly(".name");
+        assertThat(handler.getHits()).isOne();
+        assertThat(handler.getMisses()).isOne();
+        assertThat(handler.getCompileTime().isNegative()).isFalse();
+    }
+
+    @Test
+    void testExpressionsAreKeyedOnceTrimmed() {
+        TestHandler handler = new TestHandler(10);
+
+        Expression expr = handler.get("${ .name }");
+
+        assertThat(handler.get(".name")).isSameAs(expr);
+        assertThat(handler.get("  .name")).isSameAs(expr);
+        assertThat(handler.built).containsExactly(".name");
+        assertThat(handler.size()).isOne();
+    }
+
+    @Test
+    void testUnusedExpressionsAreEvicted() {
+        TestHandler handler = new TestHandler(2);
+        Expression hot = handler.get(".hot");
+        handler.get(".cold");
+        handler.get(".hot");
+
+        handler.get(".other");
+
+        assertThat(handler.size()).isEqualTo(2);
+        assertThat(handler.getEvictions()).isOne();
+        assertThat(handler.get(".hot")).isSameAs(hot);
+        handler.get(".cold");
+        assertThat(handler.built).containsExactly(".hot", ".cold", ".other", ".cold");
+    }
+
+    private static class TestHandler extends CachedExpressionHandler {
+
+        private final List<String> built = new ArrayList<>();
+
+        private TestHandler(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        protected Expression buildExpression(String expr) {
+            built.add(expr);
+            Expression expression = mock(Expression.class);
+            when(expression.asString()).thenReturn(expr);
+            return expression;
+        }
+
+        @Override
+        public String lang() {
+            return "test";
+        }
+    }
+}
@@ -34,11 +34,11 @@ import java.util.stream.StreamSupport;
 import org.jbpm.process.core.ContextResolver;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.instance.ConcurrentWorkItemHandler;
 import org.jbpm.workflow.core.node.WorkItemNode;
 import org.jbpm.workflow.instance.NodeInstance;
 import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
-import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
 import org.kie.kogito.process.workitem.WorkItemExecutionException;
 import org.kogito.workitem.rest.auth.ApiKeyAuthDecorator;
@@ -68,7 +68,7 @@ import static org.kogito.workitem.rest.RestWorkItemHandlerUtils.getClassListPara
 import static org.kogito.workitem.rest.RestWorkItemHandlerUtils.getClassParam;
 import static org.kogito.workitem.rest.RestWorkItemHandlerUtils.getParam;
 
-public class RestWorkItemHandler implements KogitoWorkItemHandler {
+public class RestWorkItemHandler implements ConcurrentWorkItemHandler {
 
     public static final String REST_TASK_TYPE = "Rest";
     public static final String PROTOCOL = "Protocol";
@@ -18,14 +18,18 @@
  */
 package org.kie.kogito.eventdriven.decision;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.decision.DecisionModels;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 
 import io.quarkus.runtime.Startup;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 
 @Startup
@@ -43,9 +47,29 @@ public class QuarkusEventDrivenDecisionController extends EventDrivenDecisionCon
     @Inject
     EventReceiver eventReceiver;
 
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_THREADS_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_THREADS)
+    int requestThreads;
+
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_VIRTUAL_THREADS_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_VIRTUAL_THREADS)
+    boolean requestVirtualThreads;
+
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_MAX_IN_FLIGHT_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_MAX_IN_FLIGHT)
+    int requestMaxInFlight;
+
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_MAX_QUEUED_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_MAX_QUEUED)
+    int requestMaxQueued;
+
+    private EventRequestExecutor requestExecutor;
+
     @PostConstruct
     private void onPostConstruct() {
-        init(decisionModels, config, eventEmitter, eventReceiver);
+        requestExecutor = EventRequestExecutor.of(requestThreads, requestVirtualThreads, requestMaxInFlight, requestMaxQueued);
+        init(decisionModels, config, eventEmitter, eventReceiver, requestExecutor);
         subscribe();
     }
+
+    @PreDestroy
+    void onPreDestroy() {
+        requestExecutor.close();
+    }
 }
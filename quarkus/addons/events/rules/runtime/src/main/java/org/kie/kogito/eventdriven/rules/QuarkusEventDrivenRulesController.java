@@ -18,13 +18,17 @@
  */
 package org.kie.kogito.eventdriven.rules;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 
 import io.quarkus.runtime.Startup;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 
 @Startup
@@ -39,8 +43,31 @@ public class QuarkusEventDrivenRulesController extends EventDrivenRulesControlle
     @Inject
     EventReceiver eventReceiver;
 
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_THREADS_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_THREADS)
+    int requestThreads;
+
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_VIRTUAL_THREADS_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_VIRTUAL_THREADS)
+    boolean requestVirtualThreads;
+
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_MAX_IN_FLIGHT_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_MAX_IN_FLIGHT)
+    int requestMaxInFlight;
+
+    @ConfigProperty(name = KogitoEventStreams.REQUEST_MAX_QUEUED_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_REQUEST_MAX_QUEUED)
+    int requestMaxQueued;
+
+    @ConfigProperty(name = EventDrivenRulesController.BATCH_SIZE_PROPERTY, defaultValue = EventDrivenRulesController.DEFAULT_BATCH_SIZE)
+    int batchSize;
+
+    private EventRequestExecutor requestExecutor;
+
     @PostConstruct
     private void onPostConstruct() {
-        init(config, eventEmitter, eventReceiver);
+        requestExecutor = EventRequestExecutor.of(requestThreads, requestVirtualThreads, requestMaxInFlight, requestMaxQueued);
+        init(config, eventEmitter, eventReceiver, requestExecutor, batchSize);
+    }
+
+    @PreDestroy
+    void onPreDestroy() {
+        requestExecutor.close();
     }
 }
@@ -21,10 +21,12 @@ package org.kie.kogito.addon.quarkus.messaging.common;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.Application;
 import org.kie.kogito.Model;
 import org.kie.kogito.event.EventExecutorServiceFactory;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
 import org.kie.kogito.event.impl.AbstractMessageConsumer;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessService;
@@ -42,11 +44,17 @@ public abstract class QuarkusMessageConsumer<M extends Model, D> extends Abstrac
     @Inject
     EventExecutorServiceFactory factory;
 
+    @ConfigProperty(name = KogitoEventStreams.BATCH_SIZE_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_BATCH_SIZE)
+    int batchSize;
+
+    @ConfigProperty(name = KogitoEventStreams.MAX_QUEUED_EVENTS_PROPERTY, defaultValue = KogitoEventStreams.DEFAULT_MAX_QUEUED_EVENTS)
+    int maxQueuedEvents;
+
     private ExecutorService executor;
 
     protected void init(Process<M> process, String trigger, Class<D> objectClass, EventReceiver eventReceiver, Set<String> correlation) {
         executor = factory.getExecutorService(trigger);
-        init(application, process, trigger, eventReceiver, objectClass, processService, executor, correlation);
+        init(application, process, trigger, eventReceiver, objectClass, processService, executor, correlation, batchSize, maxQueuedEvents);
     }
 
     @jakarta.annotation.PreDestroy
@@ -22,6 +22,7 @@ import javax.sql.DataSource;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.persistence.jdbc.AbstractProcessInstancesFactory;
+import org.kie.kogito.persistence.jdbc.AbstractWriteBatchManager;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -31,8 +32,11 @@ public class JDBCProcessInstancesFactory extends AbstractProcessInstancesFactory
 
     @Inject
     public JDBCProcessInstancesFactory(DataSource dataSource,
-            @ConfigProperty(name = "kogito.persistence.optimistic.lock", defaultValue = "false") Boolean lock) {
-        super(dataSource, lock);
+            @ConfigProperty(name = "kogito.persistence.optimistic.lock", defaultValue = "false") Boolean lock,
+            AbstractWriteBatchManager batchManager,
+            @ConfigProperty(name = "kogito.persistence.jdbc.delta.enabled", defaultValue = "false") Boolean deltaEnabled,
+            @ConfigProperty(name = "kogito.persistence.jdbc.delta.max-records", defaultValue = "20") Integer deltaMaxRecords) {
+        super(dataSource, lock, batchManager, deltaEnabled, deltaMaxRecords);
     }
 
     public JDBCProcessInstancesFactory() {
@@ -20,6 +20,7 @@ package org.kie.kogito.tracing.decision;
 
 import java.util.function.BiFunction;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.Application;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.tracing.decision.event.evaluate.EvaluateEvent;
@@ -27,6 +28,7 @@ import org.kie.kogito.tracing.decision.modelsupplier.ApplicationModelSupplier;
 
 import io.quarkus.vertx.ConsumeEvent;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
@@ -41,15 +43,29 @@ public class QuarkusDecisionTracingCollector {
         this.collector = new DecisionTracingCollector(eventEmitter::emit, modelSupplier, configBean);
     }
 
-    @Inject
     public QuarkusDecisionTracingCollector(final QuarkusTraceEventEmitter eventEmitter,
             final ConfigBean configBean,
             final Application application) {
         this(eventEmitter, configBean, new ApplicationModelSupplier(application));
     }
 
+    @Inject
+    public QuarkusDecisionTracingCollector(final QuarkusTraceEventEmitter eventEmitter,
+            final ConfigBean configBean,
+            final Application application,
+            @ConfigProperty(name = "kogito.addon.tracing.decision.inFlight.max", defaultValue = "10000") int maxInFlight,
+            @ConfigProperty(name = "kogito.addon.tracing.decision.inFlight.timeoutMillis", defaultValue = "60000") long timeoutMillis,
+            @ConfigProperty(name = "kogito.addon.tracing.decision.queueSize", defaultValue = "1000") int queueSize) {
+        this.collector = new DecisionTracingCollector(eventEmitter::emit, new ApplicationModelSupplier(application), configBean, maxInFlight, timeoutMillis, queueSize);
+    }
+
     @ConsumeEvent("kogito-tracing-decision_EvaluateEvent")
     public void onEvent(final EvaluateEvent event) {
         collector.addEvent(event);
     }
+
+    @PreDestroy
+    void onPreDestroy() {
+        collector.close();
+    }
 }
@@ -32,11 +32,17 @@ import jakarta.inject.Inject;
 @ApplicationScoped
 public final class QuarkusDecisionTracingListener extends DecisionTracingListener {
 
+    public QuarkusDecisionTracingListener(EventBus bus, QuarkusDecisionTracingCollector collector, boolean asyncEnabled) {
+        this(bus, collector, asyncEnabled, 1.0);
+    }
+
     @Inject
     public QuarkusDecisionTracingListener(
             EventBus bus,
             QuarkusDecisionTracingCollector collector,
-            @ConfigProperty(name = "kogito.addon.tracing.decision.asyncEnabled", defaultValue = "true") boolean asyncEnabled) {
+            @ConfigProperty(name = "kogito.addon.tracing.decision.asyncEnabled", defaultValue = "true") boolean asyncEnabled,
+            @ConfigProperty(name = "kogito.addon.tracing.decision.samplingRate", defaultValue = "1.0") double samplingRate) {
+        setSamplingRate(samplingRate);
         if (asyncEnabled) {
             setEventConsumer(event -> bus.send("kogito-tracing-decision_EvaluateEvent", event));
         } else {
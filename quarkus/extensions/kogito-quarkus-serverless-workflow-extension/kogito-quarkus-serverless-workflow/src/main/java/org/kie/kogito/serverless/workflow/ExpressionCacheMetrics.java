@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.serverless.workflow;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.expr.ExpressionHandler;
+import org.kie.kogito.process.expr.ExpressionHandlerFactory;
+import org.kie.kogito.serverless.workflow.utils.CachedExpressionHandler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Publishes the cache figures of the expression handlers to the global registry, the one the monitoring add-ons report.
+ * Only loaded when micrometer is on the classpath.
+ */
+final class ExpressionCacheMetrics {
+
+    private ExpressionCacheMetrics() {
+    }
+
+    static void bind() {
+        bind(Metrics.globalRegistry);
+    }
+
+    static void bind(MeterRegistry registry) {
+        for (ExpressionHandler handler : ExpressionHandlerFactory.getExpressionHandlers()) {
+            if (handler instanceof CachedExpressionHandler) {
+                bind((CachedExpressionHandler) handler, registry);
+            }
+        }
+    }
+
+    private static void bind(CachedExpressionHandler handler, MeterRegistry registry) {
+        Tags tags = Tags.of(Tag.of("lang", handler.lang()));
+        FunctionCounter.builder("kogito_expression_cache_hits_total", handler, CachedExpressionHandler::getHits)
+                .description("Expressions found in the cache")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("kogito_expression_cache_misses_total", handler, CachedExpressionHandler::getMisses)
+                .description("Expressions not found in the cache")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("kogito_expression_cache_evictions_total", handler, CachedExpressionHandler::getEvictions)
+                .description("Expressions evicted from the cache")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("kogito_expression_cache_size", handler, CachedExpressionHandler::size)
+                .description("Expressions in the cache")
+                .tags(tags)
+                .register(registry);
+        FunctionTimer.builder("kogito_expression_compile", handler, CachedExpressionHandler::getMisses, h -> h.getCompileTime().toNanos(), TimeUnit.NANOSECONDS)
+                .description("Expressions built on cache misses")
+                .tags(tags)
+                .register(registry);
+    }
+}
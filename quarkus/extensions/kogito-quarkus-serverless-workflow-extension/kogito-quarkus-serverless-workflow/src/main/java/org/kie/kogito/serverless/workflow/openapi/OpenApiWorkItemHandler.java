@@ -23,6 +23,7 @@ import java.lang.reflect.ParameterizedType;
 import java.util.Collections;
 import java.util.Map;
 
+import org.jbpm.process.instance.ConcurrentWorkItemHandler;
 import org.kie.kogito.event.cloudevents.extension.ProcessMeta;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.process.workitem.WorkItemExecutionException;
@@ -34,7 +35,7 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 
-public abstract class OpenApiWorkItemHandler<T> extends WorkflowWorkItemHandler {
+public abstract class OpenApiWorkItemHandler<T> extends WorkflowWorkItemHandler implements ConcurrentWorkItemHandler {
 
     @Override
     protected Object internalExecute(KogitoWorkItem workItem, Map<String, Object> parameters) {
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.quarkus.workflow;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ThreadContext;
+import org.kie.kogito.process.WorkItemExecutor;
+import org.kie.kogito.process.impl.ThreadPoolWorkItemExecutor;
+
+import io.quarkus.arc.DefaultBean;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Runs work item handlers concurrently with the request context and transaction of the calling thread.
+ */
+@Singleton
+@DefaultBean
+public class QuarkusWorkItemExecutor extends ThreadPoolWorkItemExecutor {
+
+    private final ThreadContext context;
+
+    @Inject
+    public QuarkusWorkItemExecutor(@ConfigProperty(name = WorkItemExecutor.POOL_SIZE_PROPERTY, defaultValue = WorkItemExecutor.DEFAULT_POOL_SIZE) int poolSize,
+            @ConfigProperty(name = WorkItemExecutor.ALL_LOOPS_PROPERTY, defaultValue = WorkItemExecutor.DEFAULT_ALL_LOOPS) boolean enabledForAllLoops,
+            ThreadContext context) {
+        super(poolSize, enabledForAllLoops);
+        this.context = context;
+    }
+
+    @Override
+    protected Runnable contextual(Runnable command) {
+        return context.contextualRunnable(command);
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        super.close();
+    }
+}
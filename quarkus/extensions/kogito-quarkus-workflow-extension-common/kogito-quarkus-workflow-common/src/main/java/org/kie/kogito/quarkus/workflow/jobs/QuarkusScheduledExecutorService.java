@@ -26,12 +26,14 @@ import org.eclipse.microprofile.context.ThreadContext;
 import org.kie.kogito.services.jobs.impl.InMemoryJobService;
 
 import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.properties.IfBuildProperty;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 @ApplicationScoped
 @DefaultBean
+@IfBuildProperty(name = InMemoryJobService.IN_MEMORY_JOB_SERVICE_SCHEDULER_PROPERTY, stringValue = InMemoryJobService.THREAD_POOL_SCHEDULER, enableIfMissing = true)
 public class QuarkusScheduledExecutorService extends ScheduledThreadPoolExecutor {
 
     @Inject
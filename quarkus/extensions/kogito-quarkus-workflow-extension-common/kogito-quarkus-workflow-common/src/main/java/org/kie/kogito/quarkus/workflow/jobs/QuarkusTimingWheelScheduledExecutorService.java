@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.quarkus.workflow.jobs;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.context.ThreadContext;
+import org.kie.kogito.services.jobs.impl.InMemoryJobService;
+import org.kie.kogito.services.jobs.impl.TimingWheelScheduledExecutorService;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.properties.IfBuildProperty;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+// not a normal scoped bean, the client proxy would start the ticker thread of the wheel
+@Singleton
+@DefaultBean
+@IfBuildProperty(name = InMemoryJobService.IN_MEMORY_JOB_SERVICE_SCHEDULER_PROPERTY, stringValue = InMemoryJobService.TIMING_WHEEL_SCHEDULER)
+public class QuarkusTimingWheelScheduledExecutorService extends TimingWheelScheduledExecutorService {
+
+    @Inject
+    ThreadContext context;
+
+    public QuarkusTimingWheelScheduledExecutorService() {
+        super(Integer.parseInt(System.getProperty(InMemoryJobService.IN_MEMORY_JOB_SERVICE_POOL_SIZE_PROPERTY, "10")));
+    }
+
+    @PostConstruct
+    void init() {
+        // micrometer is optional, it is there when a monitoring add-on is
+        if (isMicrometerPresent()) {
+            TimingWheelMetrics.bind(this);
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        shutdownNow();
+    }
+
+    private static boolean isMicrometerPresent() {
+        try {
+            Class.forName("io.micrometer.core.instrument.MeterRegistry", false, QuarkusTimingWheelScheduledExecutorService.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return super.scheduleAtFixedRate(context.contextualRunnable(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return super.schedule(context.contextualRunnable(command), delay, unit);
+    }
+}
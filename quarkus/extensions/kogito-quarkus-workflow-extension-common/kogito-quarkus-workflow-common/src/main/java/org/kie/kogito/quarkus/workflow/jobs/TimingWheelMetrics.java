@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.quarkus.workflow.jobs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.services.jobs.impl.TimingWheelScheduledExecutorService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Publishes the timer counts and lag of a timing wheel to the global registry, the one the monitoring add-ons report.
+ * Only loaded when micrometer is on the classpath.
+ */
+final class TimingWheelMetrics {
+
+    private TimingWheelMetrics() {
+    }
+
+    static void bind(TimingWheelScheduledExecutorService wheel) {
+        bind(wheel, Metrics.globalRegistry);
+    }
+
+    static void bind(TimingWheelScheduledExecutorService wheel, MeterRegistry registry) {
+        Gauge.builder("kogito_timing_wheel_pending_timers", wheel, TimingWheelScheduledExecutorService::getPendingTimers)
+                .description("Timers waiting to fire")
+                .register(registry);
+        FunctionCounter.builder("kogito_timing_wheel_fired_timers_total", wheel, TimingWheelScheduledExecutorService::getFiredTimers)
+                .description("Fired Timers")
+                .register(registry);
+        FunctionCounter.builder("kogito_timing_wheel_cancelled_timers_total", wheel, TimingWheelScheduledExecutorService::getCancelledTimers)
+                .description("Timers cancelled before their deadline")
+                .register(registry);
+        TimeGauge.builder("kogito_timing_wheel_max_lag", wheel, TimeUnit.NANOSECONDS, w -> w.getMaxLag().toNanos())
+                .description("Longest delay between the deadline of a timer and its execution")
+                .register(registry);
+        TimeGauge.builder("kogito_timing_wheel_average_lag", wheel, TimeUnit.NANOSECONDS, w -> w.getAverageLag().toNanos())
+                .description("Average delay between the deadline of a timer and its execution")
+                .register(registry);
+    }
+}
@@ -21,18 +21,38 @@ package org.kie.kogito.eventdriven.predictions;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 import org.kie.kogito.prediction.PredictionModels;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 @Component
 public class SpringBootEventDrivenPredictionsController extends EventDrivenPredictionsController {
 
+    private final EventRequestExecutor requestExecutor;
+
     @Autowired
-    public SpringBootEventDrivenPredictionsController(PredictionModels predictionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        super(predictionModels, config, eventEmitter, eventReceiver);
+    public SpringBootEventDrivenPredictionsController(PredictionModels predictionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver,
+            @Value("${" + KogitoEventStreams.REQUEST_THREADS_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_THREADS + "}}") int requestThreads,
+            @Value("${" + KogitoEventStreams.REQUEST_VIRTUAL_THREADS_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_VIRTUAL_THREADS + "}}") boolean requestVirtualThreads,
+            @Value("${" + KogitoEventStreams.REQUEST_MAX_IN_FLIGHT_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_MAX_IN_FLIGHT + "}}") int requestMaxInFlight,
+            @Value("${" + KogitoEventStreams.REQUEST_MAX_QUEUED_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_MAX_QUEUED + "}}") int requestMaxQueued) {
+        this(predictionModels, config, eventEmitter, eventReceiver, EventRequestExecutor.of(requestThreads, requestVirtualThreads, requestMaxInFlight, requestMaxQueued));
+    }
+
+    private SpringBootEventDrivenPredictionsController(PredictionModels predictionModels, ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor) {
+        super(predictionModels, config, eventEmitter, eventReceiver, requestExecutor);
+        this.requestExecutor = requestExecutor;
+    }
+
+    @PreDestroy
+    void onPreDestroy() {
+        requestExecutor.close();
     }
 
     @PostConstruct
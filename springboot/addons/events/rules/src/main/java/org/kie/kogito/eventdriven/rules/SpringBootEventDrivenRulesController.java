@@ -21,14 +21,36 @@ package org.kie.kogito.eventdriven.rules;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.event.EventEmitter;
 import org.kie.kogito.event.EventReceiver;
+import org.kie.kogito.event.KogitoEventStreams;
+import org.kie.kogito.event.impl.EventRequestExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
+
 @Component
 public class SpringBootEventDrivenRulesController extends EventDrivenRulesController {
 
+    private final EventRequestExecutor requestExecutor;
+
     @Autowired
-    public SpringBootEventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver) {
-        super(config, eventEmitter, eventReceiver);
+    public SpringBootEventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver,
+            @Value("${" + KogitoEventStreams.REQUEST_THREADS_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_THREADS + "}}") int requestThreads,
+            @Value("${" + KogitoEventStreams.REQUEST_VIRTUAL_THREADS_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_VIRTUAL_THREADS + "}}") boolean requestVirtualThreads,
+            @Value("${" + KogitoEventStreams.REQUEST_MAX_IN_FLIGHT_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_MAX_IN_FLIGHT + "}}") int requestMaxInFlight,
+            @Value("${" + KogitoEventStreams.REQUEST_MAX_QUEUED_PROPERTY + ":#{" + KogitoEventStreams.DEFAULT_REQUEST_MAX_QUEUED + "}}") int requestMaxQueued,
+            @Value("${" + EventDrivenRulesController.BATCH_SIZE_PROPERTY + ":#{" + EventDrivenRulesController.DEFAULT_BATCH_SIZE + "}}") int batchSize) {
+        this(config, eventEmitter, eventReceiver, EventRequestExecutor.of(requestThreads, requestVirtualThreads, requestMaxInFlight, requestMaxQueued), batchSize);
+    }
+
+    private SpringBootEventDrivenRulesController(ConfigBean config, EventEmitter eventEmitter, EventReceiver eventReceiver, EventRequestExecutor requestExecutor, int batchSize) {
+        super(config, eventEmitter, eventReceiver, requestExecutor, batchSize);
+        this.requestExecutor = requestExecutor;
+    }
+
+    @PreDestroy
+    void onPreDestroy() {
+        requestExecutor.close();
     }
 }
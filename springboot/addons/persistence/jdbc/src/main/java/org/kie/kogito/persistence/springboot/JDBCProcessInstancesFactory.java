@@ -21,6 +21,7 @@ package org.kie.kogito.persistence.springboot;
 import javax.sql.DataSource;
 
 import org.kie.kogito.persistence.jdbc.AbstractProcessInstancesFactory;
+import org.kie.kogito.persistence.jdbc.AbstractWriteBatchManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -30,8 +31,11 @@ public class JDBCProcessInstancesFactory extends AbstractProcessInstancesFactory
 
     @Autowired
     public JDBCProcessInstancesFactory(DataSource dataSource,
-            @Value("${kogito.persistence.optimistic.lock:false}") Boolean lock) {
-        super(dataSource, lock);
+            @Value("${kogito.persistence.optimistic.lock:false}") Boolean lock,
+            AbstractWriteBatchManager batchManager,
+            @Value("${kogito.persistence.jdbc.delta.enabled:false}") Boolean deltaEnabled,
+            @Value("${kogito.persistence.jdbc.delta.max-records:20}") Integer deltaMaxRecords) {
+        super(dataSource, lock, batchManager, deltaEnabled, deltaMaxRecords);
     }
 
 }
@@ -36,6 +36,15 @@ public class SpringBootDecisionTracingCollector {
         this.collector = new DecisionTracingCollector(eventEmitter::emit, modelSupplier, configBean);
     }
 
+    public SpringBootDecisionTracingCollector(final SpringBootTraceEventEmitter eventEmitter,
+            final ConfigBean configBean,
+            final Application application,
+            final int maxInFlight,
+            final long timeoutMillis,
+            final int queueSize) {
+        this.collector = new DecisionTracingCollector(eventEmitter::emit, new ApplicationModelSupplier(application), configBean, maxInFlight, timeoutMillis, queueSize);
+    }
+
     public SpringBootDecisionTracingCollector(final SpringBootTraceEventEmitter eventEmitter,
             final ConfigBean configBean,
             final Application application) {
@@ -45,4 +54,8 @@ public class SpringBootDecisionTracingCollector {
     public void onApplicationEvent(final EvaluateEvent event) {
         collector.addEvent(event);
     }
+
+    public void close() {
+        collector.close();
+    }
 }
@@ -37,6 +37,11 @@ public class SpringBootDecisionTracingCollectorAsync extends SpringBootDecisionT
         super(eventEmitter, configBean, application);
     }
 
+    public SpringBootDecisionTracingCollectorAsync(SpringBootTraceEventEmitter eventEmitter, ConfigBean configBean, Application application, int maxInFlight, long timeoutMillis,
+            int queueSize) {
+        super(eventEmitter, configBean, application, maxInFlight, timeoutMillis, queueSize);
+    }
+
     @Override
     @Async("kogitoTracingDecisionAddonTaskExecutor")
     @EventListener
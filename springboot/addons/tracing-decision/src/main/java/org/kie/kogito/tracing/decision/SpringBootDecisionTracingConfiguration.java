@@ -64,11 +64,14 @@ public class SpringBootDecisionTracingConfiguration {
             final SpringBootTraceEventEmitter eventEmitter,
             final ConfigBean configBean,
             final Application application,
-            @Value(value = "${kogito.addon.tracing.decision.asyncEnabled:true}") final boolean asyncEnabled) {
+            @Value(value = "${kogito.addon.tracing.decision.asyncEnabled:true}") final boolean asyncEnabled,
+            @Value(value = "${kogito.addon.tracing.decision.inFlight.max:10000}") final int maxInFlight,
+            @Value(value = "${kogito.addon.tracing.decision.inFlight.timeoutMillis:60000}") final long timeoutMillis,
+            @Value(value = "${kogito.addon.tracing.decision.queueSize:1000}") final int queueSize) {
         if (asyncEnabled) {
-            return new SpringBootDecisionTracingCollectorAsync(eventEmitter, configBean, application);
+            return new SpringBootDecisionTracingCollectorAsync(eventEmitter, configBean, application, maxInFlight, timeoutMillis, queueSize);
         } else {
-            return new SpringBootDecisionTracingCollector(eventEmitter, configBean, application);
+            return new SpringBootDecisionTracingCollector(eventEmitter, configBean, application, maxInFlight, timeoutMillis, queueSize);
         }
     }
 
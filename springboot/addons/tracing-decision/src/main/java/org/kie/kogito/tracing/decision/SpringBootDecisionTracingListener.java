@@ -30,11 +30,17 @@ import org.springframework.stereotype.Component;
 @Component
 public final class SpringBootDecisionTracingListener extends DecisionTracingListener {
 
+    public SpringBootDecisionTracingListener(ApplicationEventPublisher eventPublisher, SpringBootDecisionTracingCollector collector, boolean asyncEnabled) {
+        this(eventPublisher, collector, asyncEnabled, 1.0);
+    }
+
     @Autowired
     public SpringBootDecisionTracingListener(
             ApplicationEventPublisher eventPublisher,
             SpringBootDecisionTracingCollector collector,
-            @Value(value = "${kogito.addon.tracing.decision.asyncEnabled:true}") boolean asyncEnabled) {
+            @Value(value = "${kogito.addon.tracing.decision.asyncEnabled:true}") boolean asyncEnabled,
+            @Value(value = "${kogito.addon.tracing.decision.samplingRate:1.0}") double samplingRate) {
+        setSamplingRate(samplingRate);
         if (asyncEnabled) {
             setEventConsumer(eventPublisher::publishEvent);
         } else {
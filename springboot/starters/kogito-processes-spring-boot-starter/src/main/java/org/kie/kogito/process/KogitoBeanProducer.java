@@ -21,9 +21,11 @@ package org.kie.kogito.process;
 import org.kie.kogito.config.ConfigBean;
 import org.kie.kogito.correlation.CorrelationService;
 import org.kie.kogito.event.correlation.DefaultCorrelationService;
+import org.kie.kogito.process.impl.ThreadPoolWorkItemExecutor;
 import org.kie.kogito.process.version.ProjectVersionProcessVersionResolver;
 import org.kogito.workitem.rest.RestWorkItemHandlerUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -53,6 +55,13 @@ public class KogitoBeanProducer {
         return new ProjectVersionProcessVersionResolver(configBean.getGav().orElseThrow(() -> new RuntimeException("Unable to use kogito.workflow.version-strategy without a project GAV")));
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(WorkItemExecutor.class)
+    WorkItemExecutor workItemExecutor(@Value("${" + WorkItemExecutor.POOL_SIZE_PROPERTY + ":" + WorkItemExecutor.DEFAULT_POOL_SIZE + "}") int poolSize,
+            @Value("${" + WorkItemExecutor.ALL_LOOPS_PROPERTY + ":" + WorkItemExecutor.DEFAULT_ALL_LOOPS + "}") boolean enabledForAllLoops) {
+        return new ThreadPoolWorkItemExecutor(poolSize, enabledForAllLoops);
+    }
+
     @Bean
     @ConditionalOnMissingBean(WebClientOptions.class)
     WebClientOptions sslDefaultOptions() {